@@ -0,0 +1,79 @@
+package io.aiven.klaw.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares JMH results in json format with the baseline results, and fails when a benchmark got
+ * slower than the baseline by more than the tolerance.
+ *
+ * <p>Usage: {@code CompareResults <baseline.json> <results.json> [tolerance percent, default 20]}
+ */
+public class CompareResults {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CompareResults <baseline.json> <results.json> [tolerance %]");
+      System.exit(2);
+    }
+    double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 20;
+    Map<String, JsonNode> baseline = readScores(new File(args[0]));
+    Map<String, JsonNode> results = readScores(new File(args[1]));
+
+    int regressions = 0;
+    System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Result", "Change");
+    for (Map.Entry<String, JsonNode> result : results.entrySet()) {
+      JsonNode baselineMetric = baseline.get(result.getKey());
+      JsonNode metric = result.getValue();
+      if (baselineMetric == null) {
+        System.out.printf("%-80s %14s %14.3f%n", result.getKey(), "-", score(metric));
+        continue;
+      }
+      // scores are times per operation, lower is better
+      double change = (score(metric) / score(baselineMetric) - 1) * 100;
+      boolean regression = change > tolerance;
+      if (regression) {
+        regressions++;
+      }
+      System.out.printf(
+          "%-80s %14.3f %14.3f %+8.1f%%%s%n",
+          result.getKey(),
+          score(baselineMetric),
+          score(metric),
+          change,
+          regression ? "  REGRESSION" : "");
+    }
+
+    if (regressions > 0) {
+      System.out.printf(
+          "%d benchmarks are slower than the baseline by more than %s%%%n", regressions, tolerance);
+      System.exit(1);
+    }
+  }
+
+  // primary metrics of the benchmarks by name and parameters
+  private static Map<String, JsonNode> readScores(File file) throws IOException {
+    Map<String, JsonNode> scores = new LinkedHashMap<>();
+    for (JsonNode run : OBJECT_MAPPER.readTree(file)) {
+      StringBuilder key = new StringBuilder(run.get("benchmark").asText());
+      JsonNode params = run.get("params");
+      if (params != null) {
+        params
+            .fields()
+            .forEachRemaining(param -> key.append(':').append(param.getValue().asText()));
+      }
+      scores.put(key.toString(), run.get("primaryMetric"));
+    }
+    return scores;
+  }
+
+  private static double score(JsonNode metric) {
+    return metric.get("score").asDouble();
+  }
+}
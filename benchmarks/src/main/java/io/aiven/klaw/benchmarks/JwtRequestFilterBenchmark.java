@@ -0,0 +1,94 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.clusterapi.config.JwtRequestFilter;
+import io.aiven.klaw.clusterapi.services.JwtTokenUtilService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Authentication of the calls of core to the cluster api, which reuses its token for several calls.
+ * With a cache size of 0 every call checks the signature of the token, as before the verified
+ * tokens were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtRequestFilterBenchmark {
+
+  private static final String USERNAME = "klaw-core";
+
+  @Param({"0", "1000"})
+  private int verifiedTokensCacheSize;
+
+  private JwtRequestFilter jwtRequestFilter;
+  private String authorizationHeader;
+
+  @Setup
+  public void setUp() throws Exception {
+    byte[] secret = new byte[32];
+    String base64Secret = Base64.getEncoder().encodeToString(secret);
+    JwtTokenUtilService jwtTokenUtilService = new JwtTokenUtilService();
+    ReflectionTestUtils.setField(jwtTokenUtilService, "clusterApiSecret", base64Secret);
+    jwtTokenUtilService.afterPropertiesSet();
+
+    InMemoryUserDetailsManager userDetailsService =
+        new InMemoryUserDetailsManager(
+            User.withUsername(USERNAME).password("").authorities("ADMIN").build());
+    jwtRequestFilter =
+        new JwtRequestFilter(userDetailsService, jwtTokenUtilService, verifiedTokensCacheSize);
+
+    // the token of core, see ClusterApiService
+    Instant now = Instant.now();
+    String token =
+        Jwts.builder()
+            .claim("name", USERNAME)
+            .subject(USERNAME)
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plusSeconds(TimeUnit.HOURS.toSeconds(1))))
+            .signWith(new SecretKeySpec(secret, SignatureAlgorithm.HS256.getJcaName()))
+            .compact();
+    authorizationHeader = "Bearer " + token;
+  }
+
+  @Benchmark
+  public int authenticate() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topics/getTopics");
+    request.addHeader("Authorization", authorizationHeader);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      jwtRequestFilter.doFilter(request, response, new MockFilterChain());
+    } finally {
+      // each call is a new request of core
+      SecurityContextHolder.clearContext();
+    }
+    return response.getStatus();
+  }
+}
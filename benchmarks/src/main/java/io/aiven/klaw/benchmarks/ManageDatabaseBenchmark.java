@@ -0,0 +1,81 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.validation.TopicPolicy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups of the in-memory metadata of a tenant, which most requests make several times. Their cost
+ * depends on the number of teams, users and envs rather than on the number of topics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ManageDatabaseBenchmark {
+
+  private ManageDatabase manageDatabase;
+  private List<String> teamNames;
+  private Env env;
+  private int lookup;
+
+  @Setup
+  public void setUp() {
+    SyntheticTenant tenant = new SyntheticTenant(1000);
+    manageDatabase = tenant.loadManageDatabase();
+    teamNames = tenant.getTeamNames();
+    env = tenant.getEnvs().get(0);
+  }
+
+  // looks up each team in turn
+  private int nextTeamIndex() {
+    lookup = (lookup + 1) % teamNames.size();
+    return lookup;
+  }
+
+  @Benchmark
+  public String getTeamNameFromTeamId() {
+    return manageDatabase.getTeamNameFromTeamId(SyntheticTenant.TENANT_ID, 2 + nextTeamIndex());
+  }
+
+  @Benchmark
+  public Integer getTeamIdFromTeamName() {
+    return manageDatabase.getTeamIdFromTeamName(
+        SyntheticTenant.TENANT_ID, teamNames.get(nextTeamIndex()));
+  }
+
+  @Benchmark
+  public List<String> getTeamsAndAllowedEnvs() {
+    return manageDatabase.getTeamsAndAllowedEnvs(2 + nextTeamIndex(), SyntheticTenant.TENANT_ID);
+  }
+
+  @Benchmark
+  public List<Env> getKafkaEnvList() {
+    return manageDatabase.getKafkaEnvList(SyntheticTenant.TENANT_ID);
+  }
+
+  @Benchmark
+  public Optional<Env> getEnv() {
+    return manageDatabase.getEnv(SyntheticTenant.TENANT_ID, 1 + nextTeamIndex() % 5);
+  }
+
+  @Benchmark
+  public TopicPolicy getTopicPolicy() {
+    return manageDatabase.getTopicPolicy(SyntheticTenant.TENANT_ID, env);
+  }
+}
@@ -0,0 +1,57 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.Pager;
+import io.aiven.klaw.model.TopicInfo;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paging of the topics, as done by every paginated list of the UI. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PagerBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int topics;
+
+  private List<Topic> topicList;
+
+  @Setup
+  public void setUp() {
+    topicList = new SyntheticTenant(topics).getTopics();
+  }
+
+  @Benchmark
+  public List<TopicInfo> firstPage() {
+    return Pager.getItemsList("1", "", 21, topicList, PagerBenchmark::toTopicInfo);
+  }
+
+  @Benchmark
+  public List<TopicInfo> lastPage() {
+    return Pager.getItemsList(">>", "1", 21, topicList, PagerBenchmark::toTopicInfo);
+  }
+
+  private static TopicInfo toTopicInfo(Pager.PageContext pageContext, Topic topic) {
+    TopicInfo topicInfo = new TopicInfo();
+    topicInfo.setTopicName(topic.getTopicname());
+    topicInfo.setTotalNoPages(pageContext.getTotalPages());
+    topicInfo.setCurrentPage(pageContext.getPageNo());
+    topicInfo.setAllPageNos(pageContext.getAllPageNos());
+    return topicInfo;
+  }
+}
@@ -0,0 +1,65 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.helpers.AclSyncDiff;
+import io.aiven.klaw.helpers.TopicSyncDiff;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reconciliation of the topics and acls of an environment with its cluster, as done by the topic
+ * and acl sync services once the cluster api returned the cluster metadata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SyncDiffBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int topics;
+
+  private SyntheticTenant tenant;
+  private ManageDatabase manageDatabase;
+  private Set<String> teamNames;
+
+  @Setup
+  public void setUp() {
+    tenant = new SyntheticTenant(topics);
+    manageDatabase = tenant.loadManageDatabase();
+    teamNames = new HashSet<>(tenant.getTeamNames());
+  }
+
+  @Benchmark
+  public TopicSyncDiff topicSyncDiff() {
+    return TopicSyncDiff.diff(
+        tenant.getDevClusterTopics(),
+        tenant.getDevTopics(),
+        topic -> manageDatabase.getTeamNameFromTeamId(SyntheticTenant.TENANT_ID, topic.getTeamId()),
+        teamNames);
+  }
+
+  @Benchmark
+  public AclSyncDiff aclSyncDiff() {
+    return AclSyncDiff.diff(tenant.getDevClusterAcls(), null, tenant.getDevAcls());
+  }
+
+  @Benchmark
+  public AclSyncDiff aclSyncDiffOfTopicSearch() {
+    return AclSyncDiff.diff(tenant.getDevClusterAcls(), "orders-00001", tenant.getDevAcls());
+  }
+}
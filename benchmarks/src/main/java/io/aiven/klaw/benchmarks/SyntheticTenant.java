@@ -0,0 +1,280 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.constants.CacheConstants;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.Team;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.response.EnvParams;
+import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.service.utils.CacheService;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A tenant of synthetic metadata, sized by its number of topics, loaded into {@link ManageDatabase}
+ * the way it is loaded from the database on startup.
+ *
+ * <p>Every topic exists on the DEV environment, every second one on TST and every fourth one on
+ * PRD. Each topic of DEV has a producer and a consumer acl, and the DEV cluster differs from the
+ * metadata by a few new, deleted and changed topics and acls, so that the sync diffs have work to
+ * do.
+ */
+@Getter
+public class SyntheticTenant {
+
+  public static final int TENANT_ID = 101;
+  public static final String TENANT_NAME = "default";
+  public static final String DEV_ENV_ID = "1";
+  public static final String TST_ENV_ID = "2";
+  public static final String PRD_ENV_ID = "3";
+  public static final String USER_NAME = "user-0";
+
+  private static final int TEAMS = 50;
+  private static final int USERS_PER_TEAM = 10;
+  // team 1 is the pseudo team "All teams"
+  private static final int FIRST_TEAM_ID = 2;
+  // one in DRIFT topics or acls differs between the cluster and the metadata
+  private static final int DRIFT = 20;
+
+  private final List<Env> envs = new ArrayList<>();
+  private final List<Team> teams = new ArrayList<>();
+  private final List<UserInfo> users = new ArrayList<>();
+  private final List<Topic> topics = new ArrayList<>();
+  private final List<Topic> devTopics = new ArrayList<>();
+  private final List<Acl> devAcls = new ArrayList<>();
+  private final List<TopicConfig> devClusterTopics = new ArrayList<>();
+  private final List<Map<String, String>> devClusterAcls = new ArrayList<>();
+
+  public SyntheticTenant(int topicCount) {
+    envs.add(env(DEV_ENV_ID, "DEV", KafkaClustersType.KAFKA));
+    envs.add(env(TST_ENV_ID, "TST", KafkaClustersType.KAFKA));
+    envs.add(env(PRD_ENV_ID, "PRD", KafkaClustersType.KAFKA));
+    envs.add(env("4", "DEV_SCH", KafkaClustersType.SCHEMA_REGISTRY));
+    envs.add(env("5", "DEV_CON", KafkaClustersType.KAFKA_CONNECT));
+
+    for (int teamIndex = 0; teamIndex < TEAMS; teamIndex++) {
+      Team team = new Team();
+      team.setTeamId(FIRST_TEAM_ID + teamIndex);
+      team.setTeamname(teamName(teamIndex));
+      team.setTenantId(TENANT_ID);
+      teams.add(team);
+      for (int userIndex = 0; userIndex < USERS_PER_TEAM; userIndex++) {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setUsername("user-" + (userIndex * TEAMS + teamIndex));
+        userInfo.setTeamId(team.getTeamId());
+        userInfo.setTenantId(TENANT_ID);
+        users.add(userInfo);
+      }
+    }
+
+    int topicId = 0;
+    for (int topicIndex = 0; topics.size() < topicCount; topicIndex++) {
+      int teamIndex = topicIndex % TEAMS;
+      String topicName = String.format("%s.orders-%07d", teamName(teamIndex), topicIndex);
+      for (String envId : List.of(DEV_ENV_ID, TST_ENV_ID, PRD_ENV_ID)) {
+        if (topics.size() == topicCount || !existsOn(topicIndex, envId)) {
+          continue;
+        }
+        Topic topic = topic(++topicId, topicName, envId, FIRST_TEAM_ID + teamIndex);
+        topics.add(topic);
+        if (DEV_ENV_ID.equals(envId)) {
+          addDevTopic(topicIndex, topic);
+        }
+      }
+    }
+  }
+
+  private static boolean existsOn(int topicIndex, String envId) {
+    return switch (envId) {
+      case TST_ENV_ID -> topicIndex % 2 == 0;
+      case PRD_ENV_ID -> topicIndex % 4 == 0;
+      default -> true;
+    };
+  }
+
+  private void addDevTopic(int topicIndex, Topic topic) {
+    devTopics.add(topic);
+    Acl producer = acl(devAcls.size() + 1, topic, AclType.PRODUCER, null);
+    Acl consumer = acl(devAcls.size() + 2, topic, AclType.CONSUMER, "cg-" + topicIndex);
+    devAcls.add(producer);
+    devAcls.add(consumer);
+
+    if (topicIndex % DRIFT == 1) {
+      // deleted from the cluster, along with its acls
+      return;
+    }
+    TopicConfig clusterTopic = new TopicConfig();
+    clusterTopic.setTopicName(topic.getTopicname());
+    clusterTopic.setPartitions(topicIndex % DRIFT == 2 ? "6" : "3");
+    clusterTopic.setReplicationFactor(topic.getNoOfReplicas());
+    devClusterTopics.add(clusterTopic);
+    devClusterAcls.add(clusterAcl("TOPIC", topic.getTopicname(), producer.getAclssl(), "WRITE"));
+    devClusterAcls.add(clusterAcl("TOPIC", topic.getTopicname(), consumer.getAclssl(), "READ"));
+    devClusterAcls.add(
+        clusterAcl("GROUP", consumer.getConsumergroup(), consumer.getAclssl(), "READ"));
+
+    if (topicIndex % DRIFT == 3) {
+      // created on the cluster only
+      String newTopicName = topic.getTopicname() + "-new";
+      TopicConfig newClusterTopic = new TopicConfig();
+      newClusterTopic.setTopicName(newTopicName);
+      newClusterTopic.setPartitions("3");
+      newClusterTopic.setReplicationFactor("3");
+      devClusterTopics.add(newClusterTopic);
+      devClusterAcls.add(clusterAcl("TOPIC", newTopicName, producer.getAclssl(), "WRITE"));
+    }
+  }
+
+  /** Loads the tenant into the caches of a new {@link ManageDatabase}. */
+  public ManageDatabase loadManageDatabase() {
+    HandleDbRequestsJdbc handleDbRequests = Mockito.mock(HandleDbRequestsJdbc.class);
+    Mockito.when(handleDbRequests.getAllEnvs(TENANT_ID)).thenReturn(envs);
+    Mockito.when(handleDbRequests.getAllKafkaEnvs(TENANT_ID))
+        .thenReturn(envsOfType(KafkaClustersType.KAFKA));
+    Mockito.when(handleDbRequests.getAllSchemaRegEnvs(TENANT_ID))
+        .thenReturn(envsOfType(KafkaClustersType.SCHEMA_REGISTRY));
+    Mockito.when(handleDbRequests.getAllKafkaConnectEnvs(TENANT_ID))
+        .thenReturn(envsOfType(KafkaClustersType.KAFKA_CONNECT));
+    Mockito.when(handleDbRequests.getAllTeams(TENANT_ID)).thenReturn(teams);
+    Mockito.when(handleDbRequests.getAllUsersInfo(TENANT_ID)).thenReturn(users);
+    for (Team team : teams) {
+      Mockito.when(handleDbRequests.getAllUsersInfoForTeam(team.getTeamId(), TENANT_ID))
+          .thenReturn(
+              users.stream().filter(user -> user.getTeamId().equals(team.getTeamId())).toList());
+    }
+    Mockito.when(handleDbRequests.getAllTopics(TENANT_ID)).thenReturn(new ArrayList<>(topics));
+
+    ManageDatabase manageDatabase = new ManageDatabase();
+    setField(manageDatabase, "handleDbRequests", handleDbRequests);
+    for (String cache :
+        List.of(
+            "kafkaEnvListPerTenant",
+            "schemaRegEnvListPerTenant",
+            "kafkaConnectEnvListPerTenant",
+            "allEnvListPerTenant")) {
+      setField(
+          manageDatabase,
+          cache,
+          new CacheService<Env>(cache, CacheConstants.ENVIRONMENT_PATH, null));
+    }
+    // the maps which are only created when loading all tenants on startup
+    setField(null, "tenantMap", new HashMap<>(Map.of(TENANT_ID, TENANT_NAME)));
+    setField(null, "envsOfTenantsMap", new HashMap<>());
+    setField(null, "teamsAndAllowedEnvsPerTenant", new HashMap<>());
+    setField(null, "teamIdAndNamePerTenant", new HashMap<>());
+    setField(null, "teamsPerTenant", new HashMap<>());
+    setField(null, "usersPerTenant", new HashMap<>());
+
+    manageDatabase.loadEnvMapForOneTenant(TENANT_ID);
+    manageDatabase.loadEnvsForOneTenant(TENANT_ID);
+    manageDatabase.loadTenantTeamsForOneTenant(null, TENANT_ID);
+    manageDatabase.loadUsersForAllTenants();
+    manageDatabase.loadTopicsForOneTenant(TENANT_ID);
+
+    KwTenantConfigModel tenantModel = new KwTenantConfigModel();
+    tenantModel.setTenantName(TENANT_NAME);
+    tenantModel.setOrderOfTopicPromotionEnvsList(List.of(DEV_ENV_ID, TST_ENV_ID, PRD_ENV_ID));
+    tenantModel.setRequestTopicsEnvironmentsList(List.of(DEV_ENV_ID));
+    manageDatabase.getTenantConfig().put(TENANT_ID, tenantModel);
+    return manageDatabase;
+  }
+
+  /** Authenticates {@link #USER_NAME} for all the threads of the benchmark. */
+  public static void authenticate() {
+    SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(USER_NAME, null));
+  }
+
+  public List<String> getTeamNames() {
+    return teams.stream().map(Team::getTeamname).toList();
+  }
+
+  private List<Env> envsOfType(KafkaClustersType type) {
+    return envs.stream().filter(env -> type.value.equals(env.getType())).toList();
+  }
+
+  private static String teamName(int teamIndex) {
+    return String.format("team-%02d", teamIndex);
+  }
+
+  private static Env env(String id, String name, KafkaClustersType type) {
+    Env env = new Env();
+    env.setId(id);
+    env.setName(name);
+    env.setType(type.value);
+    env.setTenantId(TENANT_ID);
+    env.setClusterId(Integer.valueOf(id));
+    env.setEnvExists("true");
+    EnvParams params = new EnvParams();
+    params.setTopicPrefix(List.of("team-"));
+    params.setTopicRegex(List.of(""));
+    env.setParams(params);
+    return env;
+  }
+
+  private static Topic topic(int topicId, String topicName, String envId, int teamId) {
+    Topic topic = new Topic();
+    topic.setTopicid(topicId);
+    topic.setTopicname(topicName);
+    topic.setEnvironment(envId);
+    topic.setTeamId(teamId);
+    topic.setTenantId(TENANT_ID);
+    topic.setNoOfPartitions(3);
+    topic.setNoOfReplicas("3");
+    topic.setDescription("Orders of " + topicName);
+    return topic;
+  }
+
+  private static Acl acl(int reqNo, Topic topic, AclType aclType, String consumerGroup) {
+    Acl acl = new Acl();
+    acl.setReq_no(reqNo);
+    acl.setTenantId(TENANT_ID);
+    acl.setTopicname(topic.getTopicname());
+    acl.setEnvironment(topic.getEnvironment());
+    acl.setTeamId(topic.getTeamId());
+    acl.setAclType(aclType.value);
+    acl.setAclPatternType(AclPatternType.LITERAL.value);
+    acl.setAclResourceType("TOPIC");
+    acl.setAclip("*");
+    acl.setAclssl("CN=" + topic.getTopicname() + "-" + aclType.value.toLowerCase());
+    acl.setConsumergroup(consumerGroup);
+    return acl;
+  }
+
+  private static Map<String, String> clusterAcl(
+      String resourceType, String resourceName, String principal, String operation) {
+    Map<String, String> clusterAcl = new LinkedHashMap<>();
+    clusterAcl.put("resourceType", resourceType);
+    clusterAcl.put("patternType", AclPatternType.LITERAL.value);
+    clusterAcl.put("resourceName", resourceName);
+    clusterAcl.put("principle", "User:" + principal);
+    clusterAcl.put("host", "*");
+    clusterAcl.put("operation", operation);
+    clusterAcl.put("permissionType", "ALLOW");
+    return clusterAcl;
+  }
+
+  private static void setField(ManageDatabase manageDatabase, String name, Object value) {
+    Field field = ReflectionUtils.findField(ManageDatabase.class, name);
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, manageDatabase, value);
+  }
+}
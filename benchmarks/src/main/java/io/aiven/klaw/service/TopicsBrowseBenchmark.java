@@ -0,0 +1,89 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.benchmarks.SyntheticTenant;
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.model.TopicInfo;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Browsing the topics of a tenant, from the cached topics to a page of the UI. The benchmark lives
+ * in the package of the services to reach the steps which are not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TopicsBrowseBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int topics;
+
+  private List<Topic> topicList;
+  private CommonUtilsService commonUtilsService;
+  private TopicControllerService topicControllerService;
+
+  @Setup
+  public void setUp() {
+    SyntheticTenant tenant = new SyntheticTenant(topics);
+    ManageDatabase manageDatabase = tenant.loadManageDatabase();
+    SyntheticTenant.authenticate();
+    topicList = manageDatabase.getTopicsForTenant(SyntheticTenant.TENANT_ID);
+
+    commonUtilsService = new CommonUtilsService();
+    commonUtilsService.manageDatabase = manageDatabase;
+    // the cluster api is not called to browse topics
+    topicControllerService = new TopicControllerService(null, new MailUtils());
+    topicControllerService.manageDatabase = manageDatabase;
+    Field field = ReflectionUtils.findField(TopicControllerService.class, "commonUtilsService");
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, topicControllerService, commonUtilsService);
+  }
+
+  @Benchmark
+  public List<Topic> groupTopicsByEnv() {
+    return commonUtilsService.groupTopicsByEnv(topicList);
+  }
+
+  @Benchmark
+  public List<Topic> getFilteredTopicsForTenant() {
+    return commonUtilsService.getFilteredTopicsForTenant(topicList);
+  }
+
+  @Benchmark
+  public int getTenantIdOfUser() {
+    return commonUtilsService.getTenantId(SyntheticTenant.USER_NAME);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> getTopicsFirstPage() {
+    return topicControllerService.getTopics("ALL", "1", "", null, 1, null);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> getTopicsLastPage() {
+    return topicControllerService.getTopics("ALL", ">>", "1", null, 1, null);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> getTopicsOfEnvSearch() {
+    return topicControllerService.getTopics(
+        SyntheticTenant.PRD_ENV_ID, "1", "", "orders-00001", 1, null);
+  }
+}
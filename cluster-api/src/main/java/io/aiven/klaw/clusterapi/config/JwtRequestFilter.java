@@ -1,15 +1,25 @@
 package io.aiven.klaw.clusterapi.config;
 
 import io.aiven.klaw.clusterapi.services.JwtTokenUtilService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,13 +36,37 @@ public class JwtRequestFilter extends OncePerRequestFilter {
   private static final String BEARER = "Bearer ";
   private static final String USERNAME = "username";
   private static final String TOKEN = "token";
+  private static final String TOKEN_DIGEST = "tokenDigest";
+  private static final int DEFAULT_VERIFIED_TOKENS_CACHE_SIZE = 1000;
   private final JwtTokenUtilService jwtTokenUtil;
   private final UserDetailsService userDetailsService;
 
+  private record VerifiedToken(String username, long expiresAt) {}
+
+  // Core reuses a token for several calls, so keep the outcome of the signature check until the
+  // token expires. Keyed by a digest of the token, so the cache never holds usable credentials.
+  private final Map<String, VerifiedToken> verifiedTokens;
+
   public JwtRequestFilter(
       UserDetailsService userDetailsService, JwtTokenUtilService jwtTokenUtilService) {
+    this(userDetailsService, jwtTokenUtilService, DEFAULT_VERIFIED_TOKENS_CACHE_SIZE);
+  }
+
+  @Autowired
+  public JwtRequestFilter(
+      UserDetailsService userDetailsService,
+      JwtTokenUtilService jwtTokenUtilService,
+      @Value("${klaw.clusterapi.access.token.cache.size:1000}") int verifiedTokensCacheSize) {
     this.userDetailsService = userDetailsService;
     this.jwtTokenUtil = jwtTokenUtilService;
+    this.verifiedTokens =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedTokensCacheSize;
+              }
+            });
   }
 
   @Override
@@ -72,10 +106,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
   private boolean extractUsernameFromToken(
       HttpServletResponse response, Map<String, String> userTokenMap, String jwtToken)
       throws IOException {
-    String username;
     try {
-      username = jwtTokenUtil.getUsernameFromToken(jwtToken);
-      userTokenMap.put(USERNAME, username);
+      String tokenDigest = digest(jwtToken);
+      VerifiedToken verifiedToken = verifiedTokens.get(tokenDigest);
+      if (verifiedToken == null || verifiedToken.expiresAt() <= System.currentTimeMillis()) {
+        verifiedTokens.remove(tokenDigest);
+        verifiedToken = verify(jwtToken, tokenDigest);
+      }
+      userTokenMap.put(USERNAME, verifiedToken.username());
+      userTokenMap.put(TOKEN_DIGEST, tokenDigest);
       return false;
     } catch (IllegalArgumentException e) {
       log.info("Unable to get JWT Token ", e);
@@ -88,6 +127,33 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     return true;
   }
 
+  // parses the token and checks its signature, throws on invalid or expired tokens
+  private VerifiedToken verify(String jwtToken, String tokenDigest) {
+    Claims claims = jwtTokenUtil.getAllClaimsFromToken(jwtToken);
+    Date expiration = claims.getExpiration();
+    VerifiedToken verifiedToken =
+        new VerifiedToken(
+            claims.getSubject(), expiration == null ? Long.MIN_VALUE : expiration.getTime());
+    if (expiration != null) {
+      verifiedTokens.put(tokenDigest, verifiedToken);
+    }
+    return verifiedToken;
+  }
+
+  private boolean isTokenValid(Map<String, String> userTokenMap) {
+    VerifiedToken verifiedToken = verifiedTokens.get(userTokenMap.get(TOKEN_DIGEST));
+    if (verifiedToken != null) {
+      return verifiedToken.expiresAt() > System.currentTimeMillis();
+    }
+    return jwtTokenUtil.validateToken(userTokenMap.get(TOKEN));
+  }
+
+  private static String digest(String jwtToken) throws NoSuchAlgorithmException {
+    byte[] hash =
+        MessageDigest.getInstance("SHA-256").digest(jwtToken.getBytes(StandardCharsets.UTF_8));
+    return Base64.getEncoder().encodeToString(hash);
+  }
+
   // Once we get the token validate it.
   private void validateToken(
       HttpServletRequest request,
@@ -115,9 +181,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
       UserDetails userDetails)
       throws IOException {
     // authentication
-    if (userDetails != null
-        && userTokenMap.containsKey(TOKEN)
-        && jwtTokenUtil.validateToken(userTokenMap.get(TOKEN))) {
+    if (userDetails != null && userTokenMap.containsKey(TOKEN) && isTokenValid(userTokenMap)) {
       UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
           new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
       usernamePasswordAuthenticationToken.setDetails(
@@ -17,6 +17,9 @@ public class SchedulerConfig {
   @Value("${klaw.topics.scheduler.threadcount:4}")
   private int poolSizeTopics;
 
+  @Value("${klaw.schemaregistry.fetch.threadcount:8}")
+  private int poolSizeSchemaRegistryFetch;
+
   @Bean(name = "resetSchemaCacheTaskExecutor")
   public Executor threadPoolTaskExecutor() {
     ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
@@ -30,4 +33,12 @@ public class SchedulerConfig {
     threadPoolTaskExecutor.setCorePoolSize(poolSizeTopics);
     return threadPoolTaskExecutor;
   }
+
+  @Bean(name = "schemaRegistryFetchTaskExecutor")
+  public Executor schemaRegistryFetchThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeSchemaRegistryFetch);
+    threadPoolTaskExecutor.setThreadNamePrefix("schema-registry-fetch-");
+    return threadPoolTaskExecutor;
+  }
 }
@@ -24,6 +24,9 @@ public class SecurityConfig {
   @Value("${klaw.clusterapi.access.username:kwuser}")
   private String clusterApiUser;
 
+  @Value("${klaw.clusterapi.access.token.cache.size:1000}")
+  private int verifiedTokensCacheSize;
+
   @Lazy @Autowired private UserDetailsService userDetailsService;
 
   private final JwtTokenUtilService jwtTokenUtilService;
@@ -39,7 +42,7 @@ public class SecurityConfig {
     http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     http.authorizeHttpRequests().anyRequest().fullyAuthenticated();
     http.addFilterBefore(
-        new JwtRequestFilter(userDetailsService, jwtTokenUtilService),
+        new JwtRequestFilter(userDetailsService, jwtTokenUtilService, verifiedTokensCacheSize),
         UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
@@ -2,6 +2,7 @@ package io.aiven.klaw.clusterapi.controller;
 
 import io.aiven.klaw.clusterapi.models.ApiResponse;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
+import io.aiven.klaw.clusterapi.models.ClusterTopicBatchRequest;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
 import io.aiven.klaw.clusterapi.models.LoadTopicsResponse;
 import io.aiven.klaw.clusterapi.models.ServiceAccountDetails;
@@ -15,8 +16,10 @@ import io.aiven.klaw.clusterapi.services.ApacheKafkaAclService;
 import io.aiven.klaw.clusterapi.services.ApacheKafkaTopicService;
 import io.aiven.klaw.clusterapi.services.ConfluentCloudApiService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
+import io.aiven.klaw.clusterapi.utils.AclsFilter;
 import jakarta.validation.Valid;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -114,7 +118,9 @@ public class ClusterApiController {
       @PathVariable String clusterName,
       @PathVariable String aclsNativeType,
       @PathVariable String projectName,
-      @PathVariable String serviceName)
+      @PathVariable String serviceName,
+      @RequestParam(value = "topicName", required = false) String topicName,
+      @RequestParam(value = "principal", required = false) String principal)
       throws Exception {
     Set<Map<String, String>> acls;
     if (AclsNativeType.NATIVE.name().equals(aclsNativeType)) {
@@ -124,7 +130,7 @@ public class ClusterApiController {
     } else {
       acls = aivenApiService.listAcls(projectName, serviceName);
     }
-    return new ResponseEntity<>(acls, HttpStatus.OK);
+    return new ResponseEntity<>(AclsFilter.filterAcls(acls, topicName, principal), HttpStatus.OK);
   }
 
   /*
@@ -181,6 +187,26 @@ public class ClusterApiController {
     }
   }
 
+  @PostMapping(
+      value = "/createTopicsBatch",
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ApiResponse> createTopicsBatch(
+      @RequestBody @Valid ClusterTopicBatchRequest clusterTopicBatchRequest) {
+    try {
+      List<ClusterTopicRequest> topicRequests = clusterTopicBatchRequest.getTopicRequests();
+      log.info("createTopicsBatch {} topics", topicRequests.size());
+      if (AclsNativeType.CONFLUENT_CLOUD == topicRequests.get(0).getAclsNativeType()) {
+        return new ResponseEntity<>(
+            confluentCloudApiService.createTopics(topicRequests), HttpStatus.OK);
+      } else {
+        return new ResponseEntity<>(
+            apacheKafkaTopicService.createTopics(topicRequests), HttpStatus.OK);
+      }
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
   @PostMapping(
       value = "/updateTopics",
       produces = {MediaType.APPLICATION_JSON_VALUE})
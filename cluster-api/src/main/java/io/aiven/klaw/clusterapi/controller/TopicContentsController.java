@@ -1,6 +1,11 @@
 package io.aiven.klaw.clusterapi.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiven.klaw.clusterapi.services.TopicContentsService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +15,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/topics")
@@ -19,6 +26,8 @@ public class TopicContentsController {
 
   @Autowired TopicContentsService topicContentsService;
 
+  @Autowired ObjectMapper objectMapper;
+
   @RequestMapping(
       value =
           "/getTopicContents/{bootstrapServers}/"
@@ -32,7 +41,8 @@ public class TopicContentsController {
       @PathVariable String consumerGroupId,
       @PathVariable String topicName,
       @PathVariable int offsetPosition,
-      @PathVariable String clusterIdentification) {
+      @PathVariable String clusterIdentification,
+      @RequestParam(value = "fromTimestamp", required = false) Long fromTimestamp) {
     Map<Long, String> events =
         topicContentsService.readEvents(
             bootstrapServers,
@@ -41,9 +51,69 @@ public class TopicContentsController {
             consumerGroupId,
             topicName,
             offsetPosition,
-            "OFFSET_ID",
+            getReadMessagesType(fromTimestamp),
+            fromTimestamp,
             clusterIdentification);
 
     return new ResponseEntity<>(events, HttpStatus.OK);
   }
+
+  /**
+   * Streams topic contents as newline delimited json, one record per line, written as soon as the
+   * record is polled from the cluster.
+   *
+   * @param bootstrapServers env param
+   * @param protocol SSL or plaintext
+   * @param topicName topic name
+   * @param offsetPosition number of records to read per partition
+   * @param clusterIdentification cluster id
+   * @param fromTimestamp optional epoch millis to read from, latest records are read otherwise
+   * @return records with partition, offset, timestamp and value
+   */
+  @RequestMapping(
+      value =
+          "/streamTopicContents/{bootstrapServers}/"
+              + "{protocol}/{topicName}/{offsetPosition}/{clusterIdentification}",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<StreamingResponseBody> streamTopicContents(
+      @PathVariable String bootstrapServers,
+      @PathVariable String protocol,
+      @PathVariable String topicName,
+      @PathVariable int offsetPosition,
+      @PathVariable String clusterIdentification,
+      @RequestParam(value = "fromTimestamp", required = false) Long fromTimestamp) {
+    StreamingResponseBody responseBody =
+        outputStream ->
+            topicContentsService.streamEvents(
+                bootstrapServers,
+                protocol,
+                topicName,
+                offsetPosition,
+                getReadMessagesType(fromTimestamp),
+                fromTimestamp,
+                clusterIdentification,
+                record -> {
+                  Map<String, Object> event = new LinkedHashMap<>();
+                  event.put("partition", record.partition());
+                  event.put("offset", record.offset());
+                  event.put("timestamp", record.timestamp());
+                  event.put("value", record.value());
+                  try {
+                    outputStream.write(objectMapper.writeValueAsBytes(event));
+                    outputStream.write("\n".getBytes(StandardCharsets.UTF_8));
+                    outputStream.flush();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(responseBody);
+  }
+
+  private static String getReadMessagesType(Long fromTimestamp) {
+    return fromTimestamp == null
+        ? TopicContentsService.READ_MESSAGES_TYPE_OFFSET_ID
+        : TopicContentsService.READ_MESSAGES_TYPE_TIMESTAMP;
+  }
 }
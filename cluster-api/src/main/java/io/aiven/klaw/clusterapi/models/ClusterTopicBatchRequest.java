@@ -0,0 +1,24 @@
+package io.aiven.klaw.clusterapi.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Topics to create in one call, all of them on the same cluster. */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ClusterTopicBatchRequest {
+
+  @JsonProperty @NotEmpty @Valid private List<ClusterTopicRequest> topicRequests;
+}
@@ -1,12 +1,15 @@
 package io.aiven.klaw.clusterapi.services;
 
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
+import io.aiven.klaw.clusterapi.models.ClusterKeyIdentifier;
 import io.aiven.klaw.clusterapi.models.enums.AclIPPrincipleType;
 import io.aiven.klaw.clusterapi.models.enums.AclPatternType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics;
+import io.aiven.klaw.clusterapi.utils.SingleFlight;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,13 +42,31 @@ public class ApacheKafkaAclService {
 
   private final ClusterApiUtils clusterApiUtils;
 
+  // concurrent loads of the same cluster share one describe acls round trip
+  private final SingleFlight<ClusterKeyIdentifier, Set<Map<String, String>>> aclLoads =
+      new SingleFlight<>("cluster-api", "loadAcls");
+
   public ApacheKafkaAclService(ClusterApiUtils clusterApiUtils) {
     this.clusterApiUtils = clusterApiUtils;
   }
 
-  public synchronized Set<Map<String, String>> loadAcls(
+  public Set<Map<String, String>> loadAcls(
       String environment, KafkaSupportedProtocol protocol, String clusterName) throws Exception {
     log.info("loadAcls {} {}", environment, protocol);
+    Set<Map<String, String>> acls =
+        aclLoads.execute(
+            new ClusterKeyIdentifier(environment, protocol, clusterName),
+            () -> describeAcls(environment, protocol, clusterName));
+    // callers get their own copy of the shared result
+    return new HashSet<>(acls);
+  }
+
+  public long getCoalescedAclLoads() {
+    return aclLoads.getCoalescedCount();
+  }
+
+  private Set<Map<String, String>> describeAcls(
+      String environment, KafkaSupportedProtocol protocol, String clusterName) throws Exception {
     Set<Map<String, String>> acls = new HashSet<>();
 
     AdminClient client = clusterApiUtils.getAdminClient(environment, protocol, clusterName);
@@ -57,8 +78,7 @@ public class ApacheKafkaAclService {
       AclBindingFilter aclBindingFilter = AclBindingFilter.ANY;
       DescribeAclsResult aclsResult = client.describeAcls(aclBindingFilter);
 
-      aclsResult
-          .values()
+      ClusterCallMetrics.timed(client, "describeAcls", aclsResult.values())
           .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS)
           .forEach(aclBinding -> filterAndUpdateAclBindings(acls, aclBinding));
     } catch (Exception e) {
@@ -192,7 +212,8 @@ public class ApacheKafkaAclService {
     AclBindingFilter aclBinding2 = new AclBindingFilter(resourcePattern, aclEntry);
     aclListArray.add(aclBinding2);
 
-    client.deleteAcls(aclListArray).all().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+    ClusterCallMetrics.timed(client, "deleteAcls", client.deleteAcls(aclListArray).all())
+        .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
   }
 
   private boolean updateTopicProducerWriteAcls(
@@ -219,14 +240,18 @@ public class ApacheKafkaAclService {
     if (acl1Exists && acl2Exists) {
       return true;
     }
-    client.createAcls(aclListArray).all().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+    ClusterCallMetrics.timed(client, "createAcls", client.createAcls(aclListArray).all())
+        .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
     return false;
   }
 
   private boolean aclExists(AdminClient client, AclBindingFilter aclBindingFilter) {
     DescribeAclsResult aclsResult = client.describeAcls(aclBindingFilter);
     try {
-      if (aclsResult.values().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS).size() == 1) {
+      if (ClusterCallMetrics.timed(client, "describeAcls", aclsResult.values())
+              .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS)
+              .size()
+          == 1) {
         return true;
       }
     } catch (InterruptedException | TimeoutException | ExecutionException e) {
@@ -270,7 +295,8 @@ public class ApacheKafkaAclService {
                 principal, host, AclOperation.WRITE, AclPermissionType.ALLOW);
         AclBindingFilter aclBinding1 = new AclBindingFilter(resourcePattern, aclEntry);
         aclListArrayDel.add(aclBinding1);
-        client.deleteAcls(aclListArrayDel).all().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+        ClusterCallMetrics.timed(client, "deleteAcls", client.deleteAcls(aclListArrayDel).all())
+            .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
       }
     }
   }
@@ -432,7 +458,8 @@ public class ApacheKafkaAclService {
     AclBindingFilter aclBinding3 = new AclBindingFilter(resourcePattern, aclEntry);
     aclListArray.add(aclBinding3);
 
-    client.deleteAcls(aclListArray).all().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+    ClusterCallMetrics.timed(client, "deleteAcls", client.deleteAcls(aclListArray).all())
+        .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
     resultStr = ApiResultStatus.SUCCESS.value;
     return resultStr;
   }
@@ -470,7 +497,8 @@ public class ApacheKafkaAclService {
     if (acl1Exists && acl2Exists && acl3Exists) {
       resultStr = "Acl already exists. success";
     } else {
-      client.createAcls(aclListArray).all().get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+      ClusterCallMetrics.timed(client, "createAcls", client.createAcls(aclListArray).all())
+          .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
       resultStr = ApiResultStatus.SUCCESS.value;
     }
     return resultStr;
@@ -8,14 +8,18 @@ import io.aiven.klaw.clusterapi.models.TopicConfig;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics;
+import io.aiven.klaw.clusterapi.utils.SingleFlight;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -44,18 +48,21 @@ public class ApacheKafkaTopicService {
 
   private final SchemaService schemaService;
 
-  private static Map<ClusterKeyIdentifier, Set<TopicConfig>> cachedTopics = new HashMap<>();
+  private static Map<ClusterKeyIdentifier, Set<TopicConfig>> cachedTopics =
+      new ConcurrentHashMap<>();
 
-  private static Set<ClusterKeyIdentifier> topicCacheKeySets = new HashSet<>();
+  private static Set<ClusterKeyIdentifier> topicCacheKeySets = ConcurrentHashMap.newKeySet();
 
-  private static Map<ClusterKeyIdentifier, Boolean> topicsLoadingStatusOfClusters = new HashMap<>();
+  // concurrent loads of the same cluster share one describe topics round trip
+  private final SingleFlight<ClusterKeyIdentifier, Set<TopicConfig>> topicLoads =
+      new SingleFlight<>("cluster-api", "loadTopics");
 
   public ApacheKafkaTopicService(ClusterApiUtils clusterApiUtils, SchemaService schemaService) {
     this.clusterApiUtils = clusterApiUtils;
     this.schemaService = schemaService;
   }
 
-  public synchronized LoadTopicsResponse loadTopics(
+  public LoadTopicsResponse loadTopics(
       String environment,
       KafkaSupportedProtocol protocol,
       String clusterIdentification,
@@ -64,7 +71,6 @@ public class ApacheKafkaTopicService {
     log.info("loadTopics {} {}", environment, protocol);
     AdminClient client =
         clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
-    Set<TopicConfig> topics = new HashSet<>();
     if (client == null) {
       throw new Exception("Cannot connect to cluster.");
     }
@@ -72,32 +78,25 @@ public class ApacheKafkaTopicService {
     ClusterKeyIdentifier clusterKeyIdentifier =
         new ClusterKeyIdentifier(environment, protocol, clusterIdentification);
 
-    boolean topicsLoadingStatus = false;
-    if (topicsLoadingStatusOfClusters.containsKey(clusterKeyIdentifier)) {
-      topicsLoadingStatus = topicsLoadingStatusOfClusters.get(clusterKeyIdentifier);
-    } else {
-      topicsLoadingStatusOfClusters.put(clusterKeyIdentifier, false);
-    }
-
-    if (topicsLoadingStatus) {
-      return LoadTopicsResponse.builder()
-          .loadingInProgress(true)
-          .topicConfigSet(new HashSet<>())
-          .build();
-    } else {
-      topicsLoadingStatusOfClusters.put(clusterKeyIdentifier, true);
-    }
-
-    if (resetCache || !cachedTopics.containsKey(clusterKeyIdentifier)) {
-      loadTopicsForCache(client, topics, clusterKeyIdentifier);
-    } else {
-      topics = cachedTopics.get(clusterKeyIdentifier);
+    Set<TopicConfig> topics = cachedTopics.get(clusterKeyIdentifier);
+    if (resetCache || topics == null) {
+      topics =
+          topicLoads.execute(
+              clusterKeyIdentifier,
+              () -> {
+                Set<TopicConfig> loadedTopics = new HashSet<>();
+                loadTopicsForCache(client, loadedTopics, clusterKeyIdentifier);
+                return loadedTopics;
+              });
     }
 
-    topicsLoadingStatusOfClusters.put(clusterKeyIdentifier, false);
     return LoadTopicsResponse.builder().loadingInProgress(false).topicConfigSet(topics).build();
   }
 
+  public long getCoalescedTopicLoads() {
+    return topicLoads.getCoalescedCount();
+  }
+
   private void loadTopicsForCache(
       AdminClient client, Set<TopicConfig> topics, ClusterKeyIdentifier clusterKeyIdentifier) {
     try {
@@ -139,10 +138,11 @@ public class ApacheKafkaTopicService {
 
     ListTopicsResult topicsResult = client.listTopics(listTopicsOptions);
     DescribeTopicsResult describeTopicsResult =
-        client.describeTopics(new ArrayList<>(topicsResult.names().get()));
+        client.describeTopics(
+            new ArrayList<>(
+                ClusterCallMetrics.timed(client, "listTopics", topicsResult.names()).get()));
 
-    return describeTopicsResult
-        .allTopicNames()
+    return ClusterCallMetrics.timed(client, "describeTopics", describeTopicsResult.allTopicNames())
         .get(clusterApiUtils.getAdminClientProperties().getTopicsTimeoutSecs(), TimeUnit.SECONDS);
   }
 
@@ -166,9 +166,8 @@ public class ApacheKafkaTopicService {
               .configs(clusterTopicRequest.getAdvancedTopicConfiguration());
 
       CreateTopicsResult result = client.createTopics(Collections.singletonList(topic));
-      result
-          .values()
-          .get(clusterTopicRequest.getTopicName())
+      ClusterCallMetrics.timed(
+              client, "createTopic", result.values().get(clusterTopicRequest.getTopicName()))
           .get(clusterApiUtils.getAdminClientProperties().getTopicsTimeoutSecs(), TimeUnit.SECONDS);
     } catch (KafkaException e) {
       log.error("Invalid properties: ", e);
@@ -209,6 +208,71 @@ public class ApacheKafkaTopicService {
     return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
   }
 
+  /**
+   * Creates all topics with a single call to the cluster. A topic failing does not fail the other
+   * topics, the result holds the outcome of every topic.
+   *
+   * @return api response with a map of topic name to SUCCESS or the error of that topic
+   */
+  public ApiResponse createTopics(List<ClusterTopicRequest> clusterTopicRequests) throws Exception {
+    ClusterTopicRequest firstRequest = clusterTopicRequests.get(0);
+    log.info(
+        "createTopics {} topics on {}", clusterTopicRequests.size(), firstRequest.getClusterName());
+    AdminClient client =
+        clusterApiUtils.getAdminClient(
+            firstRequest.getEnv(), firstRequest.getProtocol(), firstRequest.getClusterName());
+    if (client == null) {
+      throw new Exception("Cannot connect to cluster.");
+    }
+
+    Map<String, ClusterTopicRequest> requestsByTopic = new LinkedHashMap<>();
+    List<NewTopic> newTopics = new ArrayList<>();
+    for (ClusterTopicRequest clusterTopicRequest : clusterTopicRequests) {
+      requestsByTopic.put(clusterTopicRequest.getTopicName(), clusterTopicRequest);
+      newTopics.add(
+          new NewTopic(
+                  clusterTopicRequest.getTopicName(),
+                  clusterTopicRequest.getPartitions(),
+                  clusterTopicRequest.getReplicationFactor())
+              .configs(clusterTopicRequest.getAdvancedTopicConfiguration()));
+    }
+
+    CreateTopicsResult result = client.createTopics(newTopics);
+    ClusterCallMetrics.timed(client, "createTopics", result.all());
+    long deadline =
+        System.nanoTime()
+            + TimeUnit.SECONDS.toNanos(
+                clusterApiUtils.getAdminClientProperties().getTopicsTimeoutSecs());
+    Map<String, String> topicResults = new LinkedHashMap<>();
+    for (Map.Entry<String, ClusterTopicRequest> topicRequest : requestsByTopic.entrySet()) {
+      String topicName = topicRequest.getKey();
+      try {
+        result
+            .values()
+            .get(topicName)
+            .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        topicResults.put(topicName, ApiResultStatus.SUCCESS.value);
+      } catch (ExecutionException e) {
+        log.error("Unable to create topic {}, {}", topicName, e.getCause().getMessage());
+        if (e.getMessage().contains("TopicExistsException")
+            && checkIfTopicExistsWithSameConfig(topicRequest.getValue(), client)) {
+          topicResults.put(topicName, ApiResultStatus.SUCCESS.value);
+        } else {
+          topicResults.put(topicName, e.getMessage());
+        }
+      } catch (TimeoutException e) {
+        log.error("Timed out creating topic {}", topicName);
+        topicResults.put(topicName, "Timed out creating topic " + topicName);
+      }
+    }
+
+    return ApiResponse.builder()
+        .success(true)
+        .message(ApiResultStatus.SUCCESS.value)
+        .data(topicResults)
+        .build();
+  }
+
   // check if topic exists with same configuration as request
   private boolean checkIfTopicExistsWithSameConfig(
       ClusterTopicRequest clusterTopicRequest, AdminClient adminClient)
@@ -240,8 +304,7 @@ public class ApacheKafkaTopicService {
     DescribeTopicsResult describeTopicsResult =
         client.describeTopics(Collections.singleton(clusterTopicRequest.getTopicName()));
     TopicDescription result =
-        describeTopicsResult
-            .all()
+        ClusterCallMetrics.timed(client, "describeTopics", describeTopicsResult.all())
             .get(
                 clusterApiUtils.getAdminClientProperties().getTopicsTimeoutSecs(), TimeUnit.SECONDS)
             .get(clusterTopicRequest.getTopicName());
@@ -298,9 +361,8 @@ public class ApacheKafkaTopicService {
 
       DeleteTopicsResult result =
           client.deleteTopics(Collections.singletonList(clusterTopicRequest.getTopicName()));
-      result
-          .values()
-          .get(clusterTopicRequest.getTopicName())
+      ClusterCallMetrics.timed(
+              client, "deleteTopic", result.values().get(clusterTopicRequest.getTopicName()))
           .get(clusterApiUtils.getAdminClientProperties().getTopicsTimeoutSecs(), TimeUnit.SECONDS);
 
       // delete associated schema if requested
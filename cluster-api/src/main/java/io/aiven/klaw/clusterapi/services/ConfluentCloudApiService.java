@@ -24,6 +24,7 @@ import jakarta.validation.Valid;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -301,6 +302,28 @@ public class ConfluentCloudApiService {
     return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
   }
 
+  /**
+   * Confluent Cloud creates one topic per call, so the topics are created one after another.
+   *
+   * @return api response with a map of topic name to SUCCESS or the error of that topic
+   */
+  public ApiResponse createTopics(List<ClusterTopicRequest> clusterTopicRequests) {
+    Map<String, String> topicResults = new LinkedHashMap<>();
+    for (ClusterTopicRequest clusterTopicRequest : clusterTopicRequests) {
+      try {
+        topicResults.put(
+            clusterTopicRequest.getTopicName(), createTopic(clusterTopicRequest).getMessage());
+      } catch (Exception e) {
+        topicResults.put(clusterTopicRequest.getTopicName(), e.getMessage());
+      }
+    }
+    return ApiResponse.builder()
+        .success(true)
+        .message(ApiResultStatus.SUCCESS.value)
+        .data(topicResults)
+        .build();
+  }
+
   public ApiResponse deleteTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
     RestTemplate restTemplate = getRestTemplate();
     log.info("createTopic {}", clusterTopicRequest);
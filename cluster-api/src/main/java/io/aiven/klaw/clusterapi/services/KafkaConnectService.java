@@ -14,6 +14,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.error.RestErrorResponse;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics.Target;
 import java.util.*;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -62,13 +64,18 @@ public class KafkaConnectService {
                 KafkaClustersType.KAFKA_CONNECT);
         HttpEntity<Object> request = new HttpEntity<>(headers);
 
-        reqDetails
-            .getRight()
-            .exchange(
-                reqDetails.getLeft(),
-                HttpMethod.DELETE,
-                request,
-                new ParameterizedTypeReference<>() {});
+        ClusterCallMetrics.time(
+            Target.KAFKA_CONNECT,
+            "deleteConnector",
+            clusterConnectorRequest.getClusterIdentification(),
+            () ->
+                reqDetails
+                    .getRight()
+                    .exchange(
+                        reqDetails.getLeft(),
+                        HttpMethod.DELETE,
+                        request,
+                        new ParameterizedTypeReference<Object>() {}));
         return ApiResponse.SUCCESS;
       } catch (HttpServerErrorException | HttpClientErrorException e) {
         log.error("Rest Exception in deleting connector ", e);
@@ -96,7 +103,11 @@ public class KafkaConnectService {
         HttpEntity<String> request =
             new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
 
-        reqDetails.getRight().put(reqDetails.getLeft(), request, String.class);
+        ClusterCallMetrics.run(
+            Target.KAFKA_CONNECT,
+            "updateConnector",
+            clusterConnectorRequest.getClusterIdentification(),
+            () -> reqDetails.getRight().put(reqDetails.getLeft(), request, String.class));
         return ApiResponse.SUCCESS;
       } catch (HttpServerErrorException | HttpClientErrorException e) {
         log.error("Error in updating connector ", e);
@@ -144,7 +155,14 @@ public class KafkaConnectService {
             new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
 
         responseNew =
-            reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
+            ClusterCallMetrics.time(
+                Target.KAFKA_CONNECT,
+                "postNewConnector",
+                clusterConnectorRequest.getClusterIdentification(),
+                () ->
+                    reqDetails
+                        .getRight()
+                        .postForEntity(reqDetails.getLeft(), request, String.class));
         if (responseNew.getStatusCode().is2xxSuccessful()) {
           return ApiResponse.SUCCESS;
         }
@@ -191,14 +209,19 @@ public class KafkaConnectService {
 
         if (!getConnectorStatuses) {
           ResponseEntity<List<String>> responseList =
-              reqDetails
-                  .getRight()
-                  .exchange(
-                      reqDetails.getLeft(),
-                      HttpMethod.GET,
-                      request,
-                      GET_CONNECTORS_STR_TYPEREF,
-                      params);
+              ClusterCallMetrics.time(
+                  Target.KAFKA_CONNECT,
+                  "getConnectors",
+                  clusterIdentification,
+                  () ->
+                      reqDetails
+                          .getRight()
+                          .exchange(
+                              reqDetails.getLeft(),
+                              HttpMethod.GET,
+                              request,
+                              GET_CONNECTORS_STR_TYPEREF,
+                              params));
           log.info("connectors list " + responseList);
           if (responseList.getBody() != null) {
             for (String connectorName : responseList.getBody()) {
@@ -212,7 +235,11 @@ public class KafkaConnectService {
         }
 
         ResponseEntity<Map<String, Map<String, Status>>> responseEntity =
-            getConnectorStatus(reqDetails, request, params);
+            ClusterCallMetrics.time(
+                Target.KAFKA_CONNECT,
+                "getConnectorStatuses",
+                clusterIdentification,
+                () -> getConnectorStatus(reqDetails, request, params));
         Map<String, Map<String, Status>> responseBody = responseEntity.getBody();
 
         for (String connectorName : Objects.requireNonNull(responseBody).keySet()) {
@@ -281,14 +308,19 @@ public class KafkaConnectService {
         Map<String, String> params = new HashMap<>();
 
         ResponseEntity<Map<String, Object>> responseList =
-            reqDetails
-                .getRight()
-                .exchange(
-                    reqDetails.getLeft(),
-                    HttpMethod.GET,
-                    request,
-                    GET_CONNECTOR_DETAILS_TYPEREF,
-                    params);
+            ClusterCallMetrics.time(
+                Target.KAFKA_CONNECT,
+                "getConnectorDetails",
+                clusterIdentification,
+                () ->
+                    reqDetails
+                        .getRight()
+                        .exchange(
+                            reqDetails.getLeft(),
+                            HttpMethod.GET,
+                            request,
+                            GET_CONNECTOR_DETAILS_TYPEREF,
+                            params));
         log.info("connectors list " + responseList);
 
         return responseList.getBody();
@@ -315,13 +347,18 @@ public class KafkaConnectService {
       HttpEntity<Object> request = new HttpEntity<>(headers);
 
       try {
-        reqDetails
-            .getRight()
-            .exchange(
-                reqDetails.getLeft(),
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<>() {});
+        ClusterCallMetrics.time(
+            Target.KAFKA_CONNECT,
+            "getKafkaConnectStatus",
+            clusterIdentification,
+            () ->
+                reqDetails
+                    .getRight()
+                    .exchange(
+                        reqDetails.getLeft(),
+                        HttpMethod.GET,
+                        request,
+                        new ParameterizedTypeReference<Object>() {}));
         return ClusterStatus.ONLINE;
       } catch (RestClientException e) {
         log.error("Exception Connectin to {} :", env, e);
@@ -356,7 +393,14 @@ public class KafkaConnectService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         responseNew =
-            reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
+            ClusterCallMetrics.time(
+                Target.KAFKA_CONNECT,
+                "restartConnector",
+                clusterConnectorRequest.getClusterIdentification(),
+                () ->
+                    reqDetails
+                        .getRight()
+                        .postForEntity(reqDetails.getLeft(), request, String.class));
       } catch (HttpServerErrorException | HttpClientErrorException e) {
         log.error("restartConnector Rest Exception", e);
       } catch (Exception ex) {
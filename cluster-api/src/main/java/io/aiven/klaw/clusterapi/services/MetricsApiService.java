@@ -1,8 +1,11 @@
 package io.aiven.klaw.clusterapi.services;
 
 import io.aiven.klaw.clusterapi.utils.MetricsUtils;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.management.*;
 import javax.management.remote.JMXConnector;
 import lombok.extern.slf4j.Slf4j;
@@ -15,10 +18,8 @@ public class MetricsApiService {
 
   @Autowired MetricsUtils metricsUtils;
 
-  //    public void getMetrics(){
-  //        getMetrics("service:jmx:rmi:///jndi/rmi://localhost:9996/jmxrmi",
-  //                "kafka.server:type=BrokerTopicMetrics,name=MessagesInPerSec");
-  //    }
+  // attribute names of an MBean do not change at runtime, so describe every MBean only once
+  private final Map<String, String[]> attributeNamesCache = new ConcurrentHashMap<>();
 
   public Map<String, String> getMetrics(String jmxUrl, String objectName) throws Exception {
     Map<String, String> metricsMap = new HashMap<>();
@@ -26,21 +27,38 @@ public class MetricsApiService {
       JMXConnector jmxc = metricsUtils.getJmxConnector(jmxUrl);
       MBeanServerConnection mbsc = jmxc.getMBeanServerConnection();
 
-      //            String[] domains = mbsc.getDomains();
-      //            System.out.println(Arrays.toString(domains));
-
       // kafka.server:name=MessagesInPerSec,topic=topicName,type=BrokerTopicMetrics
       ObjectName mxbeanName = new ObjectName(objectName);
-      MBeanAttributeInfo[] attributes = mbsc.getMBeanInfo(mxbeanName).getAttributes();
+      String[] attributeNames = getAttributeNames(jmxUrl, mbsc, mxbeanName);
 
-      for (MBeanAttributeInfo attr : attributes) {
-        metricsMap.put(attr.getName(), "" + mbsc.getAttribute(mxbeanName, attr.getName()));
-        log.debug(attr.getName() + " " + mbsc.getAttribute(mxbeanName, attr.getName()));
+      // one round trip for all attributes instead of one per attribute
+      for (Attribute attribute : mbsc.getAttributes(mxbeanName, attributeNames).asList()) {
+        metricsMap.put(attribute.getName(), "" + attribute.getValue());
+        log.debug(attribute.getName() + " " + attribute.getValue());
       }
+    } catch (IOException e) {
+      log.error("Error ", e);
+      metricsUtils.invalidateJmxConnector(jmxUrl);
+      throw e;
     } catch (Exception e) {
       log.error("Error ", e);
       throw e;
     }
     return metricsMap;
   }
+
+  private String[] getAttributeNames(
+      String jmxUrl, MBeanServerConnection mbsc, ObjectName mxbeanName) throws Exception {
+    String cacheKey = jmxUrl + mxbeanName.getCanonicalName();
+    String[] attributeNames = attributeNamesCache.get(cacheKey);
+    if (attributeNames == null) {
+      attributeNames =
+          Arrays.stream(mbsc.getMBeanInfo(mxbeanName).getAttributes())
+              .filter(MBeanAttributeInfo::isReadable)
+              .map(MBeanAttributeInfo::getName)
+              .toArray(String[]::new);
+      attributeNamesCache.put(cacheKey, attributeNames);
+    }
+    return attributeNames;
+  }
 }
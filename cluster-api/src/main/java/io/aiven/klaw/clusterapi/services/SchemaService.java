@@ -15,9 +15,13 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.SchemaCacheUpdateType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics.Target;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,11 +29,17 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -57,10 +67,16 @@ public class SchemaService {
   private static final ParameterizedTypeReference<List<String>> GET_SUBJECTS_TYPEREF =
       new ParameterizedTypeReference<>() {};
 
+  private static final int DEFAULT_SCHEMA_CACHE_SIZE = 10000;
+  private static final String SCHEMA_ID_KEY = "id";
+  private static final String SCHEMA_SUBJECT_KEY = "subject";
+  private static final String SCHEMA_VERSION_KEY = "version";
+
   private static Map<String, SchemasInfoOfClusterResponse> schemasInfoOfClusterResponseMap =
-      new HashMap<>();
+      new ConcurrentHashMap<>();
 
-  private static Map<String, ClusterKeyIdentifier> schemasInfoCacheKeySetMap = new HashMap<>();
+  private static Map<String, ClusterKeyIdentifier> schemasInfoCacheKeySetMap =
+      new ConcurrentHashMap<>();
 
   public static final String SCHEMA_REGISTRY_CONTENT_TYPE =
       "application/vnd.schemaregistry.v1+json";
@@ -80,8 +96,34 @@ public class SchemaService {
 
   final ClusterApiUtils clusterApiUtils;
 
+  private final Executor schemaFetchExecutor;
+
+  // schema id of each subject version, keyed by registry, subject and version
+  private final Map<String, Integer> subjectVersionSchemaIds = new ConcurrentHashMap<>();
+
+  // schema bodies are immutable once registered, keyed by registry and schema id
+  private final Map<String, Map<String, Object>> schemaBodyCache;
+
+  /** Fetches from the schema registry on the calling thread, one request at a time. */
   public SchemaService(ClusterApiUtils clusterApiUtils) {
+    this(clusterApiUtils, new SyncTaskExecutor(), DEFAULT_SCHEMA_CACHE_SIZE);
+  }
+
+  @Autowired
+  public SchemaService(
+      ClusterApiUtils clusterApiUtils,
+      @Qualifier("schemaRegistryFetchTaskExecutor") Executor schemaFetchExecutor,
+      @Value("${klaw.schemaregistry.schemacache.size:10000}") int schemaCacheSize) {
     this.clusterApiUtils = clusterApiUtils;
+    this.schemaFetchExecutor = schemaFetchExecutor;
+    this.schemaBodyCache =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > schemaCacheSize;
+              }
+            });
   }
 
   public synchronized ApiResponse registerSchema(ClusterSchemaRequest clusterSchemaRequest) {
@@ -202,9 +244,14 @@ public class SchemaService {
             clusterSchemaRequest.getFullSchema(), clusterSchemaRequest.getClusterIdentification());
 
     ResponseEntity<RegisterSchemaResponse> schemaResponseResponseEntity =
-        reqDetails
-            .getRight()
-            .postForEntity(reqDetails.getLeft(), request, RegisterSchemaResponse.class);
+        ClusterCallMetrics.time(
+            Target.SCHEMA_REGISTRY,
+            "registerSchema",
+            clusterSchemaRequest.getClusterIdentification(),
+            () ->
+                reqDetails
+                    .getRight()
+                    .postForEntity(reqDetails.getLeft(), request, RegisterSchemaResponse.class));
     List<Integer> versionsListAfter =
         new ArrayList<>(
             Objects.requireNonNull(
@@ -252,35 +299,21 @@ public class SchemaService {
       Map<Integer, Map<String, Object>> allSchemaObjects = new TreeMap<>();
 
       if (versionsList != null) {
-        for (Integer schemaVersion : versionsList) {
-          String suffixUrl =
-              environmentVal
-                  + "/"
-                  + SCHEMA_SUBJECTS_URI
-                  + "/"
-                  + topicName
-                  + SCHEMA_VALUE_URI
-                  + "/versions/"
-                  + schemaVersion;
-          Pair<String, RestTemplate> reqDetails =
-              clusterApiUtils.getRequestDetails(suffixUrl, protocol);
-
-          Map<String, String> params = new HashMap<>();
-          HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
-
-          ResponseEntity<Map<String, Object>> responseNew =
-              reqDetails
-                  .getRight()
-                  .exchange(
-                      reqDetails.getLeft(), HttpMethod.GET, request, GET_SCHEMA_TYPEREF, params);
-          Map<String, Object> schemaResponse = responseNew.getBody();
-          if (schemaResponse != null) {
-            schemaResponse.put("compatibility", schemaCompatibility);
-          }
-
-          log.info(Objects.requireNonNull(responseNew.getBody()).toString());
-          allSchemaObjects.put(schemaVersion, schemaResponse);
-        }
+        String schemaCompatibilityOfSubject = schemaCompatibility;
+        allSchemaObjects.putAll(
+            fetchInParallel(
+                versionsList,
+                schemaVersion -> {
+                  Map<String, Object> schemaResponse =
+                      getSchemaOfVersion(
+                          environmentVal,
+                          protocol,
+                          clusterIdentification,
+                          topicName,
+                          schemaVersion);
+                  schemaResponse.put("compatibility", schemaCompatibilityOfSubject);
+                  return schemaResponse;
+                }));
       }
 
       return allSchemaObjects;
@@ -290,6 +323,108 @@ public class SchemaService {
     }
   }
 
+  private Map<String, Object> getSchemaOfVersion(
+      String environmentVal,
+      KafkaSupportedProtocol protocol,
+      String clusterIdentification,
+      String topicName,
+      Integer schemaVersion) {
+    String schemasStorageKey = environmentVal + clusterIdentification;
+    Integer schemaId =
+        subjectVersionSchemaIds.get(
+            getSubjectVersionKey(schemasStorageKey, topicName, schemaVersion));
+    Map<String, Object> schemaBody =
+        schemaId == null ? null : schemaBodyCache.get(schemasStorageKey + "-" + schemaId);
+
+    if (schemaBody == null) {
+      String suffixUrl =
+          environmentVal
+              + "/"
+              + SCHEMA_SUBJECTS_URI
+              + "/"
+              + topicName
+              + SCHEMA_VALUE_URI
+              + "/versions/"
+              + schemaVersion;
+      Pair<String, RestTemplate> reqDetails =
+          clusterApiUtils.getRequestDetails(suffixUrl, protocol);
+
+      Map<String, String> params = new HashMap<>();
+      HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
+
+      ResponseEntity<Map<String, Object>> responseNew =
+          ClusterCallMetrics.time(
+              Target.SCHEMA_REGISTRY,
+              "getSchema",
+              clusterIdentification,
+              () ->
+                  reqDetails
+                      .getRight()
+                      .exchange(
+                          reqDetails.getLeft(),
+                          HttpMethod.GET,
+                          request,
+                          GET_SCHEMA_TYPEREF,
+                          params));
+      Map<String, Object> schemaResponse = Objects.requireNonNull(responseNew.getBody());
+      log.debug(schemaResponse.toString());
+
+      schemaBody = new HashMap<>(schemaResponse);
+      schemaBody.remove(SCHEMA_SUBJECT_KEY);
+      schemaBody.remove(SCHEMA_VERSION_KEY);
+      schemaBody = Collections.unmodifiableMap(schemaBody);
+      if (schemaResponse.get(SCHEMA_ID_KEY) instanceof Integer fetchedSchemaId) {
+        subjectVersionSchemaIds.put(
+            getSubjectVersionKey(schemasStorageKey, topicName, schemaVersion), fetchedSchemaId);
+        schemaBodyCache.put(schemasStorageKey + "-" + fetchedSchemaId, schemaBody);
+      }
+    }
+
+    Map<String, Object> schemaOfVersion = new HashMap<>(schemaBody);
+    schemaOfVersion.put(SCHEMA_SUBJECT_KEY, topicName + SCHEMA_VALUE_URI);
+    schemaOfVersion.put(SCHEMA_VERSION_KEY, schemaVersion);
+    return schemaOfVersion;
+  }
+
+  private static String getSubjectVersionKey(
+      String schemasStorageKey, String topicName, Integer schemaVersion) {
+    return schemasStorageKey + "/" + topicName + "/" + schemaVersion;
+  }
+
+  private void removeSchemaIdsOfSubject(
+      String schemasStorageKey, String topicName, Set<Integer> retainedVersions) {
+    String subjectKeyPrefix = schemasStorageKey + "/" + topicName + "/";
+    subjectVersionSchemaIds
+        .keySet()
+        .removeIf(
+            key ->
+                key.startsWith(subjectKeyPrefix)
+                    && (retainedVersions == null
+                        || !retainedVersions.contains(
+                            Integer.valueOf(key.substring(subjectKeyPrefix.length())))));
+  }
+
+  /**
+   * Runs the fetcher for every key on the bounded schema registry executor and waits for all of
+   * them. Keys for which the fetcher returns null are left out of the result.
+   */
+  private <K, V> Map<K, V> fetchInParallel(Collection<K> keys, Function<K, V> fetcher) {
+    Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+    for (K key : keys) {
+      futures.put(
+          key, CompletableFuture.supplyAsync(() -> fetcher.apply(key), schemaFetchExecutor));
+    }
+
+    Map<K, V> results = new LinkedHashMap<>();
+    for (Map.Entry<K, CompletableFuture<V>> future : futures.entrySet()) {
+      V result = future.getValue().join();
+      if (result != null) {
+        results.put(future.getKey(), result);
+      }
+    }
+    return results;
+  }
+
   private Set<Integer> getSchemaVersions(
       String environmentVal,
       String topicName,
@@ -316,14 +451,19 @@ public class SchemaService {
       HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
 
       ResponseEntity<Set<Integer>> responseList =
-          reqDetails
-              .getRight()
-              .exchange(
-                  reqDetails.getLeft(),
-                  HttpMethod.GET,
-                  request,
-                  GET_SCHEMAVERSIONS_TYPEREF,
-                  params);
+          ClusterCallMetrics.time(
+              Target.SCHEMA_REGISTRY,
+              "getSchemaVersions",
+              clusterIdentification,
+              () ->
+                  reqDetails
+                      .getRight()
+                      .exchange(
+                          reqDetails.getLeft(),
+                          HttpMethod.GET,
+                          request,
+                          GET_SCHEMAVERSIONS_TYPEREF,
+                          params));
       log.info("Schema versions " + responseList);
       return responseList.getBody();
     } catch (Exception e) {
@@ -371,9 +511,13 @@ public class SchemaService {
       KafkaSupportedProtocol protocol, String clusterIdentification, String suffixUrl) {
     Pair<String, RestTemplate> reqDetails = clusterApiUtils.getRequestDetails(suffixUrl, protocol);
 
+    HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
     ResponseEntity<Map<String, String>> responseList =
-        getSubjectSchemaCompatibilityRequest(
-            reqDetails, new HashMap<>(), createSchemaRegistryRequest(clusterIdentification));
+        ClusterCallMetrics.time(
+            Target.SCHEMA_REGISTRY,
+            "getCompatibility",
+            clusterIdentification,
+            () -> getSubjectSchemaCompatibilityRequest(reqDetails, new HashMap<>(), request));
     log.info("Schema compatibility " + responseList);
     return responseList.getBody().get("compatibilityLevel");
   }
@@ -432,7 +576,11 @@ public class SchemaService {
       headers.set("Content-Type", SCHEMA_REGISTRY_CONTENT_TYPE);
       HttpEntity<Map<String, String>> request = new HttpEntity<>(params, headers);
 
-      reqDetails.getRight().put(reqDetails.getLeft(), request, String.class);
+      ClusterCallMetrics.run(
+          Target.SCHEMA_REGISTRY,
+          "setCompatibility",
+          clusterIdentification,
+          () -> reqDetails.getRight().put(reqDetails.getLeft(), request, String.class));
       return true;
     } catch (Exception e) {
       log.error("Error in setting schema compatibility ", e);
@@ -458,10 +606,18 @@ public class SchemaService {
     HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
 
     try {
-      reqDetails
-          .getRight()
-          .exchange(
-              reqDetails.getLeft(), HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+      ClusterCallMetrics.time(
+          Target.SCHEMA_REGISTRY,
+          "getSchemaRegistryStatus",
+          clusterIdentification,
+          () ->
+              reqDetails
+                  .getRight()
+                  .exchange(
+                      reqDetails.getLeft(),
+                      HttpMethod.GET,
+                      request,
+                      new ParameterizedTypeReference<Object>() {}));
       return ClusterStatus.ONLINE;
     } catch (RestClientException e) {
       log.error("Exception:", e);
@@ -482,13 +638,18 @@ public class SchemaService {
         createSchemaRegistryRequest(clusterTopicRequest.getSchemaClusterIdentification());
 
     try {
-      reqDetails
-          .getRight()
-          .exchange(
-              reqDetails.getLeft(),
-              HttpMethod.DELETE,
-              request,
-              new ParameterizedTypeReference<>() {});
+      ClusterCallMetrics.time(
+          Target.SCHEMA_REGISTRY,
+          "deleteSchema",
+          clusterTopicRequest.getSchemaClusterIdentification(),
+          () ->
+              reqDetails
+                  .getRight()
+                  .exchange(
+                      reqDetails.getLeft(),
+                      HttpMethod.DELETE,
+                      request,
+                      new ParameterizedTypeReference<Object>() {}));
       log.info("Schema deleted {}", clusterTopicRequest);
 
       try {
@@ -543,9 +704,15 @@ public class SchemaService {
 
       HttpEntity<Map<String, String>> request = buildSchemaEntity(schema, clusterIdentification);
       ResponseEntity<SchemaCompatibilityCheckResponse> compatibility =
-          reqDetails
-              .getRight()
-              .postForEntity(reqDetails.getLeft(), request, SchemaCompatibilityCheckResponse.class);
+          ClusterCallMetrics.time(
+              Target.SCHEMA_REGISTRY,
+              "checkSchemaCompatibility",
+              clusterIdentification,
+              () ->
+                  reqDetails
+                      .getRight()
+                      .postForEntity(
+                          reqDetails.getLeft(), request, SchemaCompatibilityCheckResponse.class));
       if (compatibility.hasBody()
           && Objects.requireNonNull(compatibility.getBody()).isCompatible()) {
         return ApiResponse.builder()
@@ -592,15 +759,18 @@ public class SchemaService {
             schemaProtocol);
     try {
 
-      reqDetails
-          .getRight()
-          .exchange(
-              reqDetails.getLeft(),
-              HttpMethod.GET,
-              new HttpEntity(
-                  clusterApiUtils.createHeaders(
-                      clusterIdentification, KafkaClustersType.SCHEMA_REGISTRY)),
-              Integer[].class);
+      HttpEntity<Object> request =
+          new HttpEntity<>(
+              clusterApiUtils.createHeaders(
+                  clusterIdentification, KafkaClustersType.SCHEMA_REGISTRY));
+      ClusterCallMetrics.time(
+          Target.SCHEMA_REGISTRY,
+          "getSchemaVersions",
+          clusterIdentification,
+          () ->
+              reqDetails
+                  .getRight()
+                  .exchange(reqDetails.getLeft(), HttpMethod.GET, request, Integer[].class));
 
     } catch (HttpClientErrorException ex) {
       if (ex.getStatusCode().equals(HttpStatusCode.valueOf(404))) {
@@ -643,6 +813,7 @@ public class SchemaService {
     }
 
     if (updateType != SchemaCacheUpdateType.NONE
+        && schemasInfoOfClusterResponseMap.containsKey(schemasVersionsStorageKey)
         && !schemasInfoOfClusterResponseMap
             .get(schemasVersionsStorageKey)
             .getSchemaInfoOfTopicList()
@@ -664,26 +835,48 @@ public class SchemaService {
     HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
 
     ResponseEntity<List<String>> responseList =
-        reqDetails
-            .getRight()
-            .exchange(reqDetails.getLeft(), HttpMethod.GET, request, GET_SUBJECTS_TYPEREF, params);
-
-    List<SchemaInfoOfTopic> schemaInfoOfTopicList = new ArrayList<>();
+        ClusterCallMetrics.time(
+            Target.SCHEMA_REGISTRY,
+            "getSubjects",
+            clusterIdentification,
+            () ->
+                reqDetails
+                    .getRight()
+                    .exchange(
+                        reqDetails.getLeft(),
+                        HttpMethod.GET,
+                        request,
+                        GET_SUBJECTS_TYPEREF,
+                        params));
+
+    List<String> topicsWithSchemas = new ArrayList<>();
     List<String> subjectList = responseList.getBody();
     if (subjectList != null) {
       for (String subject : subjectList) {
         if (subject.indexOf(SCHEMA_VALUE_URI) > 0) {
-          subject = subject.substring(0, subject.indexOf(SCHEMA_VALUE_URI));
-          Set<Integer> schemaVersions =
-              getSchemaVersions(bootstrapServers, subject, protocol, clusterIdentification);
-          SchemaInfoOfTopic schemaInfoOfTopic = new SchemaInfoOfTopic();
-          schemaInfoOfTopic.setTopic(subject);
-          schemaInfoOfTopic.setSchemaVersions(schemaVersions);
-          schemaInfoOfTopicList.add(schemaInfoOfTopic);
+          topicsWithSchemas.add(subject.substring(0, subject.indexOf(SCHEMA_VALUE_URI)));
         }
       }
     }
 
+    Map<String, Set<Integer>> schemaVersionsOfTopics =
+        fetchInParallel(
+            topicsWithSchemas,
+            topic -> getSchemaVersions(bootstrapServers, topic, protocol, clusterIdentification));
+
+    List<SchemaInfoOfTopic> schemaInfoOfTopicList = new ArrayList<>();
+    for (String topic : topicsWithSchemas) {
+      SchemaInfoOfTopic schemaInfoOfTopic = new SchemaInfoOfTopic();
+      schemaInfoOfTopic.setTopic(topic);
+      schemaInfoOfTopic.setSchemaVersions(schemaVersionsOfTopics.get(topic));
+      schemaInfoOfTopicList.add(schemaInfoOfTopic);
+    }
+
+    evictChangedSubjects(
+        schemasVersionsStorageKey,
+        schemasInfoOfClusterResponseMap.get(schemasVersionsStorageKey),
+        schemaVersionsOfTopics);
+
     schemasInfoOfClusterResponse.setSchemaInfoOfTopicList(schemaInfoOfTopicList);
 
     updateCache(
@@ -696,6 +889,36 @@ public class SchemaService {
     return schemasInfoOfClusterResponse;
   }
 
+  /**
+   * Compares the subjects and their latest versions with the previously cached state of the
+   * registry. Schema ids are only forgotten for subjects which were deleted or whose versions
+   * changed, so schemas of unchanged subjects are served from cache after a refresh.
+   */
+  private void evictChangedSubjects(
+      String schemasVersionsStorageKey,
+      SchemasInfoOfClusterResponse previousSchemasInfo,
+      Map<String, Set<Integer>> schemaVersionsOfTopics) {
+    if (previousSchemasInfo == null || previousSchemasInfo.getSchemaInfoOfTopicList() == null) {
+      return;
+    }
+
+    for (SchemaInfoOfTopic previousSchemaInfo : previousSchemasInfo.getSchemaInfoOfTopicList()) {
+      Set<Integer> currentVersions = schemaVersionsOfTopics.get(previousSchemaInfo.getTopic());
+      if (!Objects.equals(
+          getLatestVersion(previousSchemaInfo.getSchemaVersions()),
+          getLatestVersion(currentVersions))) {
+        removeSchemaIdsOfSubject(
+            schemasVersionsStorageKey, previousSchemaInfo.getTopic(), currentVersions);
+      }
+    }
+  }
+
+  private static Integer getLatestVersion(Set<Integer> schemaVersions) {
+    return schemaVersions == null || schemaVersions.isEmpty()
+        ? null
+        : Collections.max(schemaVersions);
+  }
+
   private static void updateCache(
       String bootstrapServers,
       KafkaSupportedProtocol protocol,
@@ -740,6 +963,7 @@ public class SchemaService {
       }
     } else if (updateType == SchemaCacheUpdateType.DELETE) {
       optionalSchemaInfoOfTopic.ifPresent(schemaInfoList::remove);
+      removeSchemaIdsOfSubject(schemasVersionsStorageKey, topicName, null);
     }
 
     return schemasInfoOfClusterResponse;
@@ -771,12 +995,12 @@ public class SchemaService {
     for (String schemasVersionsStorageKey : schemasInfoCacheKeySetMap.keySet()) {
       ClusterKeyIdentifier clusterKeyIdentifier =
           schemasInfoCacheKeySetMap.get(schemasVersionsStorageKey);
-      schemasInfoOfClusterResponseMap.remove(schemasVersionsStorageKey);
+      // refresh in place, the previous state keeps being served until the refresh completes
       loadAllSchemasInfoFromCluster(
           clusterKeyIdentifier.getBootstrapServers(),
           clusterKeyIdentifier.getProtocol(),
           clusterKeyIdentifier.getClusterIdentification(),
-          false,
+          true,
           SchemaCacheUpdateType.NONE,
           null);
     }
@@ -1,32 +1,67 @@
 package io.aiven.klaw.clusterapi.services;
 
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Reads topic contents for previews. Consumers are pooled per cluster and use assign/seek only, so
+ * no consumer group is joined and no offsets are ever committed.
+ */
 @Slf4j
 @Service
 public class TopicContentsService {
 
+  public static final String READ_MESSAGES_TYPE_OFFSET_ID = "OFFSET_ID";
+  public static final String READ_MESSAGES_TYPE_TIMESTAMP = "TIMESTAMP";
+  private static final String CLIENT_ID_PREFIX = "KLAW_TOPIC_CONTENTS_CLIENT";
+
   final ClusterApiUtils clusterApiUtils;
 
-  @Value("${klaw.topiccontents.consumergroup.id:notdefined}")
-  private String kwGenericConsumerGroupId;
+  private final Function<Properties, Consumer<String, String>> consumerFactory;
+
+  private final Map<String, BlockingQueue<Consumer<String, String>>> consumerPool =
+      new ConcurrentHashMap<>();
+
+  private final AtomicInteger clientIdSequence = new AtomicInteger();
 
   @Value("${klaw.topiccontents.consumer.poll.interval.ms:2000}")
   private long defaultPollInterval;
 
+  @Value("${klaw.topiccontents.consumer.pool.size:2}")
+  private int consumerPoolSize = 2;
+
+  @Autowired
   public TopicContentsService(ClusterApiUtils clusterApiUtils) {
+    this(clusterApiUtils, KafkaConsumer::new);
+  }
+
+  TopicContentsService(
+      ClusterApiUtils clusterApiUtils,
+      Function<Properties, Consumer<String, String>> consumerFactory) {
     this.clusterApiUtils = clusterApiUtils;
+    this.consumerFactory = consumerFactory;
   }
 
   public Map<Long, String> readEvents(
@@ -38,9 +73,31 @@ public class TopicContentsService {
       int offsetPosition,
       String readMessagesType,
       String clusterIdentification) {
+    return readEvents(
+        bootStrapServers,
+        protocol,
+        clusterName,
+        consumerGroupId,
+        topicName,
+        offsetPosition,
+        readMessagesType,
+        null,
+        clusterIdentification);
+  }
+
+  public Map<Long, String> readEvents(
+      String bootStrapServers,
+      String protocol,
+      String clusterName,
+      String consumerGroupId,
+      String topicName,
+      int offsetPosition,
+      String readMessagesType,
+      Long fromTimestamp,
+      String clusterIdentification) {
     log.info(
         "readEvents bootStrapServers {}, protocol {}, clusterName {},  consumerGroupId {},  topicName {},\n"
-            + "                                               offsetPosition {},  readMessagesType {} clusterIdentification {}",
+            + "                                               offsetPosition {},  readMessagesType {} fromTimestamp {} clusterIdentification {}",
         bootStrapServers,
         protocol,
         clusterName,
@@ -48,55 +105,183 @@ public class TopicContentsService {
         topicName,
         offsetPosition,
         readMessagesType,
+        fromTimestamp,
         clusterIdentification);
 
     Map<Long, String> eventMap = new TreeMap<>();
-    KafkaConsumer<String, String> consumer;
-
-    if (consumerGroupId.equals("notdefined")) {
-      consumer =
-          getKafkaConsumer(
-              kwGenericConsumerGroupId, bootStrapServers, protocol, clusterIdentification);
-    } else {
-      consumer =
-          getKafkaConsumer(consumerGroupId, bootStrapServers, protocol, clusterIdentification);
+    streamEvents(
+        bootStrapServers,
+        protocol,
+        topicName,
+        offsetPosition,
+        readMessagesType,
+        fromTimestamp,
+        clusterIdentification,
+        record -> eventMap.put(record.offset(), record.value()));
+    return eventMap;
+  }
+
+  /**
+   * Reads at most offsetPosition records per partition and hands every record to the recordHandler
+   * as soon as it is polled. Returns once all partitions reached the end offsets observed at the
+   * start of the read, or when the poll interval elapses, whichever comes first.
+   *
+   * @param bootStrapServers bootstrap servers of the cluster
+   * @param protocol SSL or plaintext
+   * @param topicName topic to read
+   * @param offsetPosition number of records to read per partition
+   * @param readMessagesType OFFSET_ID reads the latest records, TIMESTAMP reads from fromTimestamp
+   * @param fromTimestamp epoch millis to seek to when reading by TIMESTAMP
+   * @param clusterIdentification cluster id
+   * @param recordHandler receives records in the order they are polled
+   */
+  public void streamEvents(
+      String bootStrapServers,
+      String protocol,
+      String topicName,
+      int offsetPosition,
+      String readMessagesType,
+      Long fromTimestamp,
+      String clusterIdentification,
+      java.util.function.Consumer<ConsumerRecord<String, String>> recordHandler) {
+    String poolKey = protocol + clusterIdentification + bootStrapServers;
+    Consumer<String, String> consumer =
+        borrowConsumer(poolKey, bootStrapServers, protocol, clusterIdentification);
+    boolean reusable = false;
+    try {
+      Map<TopicPartition, Long> endOffsets =
+          seekPartitions(consumer, topicName, offsetPosition, readMessagesType, fromTimestamp);
+      pollUntilEndOffsets(consumer, endOffsets, recordHandler);
+      reusable = true;
+    } catch (TimeoutException e) {
+      // no metadata within the poll interval, the consumer may be connected to a dead cluster
+      log.error("Timed out reading events from topic {}", topicName, e);
+    } finally {
+      releaseConsumer(poolKey, consumer, reusable);
+    }
+  }
+
+  private Map<TopicPartition, Long> seekPartitions(
+      Consumer<String, String> consumer,
+      String topicName,
+      int offsetPosition,
+      String readMessagesType,
+      Long fromTimestamp) {
+    List<PartitionInfo> partitionInfos =
+        consumer.partitionsFor(topicName, Duration.ofMillis(defaultPollInterval));
+    if (partitionInfos == null || partitionInfos.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    List<TopicPartition> partitions = new ArrayList<>();
+    partitionInfos.forEach(
+        partitionInfo -> partitions.add(new TopicPartition(topicName, partitionInfo.partition())));
+
+    boolean seekByTimestamp =
+        READ_MESSAGES_TYPE_TIMESTAMP.equals(readMessagesType) && fromTimestamp != null;
+    Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+    Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+    Map<TopicPartition, OffsetAndTimestamp> timestampOffsets = Collections.emptyMap();
+    if (seekByTimestamp) {
+      Map<TopicPartition, Long> timestampsToSearch = new HashMap<>();
+      partitions.forEach(tp -> timestampsToSearch.put(tp, fromTimestamp));
+      timestampOffsets = consumer.offsetsForTimes(timestampsToSearch);
+    }
+
+    Map<TopicPartition, Long> startOffsets = new HashMap<>();
+    Map<TopicPartition, Long> readUntilOffsets = new HashMap<>();
+    for (TopicPartition tp : partitions) {
+      long beginningOffset = beginningOffsets.getOrDefault(tp, 0L);
+      long endOffset = endOffsets.getOrDefault(tp, beginningOffset);
+      long startOffset;
+      long untilOffset;
+      if (seekByTimestamp) {
+        OffsetAndTimestamp offsetAndTimestamp = timestampOffsets.get(tp);
+        // no record at or after the timestamp on this partition
+        startOffset = offsetAndTimestamp == null ? endOffset : offsetAndTimestamp.offset();
+        untilOffset = Math.min(endOffset, startOffset + offsetPosition);
+      } else {
+        startOffset = Math.max(beginningOffset, endOffset - offsetPosition);
+        untilOffset = endOffset;
+      }
+
+      // only fetch from partitions which have something to read
+      if (startOffset < untilOffset) {
+        startOffsets.put(tp, startOffset);
+        readUntilOffsets.put(tp, untilOffset);
+      }
     }
 
-    consumer.subscribe(Collections.singleton(topicName));
-    consumer.poll(Duration.ofMillis(defaultPollInterval));
-    Set<TopicPartition> assignment = consumer.assignment();
-
-    consumer.seekToBeginning(assignment);
-    Map<TopicPartition, Long> endOffsets = consumer.endOffsets(assignment);
-    long newOffset;
-    if (readMessagesType.equals("OFFSET_ID")) {
-      for (TopicPartition tp : assignment) {
-        long beginningOffset = consumer.position(tp);
-        long endOffset = endOffsets.get(tp);
-        newOffset = endOffset - offsetPosition;
-        if (newOffset < beginningOffset) {
-          newOffset = beginningOffset;
+    consumer.assign(startOffsets.keySet());
+    startOffsets.forEach(consumer::seek);
+    return readUntilOffsets;
+  }
+
+  private void pollUntilEndOffsets(
+      Consumer<String, String> consumer,
+      Map<TopicPartition, Long> readUntilOffsets,
+      java.util.function.Consumer<ConsumerRecord<String, String>> recordHandler) {
+    Map<TopicPartition, Long> pending = new HashMap<>(readUntilOffsets);
+    long deadline = System.currentTimeMillis() + defaultPollInterval;
+    long remaining = defaultPollInterval;
+
+    while (!pending.isEmpty() && remaining > 0) {
+      ConsumerRecords<String, String> consumerRecords = consumer.poll(Duration.ofMillis(remaining));
+      for (ConsumerRecord<String, String> record : consumerRecords) {
+        TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+        Long untilOffset = pending.get(tp);
+        if (untilOffset != null && record.offset() < untilOffset) {
+          recordHandler.accept(record);
         }
+      }
+      // compacted topics and transaction markers leave gaps, so compare positions, not counts
+      pending.entrySet().removeIf(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+      consumer.pause(
+          readUntilOffsets.keySet().stream().filter(tp -> !pending.containsKey(tp)).toList());
+      remaining = deadline - System.currentTimeMillis();
+    }
+  }
+
+  private Consumer<String, String> borrowConsumer(
+      String poolKey, String bootStrapServers, String protocol, String clusterIdentification) {
+    BlockingQueue<Consumer<String, String>> pooledConsumers = consumerPool.get(poolKey);
+    Consumer<String, String> consumer = pooledConsumers == null ? null : pooledConsumers.poll();
+    if (consumer == null) {
+      consumer = getKafkaConsumer(bootStrapServers, protocol, clusterIdentification);
+    }
+    return consumer;
+  }
 
-        consumer.seek(tp, newOffset);
+  private void releaseConsumer(
+      String poolKey, Consumer<String, String> consumer, boolean reusable) {
+    if (reusable) {
+      consumer.unsubscribe();
+      BlockingQueue<Consumer<String, String>> pooledConsumers =
+          consumerPool.computeIfAbsent(
+              poolKey, key -> new ArrayBlockingQueue<>(Math.max(consumerPoolSize, 1)));
+      if (pooledConsumers.offer(consumer)) {
+        return;
       }
     }
+    closeQuietly(consumer);
+  }
 
-    int i = 0;
-    int numOfEventsToRead = 5;
-    do {
-      ConsumerRecords<String, String> consumerRecords = consumer.poll(Duration.ofMillis(500));
-      consumerRecords.forEach(record -> eventMap.put(record.offset(), record.value()));
-      i++;
-    } while (i != numOfEventsToRead);
+  private void closeQuietly(Consumer<String, String> consumer) {
+    try {
+      consumer.close(Duration.ofMillis(defaultPollInterval));
+    } catch (Exception e) {
+      log.error("Error while closing topic contents consumer ", e);
+    }
+  }
 
-    consumer.commitAsync();
-    consumer.close();
-    return eventMap;
+  @PreDestroy
+  public void closeConsumers() {
+    consumerPool.values().forEach(pooledConsumers -> pooledConsumers.forEach(this::closeQuietly));
+    consumerPool.clear();
   }
 
-  public KafkaConsumer<String, String> getKafkaConsumer(
-      String groupId, String bootstrapServers, String protocol, String clusterIdentification) {
+  public Consumer<String, String> getKafkaConsumer(
+      String bootstrapServers, String protocol, String clusterIdentification) {
     Properties props = new Properties();
 
     if (protocol.equals("SSL")) {
@@ -105,10 +290,12 @@ public class TopicContentsService {
     }
     props.put(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-    props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-    props.put(ConsumerConfig.CLIENT_ID_CONFIG, "KLAW_TMP_GROUP_CLIENT" + groupId);
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    props.put(
+        ConsumerConfig.CLIENT_ID_CONFIG,
+        CLIENT_ID_PREFIX + clusterIdentification + clientIdSequence.incrementAndGet());
     props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
     props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
-    return new KafkaConsumer<>(props);
+    return consumerFactory.apply(props);
   }
 }
@@ -0,0 +1,59 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Narrows the acls of a cluster down to the acls of the topics and principals searched for, so that
+ * only the acls which are shown are sent to Klaw. Acls of other resource types, like consumer
+ * groups, are kept for the principals and hosts of the topic acls found, as Klaw links them to the
+ * topic acls.
+ */
+public class AclsFilter {
+
+  private static final String TOPIC_RESOURCE = "TOPIC";
+
+  private AclsFilter() {}
+
+  /**
+   * @param topicName part of the name of the topics, all topics if empty
+   * @param principal part of the principal, all principals if empty
+   */
+  public static Set<Map<String, String>> filterAcls(
+      Set<Map<String, String>> acls, String topicName, String principal) {
+    if (StringUtils.isBlank(topicName) && StringUtils.isBlank(principal)) {
+      return acls;
+    }
+
+    Set<Map<String, String>> topicAcls = new HashSet<>();
+    Set<String> principalsAndHosts = new HashSet<>();
+    for (Map<String, String> acl : acls) {
+      if (TOPIC_RESOURCE.equals(acl.get("resourceType"))
+          && contains(acl.get("resourceName"), topicName)
+          && contains(acl.get("principle"), principal)) {
+        topicAcls.add(acl);
+        principalsAndHosts.add(acl.get("principle") + " " + acl.get("host"));
+      }
+    }
+
+    Set<Map<String, String>> filteredAcls = new HashSet<>(topicAcls);
+    filteredAcls.addAll(
+        acls.stream()
+            .filter(acl -> !TOPIC_RESOURCE.equals(acl.get("resourceType")))
+            .filter(acl -> contains(acl.get("principle"), principal))
+            .filter(
+                acl ->
+                    StringUtils.isBlank(topicName)
+                        || principalsAndHosts.contains(
+                            acl.get("principle") + " " + acl.get("host")))
+            .collect(Collectors.toSet()));
+    return filteredAcls;
+  }
+
+  private static boolean contains(String value, String search) {
+    return StringUtils.isBlank(search) || (value != null && value.contains(search.trim()));
+  }
+}
@@ -186,10 +186,9 @@ public class ClusterApiUtils {
       throw new Exception("Cannot connect to cluster. Please contact Administrator.");
     }
 
+    ClusterCallMetrics.registerAdminClient(adminClient, clusterIdentification);
     try {
-      adminClient
-          .listTopics()
-          .names()
+      ClusterCallMetrics.timed(adminClient, "checkConnection", adminClient.listTopics().names())
           .get(adminClientProperties.getTopicsTimeoutSecs(), TimeUnit.SECONDS);
       if (!adminClientsMap.containsKey(adminClientKey)) {
         adminClientsMap.put(adminClientKey, adminClient);
@@ -0,0 +1,130 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Times the calls of the cluster api to the kafka clusters, schema registries and kafka connect
+ * clusters. Every call is recorded in the {@link #CLUSTER_CALLS_METRIC} timer, tagged with the
+ * target, the operation, the cluster and the outcome of the call, so that the count, total and max
+ * time of the calls to a slow or failing cluster show in the metrics of the actuator.
+ */
+public final class ClusterCallMetrics {
+
+  public static final String CLUSTER_CALLS_METRIC = "klaw.cluster.calls";
+
+  public static final String NO_CLUSTER = "none";
+
+  public enum Target {
+    KAFKA("kafka"),
+    SCHEMA_REGISTRY("schema-registry"),
+    KAFKA_CONNECT("kafka-connect");
+
+    public final String value;
+
+    Target(String value) {
+      this.value = value;
+    }
+  }
+
+  public enum Outcome {
+    SUCCESS,
+    CLIENT_ERROR,
+    SERVER_ERROR,
+    // the cluster could not be reached, or did not answer in time
+    UNREACHABLE,
+    ERROR
+  }
+
+  // the cluster of each admin client, so that the calls made with a client are tagged with it
+  private static final Map<Admin, String> ADMIN_CLIENT_CLUSTERS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private ClusterCallMetrics() {}
+
+  public static void registerAdminClient(Admin adminClient, String clusterIdentification) {
+    ADMIN_CLIENT_CLUSTERS.put(adminClient, clusterIdentification);
+  }
+
+  /**
+   * Times an admin client call until its future completes, whether the caller waits for it or not.
+   *
+   * @return the given future
+   */
+  public static <T> KafkaFuture<T> timed(
+      Admin adminClient, String operation, KafkaFuture<T> future) {
+    long start = System.nanoTime();
+    String cluster = ADMIN_CLIENT_CLUSTERS.getOrDefault(adminClient, NO_CLUSTER);
+    future.whenComplete(
+        (result, error) ->
+            record(
+                Target.KAFKA,
+                operation,
+                cluster,
+                error == null ? Outcome.SUCCESS : outcomeOf(error),
+                start));
+    return future;
+  }
+
+  /** Times a rest call to a schema registry or kafka connect cluster. */
+  public static <T> T time(Target target, String operation, String cluster, Supplier<T> call) {
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERROR;
+    try {
+      T result = call.get();
+      outcome = Outcome.SUCCESS;
+      return result;
+    } catch (RuntimeException e) {
+      outcome = outcomeOf(e);
+      throw e;
+    } finally {
+      record(target, operation, cluster, outcome, start);
+    }
+  }
+
+  /** Times a rest call without a result to a schema registry or kafka connect cluster. */
+  public static void run(Target target, String operation, String cluster, Runnable call) {
+    time(
+        target,
+        operation,
+        cluster,
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  static Outcome outcomeOf(Throwable error) {
+    if (error instanceof HttpClientErrorException) {
+      return Outcome.CLIENT_ERROR;
+    } else if (error instanceof HttpServerErrorException) {
+      return Outcome.SERVER_ERROR;
+    } else if (error instanceof ResourceAccessException || error instanceof TimeoutException) {
+      return Outcome.UNREACHABLE;
+    }
+    return Outcome.ERROR;
+  }
+
+  private static void record(
+      Target target, String operation, String cluster, Outcome outcome, long start) {
+    Timer.builder(CLUSTER_CALLS_METRIC)
+        .tag("target", target.value)
+        .tag("operation", operation)
+        .tag("cluster", StringUtils.defaultIfEmpty(cluster, NO_CLUSTER))
+        .tag("outcome", outcome.name())
+        .register(Metrics.globalRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -1,51 +1,92 @@
 package io.aiven.klaw.clusterapi.utils;
 
-import java.util.HashMap;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.management.remote.JMXConnector;
 import javax.management.remote.JMXConnectorFactory;
 import javax.management.remote.JMXServiceURL;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * Keeps one JMX connection per url. A pooled connection is health checked before it is handed out
+ * and replaced when the remote end went away.
+ */
 @Service
 @Slf4j
 public class MetricsUtils {
 
-  private final HashMap<String, JMXConnector> metricsClientsMap = new HashMap<>();
+  private final Map<String, JMXConnector> metricsClientsMap = new ConcurrentHashMap<>();
 
   public JMXConnector getJmxConnector(String jmxUrl) throws Exception {
+    JMXConnector jmxConnector = metricsClientsMap.get(jmxUrl);
+    if (jmxConnector != null && isHealthy(jmxConnector)) {
+      return jmxConnector;
+    }
 
-    JMXConnector jmxConnector;
+    synchronized (metricsClientsMap) {
+      jmxConnector = metricsClientsMap.get(jmxUrl);
+      if (jmxConnector != null) {
+        if (isHealthy(jmxConnector)) {
+          return jmxConnector;
+        }
+        log.info("Replacing stale JMX connection {}", jmxUrl);
+        invalidateJmxConnector(jmxUrl);
+      }
 
-    try {
-      if (!metricsClientsMap.containsKey(jmxUrl)) {
-        JMXServiceURL url;
+      try {
         log.info("Creating JMX connection {}", jmxUrl);
-        url = new JMXServiceURL(jmxUrl);
-        jmxConnector = JMXConnectorFactory.connect(url, null);
-      } else {
-        jmxConnector = metricsClientsMap.get(jmxUrl);
+        jmxConnector = connect(jmxUrl);
+      } catch (Exception exception) {
+        log.error("Unable to create JMX Connector " + exception.getMessage(), exception);
+        throw new Exception("Cannot connect to JMX Host. Please contact Administrator.");
+      }
+
+      if (jmxConnector == null) {
+        log.error("Cannot create JMX Connector  {}", jmxUrl);
+        throw new Exception("Cannot connect to JMX host. Please contact Administrator.");
       }
-    } catch (Exception exception) {
-      log.error("Unable to create JMX Connector " + exception.getMessage(), exception);
-      throw new Exception("Cannot connect to JMX Host. Please contact Administrator.");
+      metricsClientsMap.put(jmxUrl, jmxConnector);
+      return jmxConnector;
     }
+  }
 
-    if (jmxConnector == null) {
-      log.error("Cannot create JMX Connector  {}", jmxUrl);
-      throw new Exception("Cannot connect to JMX host. Please contact Administrator.");
+  /** Drops and closes the pooled connection, the next call to getJmxConnector reconnects. */
+  public void invalidateJmxConnector(String jmxUrl) {
+    JMXConnector jmxConnector = metricsClientsMap.remove(jmxUrl);
+    if (jmxConnector != null) {
+      closeQuietly(jmxConnector);
     }
+  }
+
+  JMXConnector connect(String jmxUrl) throws IOException {
+    return JMXConnectorFactory.connect(new JMXServiceURL(jmxUrl), null);
+  }
 
+  private boolean isHealthy(JMXConnector jmxConnector) {
     try {
-      if (!metricsClientsMap.containsKey(jmxUrl)) {
-        metricsClientsMap.put(jmxUrl, jmxConnector);
-      }
-      return jmxConnector;
+      // a round trip to the remote MBean server, fails fast on a closed or broken connection
+      jmxConnector.getMBeanServerConnection().getMBeanCount();
+      return true;
     } catch (Exception e) {
-      metricsClientsMap.remove(jmxUrl);
+      log.debug("JMX connection failed health check", e);
+      return false;
+    }
+  }
+
+  private void closeQuietly(JMXConnector jmxConnector) {
+    try {
       jmxConnector.close();
-      log.error("Cannot create JMX Connector {}", jmxUrl, e);
-      throw new Exception("Cannot connect to JMX host. Please contact Administrator.");
+    } catch (Exception e) {
+      log.debug("Error while closing JMX connection", e);
     }
   }
+
+  @PreDestroy
+  public void closeJmxConnectors() {
+    metricsClientsMap.values().forEach(this::closeQuietly);
+    metricsClientsMap.clear();
+  }
 }
@@ -0,0 +1,75 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent identical calls. The first caller for a key runs the call, callers arriving
+ * while it is in flight wait for it and receive the same result or exception. Nothing is cached
+ * once the call completes.
+ *
+ * @param <K> key identifying the call, typically the cluster
+ * @param <V> result of the call
+ */
+public class SingleFlight<K, V> {
+
+  public static final String COALESCED_CALLS_METRIC = "klaw.coalesced.calls";
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+  private final Counter coalescedCalls;
+
+  private final LongAdder coalescedCount = new LongAdder();
+
+  /**
+   * @param module module running the calls, core and the cluster api each have their copy of this
+   *     class counting the same metric
+   * @param operation call coalesced
+   */
+  public SingleFlight(String module, String operation) {
+    this.coalescedCalls =
+        Metrics.counter(COALESCED_CALLS_METRIC, "module", module, "operation", operation);
+  }
+
+  public V execute(K key, Callable<V> call) throws Exception {
+    CompletableFuture<V> newCall = new CompletableFuture<>();
+    CompletableFuture<V> inFlightCall = inFlightCalls.putIfAbsent(key, newCall);
+    if (inFlightCall != null) {
+      coalescedCalls.increment();
+      coalescedCount.increment();
+      return awaitResult(inFlightCall);
+    }
+
+    try {
+      V result = call.call();
+      newCall.complete(result);
+      return result;
+    } catch (Exception e) {
+      newCall.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightCalls.remove(key, newCall);
+    }
+  }
+
+  public long getCoalescedCount() {
+    return coalescedCount.sum();
+  }
+
+  private V awaitResult(CompletableFuture<V> inFlightCall) throws Exception {
+    try {
+      return inFlightCall.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package io.aiven.klaw.clusterapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.aiven.klaw.clusterapi.services.JwtTokenUtilService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Properties;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.tomcat.util.codec.binary.Base64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtRequestFilterTest {
+  private static final String CLUSTER_API_SECRET =
+      "dGhpcyBpcyBhIHNlY3JldCB0byBhY2Nlc3MgY2x1c3RlcmFwaQ==";
+  private static final String CLUSTER_API_USER = "kwclusterapiuser";
+  private static final byte[] DECODED_SECRET = Base64.decodeBase64(CLUSTER_API_SECRET);
+
+  private JwtTokenUtilService jwtTokenUtilService;
+  private InMemoryUserDetailsManager userDetailsService;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenUtilService = spy(new JwtTokenUtilService());
+    ReflectionTestUtils.setField(jwtTokenUtilService, "clusterApiSecret", CLUSTER_API_SECRET);
+    ReflectionTestUtils.setField(jwtTokenUtilService, "decodedSecret", DECODED_SECRET);
+    Properties users = new Properties();
+    users.put(CLUSTER_API_USER, ",ADMIN,enabled");
+    userDetailsService = new InMemoryUserDetailsManager(users);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void reusedTokenIsVerifiedOnce() throws Exception {
+    JwtRequestFilter filter = new JwtRequestFilter(userDetailsService, jwtTokenUtilService);
+    String token = createToken(Instant.now().plusSeconds(180));
+
+    MockHttpServletResponse firstResponse = filter(filter, token);
+    MockHttpServletResponse secondResponse = filter(filter, token);
+
+    assertThat(firstResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    assertThat(secondResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    verify(jwtTokenUtilService, times(1)).getAllClaimsFromToken(token);
+    verify(jwtTokenUtilService, never()).validateToken(anyString());
+  }
+
+  @Test
+  void expiredTokenIsRejected() throws Exception {
+    JwtRequestFilter filter = new JwtRequestFilter(userDetailsService, jwtTokenUtilService);
+
+    MockHttpServletResponse response = filter(filter, createToken(Instant.now().minusSeconds(1)));
+
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+  }
+
+  @Test
+  void tokenWithInvalidSignatureIsRejected() throws Exception {
+    JwtRequestFilter filter = new JwtRequestFilter(userDetailsService, jwtTokenUtilService);
+    SecretKey otherKey =
+        new SecretKeySpec(
+            Base64.decodeBase64("YW5vdGhlciBzZWNyZXQgdG8gYWNjZXNzIGNsdXN0ZXJhcGk="),
+            SignatureAlgorithm.HS256.getJcaName());
+    String token =
+        Jwts.builder()
+            .subject(CLUSTER_API_USER)
+            .expiration(Date.from(Instant.now().plusSeconds(180)))
+            .signWith(otherKey)
+            .compact();
+
+    MockHttpServletResponse response = filter(filter, token);
+
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+  }
+
+  @Test
+  void cachedVerificationParsesTokenOnceForAllRequests() throws Exception {
+    JwtRequestFilter uncachedFilter =
+        new JwtRequestFilter(userDetailsService, jwtTokenUtilService, 0);
+    JwtRequestFilter cachedFilter = new JwtRequestFilter(userDetailsService, jwtTokenUtilService);
+    String uncachedToken = createToken(Instant.now().plusSeconds(180));
+    String cachedToken = createToken(Instant.now().plusSeconds(240));
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(filter(uncachedFilter, uncachedToken).getStatus())
+          .isEqualTo(HttpServletResponse.SC_OK);
+      assertThat(filter(cachedFilter, cachedToken).getStatus())
+          .isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    // without the cache, the token is parsed to be verified and again to be validated
+    verify(jwtTokenUtilService, times(10)).getAllClaimsFromToken(uncachedToken);
+    verify(jwtTokenUtilService, times(5)).validateToken(uncachedToken);
+    verify(jwtTokenUtilService, times(1)).getAllClaimsFromToken(cachedToken);
+    verify(jwtTokenUtilService, never()).validateToken(cachedToken);
+  }
+
+  private MockHttpServletResponse filter(JwtRequestFilter filter, String token) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private String createToken(Instant expiration) {
+    SecretKey hmacKey = new SecretKeySpec(DECODED_SECRET, SignatureAlgorithm.HS256.getJcaName());
+    return Jwts.builder()
+        .subject(CLUSTER_API_USER)
+        .issuedAt(new Date())
+        .expiration(Date.from(expiration))
+        .signWith(hmacKey)
+        .compact();
+  }
+}
@@ -1,5 +1,6 @@
 package io.aiven.klaw.clusterapi.controller;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,7 +26,9 @@ import io.aiven.klaw.clusterapi.services.ConfluentCloudApiService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -161,6 +164,97 @@ public class ClusterApiControllerTest {
         .andExpect(jsonPath("$", hasSize(2)));
   }
 
+  @Test
+  public void getAclsFilteredByTopicName() throws Exception {
+    String clusterName = "testCluster";
+    String bootstrapServers = "localhost:9092";
+    Set<Map<String, String>> acls = new HashSet<>(utilMethods.getAcls());
+    acls.add(
+        Map.of(
+            "host", "12.15.124.12",
+            "principle", "User:*",
+            "operation", "WRITE",
+            "permissionType", "ALLOW",
+            "resourceType", "TOPIC",
+            "resourceName", "othertopic"));
+    acls.add(
+        Map.of(
+            "host", "12.15.124.12",
+            "principle", "User:*",
+            "operation", "READ",
+            "permissionType", "ALLOW",
+            "resourceType", "GROUP",
+            "resourceName", "consumergroup2"));
+
+    when(apacheKafkaAclService.loadAcls(
+            bootstrapServers, KafkaSupportedProtocol.PLAINTEXT, clusterName))
+        .thenReturn(acls);
+
+    String urlTemplate =
+        String.join(
+            "/",
+            "/topics",
+            "getAcls",
+            bootstrapServers,
+            AclsNativeType.NATIVE.name(),
+            KafkaSupportedProtocol.PLAINTEXT.getValue(),
+            clusterName,
+            "projectName",
+            "serviceName");
+    // the group acl of the host of the topic acl is kept, the one of another host is not
+    mvc.perform(get(urlTemplate).param("topicName", "testtopic"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(
+            jsonPath("$[*].resourceName", containsInAnyOrder("testtopic", "consumergroup2")));
+  }
+
+  @Test
+  public void getAclsFilteredByPrincipal() throws Exception {
+    String clusterName = "testCluster";
+    String bootstrapServers = "localhost:9092";
+    Set<Map<String, String>> acls = new HashSet<>(utilMethods.getAcls());
+    acls.add(
+        Map.of(
+            "host", "12.15.124.12",
+            "principle", "User:alice",
+            "operation", "WRITE",
+            "permissionType", "ALLOW",
+            "resourceType", "TOPIC",
+            "resourceName", "testtopic"));
+    acls.add(
+        Map.of(
+            "host", "12.15.124.12",
+            "principle", "User:alice",
+            "operation", "READ",
+            "permissionType", "ALLOW",
+            "resourceType", "GROUP",
+            "resourceName", "consumergroup2"));
+
+    when(apacheKafkaAclService.loadAcls(
+            bootstrapServers, KafkaSupportedProtocol.PLAINTEXT, clusterName))
+        .thenReturn(acls);
+
+    String urlTemplate =
+        String.join(
+            "/",
+            "/topics",
+            "getAcls",
+            bootstrapServers,
+            AclsNativeType.NATIVE.name(),
+            KafkaSupportedProtocol.PLAINTEXT.getValue(),
+            clusterName,
+            "projectName",
+            "serviceName");
+    // only the topic and group acls of the principal searched for are kept
+    mvc.perform(get(urlTemplate).param("principal", "alice"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[*].principle", containsInAnyOrder("User:alice", "User:alice")))
+        .andExpect(
+            jsonPath("$[*].resourceName", containsInAnyOrder("testtopic", "consumergroup2")));
+  }
+
   @Test
   public void createTopics() throws Exception {
     String jsonReq = new ObjectMapper().writer().writeValueAsString(utilMethods.getTopicRequest());
@@ -3,6 +3,8 @@ package io.aiven.klaw.clusterapi.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.clusterapi.UtilMethods;
@@ -10,6 +12,8 @@ import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.enums.*;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
@@ -89,6 +93,52 @@ class ApacheKafkaAclServiceTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  public void loadAcls_ConcurrentCallsShareOneDescribeAcls() throws Exception {
+    List<AclBinding> listAclBindings = utilMethods.getListAclBindings(accessControlEntry);
+    CountDownLatch describeAclsStarted = new CountDownLatch(1);
+    CountDownLatch describeAclsReleased = new CountDownLatch(1);
+
+    when(clusterApiUtils.getAdminClient(any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    mockDescribeAclsRequest();
+    when(kafkaFutureCollection.get(anyLong(), any(TimeUnit.class)))
+        .thenAnswer(
+            invocation -> {
+              describeAclsStarted.countDown();
+              describeAclsReleased.await(5, TimeUnit.SECONDS);
+              return listAclBindings;
+            });
+    when(accessControlEntry.host()).thenReturn("11.12.33.456");
+    when(accessControlEntry.operation()).thenReturn(AclOperation.READ);
+    when(accessControlEntry.permissionType()).thenReturn(AclPermissionType.ALLOW);
+
+    CompletableFuture<Set<Map<String, String>>> firstLoad =
+        CompletableFuture.supplyAsync(this::loadAclsOfLocalhost);
+    assertThat(describeAclsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    // the load of the first caller is in flight until released, the second joins it
+    CompletableFuture<Set<Map<String, String>>> secondLoad =
+        CompletableFuture.supplyAsync(this::loadAclsOfLocalhost);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (apacheKafkaAclService.getCoalescedAclLoads() == 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    describeAclsReleased.countDown();
+
+    assertThat(firstLoad.get(5, TimeUnit.SECONDS)).hasSize(1);
+    assertThat(secondLoad.get(5, TimeUnit.SECONDS)).hasSize(1);
+    assertThat(apacheKafkaAclService.getCoalescedAclLoads()).isEqualTo(1);
+    verify(adminClient, times(1)).describeAcls(any(AclBindingFilter.class));
+  }
+
+  private Set<Map<String, String>> loadAclsOfLocalhost() {
+    try {
+      return apacheKafkaAclService.loadAcls("localhost", KafkaSupportedProtocol.PLAINTEXT, "");
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Test
   public void loadAclsFailure() throws Exception {
     when(clusterApiUtils.getAdminClient(any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
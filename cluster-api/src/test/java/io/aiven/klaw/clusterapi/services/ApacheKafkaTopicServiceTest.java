@@ -13,6 +13,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.AdminClientProperties;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -126,6 +128,59 @@ class ApacheKafkaTopicServiceTest {
     Assertions.assertThat(topicConfigs.getTopicConfigSet().size()).isEqualTo(1);
   }
 
+  @Test
+  void loadTopicsConcurrentCallsShareOneListTopics() throws Exception {
+    CountDownLatch listTopicsStarted = new CountDownLatch(1);
+    CountDownLatch listTopicsReleased = new CountDownLatch(1);
+
+    Mockito.when(
+            clusterApiUtils.getAdminClient(
+                TestConstants.ENVIRONMENT, protocol, TestConstants.CLUSTER_IDENTIFICATION))
+        .thenReturn(adminClient);
+    Mockito.when(clusterApiUtils.getAdminClientProperties()).thenReturn(adminClientProperties);
+    Mockito.when(adminClientProperties.getTopicsTimeoutSecs()).thenReturn(10L);
+    Mockito.when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+    Mockito.when(listTopicsResult.names())
+        .thenAnswer(
+            invocation -> {
+              listTopicsStarted.countDown();
+              listTopicsReleased.await(5, TimeUnit.SECONDS);
+              return KafkaFuture.completedFuture(Set.of("topic"));
+            });
+    Mockito.when(adminClient.describeTopics(any(Collection.class)))
+        .thenReturn(describeTopicsResult);
+    Mockito.when(describeTopicsResult.allTopicNames())
+        .thenReturn(KafkaFuture.completedFuture(new HashMap<>(Map.of("topic", topicDescription))));
+    Mockito.when(topicDescription.partitions()).thenReturn(List.of(topicPartitionInfo));
+
+    CompletableFuture<LoadTopicsResponse> firstLoad =
+        CompletableFuture.supplyAsync(this::loadTopicsWithCacheReset);
+    Assertions.assertThat(listTopicsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    // the load of the first caller is in flight until released, the second joins it
+    CompletableFuture<LoadTopicsResponse> secondLoad =
+        CompletableFuture.supplyAsync(this::loadTopicsWithCacheReset);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (apacheKafkaTopicService.getCoalescedTopicLoads() == 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    listTopicsReleased.countDown();
+
+    Assertions.assertThat(firstLoad.get(5, TimeUnit.SECONDS).getTopicConfigSet()).hasSize(1);
+    Assertions.assertThat(secondLoad.get(5, TimeUnit.SECONDS).getTopicConfigSet()).hasSize(1);
+    Assertions.assertThat(apacheKafkaTopicService.getCoalescedTopicLoads()).isEqualTo(1);
+    Mockito.verify(adminClient, Mockito.times(1)).listTopics(any(ListTopicsOptions.class));
+    Mockito.verify(adminClient, Mockito.times(1)).describeTopics(any(Collection.class));
+  }
+
+  private LoadTopicsResponse loadTopicsWithCacheReset() {
+    try {
+      return apacheKafkaTopicService.loadTopics(
+          TestConstants.ENVIRONMENT, protocol, TestConstants.CLUSTER_IDENTIFICATION, true);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Test
   void createTopicClientNull() throws Exception {
     ClusterTopicRequest clusterTopicRequest =
@@ -253,6 +308,51 @@ class ApacheKafkaTopicServiceTest {
     Assertions.assertThat(response.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
   }
 
+  @Test
+  void createTopicsReportsOutcomePerTopic() throws Exception {
+    ClusterTopicRequest created = clusterTopicRequest(TestConstants.TOPIC_NAME);
+    ClusterTopicRequest failed = clusterTopicRequest("failedtopic");
+    Exception expected = new ExecutionException(new KafkaException("Invalid replication factor"));
+
+    Mockito.when(
+            clusterApiUtils.getAdminClient(
+                TestConstants.ENVIRONMENT, protocol, TestConstants.CLUSTER_IDENTIFICATION))
+        .thenReturn(adminClient);
+    Mockito.when(clusterApiUtils.getAdminClientProperties()).thenReturn(adminClientProperties);
+    Mockito.when(adminClientProperties.getTopicsTimeoutSecs()).thenReturn(10L);
+    Mockito.when(adminClient.createTopics(anyCollection())).thenReturn(createTopicsResult);
+    Mockito.when(createTopicsResult.values())
+        .thenReturn(
+            Map.of(
+                TestConstants.TOPIC_NAME,
+                KafkaFuture.completedFuture(null),
+                "failedtopic",
+                kafkaFuture));
+    Mockito.when(kafkaFuture.get(anyLong(), any(TimeUnit.class))).thenThrow(expected);
+    Mockito.when(createTopicsResult.all()).thenReturn(KafkaFuture.completedFuture(null));
+
+    ApiResponse response = apacheKafkaTopicService.createTopics(List.of(created, failed));
+
+    Assertions.assertThat(response.isSuccess()).isTrue();
+    Assertions.assertThat((Map<String, String>) response.getData())
+        .containsExactly(
+            Map.entry(TestConstants.TOPIC_NAME, ApiResultStatus.SUCCESS.value),
+            Map.entry("failedtopic", expected.getMessage()));
+    Mockito.verify(adminClient, Mockito.times(1)).createTopics(anyCollection());
+  }
+
+  private ClusterTopicRequest clusterTopicRequest(String topicName) {
+    return ClusterTopicRequest.builder()
+        .env(TestConstants.ENVIRONMENT)
+        .clusterName(TestConstants.CLUSTER_IDENTIFICATION)
+        .protocol(protocol)
+        .topicName(topicName)
+        .partitions(TestConstants.MULTIPLE_PARTITIONS)
+        .replicationFactor(TestConstants.REPLICATION_FACTOR)
+        .advancedTopicConfiguration(TestConstants.ADVANCED_TOPIC_CONFIGURATION)
+        .build();
+  }
+
   @ParameterizedTest
   @MethodSource("exceptionProviderForCreateTopic")
   void createTopicException(Exception expected) throws Exception {
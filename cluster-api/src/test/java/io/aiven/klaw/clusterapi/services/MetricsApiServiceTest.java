@@ -2,10 +2,16 @@ package io.aiven.klaw.clusterapi.services;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import io.aiven.klaw.clusterapi.utils.MetricsUtils;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
 import javax.management.MBeanServerConnection;
@@ -44,8 +50,9 @@ class MetricsApiServiceTest {
     Mockito.when(jmxConnector.getMBeanServerConnection()).thenReturn(mBeanServerConnection);
     Mockito.when(mBeanServerConnection.getMBeanInfo(any(ObjectName.class))).thenReturn(mBeanInfo);
     Mockito.when(mBeanInfo.getAttributes()).thenReturn(attributes);
-    Mockito.when(mBeanServerConnection.getAttribute(any(ObjectName.class), anyString()))
-        .thenReturn("attribute");
+    Mockito.when(
+            mBeanServerConnection.getAttributes(any(ObjectName.class), eq(new String[] {"name"})))
+        .thenReturn(new AttributeList(List.of(new Attribute("name", "attribute"))));
 
     Map<String, String> actual = metricsApiService.getMetrics(JMX_URL, OBJECT_NAME);
     Map<String, String> expected = Map.of("name", "attribute");
@@ -53,6 +60,46 @@ class MetricsApiServiceTest {
     Assertions.assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void getMetrics_DescribesMBeanOnceAndBatchesAttributeReads() throws Exception {
+    MBeanAttributeInfo[] attributes =
+        new MBeanAttributeInfo[] {
+          new MBeanAttributeInfo("Count", "long", "description", true, false, false),
+          new MBeanAttributeInfo("OneMinuteRate", "double", "description", true, false, false)
+        };
+
+    Mockito.when(metricsUtils.getJmxConnector(JMX_URL)).thenReturn(jmxConnector);
+    Mockito.when(jmxConnector.getMBeanServerConnection()).thenReturn(mBeanServerConnection);
+    Mockito.when(mBeanServerConnection.getMBeanInfo(any(ObjectName.class))).thenReturn(mBeanInfo);
+    Mockito.when(mBeanInfo.getAttributes()).thenReturn(attributes);
+    Mockito.when(
+            mBeanServerConnection.getAttributes(
+                any(ObjectName.class), eq(new String[] {"Count", "OneMinuteRate"})))
+        .thenReturn(
+            new AttributeList(
+                List.of(new Attribute("Count", 10L), new Attribute("OneMinuteRate", 1.5))));
+
+    metricsApiService.getMetrics(JMX_URL, OBJECT_NAME);
+    Map<String, String> actual = metricsApiService.getMetrics(JMX_URL, OBJECT_NAME);
+
+    Assertions.assertThat(actual).isEqualTo(Map.of("Count", "10", "OneMinuteRate", "1.5"));
+    Mockito.verify(mBeanServerConnection, times(1)).getMBeanInfo(any(ObjectName.class));
+    Mockito.verify(mBeanServerConnection, never())
+        .getAttribute(any(ObjectName.class), any(String.class));
+  }
+
+  @Test
+  void getMetrics_ConnectionLostInvalidatesConnector() throws Exception {
+    Mockito.when(metricsUtils.getJmxConnector(JMX_URL)).thenReturn(jmxConnector);
+    Mockito.when(jmxConnector.getMBeanServerConnection()).thenReturn(mBeanServerConnection);
+    Mockito.when(mBeanServerConnection.getMBeanInfo(any(ObjectName.class)))
+        .thenThrow(new IOException("Connection refused"));
+
+    assertThatThrownBy(() -> metricsApiService.getMetrics(JMX_URL, OBJECT_NAME))
+        .isInstanceOf(IOException.class);
+    Mockito.verify(metricsUtils).invalidateJmxConnector(JMX_URL);
+  }
+
   @Test
   void getMetrics_Failure() throws Exception {
     Exception expected = new Exception("Error while getting metrics.");
@@ -10,6 +10,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.clusterapi.config.SchedulerConfig;
 import io.aiven.klaw.clusterapi.constants.TestConstants;
 import io.aiven.klaw.clusterapi.models.ApiResponse;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
@@ -34,12 +35,14 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
 @RestClientTest(SchemaService.class)
+@Import(SchedulerConfig.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class SchemaServiceTest {
   public static final String TOPIC_COMPATIBILITY_URI_TEMPLATE =
@@ -78,7 +81,9 @@ class SchemaServiceTest {
   public void setUp() {
     restTemplate = new RestTemplate();
     schemaService = new SchemaService(getAdminClient);
-    mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).build();
+    // subjects and versions are fetched concurrently
+    mockRestServiceServer =
+        MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
   }
 
   @Test
@@ -121,6 +126,38 @@ class SchemaServiceTest {
     assertThat(schemaResponse.get(1).get("compatibility")).isEqualTo("FORWARD");
   }
 
+  @Test
+  @Order(3)
+  public void getSchema_schemaBodyServedFromCacheOnSecondCall() throws JsonProcessingException {
+    // versions and compatibility are requested twice, the schema body only once
+    String getSchemaVersionsUrl = "env/subjects/topic-value/versions";
+    getSchemaVersions(getSchemaVersionsUrl);
+    getSchemaVersions(getSchemaVersionsUrl);
+    getSchemaCompatibilitySubject(true);
+    getSchemaCompatibilitySubject(true);
+    String getSchemaUrl = "env/subjects/topic-value/versions/1";
+    when(getAdminClient.getRequestDetails(eq(getSchemaUrl), eq(KafkaSupportedProtocol.PLAINTEXT)))
+        .thenReturn(Pair.of(getSchemaUrl, restTemplate));
+    this.mockRestServiceServer
+        .expect(requestTo("/" + getSchemaUrl))
+        .andRespond(
+            withSuccess(
+                objectMapper.writeValueAsString(
+                    Map.of("id", 11, "version", 1, "subject", "topic-value", "schema", "{}")),
+                MediaType.APPLICATION_JSON));
+
+    schemaService.getSchema("env", KafkaSupportedProtocol.PLAINTEXT, "CLID1", "topic");
+    Map<Integer, Map<String, Object>> schemaResponse =
+        schemaService.getSchema("env", KafkaSupportedProtocol.PLAINTEXT, "CLID1", "topic");
+
+    mockRestServiceServer.verify();
+    assertThat(schemaResponse.get(1))
+        .containsEntry("id", 11)
+        .containsEntry("version", 1)
+        .containsEntry("schema", "{}")
+        .containsEntry("compatibility", "BACKWARD");
+  }
+
   private void getSchemaCompatibilitySubject(boolean compatibilitySet)
       throws JsonProcessingException {
     String getSchemaCompatibilityUrl = "env/config/topic-value";
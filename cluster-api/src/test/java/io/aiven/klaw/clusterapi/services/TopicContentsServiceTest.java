@@ -2,9 +2,19 @@ package io.aiven.klaw.clusterapi.services;
 
 import io.aiven.klaw.clusterapi.constants.TestConstants;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,9 +22,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TopicContentsServiceTest {
+  private static final String BOOTSTRAP_SERVERS = "localhost:9092";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(TestConstants.TOPIC_NAME, 0);
+
   @Mock private ClusterApiUtils clusterApiUtils;
   private TopicContentsService topicContentsService;
 
@@ -47,4 +61,125 @@ class TopicContentsServiceTest {
     Map<Long, String> expected = Collections.emptyMap();
     Assertions.assertThat(actual).isEqualTo(expected);
   }
+
+  @Test
+  void readEventsLatestOffsetsWithoutConsumerGroup() {
+    MockConsumer<String, String> mockConsumer = createMockConsumer(0L, 10L);
+    topicContentsService = createService(new ArrayList<>(List.of(mockConsumer)));
+    scheduleRecords(mockConsumer, 7, 10);
+
+    Map<Long, String> actual =
+        topicContentsService.readEvents(
+            BOOTSTRAP_SERVERS,
+            "PLAINTEXT",
+            TestConstants.CLUSTER_NAME,
+            TestConstants.CONSUMER_GROUP_ID,
+            TestConstants.TOPIC_NAME,
+            3,
+            TopicContentsService.READ_MESSAGES_TYPE_OFFSET_ID,
+            TestConstants.CLUSTER_IDENTIFICATION);
+
+    Assertions.assertThat(actual).containsOnlyKeys(7L, 8L, 9L);
+    Assertions.assertThat(mockConsumer.subscription()).isEmpty();
+    Assertions.assertThat(mockConsumer.committed(Collections.singleton(PARTITION_0))).isEmpty();
+    Assertions.assertThat(mockConsumer.closed()).isFalse();
+  }
+
+  @Test
+  void readEventsReusesPooledConsumer() {
+    MockConsumer<String, String> mockConsumer = createMockConsumer(0L, 2L);
+    List<MockConsumer<String, String>> createdConsumers = new ArrayList<>();
+    createdConsumers.add(mockConsumer);
+    topicContentsService = createService(createdConsumers);
+
+    scheduleRecords(mockConsumer, 0, 2);
+    Map<Long, String> firstRead = readLatest(5);
+    scheduleRecords(mockConsumer, 0, 2);
+    Map<Long, String> secondRead = readLatest(5);
+
+    Assertions.assertThat(firstRead).containsOnlyKeys(0L, 1L);
+    Assertions.assertThat(secondRead).containsOnlyKeys(0L, 1L);
+    Assertions.assertThat(createdConsumers).isEmpty();
+  }
+
+  @Test
+  void streamEventsSeeksByTimestamp() {
+    MockConsumer<String, String> mockConsumer =
+        new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+          @Override
+          public synchronized Map<TopicPartition, OffsetAndTimestamp> offsetsForTimes(
+              Map<TopicPartition, Long> timestampsToSearch) {
+            Map<TopicPartition, OffsetAndTimestamp> offsets = new HashMap<>();
+            timestampsToSearch.forEach(
+                (tp, timestamp) -> offsets.put(tp, new OffsetAndTimestamp(4L, timestamp)));
+            return offsets;
+          }
+        };
+    initMockConsumer(mockConsumer, 0L, 10L);
+    topicContentsService = createService(new ArrayList<>(List.of(mockConsumer)));
+    scheduleRecords(mockConsumer, 4, 10);
+
+    List<Long> streamedOffsets = new ArrayList<>();
+    topicContentsService.streamEvents(
+        BOOTSTRAP_SERVERS,
+        "PLAINTEXT",
+        TestConstants.TOPIC_NAME,
+        2,
+        TopicContentsService.READ_MESSAGES_TYPE_TIMESTAMP,
+        1_000L,
+        TestConstants.CLUSTER_IDENTIFICATION,
+        record -> streamedOffsets.add(record.offset()));
+
+    Assertions.assertThat(streamedOffsets).containsExactly(4L, 5L);
+  }
+
+  private Map<Long, String> readLatest(int offsetPosition) {
+    return topicContentsService.readEvents(
+        BOOTSTRAP_SERVERS,
+        "PLAINTEXT",
+        TestConstants.CLUSTER_NAME,
+        TestConstants.CONSUMER_GROUP_ID,
+        TestConstants.TOPIC_NAME,
+        offsetPosition,
+        TopicContentsService.READ_MESSAGES_TYPE_OFFSET_ID,
+        TestConstants.CLUSTER_IDENTIFICATION);
+  }
+
+  private TopicContentsService createService(
+      List<MockConsumer<String, String>> availableConsumers) {
+    TopicContentsService service =
+        new TopicContentsService(clusterApiUtils, props -> availableConsumers.remove(0));
+    ReflectionTestUtils.setField(service, "defaultPollInterval", 1000L);
+    return service;
+  }
+
+  private MockConsumer<String, String> createMockConsumer(long beginningOffset, long endOffset) {
+    MockConsumer<String, String> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    initMockConsumer(mockConsumer, beginningOffset, endOffset);
+    return mockConsumer;
+  }
+
+  private void initMockConsumer(
+      MockConsumer<String, String> mockConsumer, long beginningOffset, long endOffset) {
+    Node node = new Node(0, "localhost", 9092);
+    mockConsumer.updatePartitions(
+        TestConstants.TOPIC_NAME,
+        List.of(
+            new PartitionInfo(
+                TestConstants.TOPIC_NAME, 0, node, new Node[] {node}, new Node[] {node})));
+    mockConsumer.updateBeginningOffsets(Map.of(PARTITION_0, beginningOffset));
+    mockConsumer.updateEndOffsets(Map.of(PARTITION_0, endOffset));
+  }
+
+  private void scheduleRecords(
+      MockConsumer<String, String> mockConsumer, long fromOffset, long untilOffset) {
+    mockConsumer.schedulePollTask(
+        () -> {
+          for (long offset = fromOffset; offset < untilOffset; offset++) {
+            mockConsumer.addRecord(
+                new ConsumerRecord<>(
+                    TestConstants.TOPIC_NAME, 0, offset, "key" + offset, "value" + offset));
+          }
+        });
+  }
 }
@@ -0,0 +1,102 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics.Outcome;
+import io.aiven.klaw.clusterapi.utils.ClusterCallMetrics.Target;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class ClusterCallMetricsTest {
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  void recordsAdminClientCallWhenItsFutureCompletes() throws Exception {
+    AdminClient adminClient = mock(AdminClient.class);
+    ClusterCallMetrics.registerAdminClient(adminClient, "DEV1");
+    KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+
+    KafkaFuture<String> timed = ClusterCallMetrics.timed(adminClient, "describeAcls", future);
+    assertThat(timed).isSameAs(future);
+    assertThat(
+            registry
+                .find(ClusterCallMetrics.CLUSTER_CALLS_METRIC)
+                .tag("operation", "describeAcls")
+                .timer())
+        .isNull();
+
+    future.complete("acls");
+
+    assertThat(timer(Target.KAFKA, "describeAcls", "DEV1", Outcome.SUCCESS).count()).isEqualTo(1);
+  }
+
+  @Test
+  void recordsTimedOutAdminClientCallAsUnreachable() {
+    AdminClient adminClient = mock(AdminClient.class);
+    KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+
+    ClusterCallMetrics.timed(adminClient, "createAcls", future);
+    future.completeExceptionally(new TimeoutException("timed out"));
+
+    assertThat(
+            timer(Target.KAFKA, "createAcls", ClusterCallMetrics.NO_CLUSTER, Outcome.UNREACHABLE)
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void recordsRestCallAndRethrowsItsError() {
+    String result =
+        ClusterCallMetrics.time(Target.SCHEMA_REGISTRY, "getSubjects", "SR1", () -> "subjects");
+    assertThatThrownBy(
+            () ->
+                ClusterCallMetrics.run(
+                    Target.KAFKA_CONNECT,
+                    "updateConnector",
+                    "KC1",
+                    () -> {
+                      throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+                    }))
+        .isInstanceOf(HttpClientErrorException.class);
+
+    assertThat(result).isEqualTo("subjects");
+    assertThat(timer(Target.SCHEMA_REGISTRY, "getSubjects", "SR1", Outcome.SUCCESS).count())
+        .isEqualTo(1);
+    assertThat(timer(Target.KAFKA_CONNECT, "updateConnector", "KC1", Outcome.CLIENT_ERROR).count())
+        .isEqualTo(1);
+  }
+
+  private Timer timer(Target target, String operation, String cluster, Outcome outcome) {
+    return registry
+        .get(ClusterCallMetrics.CLUSTER_CALLS_METRIC)
+        .tag("target", target.value)
+        .tag("operation", operation)
+        .tag("cluster", cluster)
+        .tag("outcome", outcome.name())
+        .timer();
+  }
+}
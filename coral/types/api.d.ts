@@ -32,6 +32,9 @@ export type paths = {
   "/updateSyncConnectors": {
     post: operations["updateSyncConnectors"];
   };
+  "/syncBackTopics/jobs": {
+    post: operations["createSyncBackTopicsJob"];
+  };
   "/updateSyncBackTopics": {
     post: operations["updateSyncBackTopics"];
   };
@@ -319,6 +322,9 @@ export type paths = {
   "/getTeamDetails": {
     get: operations["getTeamDetails"];
   };
+  "/syncBackTopics/jobs/{jobId}": {
+    get: operations["getSyncBackTopicsJob"];
+  };
   "/getSyncTopics": {
     get: operations["getSyncTopics"];
   };
@@ -1007,6 +1013,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       topicname: string;
       /** Format: int32 */
       topicpartitions: number;
@@ -1120,6 +1129,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       approvingTeamId?: string;
       sequence?: string;
       possibleTeams?: string[];
@@ -1152,6 +1164,31 @@ export type components = {
       envStatusTime: string;
       envStatusTimeString: string;
     };
+    SyncBackTopicResult: {
+      topicName?: string;
+      success?: boolean;
+      message?: string;
+    };
+    SyncBackTopicsJobStatus: {
+      jobId?: string;
+      status?: string;
+      sourceEnv?: string;
+      targetEnv?: string;
+      /** Format: int32 */
+      totalTopics?: number;
+      /** Format: int32 */
+      processedTopics?: number;
+      /** Format: int32 */
+      succeededTopics?: number;
+      /** Format: int32 */
+      failedTopics?: number;
+      /** Format: int64 */
+      startTime?: number;
+      /** Format: int64 */
+      endTime?: number;
+      error?: string;
+      results?: components["schemas"]["SyncBackTopicResult"][];
+    };
     TopicsCountPerEnv: {
       status?: string;
       topicsCount?: string;
@@ -1348,6 +1385,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       topicname: string;
       /** Format: int32 */
       topicpartitions: number;
@@ -1479,6 +1519,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       topicname: string;
       schemafull: string;
       /** Format: int32 */
@@ -1565,6 +1608,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       connectorName: string;
       description: string;
       connectorConfig: string;
@@ -1747,6 +1793,9 @@ export type components = {
       remarks?: string;
       appname?: string;
       otherParams?: string;
+      /** @enum {string} */
+      clusterOperationStatus?: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+      clusterOperationError?: string;
       topicname: string;
       aclPatternType: string;
       /** @enum {string} */
@@ -1920,6 +1969,21 @@ export type operations = {
       };
     };
   };
+  createSyncBackTopicsJob: {
+    requestBody: {
+      content: {
+        "application/json": components["schemas"]["SyncBackTopics"];
+      };
+    };
+    responses: {
+      /** @description OK */
+      200: {
+        content: {
+          "application/json": components["schemas"]["ApiResponse"];
+        };
+      };
+    };
+  };
   updateSyncBackTopics: {
     requestBody: {
       content: {
@@ -3413,6 +3477,21 @@ export type operations = {
       };
     };
   };
+  getSyncBackTopicsJob: {
+    parameters: {
+      path: {
+        jobId: string;
+      };
+    };
+    responses: {
+      /** @description OK */
+      200: {
+        content: {
+          "application/json": components["schemas"]["SyncBackTopicsJobStatus"];
+        };
+      };
+    };
+  };
   getSyncTopics: {
     parameters: {
       query: {
@@ -3498,6 +3577,7 @@ export type operations = {
         pageNo: string;
         currentPage?: string;
         topicnamesearch?: string;
+        principalsearch?: string;
         showAllAcls?: string;
       };
     };
@@ -6,14 +6,14 @@ import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.service.HARestMessagingService;
 import io.aiven.klaw.service.utils.CacheService;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,47 +33,51 @@ public class CacheConfig {
 
   @Lazy @Autowired UserDetailsService userDetailsService;
 
+  /**
+   * Caffeine caches of the methods annotated with Cacheable, used when spring.cache.type is
+   * caffeine. The caches record their statistics, which the actuator publishes as the cache.gets,
+   * cache.puts, cache.evictions and cache.size metrics of each cache.
+   */
+  @Bean
   @Primary
+  @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine")
   public CacheManager cacheManager() {
     SimpleCacheManager cacheManager = new SimpleCacheManager();
-    ConcurrentMapCache userCache =
-        new ConcurrentMapCache(
-            "tenantsusernames",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(60)).build().asMap(),
-            false);
-    ConcurrentMapCache teamsCache =
-        new ConcurrentMapCache(
-            "emailconfigtenants",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofDays(1)).build().asMap(),
-            false);
-    ConcurrentMapCache tenantsCache =
-        new ConcurrentMapCache(
-            "tenantsinfo",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).build().asMap(),
-            false);
-
-    cacheManager.setCaches(Arrays.asList(userCache, teamsCache));
+    cacheManager.setCaches(
+        List.of(
+            caffeineCache("tenantsusernames", Duration.ofMinutes(60)),
+            caffeineCache("emailconfigtenants", Duration.ofDays(1)),
+            caffeineCache("tenantsinfo", Duration.ofHours(1))));
     return cacheManager;
   }
 
+  private static CaffeineCache caffeineCache(String name, Duration expireAfterWrite) {
+    return new CaffeineCache(
+        name,
+        Caffeine.newBuilder().expireAfterWrite(expireAfterWrite).recordStats().build(),
+        false);
+  }
+
   @Bean
   public CacheService<Env> kafkaEnvListPerTenant() {
-    return new CacheService<>(CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
+    return new CacheService<>("kafkaenvs", CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
   }
 
   @Bean
   public CacheService<Env> schemaRegEnvListPerTenant() {
-    return new CacheService<>(CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
+    return new CacheService<>(
+        "schemaregistryenvs", CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
   }
 
   @Bean
   public CacheService<Env> kafkaConnectEnvListPerTenant() {
-    return new CacheService<>(CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
+    return new CacheService<>(
+        "kafkaconnectenvs", CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
   }
 
   @Bean
   public CacheService<Env> allEnvListPerTenant() {
-    return new CacheService<>(CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
+    return new CacheService<>("allenvs", CacheConstants.ENVIRONMENT_PATH, HARestMessagingService);
   }
 
   @Bean
@@ -0,0 +1,139 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.MetadataVersions;
+import io.aiven.klaw.service.CommonUtilsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Answers the GET requests of the heavy read endpoints with 304 when the caller already has the
+ * response, before the controller runs. The ETag of a response is derived from the {@link
+ * MetadataVersions} of the tenant of the user, the user, the url and the day, the day as the
+ * analytics show the activity of the last days. The tag is read before the response is computed, a
+ * change committed meanwhile gives a newer tag to the next request.
+ *
+ * <p>The versions are only increased by the changes of this instance, with high availability the
+ * other instances change the database without this instance knowing, so the interceptor is disabled
+ * then.
+ *
+ * <p>Only the endpoints answered from the metadata of klaw are versioned, the endpoints reading the
+ * clusters or the schema registries, like the schemas of a topic, are not.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+  public static final String CONDITIONAL_REQUESTS_METRIC = "klaw.http.conditional.requests";
+  public static final String NOT_MODIFIED_RATIO_METRIC = "klaw.http.not.modified.ratio";
+
+  public static final List<String> VERSIONED_ENDPOINTS =
+      List.of(
+          "/getTopics",
+          "/getTopicOverview",
+          "/getAclRequests",
+          "/getAclRequestsForApprover",
+          "/getEnvs",
+          "/getEnvsPaginated",
+          "/getSchemaRegEnvs",
+          "/getKafkaConnectEnvs",
+          "/getTeamsOverview",
+          "/getActivityLogForTeamOverview",
+          "/getTopicsCountPerEnv",
+          "/getAclsCountPerEnv");
+
+  private static final class EndpointStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    private EndpointStats(String uri) {
+      notModifiedCounter =
+          Metrics.counter(CONDITIONAL_REQUESTS_METRIC, "uri", uri, "outcome", "not_modified");
+      modifiedCounter =
+          Metrics.counter(CONDITIONAL_REQUESTS_METRIC, "uri", uri, "outcome", "modified");
+      Gauge.builder(NOT_MODIFIED_RATIO_METRIC, this, EndpointStats::notModifiedRatio)
+          .tag("uri", uri)
+          .register(Metrics.globalRegistry);
+    }
+
+    double notModifiedRatio() {
+      long total = requests.sum();
+      return total == 0 ? 0 : (double) notModified.sum() / total;
+    }
+  }
+
+  private final ConcurrentMap<String, EndpointStats> statsPerEndpoint = new ConcurrentHashMap<>();
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Value("${klaw.core.ha.enable:false}")
+  private boolean haEnabled;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (haEnabled || !HttpMethod.GET.matches(request.getMethod())) {
+      return true;
+    }
+    String userName = commonUtilsService.getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    if (tenantId == 0) {
+      return true;
+    }
+
+    // the tags are weak, tomcat does not compress the responses with a strong tag
+    String eTag = "W/\"" + versionHash(tenantId, userName, request) + "\"";
+    boolean notModified = new ServletWebRequest(request, response).checkNotModified(eTag);
+    if (!notModified) {
+      // stored by the browser, and revalidated with the tag on every use
+      response.setHeader(
+          HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+    }
+    record(request, notModified);
+    return !notModified;
+  }
+
+  private static String versionHash(int tenantId, String userName, HttpServletRequest request) {
+    String version =
+        String.join(
+            "|",
+            MetadataVersions.current(tenantId),
+            userName,
+            request.getRequestURI(),
+            String.valueOf(request.getQueryString()),
+            LocalDate.now().toString());
+    return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void record(HttpServletRequest request, boolean notModified) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern instanceof String ? (String) pattern : request.getRequestURI();
+    EndpointStats stats = statsPerEndpoint.computeIfAbsent(uri, EndpointStats::new);
+    stats.requests.increment();
+    if (notModified) {
+      stats.notModified.increment();
+      stats.notModifiedCounter.increment();
+    } else {
+      stats.modifiedCounter.increment();
+    }
+  }
+}
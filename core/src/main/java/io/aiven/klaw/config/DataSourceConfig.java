@@ -2,12 +2,16 @@ package io.aiven.klaw.config;
 
 import com.zaxxer.hikari.HikariDataSource;
 import io.aiven.klaw.helpers.db.rdbms.JdbcDataSourceCondition;
+import io.aiven.klaw.helpers.db.rdbms.MetadataVersionsIntegrator;
+import io.aiven.klaw.helpers.db.rdbms.QueryCountingDataSource;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
@@ -53,7 +57,7 @@ public class DataSourceConfig {
                 environment.getProperty("spring.datasource.hikari.maxPoolSize"))));
 
     log.info("Connecting to RDBMS datasource.");
-    return dataSource;
+    return new QueryCountingDataSource(dataSource);
   }
 
   @Bean(name = "transactionManager")
@@ -101,6 +105,9 @@ public class DataSourceConfig {
     properties.put(
         "hibernate.jdbc.lob.non_contextual_creation",
         environment.getProperty("spring.jpa.hibernate.jdbc.lob.non_contextual_creation"));
+    properties.put(
+        "hibernate.integrator_provider",
+        (IntegratorProvider) () -> List.of(new MetadataVersionsIntegrator()));
 
     return properties;
   }
@@ -14,7 +14,9 @@ import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.CacheMetrics;
 import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.helpers.MetadataVersions;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.TenantConfig;
@@ -26,8 +28,10 @@ import io.aiven.klaw.model.requests.EnvModel;
 import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.service.DefaultDataService;
 import io.aiven.klaw.service.utils.CacheService;
+import io.aiven.klaw.validation.TopicPolicy;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +40,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -110,8 +115,21 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   private static Map<Integer, Map<Integer, List<UserInfo>>> usersPerTeamAndTenant = new HashMap<>();
 
+  // key tenantId, sub key kafka env id, compiled topic naming rules of the env
+  private static final Map<Integer, Map<String, TopicPolicy>> topicPoliciesPerTenant =
+      new ConcurrentHashMap<>();
+
   private static List<String> reqStatusList;
 
+  // hits, misses, loads and size of the caches above, per tenant
+  private static final CacheMetrics topicsCacheMetrics = new CacheMetrics("topics");
+  private static final CacheMetrics usersCacheMetrics = new CacheMetrics("users");
+  private static final CacheMetrics teamsCacheMetrics = new CacheMetrics("teams");
+  private static final CacheMetrics clustersCacheMetrics = new CacheMetrics("clusters");
+  private static final CacheMetrics envsCacheMetrics = new CacheMetrics("envs");
+  private static final CacheMetrics propertiesCacheMetrics = new CacheMetrics("properties");
+  private static final CacheMetrics topicPoliciesCacheMetrics = new CacheMetrics("topicpolicies");
+
   @Autowired private DefaultDataService defaultDataService;
 
   @Value("${klaw.login.authentication.type}")
@@ -337,8 +355,10 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   public Map<String, Env> getEnvMap(int tenantId) {
     if (!envMapPerTenant.containsKey(tenantId)) {
+      envsCacheMetrics.miss(tenantId);
       return new HashMap<>();
     }
+    envsCacheMetrics.hit(tenantId);
     return envMapPerTenant.get(tenantId);
   }
 
@@ -396,6 +416,42 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     return kafkaEnvListPerTenant.get(tenantId, targetEnv).orElseGet(null).getParams();
   }
 
+  /**
+   * Returns the compiled topic naming rules of the kafka env. The policy is compiled again when the
+   * env is reloaded or when its parameters no longer match the ones it was compiled from.
+   */
+  public TopicPolicy getTopicPolicy(int tenantId, Env env) {
+    if (env == null) {
+      return TopicPolicy.NONE;
+    }
+    Map<String, TopicPolicy> topicPolicies =
+        topicPoliciesPerTenant.computeIfAbsent(
+            tenantId,
+            tenant -> {
+              topicPoliciesCacheMetrics.monitor(
+                  tenant, () -> values(topicPoliciesPerTenant.get(tenant)));
+              return new ConcurrentHashMap<>();
+            });
+    TopicPolicy topicPolicy = topicPolicies.get(env.getId());
+    if (topicPolicy == null || !topicPolicy.isCompiledFrom(env.getParams())) {
+      topicPoliciesCacheMetrics.miss(tenantId);
+      topicPolicy = TopicPolicy.of(env.getParams());
+      topicPolicies.put(env.getId(), topicPolicy);
+    } else {
+      topicPoliciesCacheMetrics.hit(tenantId);
+    }
+    return topicPolicy;
+  }
+
+  private static void evictTopicPolicies(int tenantId) {
+    Map<String, TopicPolicy> evicted = topicPoliciesPerTenant.remove(tenantId);
+    topicPoliciesCacheMetrics.evictions(tenantId, evicted == null ? 0 : evicted.size());
+  }
+
+  private static <V> Collection<V> values(Map<?, V> map) {
+    return map == null ? null : map.values();
+  }
+
   public List<String> getTeamsAndAllowedEnvs(Integer teamId, int tenantId) {
     return teamsAndAllowedEnvsPerTenant.get(tenantId).get(teamId);
   }
@@ -407,7 +463,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   // return teams
   public List<Team> getTeamObjForTenant(int tenantId) {
-    return teamsPerTenant.get(tenantId);
+    return teamsCacheMetrics.get(tenantId, teamsPerTenant.get(tenantId));
   }
 
   public Set<String> getAllServiceAccounts(int tenantId) {
@@ -473,11 +529,12 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   }
 
   public String getKwPropertyValue(String kwKey, int tenantId) {
-    if (kwPropertiesMapPerTenant.get(tenantId) != null) {
-      return kwPropertiesMapPerTenant.get(tenantId).get(kwKey) != null
-          ? kwPropertiesMapPerTenant.get(tenantId).get(kwKey).get("kwvalue")
-          : "";
+    if (kwPropertiesMapPerTenant.get(tenantId) != null
+        && kwPropertiesMapPerTenant.get(tenantId).get(kwKey) != null) {
+      propertiesCacheMetrics.hit(tenantId);
+      return kwPropertiesMapPerTenant.get(tenantId).get(kwKey).get("kwvalue");
     } else {
+      propertiesCacheMetrics.miss(tenantId);
       return "";
     }
   }
@@ -514,6 +571,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     envList1.addAll(envList3);
 
     envsOfTenantsMap.put(tenantId, envList1);
+    MetadataVersions.changed(tenantId);
   }
 
   private void loadTenantTeamsUsersForAllTenants() {
@@ -526,8 +584,11 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     List<Team> allTeams;
 
     for (Integer tenantId : tenantMap.keySet()) {
+      long start = System.nanoTime();
       allTeams = handleDbRequests.getAllTeams(tenantId);
       teamsPerTenant.put(tenantId, allTeams);
+      teamsCacheMetrics.loaded(tenantId, start);
+      teamsCacheMetrics.monitor(tenantId, () -> teamsPerTenant.get(tenantId));
       loadTenantTeamsForOneTenant(allTeams, tenantId);
     }
 
@@ -538,6 +599,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     List<UserInfo> allUsers;
     allUsersAllTenants = new ArrayList<>();
     for (Integer tenantId : tenantMap.keySet()) {
+      long start = System.nanoTime();
       allUsers = handleDbRequests.getAllUsersInfo(tenantId);
       usersPerTenant.put(tenantId, allUsers);
       allUsersAllTenants.addAll(allUsers);
@@ -549,21 +611,28 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
             team.getTeamId(), handleDbRequests.getAllUsersInfoForTeam(team.getTeamId(), tenantId));
       }
       usersPerTeamAndTenant.put(tenantId, innerMap);
+      usersCacheMetrics.loaded(tenantId, start);
+      usersCacheMetrics.monitor(tenantId, () -> usersPerTenant.get(tenantId));
     }
+    MetadataVersions.changedAllTenants();
   }
 
   public List<UserInfo> getUsersPerTeamAndTenant(Integer teamId, Integer tenantId) {
-    return usersPerTeamAndTenant.get(tenantId).get(teamId);
+    return usersCacheMetrics.get(tenantId, usersPerTeamAndTenant.get(tenantId).get(teamId));
   }
 
   public void loadTopicsForAllTenants() {
     for (Integer tenantId : tenantMap.keySet()) {
-      topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+      loadTopicsForOneTenant(tenantId);
     }
   }
 
   public void loadTopicsForOneTenant(int tenantId) {
+    long start = System.nanoTime();
     topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+    topicsCacheMetrics.loaded(tenantId, start);
+    topicsCacheMetrics.monitor(tenantId, () -> topicsPerTenant.get(tenantId));
+    MetadataVersions.changed(tenantId);
   }
 
   public void addTopicToCache(int tenantId, Topic topic) {
@@ -572,6 +641,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     if (!topicsPerTenant.get(tenantId).contains(topic)) {
       topicsPerTenant.get(tenantId).add(topic);
     }
+    MetadataVersions.changed(tenantId);
   }
 
   public void addEnvToCache(int tenantId, Env env, boolean isLocal) {
@@ -585,7 +655,9 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
           tenantId, Integer.valueOf(env.getId()), env, isLocal);
     }
     allEnvListPerTenant.addOrUpdate(tenantId, Integer.valueOf(env.getId()), env, isLocal);
+    evictTopicPolicies(tenantId);
     updateTeamToEnvMappings(tenantId);
+    MetadataVersions.changed(tenantId);
   }
 
   private void updateTeamToEnvMappings(int tenantId) {
@@ -614,17 +686,22 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
           tenantId, Integer.valueOf(envId), isLocal);
     }
     allEnvListPerTenant.remove(tenantId, Integer.valueOf(envId), isLocal);
+    evictTopicPolicies(tenantId);
     updateTeamToEnvMappings(tenantId);
+    MetadataVersions.changed(tenantId);
   }
 
   public List<Topic> getTopicsForTenant(int tenantId) {
-    return topicsPerTenant.get(tenantId);
+    return topicsCacheMetrics.get(tenantId, topicsPerTenant.get(tenantId));
   }
 
   public void loadTenantTeamsForOneTenant(List<Team> allTeams, Integer tenantId) {
     if (allTeams == null) {
+      long start = System.nanoTime();
       allTeams = handleDbRequests.getAllTeams(tenantId);
       teamsPerTenant.put(tenantId, allTeams);
+      teamsCacheMetrics.loaded(tenantId, start);
+      teamsCacheMetrics.monitor(tenantId, () -> teamsPerTenant.get(tenantId));
     }
 
     Map<Integer, List<String>> teamsAndAllowedEnvs = new HashMap<>();
@@ -642,6 +719,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     teamsAndAllowedEnvsPerTenant.put(tenantId, teamsAndAllowedEnvs);
     teamIdAndNamePerTenant.put(tenantId, teamsAndNames);
     updateAllServiceAccounts(tenantId);
+    MetadataVersions.changed(tenantId);
   }
 
   public Map<Integer, KwTenantConfigModel> getTenantConfig() {
@@ -671,11 +749,15 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   public void loadKwPropsPerOneTenant(
       Map<Integer, Map<String, Map<String, String>>> kwPropertiesMap, Integer tenantId) {
     if (kwPropertiesMap == null) {
+      long start = System.nanoTime();
       kwPropertiesMap = handleDbRequests.getAllKwProperties();
+      propertiesCacheMetrics.loaded(tenantId, start);
     }
 
     kwPropertiesMapPerTenant.put(tenantId, kwPropertiesMap.get(tenantId));
+    propertiesCacheMetrics.monitor(tenantId, () -> values(kwPropertiesMapPerTenant.get(tenantId)));
     updateKwTenantConfigPerTenant(tenantId);
+    MetadataVersions.changed(tenantId);
   }
 
   private void loadTenants() {
@@ -693,6 +775,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
           tenantFullMap.put(kwTenants.getTenantId(), kwTenants);
           tenantMap.put(tenantId, kwTenants.getTenantName());
         });
+    MetadataVersions.changed(tenantId);
   }
 
   public KwTenants getTenantFullConfig(int tenantId) {
@@ -726,6 +809,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       List<KwClusters> schemaRegistryClusters,
       List<KwClusters> kafkaConnectClusters,
       Integer tenantId) {
+    long start = System.nanoTime();
     if (kafkaClusters == null) {
       kafkaClusters = handleDbRequests.getAllClusters(KafkaClustersType.KAFKA, tenantId);
     }
@@ -765,6 +849,9 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     kwKafkaConnectClustersPertenant.put(tenantId, kwKafkaConnectClusters);
 
     kwAllClustersPertenant.put(tenantId, kwAllClusters);
+    clustersCacheMetrics.loaded(tenantId, start);
+    clustersCacheMetrics.monitor(tenantId, () -> values(kwAllClustersPertenant.get(tenantId)));
+    MetadataVersions.changed(tenantId);
   }
 
   public void updateStaticDataForTenant(int tenantId) {
@@ -810,6 +897,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   }
 
   public void loadEnvMapForOneTenant(Integer tenantId) {
+    long start = System.nanoTime();
     Map<Integer, Env> kafkaEnvs =
         handleDbRequests.getAllKafkaEnvs(tenantId).stream()
             .filter(env -> "true".equals(env.getEnvExists()))
@@ -830,11 +918,15 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     kafkaEnvListPerTenant.addAll(tenantId, kafkaEnvs);
     schemaRegEnvListPerTenant.addAll(tenantId, schemaEnvs);
     kafkaConnectEnvListPerTenant.addAll(tenantId, kafkaConnectEnvs);
+    evictTopicPolicies(tenantId);
 
     //
     List<Env> allEnvs = handleDbRequests.getAllEnvs(tenantId);
     envMapPerTenant.put(
         tenantId, allEnvs.stream().collect(Collectors.toMap(Env::getId, Function.identity())));
+    envsCacheMetrics.loaded(tenantId, start);
+    envsCacheMetrics.monitor(tenantId, () -> values(envMapPerTenant.get(tenantId)));
+    MetadataVersions.changed(tenantId);
   }
 
   public Map<String, List<String>> getRolesPermissionsPerTenant(int tenantId) {
@@ -870,6 +962,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       rolesPermsMap.put(rolesPermission.getRoleId(), tmpList);
     }
     rolesPermsMapPerTenant.put(tenantId, rolesPermsMap);
+    MetadataVersions.changed(tenantId);
   }
 
   public Map<Integer, List<EnvModel>> getEnvModelsClustersStatusAllTenants() {
@@ -930,6 +1023,8 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     kafkaEnvListPerTenant.removeCache(tenantId);
     schemaRegEnvListPerTenant.removeCache(tenantId);
     kafkaConnectEnvListPerTenant.removeCache(tenantId);
+    evictTopicPolicies(tenantId);
+    MetadataVersions.changed(tenantId);
 
     return ApiResultStatus.SUCCESS.value;
   }
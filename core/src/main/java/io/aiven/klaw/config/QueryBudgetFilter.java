@@ -0,0 +1,113 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the sql statements executed for every request to an api endpoint, records them in the
+ * {@link #DB_QUERIES_METRIC} summary and logs the requests exceeding the budget of statements per
+ * request. Loops issuing a query per item show as endpoints with a count growing with the data, the
+ * worst endpoints are listed by the querycounts actuator endpoint.
+ */
+@Component
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  public static final String DB_QUERIES_METRIC = "klaw.db.queries";
+
+  public record EndpointQueries(
+      String endpoint, long requests, long maxQueries, double meanQueries, long overBudget) {}
+
+  private static final class EndpointStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAccumulator maxQueries = new LongAccumulator(Math::max, 0);
+    private final LongAdder overBudget = new LongAdder();
+  }
+
+  private final ConcurrentMap<String, EndpointStats> statsPerEndpoint = new ConcurrentHashMap<>();
+
+  @Value("${klaw.db.queries.request.budget:50}")
+  private int queryBudget;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryCounter.Scope scope = QueryCounter.open();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      scope.close();
+      // static resources and unknown urls are not mapped to an endpoint and not recorded
+      if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+          instanceof String pattern) {
+        record(request.getMethod(), pattern, scope.getQueries());
+      }
+    }
+  }
+
+  public List<EndpointQueries> getWorstEndpoints(int limit) {
+    return statsPerEndpoint.entrySet().stream()
+        .map(
+            entry -> {
+              EndpointStats stats = entry.getValue();
+              long requests = stats.requests.sum();
+              return new EndpointQueries(
+                  entry.getKey(),
+                  requests,
+                  stats.maxQueries.get(),
+                  requests == 0 ? 0 : (double) stats.queries.sum() / requests,
+                  stats.overBudget.sum());
+            })
+        .sorted(
+            Comparator.comparingLong(EndpointQueries::maxQueries)
+                .thenComparingDouble(EndpointQueries::meanQueries)
+                .reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  void setQueryBudget(int queryBudget) {
+    this.queryBudget = queryBudget;
+  }
+
+  private void record(String method, String pattern, int queries) {
+    String endpoint = method + " " + pattern;
+    EndpointStats stats = statsPerEndpoint.computeIfAbsent(endpoint, k -> new EndpointStats());
+    stats.requests.increment();
+    stats.queries.add(queries);
+    stats.maxQueries.accumulate(queries);
+    DistributionSummary.builder(DB_QUERIES_METRIC)
+        .tag("method", method)
+        .tag("uri", pattern)
+        .register(Metrics.globalRegistry)
+        .record(queries);
+
+    if (queries > queryBudget) {
+      stats.overBudget.increment();
+      log.warn(
+          "{} executed {} sql statements, over the budget of {} per request",
+          endpoint,
+          queries,
+          queryBudget);
+    }
+  }
+}
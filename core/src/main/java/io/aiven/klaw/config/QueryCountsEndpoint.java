@@ -0,0 +1,26 @@
+package io.aiven.klaw.config;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/** Actuator endpoint listing the api endpoints executing the most sql statements per request. */
+@Component
+@Endpoint(id = "querycounts")
+public class QueryCountsEndpoint {
+
+  private static final int DEFAULT_LIMIT = 20;
+
+  private final QueryBudgetFilter queryBudgetFilter;
+
+  public QueryCountsEndpoint(QueryBudgetFilter queryBudgetFilter) {
+    this.queryBudgetFilter = queryBudgetFilter;
+  }
+
+  @ReadOperation
+  public List<QueryBudgetFilter.EndpointQueries> worstEndpoints(@Nullable Integer limit) {
+    return queryBudgetFilter.getWorstEndpoints(limit == null ? DEFAULT_LIMIT : limit);
+  }
+}
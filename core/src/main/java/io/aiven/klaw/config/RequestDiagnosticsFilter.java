@@ -0,0 +1,146 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.RequestPhases;
+import io.aiven.klaw.helpers.RequestPhases.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Diagnoses the slow requests to the api endpoints. For every request, the time and count of the
+ * sql statements, of the calls to the cluster api and the time of the serialization of the response
+ * are recorded, the rest of the time is spent in klaw itself, like in the scans of the caches. The
+ * requests slower than the threshold are logged with this breakdown, and the slowest requests of
+ * the last hour are listed by the slowrequests actuator endpoint. Opt-in, without the filter the
+ * phases are not recorded.
+ */
+@Component
+@ConditionalOnProperty(prefix = "klaw.diagnostics", name = "enabled", havingValue = "true")
+@Slf4j
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+  private static final Duration RECENT = Duration.ofHours(1);
+
+  public record RequestBreakdown(
+      String endpoint,
+      Instant time,
+      int status,
+      long totalMillis,
+      int dbQueries,
+      long dbMillis,
+      int clusterApiCalls,
+      long clusterApiMillis,
+      long serializationMillis,
+      long otherMillis) {}
+
+  // the fastest of the kept requests first, to be replaced by a slower request
+  private final PriorityQueue<RequestBreakdown> slowestRequests =
+      new PriorityQueue<>(Comparator.comparingLong(RequestBreakdown::totalMillis));
+
+  @Value("${klaw.diagnostics.slow.request.threshold.ms:1000}")
+  private long slowRequestThresholdMillis;
+
+  @Value("${klaw.diagnostics.slowest.requests:20}")
+  private int slowestRequestsKept;
+
+  // replaced by the tests to time the requests
+  LongSupplier nanoClock = System::nanoTime;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long start = nanoClock.getAsLong();
+    RequestPhases.Recording recording = RequestPhases.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      recording.close();
+      // static resources and unknown urls are not mapped to an endpoint and not recorded
+      if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+          instanceof String pattern) {
+        record(
+            breakdown(
+                request.getMethod() + " " + pattern,
+                response.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start),
+                recording));
+      }
+    }
+  }
+
+  public List<RequestBreakdown> getSlowestRequests(int limit) {
+    synchronized (slowestRequests) {
+      removeOldRequests();
+      return slowestRequests.stream()
+          .sorted(Comparator.comparingLong(RequestBreakdown::totalMillis).reversed())
+          .limit(limit)
+          .toList();
+    }
+  }
+
+  private static RequestBreakdown breakdown(
+      String endpoint, int status, long totalMillis, RequestPhases.Recording recording) {
+    long dbMillis = recording.getMillis(Phase.DB);
+    long clusterApiMillis = recording.getMillis(Phase.CLUSTER_API);
+    long serializationMillis = recording.getMillis(Phase.SERIALIZATION);
+    return new RequestBreakdown(
+        endpoint,
+        Instant.now(),
+        status,
+        totalMillis,
+        recording.getCount(Phase.DB),
+        dbMillis,
+        recording.getCount(Phase.CLUSTER_API),
+        clusterApiMillis,
+        serializationMillis,
+        Math.max(0, totalMillis - dbMillis - clusterApiMillis - serializationMillis));
+  }
+
+  private void record(RequestBreakdown breakdown) {
+    if (breakdown.totalMillis() > slowRequestThresholdMillis) {
+      log.warn(
+          "Slow request {} took {} ms: {} sql statements in {} ms, {} cluster api calls in {} ms,"
+              + " serialization in {} ms, other {} ms",
+          breakdown.endpoint(),
+          breakdown.totalMillis(),
+          breakdown.dbQueries(),
+          breakdown.dbMillis(),
+          breakdown.clusterApiCalls(),
+          breakdown.clusterApiMillis(),
+          breakdown.serializationMillis(),
+          breakdown.otherMillis());
+    }
+
+    synchronized (slowestRequests) {
+      removeOldRequests();
+      if (slowestRequests.size() < slowestRequestsKept) {
+        slowestRequests.add(breakdown);
+      } else if (!slowestRequests.isEmpty()
+          && slowestRequests.peek().totalMillis() < breakdown.totalMillis()) {
+        slowestRequests.poll();
+        slowestRequests.add(breakdown);
+      }
+    }
+  }
+
+  private void removeOldRequests() {
+    Instant oldest = Instant.now().minus(RECENT);
+    slowestRequests.removeIf(breakdown -> breakdown.time().isBefore(oldest));
+  }
+}
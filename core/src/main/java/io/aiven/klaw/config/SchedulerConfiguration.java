@@ -1,11 +1,13 @@
 package io.aiven.klaw.config;
 
+import java.util.concurrent.Executor;
 import javax.sql.DataSource;
 import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class SchedulerConfiguration {
@@ -13,8 +15,74 @@ public class SchedulerConfiguration {
   @Value("${klaw.shedlock.tablename:kwshedlock}")
   private String shedLockTableName;
 
+  @Value("${klaw.reconciliation.parallelism:4}")
+  private int poolSizeReconciliation;
+
+  @Value("${klaw.syncback.topics.parallel.batches:4}")
+  private int poolSizeSyncBackTopics;
+
+  @Value("${klaw.sync.schemas.parallel.subjects:4}")
+  private int poolSizeSyncSchemas;
+
+  @Value("${klaw.sync.connectors.parallel.requests:4}")
+  private int poolSizeSyncConnectors;
+
+  @Value("${klaw.approvals.outbox.workers:4}")
+  private int poolSizeClusterOperations;
+
+  @Value("${klaw.requests.events.dispatch.threads:4}")
+  private int poolSizeRequestEvents;
+
   @Bean
   public LockProvider lockProvider(DataSource dataSource) {
     return new JdbcTemplateLockProvider(dataSource, shedLockTableName);
   }
+
+  @Bean(name = "reconciliationTaskExecutor")
+  public Executor reconciliationThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeReconciliation);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-reconciliation-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "syncBackTopicsTaskExecutor")
+  public Executor syncBackTopicsThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeSyncBackTopics);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-syncback-topics-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "syncSchemasTaskExecutor")
+  public Executor syncSchemasThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeSyncSchemas);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-sync-schemas-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "syncConnectorsTaskExecutor")
+  public Executor syncConnectorsThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeSyncConnectors);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-sync-connectors-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "clusterOperationsTaskExecutor")
+  public Executor clusterOperationsThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeClusterOperations);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-cluster-operations-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "requestEventsTaskExecutor")
+  public Executor requestEventsThreadPoolTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(poolSizeRequestEvents);
+    threadPoolTaskExecutor.setThreadNamePrefix("klaw-request-events-");
+    return threadPoolTaskExecutor;
+  }
 }
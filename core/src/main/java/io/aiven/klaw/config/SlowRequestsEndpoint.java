@@ -0,0 +1,31 @@
+package io.aiven.klaw.config;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the slowest requests of the last hour, with the time spent in the
+ * database, the cluster api and the serialization of the response.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@ConditionalOnProperty(prefix = "klaw.diagnostics", name = "enabled", havingValue = "true")
+public class SlowRequestsEndpoint {
+
+  private static final int DEFAULT_LIMIT = 20;
+
+  private final RequestDiagnosticsFilter requestDiagnosticsFilter;
+
+  public SlowRequestsEndpoint(RequestDiagnosticsFilter requestDiagnosticsFilter) {
+    this.requestDiagnosticsFilter = requestDiagnosticsFilter;
+  }
+
+  @ReadOperation
+  public List<RequestDiagnosticsFilter.RequestBreakdown> slowestRequests(@Nullable Integer limit) {
+    return requestDiagnosticsFilter.getSlowestRequests(limit == null ? DEFAULT_LIMIT : limit);
+  }
+}
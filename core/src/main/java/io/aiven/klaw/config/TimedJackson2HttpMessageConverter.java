@@ -0,0 +1,31 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.RequestPhases;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Json converter of spring recording the time spent serializing the responses in the {@link
+ * RequestPhases} of the request. Replaces the converter of spring when the diagnostics of slow
+ * requests are enabled.
+ */
+class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  TimedJackson2HttpMessageConverter(MappingJackson2HttpMessageConverter converter) {
+    super(converter.getObjectMapper());
+    setSupportedMediaTypes(converter.getSupportedMediaTypes());
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    long start = System.nanoTime();
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      RequestPhases.record(RequestPhases.Phase.SERIALIZATION, System.nanoTime() - start);
+    }
+  }
+}
@@ -1,32 +1,87 @@
 package io.aiven.klaw.config;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.server.ErrorPage;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+  @Autowired private ConditionalGetInterceptor conditionalGetInterceptor;
+
+  @Value("${klaw.diagnostics.enabled:false}")
+  private boolean diagnosticsEnabled;
+
   public void addViewControllers(ViewControllerRegistry registry) {
     registry.addViewController("/notFound").setViewName("forward:/index.html");
   }
 
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry
+        .addInterceptor(conditionalGetInterceptor)
+        .addPathPatterns(ConditionalGetInterceptor.VERSIONED_ENDPOINTS);
+  }
+
+  /** Times the serialization of the responses while diagnosing slow requests. */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    if (diagnosticsEnabled) {
+      converters.replaceAll(
+          converter ->
+              converter instanceof MappingJackson2HttpMessageConverter jsonConverter
+                  ? new TimedJackson2HttpMessageConverter(jsonConverter)
+                  : converter);
+    }
+  }
+
   @Bean
   public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> containerCustomizer() {
     return container -> container.addErrorPages(new ErrorPage(HttpStatus.NOT_FOUND, "/notFound"));
   }
 
+  /**
+   * The coral assets have the hash of their content in their name, given by the coral build, and
+   * are cached for a year without being revalidated. The assets of the legacy ui keep their names
+   * across releases and are revalidated on every use, with their last modified time. Where the
+   * build precompressed an asset, the gzip or brotli variant is served to the clients accepting it.
+   */
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     registry
-        .addResourceHandler("/static/assets/images/**")
+        .addResourceHandler("/static/assets/images/**", "/assets/images/**")
         .addResourceLocations("classpath:/static/assets/images/")
         .setCachePeriod(604800); // 1 week in seconds
+
+    registry
+        .addResourceHandler("/assets/coral/**")
+        .addResourceLocations("classpath:/static/assets/coral/")
+        .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+        .resourceChain(true)
+        .addResolver(new EncodedResourceResolver());
+
+    for (String legacyAssets : List.of("assets", "js", "lib")) {
+      registry
+          .addResourceHandler("/" + legacyAssets + "/**")
+          .addResourceLocations("classpath:/static/" + legacyAssets + "/")
+          .setCacheControl(CacheControl.noCache())
+          .resourceChain(true)
+          .addResolver(new EncodedResourceResolver());
+    }
   }
 }
@@ -2,4 +2,5 @@ package io.aiven.klaw.constants;
 
 public class CacheConstants {
   public static final String ENVIRONMENT_PATH = "environment";
+  public static final String REQUEST_EVENT_PATH = "requestEvent";
 }
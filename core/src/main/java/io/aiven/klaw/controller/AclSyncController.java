@@ -70,12 +70,13 @@ public class AclSyncController {
       @RequestParam("pageNo") String pageNo,
       @RequestParam(value = "currentPage", defaultValue = "") String currentPage,
       @RequestParam(value = "topicnamesearch", required = false) String topicNameSearch,
+      @RequestParam(value = "principalsearch", required = false) String principalSearch,
       @RequestParam(value = "showAllAcls", defaultValue = "false", required = false)
           String showAllAcls)
       throws KlawException {
     return new ResponseEntity<>(
         aclSyncControllerService.getSyncAcls(
-            envId, pageNo, currentPage, topicNameSearch, showAllAcls),
+            envId, pageNo, currentPage, topicNameSearch, principalSearch, showAllAcls),
         HttpStatus.OK);
   }
 }
@@ -4,8 +4,10 @@ import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.RequestStatusEvent;
 import io.aiven.klaw.service.HARestMessagingService;
 import io.aiven.klaw.service.JwtTokenUtilService;
+import io.aiven.klaw.service.RequestEventsService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +27,8 @@ public class CacheController {
 
   @Autowired JwtTokenUtilService jwtTokenUtilService;
 
+  @Autowired private RequestEventsService requestEventsService;
+
   @PostMapping(
       value = "/tenant/{tenantId}/entityType/environment",
       produces = {MediaType.APPLICATION_JSON_VALUE},
@@ -52,4 +56,19 @@ public class CacheController {
     manageDatabase.removeEnvFromCache(tenantId, id, true);
     return new ResponseEntity<>(HttpStatus.OK);
   }
+
+  @PostMapping(
+      value = "/tenant/{tenantId}/entityType/requestEvent",
+      produces = {MediaType.APPLICATION_JSON_VALUE},
+      consumes = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ApiResponse> addRequestEvent(
+      @PathVariable("tenantId") Integer tenantId,
+      @RequestBody RequestStatusEvent requestStatusEvent,
+      @RequestHeader(name = "Authorization") String token)
+      throws KlawNotAuthorizedException {
+    jwtTokenUtilService.validateRole(token, HARestMessagingService.CACHE_ADMIN);
+    requestStatusEvent.setTenantId(tenantId);
+    requestEventsService.onRemoteRequestStatusEvent(requestStatusEvent);
+    return new ResponseEntity<>(HttpStatus.OK);
+  }
 }
@@ -1,6 +1,9 @@
 package io.aiven.klaw.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -13,7 +16,9 @@ public class CoralController {
   public static final String CORAL_INDEX = "coral/index";
 
   @RequestMapping(value = "/**", method = RequestMethod.GET)
-  public String any() {
+  public String any(HttpServletResponse response) {
+    // the index refers to the hashed assets of the running release, it is revalidated on each load
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
     return CORAL_INDEX;
   }
 }
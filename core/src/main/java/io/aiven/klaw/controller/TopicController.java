@@ -11,8 +11,10 @@ import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.TopicClaimRequestModel;
 import io.aiven.klaw.model.requests.TopicCreateRequestModel;
 import io.aiven.klaw.model.requests.TopicDeleteRequestModel;
+import io.aiven.klaw.model.requests.TopicNamesValidationRequest;
 import io.aiven.klaw.model.requests.TopicUpdateRequestModel;
 import io.aiven.klaw.model.response.TopicDetailsPerEnv;
+import io.aiven.klaw.model.response.TopicNameValidationResult;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.TopicTeamResponse;
 import io.aiven.klaw.service.TopicControllerService;
@@ -84,6 +86,22 @@ public class TopicController {
         HttpStatus.OK);
   }
 
+  /**
+   * @param topicNamesValidationRequest The environment and the topic names to validate against its
+   *     topic naming policy
+   * @return One validation result per topic name, in the order of the topic names.
+   */
+  @PostMapping(
+      value = "/validateTopicNames",
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<List<TopicNameValidationResult>> validateTopicNames(
+      @Valid @RequestBody TopicNamesValidationRequest topicNamesValidationRequest) {
+    return new ResponseEntity<>(
+        topicControllerService.validateTopicNames(
+            topicNamesValidationRequest.getEnv(), topicNamesValidationRequest.getTopicNames()),
+        HttpStatus.OK);
+  }
+
   /**
    * @param pageNo Which page would you like returned e.g. 1
    * @param currentPage Which Page are you currently on e.g. 1
@@ -6,6 +6,7 @@ import io.aiven.klaw.model.SyncBackTopics;
 import io.aiven.klaw.model.SyncTopicUpdates;
 import io.aiven.klaw.model.SyncTopicsBulk;
 import io.aiven.klaw.model.TopicInfo;
+import io.aiven.klaw.model.response.SyncBackTopicsJobStatus;
 import io.aiven.klaw.model.response.SyncTopicsList;
 import io.aiven.klaw.service.TopicSyncControllerService;
 import java.util.List;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -71,6 +73,25 @@ public class TopicSyncController {
         topicSyncControllerService.updateSyncBackTopics(syncBackTopics), HttpStatus.OK);
   }
 
+  @PostMapping(
+      value = "/syncBackTopics/jobs",
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ApiResponse> createSyncBackTopicsJob(
+      @RequestBody SyncBackTopics syncBackTopics) {
+    return new ResponseEntity<>(
+        topicSyncControllerService.createSyncBackTopicsJob(syncBackTopics), HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      value = "/syncBackTopics/jobs/{jobId}",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<SyncBackTopicsJobStatus> getSyncBackTopicsJob(
+      @PathVariable(value = "jobId") String jobId) throws KlawException {
+    return new ResponseEntity<>(
+        topicSyncControllerService.getSyncBackTopicsJob(jobId), HttpStatus.OK);
+  }
+
   @RequestMapping(
       value = "/getSyncTopics",
       method = RequestMethod.GET,
@@ -4,7 +4,9 @@ import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.requests.ResetEntityCache;
 import io.aiven.klaw.model.response.AuthenticationInfo;
 import io.aiven.klaw.model.response.DashboardStats;
+import io.aiven.klaw.model.response.PendingRequestsCountUpdate;
 import io.aiven.klaw.model.response.RequestsCountOverview;
+import io.aiven.klaw.service.RequestEventsService;
 import io.aiven.klaw.service.RequestStatisticsService;
 import io.aiven.klaw.service.UtilControllerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/")
@@ -36,6 +39,8 @@ public class UtilController {
 
   @Autowired private RequestStatisticsService requestStatisticsService;
 
+  @Autowired private RequestEventsService requestEventsService;
+
   @RequestMapping(
       value = "/getDashboardStats",
       method = RequestMethod.GET,
@@ -106,4 +111,25 @@ public class UtilController {
     return new ResponseEntity<>(
         requestStatisticsService.getRequestsCountOverview(requestMode), HttpStatus.OK);
   }
+
+  /*
+     Stream the counts of requests to be approved and the status changes of the requests of the team
+  */
+  @Operation(
+      summary =
+          "Stream the counts of requests to be approved (requestCounts events) and the status"
+              + " changes of the requests of the team (requestStatus events)",
+      responses = {
+        @ApiResponse(
+            content =
+                @Content(
+                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = PendingRequestsCountUpdate.class)))
+      })
+  @GetMapping(
+      value = "/requests/events",
+      produces = {MediaType.TEXT_EVENT_STREAM_VALUE})
+  public SseEmitter getRequestEvents() {
+    return requestEventsService.subscribe();
+  }
 }
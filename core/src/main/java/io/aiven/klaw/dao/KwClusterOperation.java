@@ -0,0 +1,73 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Cluster operation of an approved request, which is still to be applied to the cluster. Written
+ * when the request is approved and executed asynchronously by the cluster operation workers.
+ */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(name = "kwclusteroperations")
+public class KwClusterOperation implements Serializable {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Integer id;
+
+  @Column(name = "tenantid")
+  private Integer tenantId;
+
+  // TOPIC, ACL or SCHEMA
+  @Column(name = "requesttype")
+  private String requestType;
+
+  @Column(name = "requestid")
+  private Integer requestId;
+
+  @Column(name = "env")
+  private String env;
+
+  // operations with the same key are the same operation
+  @Column(name = "operationkey")
+  private String operationKey;
+
+  // the operation key while pending or running, unique so one operation per key is active
+  @Column(name = "activekey", unique = true)
+  private String activeKey;
+
+  @Column(name = "approver")
+  private String approver;
+
+  // pending, running, completed or failed
+  @Column(name = "status")
+  private String status;
+
+  @Column(name = "attempts")
+  private Integer attempts;
+
+  @Column(name = "nextattempttime")
+  private Timestamp nextAttemptTime;
+
+  @Column(name = "lasterror")
+  private String lastError;
+
+  @Column(name = "createdtime")
+  private Timestamp createdTime;
+
+  @Column(name = "updatedtime")
+  private Timestamp updatedTime;
+}
@@ -0,0 +1,47 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@ToString(exclude = "snapshot")
+@Getter
+@Setter
+@Entity
+@IdClass(KwClusterSnapshotID.class)
+@Table(name = "kwclustersnapshot")
+public class KwClusterSnapshot implements Serializable {
+
+  @Id
+  @Column(name = "tenantid")
+  private Integer tenantId;
+
+  @Id
+  @Column(name = "env")
+  private String env;
+
+  // topics or acls
+  @Id
+  @Column(name = "entitytype")
+  private String entityType;
+
+  @Column(name = "snapshot")
+  private String snapshot;
+
+  // hash of the topics or acls of the env in klaw when the snapshot was taken
+  @Column(name = "metadatahash")
+  private String metadataHash;
+
+  @Column(name = "entitycount")
+  private Integer entityCount;
+
+  @Column(name = "snapshottime")
+  private Timestamp snapshotTime;
+}
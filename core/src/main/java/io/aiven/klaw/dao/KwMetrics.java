@@ -40,4 +40,8 @@ public class KwMetrics implements Serializable {
 
   @Column(name = "metricsattributes")
   private String metricsAttributes;
+
+  // 1m or 1h, raw samples are kept in memory only
+  @Column(name = "rollup")
+  private String rollup;
 }
@@ -233,9 +233,6 @@ public class KlawErrorMessages {
 
   public static final String KAFKA_CONNECT_SYNC_102 = "Connector description";
 
-  public static final String KAFKA_CONNECT_SYNC_ERR_102 =
-      "Failure. Please sync up the team of the following connector(s) first in main Sync cluster";
-
   public static final String KAFKA_CONNECT_SYNC_ERR_103 =
       "Failure. The following connectors are being synchronized with a different team, when compared to main Sync cluster";
 
@@ -249,6 +246,9 @@ public class KlawErrorMessages {
 
   public static final String REQ_SER_ERR_104 = "Failure unable to decline requestId %s";
 
+  public static final String REQ_SER_105 =
+      "Request approved, the change is being applied to the cluster.";
+
   // Roles permissions service
   public static final String ROLE_PRM_ERR_101 = "Not Allowed";
 
@@ -425,6 +425,11 @@ public class KlawErrorMessages {
 
   public static final String TOPICS_SYNC_ERR_108 = "Topic partitions not configured. ";
 
+  public static final String TOPICS_SYNC_ERR_109 =
+      "Topics of the cluster are still being loaded, please try again later.";
+
+  public static final String TOPICS_SYNC_ERR_110 = "Sync back job does not exist.";
+
   // Teams service
   public static final String TEAMS_ERR_101 = "Team id cannot be empty.";
 
@@ -483,6 +488,8 @@ public class KlawErrorMessages {
 
   public static final String SCH_SYNC_ERR_102 = "404 Not Found";
 
+  public static final String SCH_SYNC_ERR_103 = "Topic of the schema does not exist in Klaw.";
+
   public static final String OP_REQS_ERR_101 =
       "Sorry, your team does not own this acl - consumer group !!";
 
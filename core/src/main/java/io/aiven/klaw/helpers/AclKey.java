@@ -0,0 +1,86 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclPermissionType;
+import io.aiven.klaw.model.enums.AclType;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Identity of an acl, the same for an acl retrieved from a cluster and the acl Klaw stores for it.
+ * Principals and hosts are normalized, so that an acl matches regardless of how its principal or
+ * host was written, and two acls are the same acl if their keys are equal.
+ */
+public record AclKey(
+    String resourceType,
+    String patternType,
+    String resourceName,
+    String principal,
+    String host,
+    String operation,
+    String permission) {
+
+  public static final String TOPIC_RESOURCE = "TOPIC";
+  public static final String GROUP_RESOURCE = "GROUP";
+
+  private static final String USER_PREFIX = "User:";
+  private static final String ANY = "*";
+  private static final String ALLOW = "ALLOW";
+
+  /** Key of an acl as retrieved from the cluster api. */
+  public static AclKey ofClusterAcl(Map<String, String> clusterAcl) {
+    return new AclKey(
+        upperCase(clusterAcl.get("resourceType")),
+        defaultIfEmpty(upperCase(clusterAcl.get("patternType")), AclPatternType.LITERAL.value),
+        clusterAcl.get("resourceName"),
+        normalizePrincipal(clusterAcl.get("principle")),
+        normalizeHost(clusterAcl.get("host")),
+        upperCase(clusterAcl.get("operation")),
+        defaultIfEmpty(upperCase(clusterAcl.get("permissionType")), ALLOW));
+  }
+
+  /** Key of the topic acl Klaw stores, which allows producing to or consuming from the topic. */
+  public static AclKey ofTopicAcl(Acl acl) {
+    String operation = null;
+    if (AclType.PRODUCER.value.equals(acl.getAclType())) {
+      operation = AclPermissionType.WRITE.value;
+    } else if (AclType.CONSUMER.value.equals(acl.getAclType())) {
+      operation = AclPermissionType.READ.value;
+    }
+    return new AclKey(
+        TOPIC_RESOURCE,
+        defaultIfEmpty(upperCase(acl.getAclPatternType()), AclPatternType.LITERAL.value),
+        acl.getTopicname(),
+        normalizePrincipal(acl.getAclssl()),
+        normalizeHost(acl.getAclip()),
+        operation,
+        ALLOW);
+  }
+
+  /**
+   * Principal without the User: prefix, which Apache Kafka clusters add and Aiven clusters and Klaw
+   * do not. Any principal if empty.
+   */
+  public static String normalizePrincipal(String principal) {
+    if (principal == null || principal.isEmpty()) {
+      return ANY;
+    }
+    return principal.startsWith(USER_PREFIX)
+        ? principal.substring(USER_PREFIX.length())
+        : principal;
+  }
+
+  /** Any host if empty. */
+  public static String normalizeHost(String host) {
+    return host == null || host.isEmpty() ? ANY : host;
+  }
+
+  private static String upperCase(String value) {
+    return value == null ? null : value.toUpperCase(Locale.ROOT);
+  }
+
+  private static String defaultIfEmpty(String value, String defaultValue) {
+    return value == null || value.isEmpty() ? defaultValue : value;
+  }
+}
@@ -0,0 +1,105 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPermissionType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Diff of the topic acls on a cluster against the acls Klaw knows for the same environment. Both
+ * sides are joined on their {@link AclKey} with hash lookups, so the diff is linear in the number
+ * of acls rather than comparing every cluster acl with every Klaw acl.
+ */
+public class AclSyncDiff {
+
+  /**
+   * @param consumerGroup consumer group of a consumer acl, null for other acls
+   * @param sotAcl acl stored in Klaw with the same key, null if Klaw does not know the acl
+   */
+  public record ClusterAcl(
+      Map<String, String> clusterAcl, AclKey key, String consumerGroup, Acl sotAcl) {}
+
+  private final List<ClusterAcl> clusterAcls;
+  private final List<Acl> deletedAcls;
+
+  private AclSyncDiff(List<ClusterAcl> clusterAcls, List<Acl> deletedAcls) {
+    this.clusterAcls = clusterAcls;
+    this.deletedAcls = deletedAcls;
+  }
+
+  /**
+   * @param clusterAcls acls retrieved from the cluster of the environment, of all resource types
+   * @param topicNameSearch part of the name of the topics to diff the acls of, all if null
+   * @param sotAcls acls stored in Klaw for the same environment
+   */
+  public static AclSyncDiff diff(
+      Collection<Map<String, String>> clusterAcls,
+      String topicNameSearch,
+      Collection<Acl> sotAcls) {
+    // a consumer acl is only complete with a read acl on a consumer group of the same principal
+    Map<String, String> consumerGroups = new HashMap<>();
+    for (Map<String, String> clusterAcl : clusterAcls) {
+      if (AclKey.GROUP_RESOURCE.equals(clusterAcl.get("resourceType"))
+          && AclPermissionType.READ.value.equals(clusterAcl.get("operation"))) {
+        consumerGroups.putIfAbsent(principalAndHost(clusterAcl), clusterAcl.get("resourceName"));
+      }
+    }
+
+    Map<AclKey, Acl> sotAclsByKey = new HashMap<>(Math.max(16, sotAcls.size() * 2));
+    for (Acl sotAcl : sotAcls) {
+      if (sotAcl.getTopicname() != null) {
+        sotAclsByKey.putIfAbsent(AclKey.ofTopicAcl(sotAcl), sotAcl);
+      }
+    }
+
+    List<ClusterAcl> topicAcls = new ArrayList<>();
+    Set<AclKey> clusterKeys = new HashSet<>(Math.max(16, clusterAcls.size() * 2));
+    for (Map<String, String> clusterAcl : clusterAcls) {
+      if (!AclKey.TOPIC_RESOURCE.equals(clusterAcl.get("resourceType"))
+          || (topicNameSearch != null
+              && !clusterAcl.get("resourceName").contains(topicNameSearch))) {
+        continue;
+      }
+      String consumerGroup = null;
+      if (AclPermissionType.READ.value.equals(clusterAcl.get("operation"))) {
+        consumerGroup = clusterAcl.get("consumerGroup");
+        if (consumerGroup == null) {
+          consumerGroup = consumerGroups.get(principalAndHost(clusterAcl));
+        }
+        if (consumerGroup == null) {
+          continue;
+        }
+      }
+      AclKey key = AclKey.ofClusterAcl(clusterAcl);
+      clusterKeys.add(key);
+      topicAcls.add(new ClusterAcl(clusterAcl, key, consumerGroup, sotAclsByKey.get(key)));
+    }
+
+    List<Acl> deletedAcls = new ArrayList<>();
+    for (Acl sotAcl : sotAcls) {
+      if (sotAcl.getTopicname() != null && !clusterKeys.contains(AclKey.ofTopicAcl(sotAcl))) {
+        deletedAcls.add(sotAcl);
+      }
+    }
+    return new AclSyncDiff(topicAcls, deletedAcls);
+  }
+
+  private static String principalAndHost(Map<String, String> clusterAcl) {
+    return clusterAcl.get("principle") + " " + clusterAcl.get("host");
+  }
+
+  /** Topic acls of the cluster, in the order of the cluster acls given to the diff. */
+  public List<ClusterAcl> getClusterAcls() {
+    return clusterAcls;
+  }
+
+  /** Acls stored in Klaw, which are no longer on the cluster. */
+  public List<Acl> getDeletedAcls() {
+    return deletedAcls;
+  }
+}
@@ -0,0 +1,127 @@
+package io.aiven.klaw.helpers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hit, miss, load and eviction counts, load latency and size of one of the in memory caches of
+ * klaw, per tenant. The metrics are tagged with the cache and the tenant, so that the caches
+ * falling through to the database and the tenants filling them show in the metrics of the actuator.
+ */
+public class CacheMetrics {
+
+  public static final String CACHE_GETS_METRIC = "klaw.cache.gets";
+  public static final String CACHE_LOADS_METRIC = "klaw.cache.loads";
+  public static final String CACHE_EVICTIONS_METRIC = "klaw.cache.evictions";
+  public static final String CACHE_ENTRIES_METRIC = "klaw.cache.entries";
+  public static final String CACHE_ESTIMATED_BYTES_METRIC = "klaw.cache.estimated.bytes";
+
+  // entries sampled to estimate the memory of a cache, the estimate is read on every scrape
+  private static final int SAMPLED_ENTRIES = 20;
+
+  private record TenantMeters(Counter hits, Counter misses, Counter evictions, Timer loads) {}
+
+  private final String cache;
+
+  private final ConcurrentMap<Integer, TenantMeters> metersPerTenant = new ConcurrentHashMap<>();
+
+  public CacheMetrics(String cache) {
+    this.cache = cache;
+  }
+
+  public void hit(int tenantId) {
+    meters(tenantId).hits().increment();
+  }
+
+  public void miss(int tenantId) {
+    meters(tenantId).misses().increment();
+  }
+
+  /** Records a hit when the value is found in the cache, a miss otherwise, and returns it. */
+  public <T> T get(int tenantId, T value) {
+    if (value == null) {
+      miss(tenantId);
+    } else {
+      hit(tenantId);
+    }
+    return value;
+  }
+
+  public void evictions(int tenantId, int count) {
+    if (count > 0) {
+      meters(tenantId).evictions().increment(count);
+    }
+  }
+
+  /** Records a load of the cache of the tenant from the database, started at startNanos. */
+  public void loaded(int tenantId, long startNanos) {
+    meters(tenantId).loads().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Publishes the number of entries of the cache of the tenant, and an estimate of their memory.
+   * The memory is estimated from the size of the text of a sample of entries, two bytes per
+   * character, which is a rough but cheap indication of how the cache grows.
+   */
+  public void monitor(int tenantId, Supplier<? extends Collection<?>> entries) {
+    String tenant = String.valueOf(tenantId);
+    Gauge.builder(CACHE_ENTRIES_METRIC, () -> size(entries.get()))
+        .tag("cache", cache)
+        .tag("tenant", tenant)
+        .register(Metrics.globalRegistry);
+    Gauge.builder(CACHE_ESTIMATED_BYTES_METRIC, () -> estimatedBytes(entries.get()))
+        .tag("cache", cache)
+        .tag("tenant", tenant)
+        .baseUnit("bytes")
+        .register(Metrics.globalRegistry);
+  }
+
+  static double estimatedBytes(Collection<?> entries) {
+    if (entries == null || entries.isEmpty()) {
+      return 0;
+    }
+    try {
+      long sampledChars = 0;
+      int sampled = 0;
+      Iterator<?> iterator = entries.iterator();
+      while (sampled < SAMPLED_ENTRIES && iterator.hasNext()) {
+        sampledChars += String.valueOf(iterator.next()).length();
+        sampled++;
+      }
+      return 2.0 * sampledChars / sampled * entries.size();
+    } catch (ConcurrentModificationException e) {
+      // the cache is being reloaded, the estimate is taken again on the next scrape
+      return Double.NaN;
+    }
+  }
+
+  private static int size(Collection<?> entries) {
+    return entries == null ? 0 : entries.size();
+  }
+
+  private TenantMeters meters(int tenantId) {
+    return metersPerTenant.computeIfAbsent(
+        tenantId,
+        id -> {
+          String tenant = String.valueOf(id);
+          return new TenantMeters(
+              Metrics.counter(CACHE_GETS_METRIC, "cache", cache, "tenant", tenant, "result", "hit"),
+              Metrics.counter(
+                  CACHE_GETS_METRIC, "cache", cache, "tenant", tenant, "result", "miss"),
+              Metrics.counter(CACHE_EVICTIONS_METRIC, "cache", cache, "tenant", tenant),
+              Timer.builder(CACHE_LOADS_METRIC)
+                  .tag("cache", cache)
+                  .tag("tenant", tenant)
+                  .register(Metrics.globalRegistry));
+        });
+  }
+}
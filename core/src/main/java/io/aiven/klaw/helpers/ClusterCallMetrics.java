@@ -0,0 +1,82 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.model.ApiResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Times the calls of core to the cluster api. Every call is recorded in the {@link
+ * #CLUSTER_API_CALLS_METRIC} timer, tagged with the operation, the cluster it is made for and its
+ * outcome, so that the count, total and max time of the calls to a slow or failing cluster show in
+ * the metrics of the actuator. The call is also recorded in the {@link RequestPhases} of the
+ * request.
+ */
+public final class ClusterCallMetrics {
+
+  public static final String CLUSTER_API_CALLS_METRIC = "klaw.clusterapi.calls";
+
+  // calls which are not made for a single cluster, like the status of the cluster api
+  public static final String NO_CLUSTER = "none";
+
+  public enum Outcome {
+    SUCCESS,
+    // the cluster api answered, with an api response which is not successful
+    FAILURE,
+    CLIENT_ERROR,
+    SERVER_ERROR,
+    // the cluster api could not be reached, or did not answer in time
+    UNREACHABLE,
+    ERROR
+  }
+
+  private ClusterCallMetrics() {}
+
+  public static <T> T time(String operation, String cluster, Callable<T> call) throws Exception {
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERROR;
+    try {
+      T result = call.call();
+      outcome = outcomeOf(result);
+      return result;
+    } catch (Exception e) {
+      outcome = outcomeOf(e);
+      throw e;
+    } finally {
+      long nanos = System.nanoTime() - start;
+      Timer.builder(CLUSTER_API_CALLS_METRIC)
+          .tag("operation", operation)
+          .tag("cluster", StringUtils.defaultIfEmpty(cluster, NO_CLUSTER))
+          .tag("outcome", outcome.name())
+          .register(Metrics.globalRegistry)
+          .record(nanos, TimeUnit.NANOSECONDS);
+      RequestPhases.record(RequestPhases.Phase.CLUSTER_API, nanos);
+    }
+  }
+
+  static Outcome outcomeOf(Object result) {
+    if (result instanceof ResponseEntity<?> responseEntity
+        && responseEntity.getBody() instanceof ApiResponse apiResponse
+        && !apiResponse.isSuccess()) {
+      return Outcome.FAILURE;
+    }
+    return Outcome.SUCCESS;
+  }
+
+  static Outcome outcomeOf(Exception e) {
+    if (e instanceof HttpClientErrorException) {
+      return Outcome.CLIENT_ERROR;
+    } else if (e instanceof HttpServerErrorException) {
+      return Outcome.SERVER_ERROR;
+    } else if (e instanceof ResourceAccessException) {
+      return Outcome.UNREACHABLE;
+    }
+    return Outcome.ERROR;
+  }
+}
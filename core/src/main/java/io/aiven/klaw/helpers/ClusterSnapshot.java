@@ -0,0 +1,132 @@
+package io.aiven.klaw.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compact record of the state of a cluster, one content hash per topic or acl. Comparing the
+ * snapshot of the previous reconciliation with the current one tells which entries were added,
+ * removed or changed on the cluster in between, without comparing the full state again.
+ */
+public class ClusterSnapshot {
+
+  private static final char HASH_SEPARATOR = ' ';
+  private static final char ENTRY_SEPARATOR = '\n';
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  // 64 bits of the digest are plenty to tell a changed entry from an unchanged one
+  private static final int HASH_BYTES = 8;
+
+  public record Delta(Set<String> added, Set<String> removed, Set<String> changed) {
+    public boolean isEmpty() {
+      return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /** Keys of all entries which were added, removed or changed. */
+    public Set<String> keys() {
+      Set<String> keys = new HashSet<>(added);
+      keys.addAll(removed);
+      keys.addAll(changed);
+      return keys;
+    }
+  }
+
+  // key of the topic or acl to the hash of its content
+  private final Map<String, String> contentHashes;
+
+  public ClusterSnapshot(Map<String, String> contentHashes) {
+    this.contentHashes = Collections.unmodifiableMap(new HashMap<>(contentHashes));
+  }
+
+  public int size() {
+    return contentHashes.size();
+  }
+
+  public Map<String, String> getContentHashes() {
+    return contentHashes;
+  }
+
+  /** Changes which turn the previous snapshot into this one. */
+  public Delta diff(ClusterSnapshot previous) {
+    Set<String> added = new HashSet<>();
+    Set<String> changed = new HashSet<>();
+    contentHashes.forEach(
+        (key, contentHash) -> {
+          String previousHash = previous.contentHashes.get(key);
+          if (previousHash == null) {
+            added.add(key);
+          } else if (!previousHash.equals(contentHash)) {
+            changed.add(key);
+          }
+        });
+
+    Set<String> removed = new HashSet<>();
+    for (String key : previous.contentHashes.keySet()) {
+      if (!contentHashes.containsKey(key)) {
+        removed.add(key);
+      }
+    }
+    return new Delta(added, removed, changed);
+  }
+
+  /** One line per entry, the hash followed by the key, ordered by key. */
+  public String serialize() {
+    StringBuilder serialized = new StringBuilder(contentHashes.size() * 48);
+    new TreeMap<>(contentHashes)
+        .forEach(
+            (key, contentHash) ->
+                serialized
+                    .append(contentHash)
+                    .append(HASH_SEPARATOR)
+                    .append(key)
+                    .append(ENTRY_SEPARATOR));
+    return serialized.toString();
+  }
+
+  public static ClusterSnapshot parse(String serialized) {
+    Map<String, String> contentHashes = new HashMap<>();
+    int start = 0;
+    while (start < serialized.length()) {
+      int end = serialized.indexOf(ENTRY_SEPARATOR, start);
+      if (end < 0) {
+        end = serialized.length();
+      }
+      int separator = serialized.indexOf(HASH_SEPARATOR, start);
+      if (separator > start && separator < end) {
+        contentHashes.put(
+            serialized.substring(separator + 1, end), serialized.substring(start, separator));
+      }
+      start = end + 1;
+    }
+    return new ClusterSnapshot(contentHashes);
+  }
+
+  /** Hash of the given values, which is stable across restarts and Klaw instances. */
+  public static String contentHash(Object... values) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    for (Object value : values) {
+      digest.update(Objects.toString(value, "").getBytes(StandardCharsets.UTF_8));
+      // separates the values, so that ("ab", "c") and ("a", "bc") have different hashes
+      digest.update((byte) 0);
+    }
+    byte[] hash = digest.digest();
+    char[] hex = new char[HASH_BYTES * 2];
+    for (int i = 0; i < HASH_BYTES; i++) {
+      hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
+    }
+    return new String(hex);
+  }
+}
@@ -0,0 +1,125 @@
+package io.aiven.klaw.helpers;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+/**
+ * Runs the reconciliation of several environments in parallel on the given executor, whose pool
+ * size bounds the number of environments reconciled at once. Each environment gets a time budget,
+ * counted from the moment its reconciliation starts. An environment exceeding it is reported as
+ * timed out and its thread is interrupted, so a slow or unreachable cluster does not hold back the
+ * results of the other environments.
+ */
+@Slf4j
+public class EnvReconciliationRunner {
+
+  public static final String RECONCILIATION_METRIC = "klaw.reconciliation.env";
+
+  public enum Outcome {
+    SUCCESS,
+    FAILED,
+    TIMED_OUT
+  }
+
+  /**
+   * @param entity reconciled entity, like topics or acls
+   * @param reconciliation returns one line per difference found between cluster and Klaw
+   */
+  public record EnvTask(
+      int tenantId, String envId, String entity, Callable<List<String>> reconciliation) {}
+
+  public record EnvResult(EnvTask task, Outcome outcome, long durationMillis, List<String> lines) {}
+
+  private final Executor workers;
+  private final Duration envBudget;
+
+  public EnvReconciliationRunner(Executor workers, Duration envBudget) {
+    this.workers = workers;
+    this.envBudget = envBudget;
+  }
+
+  /**
+   * Reconciles all given environments and waits until each one has completed, failed or exceeded
+   * its budget. Tasks run with the security context of the calling thread.
+   *
+   * @return one result per task, in the order of the tasks
+   */
+  public List<EnvResult> run(List<EnvTask> tasks) {
+    Executor securedWorkers = new DelegatingSecurityContextExecutor(workers);
+    List<CompletableFuture<EnvResult>> results = new ArrayList<>(tasks.size());
+    for (EnvTask task : tasks) {
+      CompletableFuture<EnvResult> result = new CompletableFuture<>();
+      securedWorkers.execute(() -> reconcile(task, result));
+      results.add(result);
+    }
+    return results.stream().map(CompletableFuture::join).toList();
+  }
+
+  private void reconcile(EnvTask task, CompletableFuture<EnvResult> result) {
+    long start = System.nanoTime();
+    Thread worker = Thread.currentThread();
+    AtomicBoolean running = new AtomicBoolean(true);
+    CompletableFuture.delayedExecutor(envBudget.toMillis(), TimeUnit.MILLISECONDS)
+        .execute(
+            () -> {
+              synchronized (running) {
+                if (running.get() && complete(result, task, Outcome.TIMED_OUT, start, List.of())) {
+                  worker.interrupt();
+                }
+              }
+            });
+    try {
+      complete(result, task, Outcome.SUCCESS, start, task.reconciliation().call());
+    } catch (Exception e) {
+      log.error("Reconciliation of {} in env {} failed", task.entity(), task.envId(), e);
+      complete(result, task, Outcome.FAILED, start, List.of());
+    } finally {
+      synchronized (running) {
+        running.set(false);
+        // the worker thread moves on to the next environment without a pending interrupt
+        Thread.interrupted();
+      }
+    }
+  }
+
+  private boolean complete(
+      CompletableFuture<EnvResult> result,
+      EnvTask task,
+      Outcome outcome,
+      long start,
+      List<String> lines) {
+    long durationNanos = System.nanoTime() - start;
+    boolean completed =
+        result.complete(
+            new EnvResult(
+                task, outcome, TimeUnit.NANOSECONDS.toMillis(durationNanos), List.copyOf(lines)));
+    if (completed) {
+      log.info(
+          "Reconciliation of {} in env {} of tenant {} : {} in {} ms",
+          task.entity(),
+          task.envId(),
+          task.tenantId(),
+          outcome,
+          TimeUnit.NANOSECONDS.toMillis(durationNanos));
+      Timer.builder(RECONCILIATION_METRIC)
+          .tag("entity", task.entity())
+          // env ids are only unique within their tenant
+          .tag("tenant", String.valueOf(task.tenantId()))
+          .tag("env", task.envId())
+          .tag("outcome", outcome.name())
+          .register(Metrics.globalRegistry)
+          .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    return completed;
+  }
+}
@@ -2,6 +2,7 @@ package io.aiven.klaw.helpers;
 
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
+import io.aiven.klaw.model.RequestStatusEvent;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.OperationalRequestType;
@@ -10,6 +11,8 @@ import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
 import io.aiven.klaw.service.CommonUtilsService;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,6 +58,10 @@ public interface HandleDbRequests {
 
   String insertMetrics(KwMetrics kwMetrics);
 
+  String saveClusterSnapshot(KwClusterSnapshot kwClusterSnapshot);
+
+  KwClusterOperation addClusterOperation(KwClusterOperation kwClusterOperation);
+
   /*--------------------Select */
 
   List<Topic> getAllTopicsByTopicNameAndTeamIdAndTenantId(
@@ -131,6 +138,8 @@ public interface HandleDbRequests {
 
   TopicRequest getTopicRequestsForTopic(int topicId, int tenantId);
 
+  List<TopicRequest> getTopicRequests(Collection<Integer> topicIds, int tenantId);
+
   OperationalRequest getOperationalRequestsForId(int reqId, int tenantId);
 
   KafkaConnectorRequest getConnectorRequestsForConnector(int connectorId, int tenantId);
@@ -248,6 +257,8 @@ public interface HandleDbRequests {
 
   SchemaRequest getSchemaRequest(int avroSchemaId, int tenantId);
 
+  List<SchemaRequest> getSchemaRequests(Collection<Integer> avroSchemaIds, int tenantId);
+
   List<Team> getAllTeamsOfUsers(String username, int tenantId);
 
   List<Team> getAllTeams(int tenantId);
@@ -270,6 +281,15 @@ public interface HandleDbRequests {
 
   int getCountRegisterUsersInfoForTenant(int tenantId);
 
+  /** Counts of the requests of the tenant waiting for approval, kept in memory. */
+  PendingRequestCounts getPendingRequestCounts(int tenantId);
+
+  /** Reloads the counts of the requests waiting for approval from the database. */
+  void reconcilePendingRequestCounts();
+
+  /** Counts a request which was created, approved, declined or deleted through another node. */
+  void applyRequestStatusEvent(RequestStatusEvent event);
+
   List<RegisterUserInfo> getAllRegisterUsersInformation();
 
   RegisterUserInfo getFirstStagingRegisterUsersInfo(String userName);
@@ -280,10 +300,14 @@ public interface HandleDbRequests {
 
   AclRequests getAcl(int req_no, int tenantId);
 
+  List<AclRequests> getAclRequests(Collection<Integer> reqNos, int tenantId);
+
   OperationalRequest getOperationalRequest(int reqId, int tenantId);
 
   List<KwKafkaConnector> getConnectorsFromName(String connectorName, int tenantId);
 
+  List<KwKafkaConnector> getConnectorsFromNames(Collection<String> connectorNames, int tenantId);
+
   List<Topic> getTopicsforTeam(Integer teamId, int tenantId);
 
   List<Acl> getConsumerGroupsforTeam(Integer teamId, int tenantId);
@@ -362,8 +386,15 @@ public interface HandleDbRequests {
   List<CommonUtilsService.ChartsOverviewItem<String, Integer>> getAllTopicsForTeamGroupByEnv(
       Integer teamId, int tenantId);
 
-  List<CommonUtilsService.ChartsOverviewItem<String, Integer>> getAllMetrics(
-      String metricsType, String metricsName, String env);
+  List<CommonUtilsService.ChartsOverviewItem<String, Long>> getAllMetrics(
+      String metricsType, String metricsName, String env, String rollup, int limit);
+
+  Optional<KwClusterSnapshot> getClusterSnapshot(String env, String entityType, int tenantId);
+
+  List<KwClusterOperation> getDueClusterOperations(Timestamp now, int maxOperations);
+
+  /** Operations of any status with the given operation keys, including completed and failed. */
+  List<KwClusterOperation> getClusterOperations(Collection<String> operationKeys);
 
   Optional<MessageSchema> getFirstSchemaForTenantAndEnvAndTopicAndVersion(
       int tenantId, String schemaEnvId, String topicName, String schemaVersion);
@@ -371,6 +402,8 @@ public interface HandleDbRequests {
   List<MessageSchema> getSchemaForTenantAndEnvAndTopic(
       int tenantId, String schemaEnvId, String topicName);
 
+  List<MessageSchema> getSchemasForTenantAndEnv(int tenantId, String schemaEnvId);
+
   /*--------------------Update */
   String updateTopicDocumentation(Topic topic);
 
@@ -378,6 +411,8 @@ public interface HandleDbRequests {
 
   CRUDResponse<Topic> updateTopicRequest(TopicRequest topicRequest, String approver);
 
+  CRUDResponse<Topic> updateTopicRequests(List<TopicRequest> topicRequests, String approver);
+
   String updateOperationalChangeRequest(
       OperationalRequest operationalRequest, String approver, RequestStatus requestStatus);
 
@@ -407,8 +442,23 @@ public interface HandleDbRequests {
 
   String updateDbWithUpdatedVersions(List<MessageSchema> schemaListUpdated);
 
+  String updateSyncedSchemas(
+      List<MessageSchema> schemasToSave,
+      List<MessageSchema> schemasToDelete,
+      Collection<String> topicsToRemove,
+      String schemaEnvId,
+      int tenantId);
+
   String updateSchemaRequestDecline(SchemaRequest schemaRequest, String approver);
 
+  boolean claimClusterOperation(int operationId, Timestamp now);
+
+  boolean renewClusterOperationClaim(int operationId, int attempts, Timestamp now);
+
+  int releaseStaleClusterOperations(Timestamp now, Timestamp staleBefore);
+
+  boolean updateClaimedClusterOperation(KwClusterOperation kwClusterOperation);
+
   String declineTopicRequest(TopicRequest topicRequest, String approver);
 
   String declineConnectorRequest(KafkaConnectorRequest topicRequest, String approver);
@@ -473,6 +523,8 @@ public interface HandleDbRequests {
 
   String deleteTxnData(int tenantId);
 
+  int deleteMetricsOlderThan(String rollup, long metricsTime);
+
   String setTenantActivestatus(int tenantId, boolean status);
 
   String updateTenant(int tenantId, String organizationName);
@@ -123,6 +123,7 @@ public class KwConstants {
   public static final String URI_DELETE_ACLS = "/topics/deleteAcls";
   public static final String URI_GET_TOPICS = "/topics/getTopics/";
   public static final String URI_CREATE_TOPICS = "/topics/createTopics";
+  public static final String URI_CREATE_TOPICS_BATCH = "/topics/createTopicsBatch";
   public static final String URI_UPDATE_TOPICS = "/topics/updateTopics";
   public static final String URI_DELETE_TOPICS = "/topics/deleteTopics";
 
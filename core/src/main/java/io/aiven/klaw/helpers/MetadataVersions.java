@@ -0,0 +1,43 @@
+package io.aiven.klaw.helpers;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the metadata of every tenant, increased when a change to the metadata of the tenant is
+ * committed to the database or loaded in the caches of {@link io.aiven.klaw.config.ManageDatabase}.
+ * Changes to data not belonging to a tenant increase the version of all tenants. The versions are
+ * only known to this instance of klaw, they start again on every start, so the version returned by
+ * {@link #current(int)} includes an id of the instance.
+ */
+public final class MetadataVersions {
+
+  private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+  private static final AtomicLong ALL_TENANTS_VERSION = new AtomicLong();
+
+  private static final ConcurrentMap<Integer, AtomicLong> TENANT_VERSIONS =
+      new ConcurrentHashMap<>();
+
+  private MetadataVersions() {}
+
+  public static void changed(int tenantId) {
+    TENANT_VERSIONS.computeIfAbsent(tenantId, id -> new AtomicLong()).incrementAndGet();
+  }
+
+  public static void changedAllTenants() {
+    ALL_TENANTS_VERSION.incrementAndGet();
+  }
+
+  /** Returns the current version of the metadata of the tenant, to be compared for equality. */
+  public static String current(int tenantId) {
+    AtomicLong tenantVersion = TENANT_VERSIONS.get(tenantId);
+    return INSTANCE_ID
+        + "-"
+        + ALL_TENANTS_VERSION.get()
+        + "-"
+        + (tenantVersion == null ? 0 : tenantVersion.get());
+  }
+}
@@ -0,0 +1,62 @@
+package io.aiven.klaw.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed size, in memory buffer of the most recent metric samples. Once full, every new sample
+ * overwrites the oldest one, so memory use does not grow with the collected history.
+ */
+public class MetricsRingBuffer {
+
+  public record Sample(long time, long value) {}
+
+  private final long[] times;
+  private final long[] values;
+  private int next;
+  private int size;
+
+  public MetricsRingBuffer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1");
+    }
+    times = new long[capacity];
+    values = new long[capacity];
+  }
+
+  public synchronized void add(long time, long value) {
+    times[next] = time;
+    values[next] = value;
+    next = (next + 1) % times.length;
+    size = Math.min(size + 1, times.length);
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  /** Returns up to count of the most recent samples, oldest first. */
+  public synchronized List<Sample> latest(int count) {
+    int resultSize = Math.min(count, size);
+    List<Sample> samples = new ArrayList<>(resultSize);
+    for (int i = resultSize; i > 0; i--) {
+      int index = Math.floorMod(next - i, times.length);
+      samples.add(new Sample(times[index], values[index]));
+    }
+    return samples;
+  }
+
+  /** Returns the last sample taken at or after from and before until, or null if there is none. */
+  public synchronized Sample lastBetween(long from, long until) {
+    for (int i = 1; i <= size; i++) {
+      int index = Math.floorMod(next - i, times.length);
+      if (times[index] >= from && times[index] < until) {
+        return new Sample(times[index], values[index]);
+      }
+      if (times[index] < from) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
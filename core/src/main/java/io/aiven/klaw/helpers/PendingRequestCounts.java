@@ -0,0 +1,166 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.KafkaConnectorRequest;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Counts of the requests of a tenant waiting for approval, per approving team, environment and
+ * requestor. Counting the requests a user can approve only depends on the number of teams and
+ * environments, not on the number of requests.
+ */
+public class PendingRequestCounts {
+
+  public enum RequestKind {
+    TOPIC,
+    // acls approved by the team owning the topic, or by the requesting team on delete requests
+    ACL,
+    // acls of the team which requested them
+    ACL_REQUESTING_TEAM,
+    SCHEMA,
+    CONNECTOR
+  }
+
+  // approving team of requests without one, which are only seen by approvers of all teams
+  private static final int NO_TEAM = -1;
+
+  private final Map<RequestKind, Map<Integer, Map<String, Counter>>> counters =
+      new ConcurrentHashMap<>();
+
+  public void add(RequestKind kind, Integer teamId, String env, String requestor, int delta) {
+    counters
+        .computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(
+            Objects.requireNonNullElse(teamId, NO_TEAM), t -> new ConcurrentHashMap<>())
+        .computeIfAbsent(Objects.requireNonNullElse(env, ""), e -> new Counter())
+        .add(Objects.requireNonNullElse(requestor, ""), delta);
+  }
+
+  public void addTopicRequest(TopicRequest topicRequest, int delta) {
+    addRequest(RequestStatusEvent.of(topicRequest, topicRequest.getRequestStatus(), delta));
+  }
+
+  public void addAclRequest(AclRequests aclRequest, int delta) {
+    addRequest(RequestStatusEvent.of(aclRequest, aclRequest.getRequestStatus(), delta));
+  }
+
+  public void addSchemaRequest(SchemaRequest schemaRequest, int delta) {
+    addRequest(RequestStatusEvent.of(schemaRequest, schemaRequest.getRequestStatus(), delta));
+  }
+
+  public void addConnectorRequest(KafkaConnectorRequest connectorRequest, int delta) {
+    addRequest(RequestStatusEvent.of(connectorRequest, connectorRequest.getRequestStatus(), delta));
+  }
+
+  /** Counts the request of the event as pending or not pending anymore. */
+  public void addRequest(RequestStatusEvent event) {
+    int delta = event.getPendingDelta();
+    switch (event.getRequestEntityType()) {
+      case TOPIC -> add(
+          RequestKind.TOPIC,
+          getApprovingTeam(event),
+          event.getEnvironment(),
+          event.getRequestor(),
+          delta);
+      case ACL -> {
+        add(
+            RequestKind.ACL,
+            RequestOperationType.DELETE.value.equals(event.getRequestOperationType())
+                ? event.getRequestingTeamId()
+                : event.getTeamId(),
+            event.getEnvironment(),
+            event.getRequestor(),
+            delta);
+        add(
+            RequestKind.ACL_REQUESTING_TEAM,
+            event.getRequestingTeamId(),
+            event.getEnvironment(),
+            event.getRequestor(),
+            delta);
+      }
+      case SCHEMA -> add(
+          RequestKind.SCHEMA,
+          event.getTeamId(),
+          event.getEnvironment(),
+          event.getRequestor(),
+          delta);
+      case CONNECTOR -> add(
+          RequestKind.CONNECTOR,
+          getApprovingTeam(event),
+          event.getEnvironment(),
+          event.getRequestor(),
+          delta);
+      default -> {}
+    }
+  }
+
+  /**
+   * @param teamId approving team, or null to count the requests of all teams
+   * @param envs environments the user has access to
+   * @param userName user who is not counted as their own requests cannot be approved by them
+   * @return number of requests the user can approve
+   */
+  public int count(RequestKind kind, Integer teamId, Collection<String> envs, String userName) {
+    Map<Integer, Map<String, Counter>> countersPerTeam = counters.get(kind);
+    if (countersPerTeam == null) {
+      return 0;
+    }
+    if (teamId != null) {
+      return count(countersPerTeam.get(teamId), envs, userName);
+    }
+    int count = 0;
+    for (Map<String, Counter> countersPerEnv : countersPerTeam.values()) {
+      count += count(countersPerEnv, envs, userName);
+    }
+    return count;
+  }
+
+  private static int count(
+      Map<String, Counter> countersPerEnv, Collection<String> envs, String userName) {
+    if (countersPerEnv == null) {
+      return 0;
+    }
+    int count = 0;
+    for (String env : envs) {
+      Counter counter = countersPerEnv.get(env);
+      if (counter != null) {
+        count += counter.countExcluding(userName);
+      }
+    }
+    return count;
+  }
+
+  // claim requests are approved by the team owning the resource
+  private static Integer getApprovingTeam(RequestStatusEvent event) {
+    if (RequestOperationType.CLAIM.value.equals(event.getRequestOperationType())) {
+      return NumberUtils.toInt(event.getApprovingTeamId(), NO_TEAM);
+    }
+    return event.getTeamId();
+  }
+
+  private static class Counter {
+    private final AtomicInteger total = new AtomicInteger();
+    private final Map<String, AtomicInteger> perRequestor = new ConcurrentHashMap<>();
+
+    void add(String requestor, int delta) {
+      total.updateAndGet(value -> Math.max(0, value + delta));
+      perRequestor
+          .computeIfAbsent(requestor, r -> new AtomicInteger())
+          .updateAndGet(value -> Math.max(0, value + delta));
+    }
+
+    int countExcluding(String requestor) {
+      AtomicInteger requestorCount = perRequestor.get(requestor);
+      return Math.max(0, total.get() - (requestorCount == null ? 0 : requestorCount.get()));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
+import io.aiven.klaw.model.RequestStatusEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * The requests waiting for approval which a user is shown: the requests of the teams they approve
+ * for, in the environments they have access to.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingRequestsScope {
+
+  private final int tenantId;
+
+  private final String userName;
+
+  private final Integer teamId;
+
+  // null if the user approves the requests of all teams
+  private final Integer approvingTeamId;
+
+  private final RequestKind aclRequestKind;
+
+  private final Set<String> envs;
+
+  /**
+   * @return number of requests the user can approve, per type of request
+   */
+  public Map<String, Integer> count(PendingRequestCounts pendingRequestCounts) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("topics", count(pendingRequestCounts, RequestKind.TOPIC));
+    counts.put("acls", count(pendingRequestCounts, aclRequestKind));
+    counts.put("schemas", count(pendingRequestCounts, RequestKind.SCHEMA));
+    counts.put("connectors", count(pendingRequestCounts, RequestKind.CONNECTOR));
+    return counts;
+  }
+
+  private int count(PendingRequestCounts pendingRequestCounts, RequestKind kind) {
+    return pendingRequestCounts.count(kind, approvingTeamId, envs, userName);
+  }
+
+  /** Returns true if the request of the event was made by the user or concerns their team. */
+  public boolean follows(RequestStatusEvent event) {
+    if (!Objects.equals(tenantId, event.getTenantId())) {
+      return false;
+    }
+    if (Objects.equals(userName, event.getRequestor())) {
+      return true;
+    }
+    if (!envs.contains(event.getEnvironment())) {
+      return false;
+    }
+    return approvingTeamId == null
+        || Objects.equals(teamId, event.getTeamId())
+        || Objects.equals(teamId, event.getRequestingTeamId())
+        || Objects.equals(teamId, NumberUtils.toInt(event.getApprovingTeamId(), -1));
+  }
+}
@@ -0,0 +1,58 @@
+package io.aiven.klaw.helpers;
+
+/**
+ * Counts the sql statements executed by the current thread within a scope. Scopes nest, a statement
+ * is counted in every scope open on the thread, so a test can count the statements of a request
+ * while the request itself is counted by {@link io.aiven.klaw.config.QueryBudgetFilter}. Statements
+ * run by other threads, like the parallel reconciliation of environments, are not counted in the
+ * scope.
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+  private QueryCounter() {}
+
+  public static final class Scope implements AutoCloseable {
+
+    private final Scope parent;
+    private int queries;
+    private boolean closed;
+
+    private Scope(Scope parent) {
+      this.parent = parent;
+    }
+
+    public int getQueries() {
+      return queries;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (CURRENT_SCOPE.get() == this) {
+        if (parent == null) {
+          CURRENT_SCOPE.remove();
+        } else {
+          CURRENT_SCOPE.set(parent);
+        }
+      }
+    }
+  }
+
+  /** Opens a scope on the current thread, to be closed by the same thread. */
+  public static Scope open() {
+    Scope scope = new Scope(CURRENT_SCOPE.get());
+    CURRENT_SCOPE.set(scope);
+    return scope;
+  }
+
+  public static void increment() {
+    for (Scope scope = CURRENT_SCOPE.get(); scope != null; scope = scope.parent) {
+      scope.queries++;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.aiven.klaw.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and count of the phases of the request handled by the current thread, recorded while {@link
+ * io.aiven.klaw.config.RequestDiagnosticsFilter} diagnoses slow requests. Without a recording on
+ * the thread, {@link #record} returns at once, so the phases cost nothing when the diagnostics are
+ * disabled. Work done by other threads, like the parallel reconciliation of environments, is not
+ * recorded for the request.
+ */
+public final class RequestPhases {
+
+  public enum Phase {
+    DB,
+    CLUSTER_API,
+    SERIALIZATION
+  }
+
+  private static final ThreadLocal<Recording> CURRENT_RECORDING = new ThreadLocal<>();
+
+  private RequestPhases() {}
+
+  public static final class Recording implements AutoCloseable {
+
+    private final int[] counts = new int[Phase.values().length];
+    private final long[] nanos = new long[Phase.values().length];
+
+    private Recording() {}
+
+    public int getCount(Phase phase) {
+      return counts[phase.ordinal()];
+    }
+
+    public long getMillis(Phase phase) {
+      return TimeUnit.NANOSECONDS.toMillis(nanos[phase.ordinal()]);
+    }
+
+    @Override
+    public void close() {
+      if (CURRENT_RECORDING.get() == this) {
+        CURRENT_RECORDING.remove();
+      }
+    }
+  }
+
+  /** Starts recording the phases on the current thread, to be closed by the same thread. */
+  public static Recording start() {
+    Recording recording = new Recording();
+    CURRENT_RECORDING.set(recording);
+    return recording;
+  }
+
+  public static void record(Phase phase, long nanos) {
+    Recording recording = CURRENT_RECORDING.get();
+    if (recording != null) {
+      recording.counts[phase.ordinal()]++;
+      recording.nanos[phase.ordinal()] += nanos;
+    }
+  }
+}
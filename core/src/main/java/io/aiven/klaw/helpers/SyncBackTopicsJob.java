@@ -0,0 +1,113 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.model.response.SyncBackTopicResult;
+import io.aiven.klaw.model.response.SyncBackTopicsJobStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Progress of syncing topics back to a cluster. The topics are created in batches, which complete
+ * in any order, and the outcome of every topic is recorded at the position of the topic in the job,
+ * so the results can be polled while the job is running.
+ */
+public class SyncBackTopicsJob {
+
+  public enum Status {
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final String jobId;
+  private final int tenantId;
+  private final String sourceEnv;
+  private final String targetEnv;
+  private final long startTime;
+  private final SyncBackTopicResult[] results;
+
+  private int processedTopics;
+  private int succeededTopics;
+  private String error;
+  private long endTime;
+
+  public SyncBackTopicsJob(
+      String jobId, int tenantId, String sourceEnv, String targetEnv, int totalTopics) {
+    this.jobId = jobId;
+    this.tenantId = tenantId;
+    this.sourceEnv = sourceEnv;
+    this.targetEnv = targetEnv;
+    this.startTime = System.currentTimeMillis();
+    this.results = new SyncBackTopicResult[totalTopics];
+  }
+
+  public String getJobId() {
+    return jobId;
+  }
+
+  public int getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * @param position position of the topic in the job
+   */
+  public synchronized void addResult(int position, SyncBackTopicResult result) {
+    if (results[position] == null) {
+      processedTopics++;
+      if (result.isSuccess()) {
+        succeededTopics++;
+      }
+    }
+    results[position] = result;
+  }
+
+  /** Records an error which stopped some topics from being created, the first error is kept. */
+  public synchronized void addError(String error) {
+    if (this.error == null) {
+      this.error = error;
+    }
+  }
+
+  public synchronized String getError() {
+    return error;
+  }
+
+  public synchronized void complete() {
+    endTime = System.currentTimeMillis();
+  }
+
+  public synchronized boolean isCompletedBefore(long time) {
+    return endTime != 0 && endTime < time;
+  }
+
+  public synchronized Status getStatus() {
+    if (endTime == 0) {
+      return Status.RUNNING;
+    }
+    return error == null ? Status.COMPLETED : Status.FAILED;
+  }
+
+  /** Outcome of the processed topics, in the order of the topics of the job. */
+  public synchronized List<SyncBackTopicResult> getResults() {
+    return Arrays.stream(results).filter(Objects::nonNull).toList();
+  }
+
+  public synchronized SyncBackTopicsJobStatus toStatus() {
+    SyncBackTopicsJobStatus status = new SyncBackTopicsJobStatus();
+    status.setJobId(jobId);
+    status.setStatus(getStatus().name());
+    status.setSourceEnv(sourceEnv);
+    status.setTargetEnv(targetEnv);
+    status.setTotalTopics(results.length);
+    status.setProcessedTopics(processedTopics);
+    status.setSucceededTopics(succeededTopics);
+    status.setFailedTopics(processedTopics - succeededTopics);
+    status.setStartTime(startTime);
+    status.setEndTime(endTime);
+    status.setError(error);
+    status.setResults(new ArrayList<>(getResults()));
+    return status;
+  }
+}
@@ -0,0 +1,128 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.model.response.TopicConfig;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Diff of the topics on a cluster against the topics Klaw knows for the same environment. Both
+ * sides are joined on the topic name with hash lookups, so the diff is linear in the number of
+ * topics rather than comparing every cluster topic with every Klaw topic. The scaling is measured
+ * by the SyncDiffBenchmark of the benchmarks module.
+ *
+ * <p>A Klaw topic without a team is new, to be assigned a team by the topic sync. A Klaw topic
+ * whose team does not resolve to a team of the tenant, like a team since deleted, is a team
+ * mismatch, which the topic sync does not list, as the team name resolves to UNKNOWN-TEAM.
+ */
+public class TopicSyncDiff {
+
+  public enum Classification {
+    // on the cluster, unknown to Klaw or known without a team
+    NEW,
+    // known to Klaw, no longer on the cluster
+    DELETED,
+    // on both sides, owned by a team of the tenant, with different partitions or replicas
+    PARTITION_REPLICA_MISMATCH,
+    // on both sides, but owned by a team which is not a team of the tenant, or by an unknown team
+    TEAM_MISMATCH,
+    IN_SYNC
+  }
+
+  public record ClusterTopic(
+      TopicConfig topicConfig, Topic sotTopic, Classification classification) {}
+
+  private final List<ClusterTopic> clusterTopics;
+  private final List<Topic> deletedTopics;
+  private final Map<Classification, Integer> counts;
+
+  private TopicSyncDiff(
+      List<ClusterTopic> clusterTopics,
+      List<Topic> deletedTopics,
+      Map<Classification, Integer> counts) {
+    this.clusterTopics = clusterTopics;
+    this.deletedTopics = deletedTopics;
+    this.counts = counts;
+  }
+
+  /**
+   * @param clusterTopics topics retrieved from the cluster of the environment
+   * @param sotTopics topics stored in Klaw for the same environment
+   * @param teamNameOfTopic resolves the name of the team owning a Klaw topic
+   * @param tenantTeams names of the teams of the tenant
+   */
+  public static TopicSyncDiff diff(
+      Collection<TopicConfig> clusterTopics,
+      Collection<Topic> sotTopics,
+      Function<Topic, String> teamNameOfTopic,
+      Set<String> tenantTeams) {
+    Map<String, Topic> sotTopicsByName = new LinkedHashMap<>(Math.max(16, sotTopics.size() * 2));
+    for (Topic sotTopic : sotTopics) {
+      sotTopicsByName.putIfAbsent(sotTopic.getTopicname(), sotTopic);
+    }
+
+    Map<Classification, Integer> counts = new EnumMap<>(Classification.class);
+    List<ClusterTopic> classifiedClusterTopics = new ArrayList<>(clusterTopics.size());
+    Set<String> clusterTopicNames = new HashSet<>(Math.max(16, clusterTopics.size() * 2));
+    for (TopicConfig clusterTopic : clusterTopics) {
+      clusterTopicNames.add(clusterTopic.getTopicName());
+      Topic sotTopic = sotTopicsByName.get(clusterTopic.getTopicName());
+      Classification classification =
+          classify(clusterTopic, sotTopic, teamNameOfTopic, tenantTeams);
+      counts.merge(classification, 1, Integer::sum);
+      classifiedClusterTopics.add(new ClusterTopic(clusterTopic, sotTopic, classification));
+    }
+
+    List<Topic> deletedTopics = new ArrayList<>();
+    for (Topic sotTopic : sotTopicsByName.values()) {
+      if (!clusterTopicNames.contains(sotTopic.getTopicname())
+          && sotTopic.getTeamId() != null
+          && tenantTeams.contains(teamNameOfTopic.apply(sotTopic))) {
+        deletedTopics.add(sotTopic);
+      }
+    }
+    counts.put(Classification.DELETED, deletedTopics.size());
+
+    return new TopicSyncDiff(classifiedClusterTopics, deletedTopics, counts);
+  }
+
+  private static Classification classify(
+      TopicConfig clusterTopic,
+      Topic sotTopic,
+      Function<Topic, String> teamNameOfTopic,
+      Set<String> tenantTeams) {
+    if (sotTopic == null || sotTopic.getTeamId() == null) {
+      return Classification.NEW;
+    }
+    if (!tenantTeams.contains(teamNameOfTopic.apply(sotTopic))) {
+      return Classification.TEAM_MISMATCH;
+    }
+    if (!Objects.equals(clusterTopic.getPartitions(), String.valueOf(sotTopic.getNoOfPartitions()))
+        || !Objects.equals(clusterTopic.getReplicationFactor(), sotTopic.getNoOfReplicas())) {
+      return Classification.PARTITION_REPLICA_MISMATCH;
+    }
+    return Classification.IN_SYNC;
+  }
+
+  /** Cluster topics in the order of the cluster topics given to the diff. */
+  public List<ClusterTopic> getClusterTopics() {
+    return clusterTopics;
+  }
+
+  /** Klaw topics owned by a team of the tenant, which are no longer on the cluster. */
+  public List<Topic> getDeletedTopics() {
+    return deletedTopics;
+  }
+
+  public int getCount(Classification classification) {
+    return counts.getOrDefault(classification, 0);
+  }
+}
@@ -68,6 +68,9 @@ public class DeleteDataJdbc {
   @Autowired(required = false)
   private TenantRepo tenantRepo;
 
+  @Autowired(required = false)
+  private KwMetricsRepo kwMetricsRepo;
+
   public DeleteDataJdbc() {}
 
   public DeleteDataJdbc(
@@ -328,6 +331,11 @@ public class DeleteDataJdbc {
     return ApiResultStatus.SUCCESS.value;
   }
 
+  @Transactional
+  public int deleteMetricsOlderThan(String rollup, long metricsTime) {
+    return kwMetricsRepo.deleteByRollupAndMetricsTimeBefore(rollup, metricsTime);
+  }
+
   public String deleteTenant(int tenantId) {
     KwTenants kwTenants = new KwTenants();
     kwTenants.setTenantId(tenantId);
@@ -3,7 +3,10 @@ package io.aiven.klaw.helpers.db.rdbms;
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.PendingRequestCounts;
+import io.aiven.klaw.model.RequestStatusEvent;
 import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.OperationalRequestType;
 import io.aiven.klaw.model.enums.RequestMode;
@@ -11,12 +14,18 @@ import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
 import io.aiven.klaw.service.CommonUtilsService;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -36,18 +45,39 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Autowired DeleteDataJdbc jdbcDeleteHelper;
 
+  @Autowired ApplicationEventPublisher applicationEventPublisher;
+
+  // loaded on first use, then kept up to date with the requests created, approved, declined and
+  // deleted through this node and reconciled with the database by reconcilePendingRequestCounts
+  private final Map<Integer, PendingRequestCounts> pendingRequestCountsPerTenant =
+      new ConcurrentHashMap<>();
+
   /*--------------------Insert */
 
   public Map<String, String> requestForTopic(TopicRequest topicRequest) {
-    return jdbcInsertHelper.insertIntoRequestTopic(topicRequest);
+    Map<String, String> result = jdbcInsertHelper.insertIntoRequestTopic(topicRequest);
+    if (isPending(topicRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(topicRequest, topicRequest.getRequestStatus(), 1));
+    }
+    return result;
   }
 
   public Map<String, String> requestForConnector(KafkaConnectorRequest connectorRequest) {
-    return jdbcInsertHelper.insertIntoRequestConnector(connectorRequest);
+    Map<String, String> result = jdbcInsertHelper.insertIntoRequestConnector(connectorRequest);
+    if (isPending(connectorRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(connectorRequest, connectorRequest.getRequestStatus(), 1));
+    }
+    return result;
   }
 
   public Map<String, String> requestForAcl(AclRequests aclReq) {
-    return jdbcInsertHelper.insertIntoRequestAcl(aclReq);
+    Map<String, String> result = jdbcInsertHelper.insertIntoRequestAcl(aclReq);
+    if (isPending(aclReq.getRequestStatus())) {
+      updatePendingRequestCounts(RequestStatusEvent.of(aclReq, aclReq.getRequestStatus(), 1));
+    }
+    return result;
   }
 
   @Override
@@ -78,7 +108,12 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public String requestForSchema(SchemaRequest schemaRequest) {
-    return jdbcInsertHelper.insertIntoRequestSchema(schemaRequest);
+    String result = jdbcInsertHelper.insertIntoRequestSchema(schemaRequest);
+    if (isPending(schemaRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(schemaRequest, schemaRequest.getRequestStatus(), 1));
+    }
+    return result;
   }
 
   public CRUDResponse<Topic> addToSynctopics(List<Topic> topicRequests) {
@@ -118,6 +153,16 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcInsertHelper.insertMetrics(kwMetrics);
   }
 
+  @Override
+  public String saveClusterSnapshot(KwClusterSnapshot kwClusterSnapshot) {
+    return jdbcInsertHelper.saveClusterSnapshot(kwClusterSnapshot);
+  }
+
+  @Override
+  public KwClusterOperation addClusterOperation(KwClusterOperation kwClusterOperation) {
+    return jdbcInsertHelper.insertClusterOperation(kwClusterOperation);
+  }
+
   @Override
   public List<Topic> getAllTopicsByTopicNameAndTeamIdAndTenantId(
       String topicName, int teamId, int tenantId) {
@@ -296,6 +341,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectTopicRequestsForTopic(topicId, tenantId);
   }
 
+  @Override
+  public List<TopicRequest> getTopicRequests(Collection<Integer> topicIds, int tenantId) {
+    return jdbcSelectHelper.selectTopicRequests(topicIds, tenantId);
+  }
+
   public OperationalRequest getOperationalRequestsForId(int reqId, int tenantId) {
     return jdbcSelectHelper.selectOperationalRequestsForId(reqId, tenantId);
   }
@@ -558,6 +608,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectSchemaRequest(avroSchemaId, tenantId);
   }
 
+  @Override
+  public List<SchemaRequest> getSchemaRequests(Collection<Integer> avroSchemaIds, int tenantId) {
+    return jdbcSelectHelper.selectSchemaRequests(avroSchemaIds, tenantId);
+  }
+
   @Override
   public List<Team> getAllTeamsOfUsers(String username, int tenantId) {
     return jdbcSelectHelper.selectTeamsOfUsers(username, tenantId);
@@ -637,6 +692,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectAcl(req_no, tenantId);
   }
 
+  @Override
+  public List<AclRequests> getAclRequests(Collection<Integer> reqNos, int tenantId) {
+    return jdbcSelectHelper.selectAclRequests(reqNos, tenantId);
+  }
+
   @Override
   public OperationalRequest getOperationalRequest(int reqId, int tenantId) {
     return jdbcSelectHelper.selectOperationalRequest(reqId, tenantId);
@@ -646,6 +706,12 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectConnectorDetails(connectorName, tenantId);
   }
 
+  @Override
+  public List<KwKafkaConnector> getConnectorsFromNames(
+      Collection<String> connectorNames, int tenantId) {
+    return jdbcSelectHelper.selectConnectorDetails(connectorNames, tenantId);
+  }
+
   @Override
   public List<Topic> getTopicsforTeam(Integer teamId, int tenantId) {
     return jdbcSelectHelper.getTopicsforTeam(teamId, tenantId);
@@ -835,9 +901,25 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
-  public List<CommonUtilsService.ChartsOverviewItem<String, Integer>> getAllMetrics(
-      String metricsType, String metricsName, String env) {
-    return jdbcSelectHelper.selectAllMetrics(metricsType, metricsName, env);
+  public List<CommonUtilsService.ChartsOverviewItem<String, Long>> getAllMetrics(
+      String metricsType, String metricsName, String env, String rollup, int limit) {
+    return jdbcSelectHelper.selectAllMetrics(metricsType, metricsName, env, rollup, limit);
+  }
+
+  @Override
+  public Optional<KwClusterSnapshot> getClusterSnapshot(
+      String env, String entityType, int tenantId) {
+    return jdbcSelectHelper.selectClusterSnapshot(env, entityType, tenantId);
+  }
+
+  @Override
+  public List<KwClusterOperation> getDueClusterOperations(Timestamp now, int maxOperations) {
+    return jdbcSelectHelper.selectDueClusterOperations(now, maxOperations);
+  }
+
+  @Override
+  public List<KwClusterOperation> getClusterOperations(Collection<String> operationKeys) {
+    return jdbcSelectHelper.selectClusterOperations(operationKeys);
   }
 
   @Override
@@ -853,6 +935,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.getSchemaForTenantAndEnvAndTopic(tenantId, schemaEnvId, topicName);
   }
 
+  @Override
+  public List<MessageSchema> getSchemasForTenantAndEnv(int tenantId, String schemaEnvId) {
+    return jdbcSelectHelper.getSchemasForTenantAndEnv(tenantId, schemaEnvId);
+  }
+
   /*--------------------Update */
 
   @Override
@@ -867,7 +954,22 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public CRUDResponse<Topic> updateTopicRequest(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.updateTopicRequest(topicRequest, approver);
+    boolean wasPending = isPending(topicRequest.getRequestStatus());
+    CRUDResponse<Topic> result = jdbcUpdateHelper.updateTopicRequest(topicRequest, approver);
+    closePendingTopicRequest(topicRequest, wasPending);
+    return result;
+  }
+
+  @Override
+  public CRUDResponse<Topic> updateTopicRequests(
+      List<TopicRequest> topicRequests, String approver) {
+    List<TopicRequest> pendingRequests =
+        topicRequests.stream()
+            .filter(topicRequest -> isPending(topicRequest.getRequestStatus()))
+            .toList();
+    CRUDResponse<Topic> result = jdbcUpdateHelper.updateTopicRequests(topicRequests, approver);
+    pendingRequests.forEach(topicRequest -> closePendingTopicRequest(topicRequest, true));
+    return result;
   }
 
   @Override
@@ -879,36 +981,57 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String updateConnectorRequest(KafkaConnectorRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.updateConnectorRequest(topicRequest, approver);
+    boolean wasPending = isPending(topicRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.updateConnectorRequest(topicRequest, approver);
+    closePendingConnectorRequest(topicRequest, wasPending);
+    return result;
   }
 
   @Override
   public String updateTopicRequestStatus(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.updateTopicRequestStatus(topicRequest, approver);
+    boolean wasPending = isPending(topicRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.updateTopicRequestStatus(topicRequest, approver);
+    closePendingTopicRequest(topicRequest, wasPending);
+    return result;
   }
 
   @Override
   public String updateConnectorRequestStatus(
       KafkaConnectorRequest connectorRequest, String approver) {
-    return jdbcUpdateHelper.updateConnectorRequestStatus(connectorRequest, approver);
+    boolean wasPending = isPending(connectorRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.updateConnectorRequestStatus(connectorRequest, approver);
+    closePendingConnectorRequest(connectorRequest, wasPending);
+    return result;
   }
 
   public String declineTopicRequest(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.declineTopicRequest(topicRequest, approver);
+    boolean wasPending = isPending(topicRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.declineTopicRequest(topicRequest, approver);
+    closePendingTopicRequest(topicRequest, wasPending);
+    return result;
   }
 
   public String declineConnectorRequest(KafkaConnectorRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.declineConnectorRequest(topicRequest, approver);
+    boolean wasPending = isPending(topicRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.declineConnectorRequest(topicRequest, approver);
+    closePendingConnectorRequest(topicRequest, wasPending);
+    return result;
   }
 
   @Override
   public String declineAclRequest(AclRequests aclReq, String approver) {
-    return jdbcUpdateHelper.declineAclRequest(aclReq, approver);
+    boolean wasPending = isPending(aclReq.getRequestStatus());
+    String result = jdbcUpdateHelper.declineAclRequest(aclReq, approver);
+    closePendingAclRequest(aclReq, wasPending);
+    return result;
   }
 
   public String updateAclRequest(
       AclRequests aclReq, String approver, Map<String, String> jsonParams, boolean saveReqOnly) {
-    return jdbcUpdateHelper.updateAclRequest(aclReq, approver, jsonParams, saveReqOnly);
+    boolean wasPending = isPending(aclReq.getRequestStatus());
+    String result = jdbcUpdateHelper.updateAclRequest(aclReq, approver, jsonParams, saveReqOnly);
+    closePendingAclRequest(aclReq, wasPending);
+    return result;
   }
 
   @Override
@@ -917,12 +1040,18 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public String updateSchemaRequest(SchemaRequest schemaRequest, String approver) {
-    return jdbcUpdateHelper.updateSchemaRequest(schemaRequest, approver);
+    boolean wasPending = isPending(schemaRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.updateSchemaRequest(schemaRequest, approver);
+    closePendingSchemaRequest(schemaRequest, wasPending);
+    return result;
   }
 
   @Override
   public String updateSchemaRequestDecline(SchemaRequest schemaRequest, String approver) {
-    return jdbcUpdateHelper.updateSchemaRequestDecline(schemaRequest, approver);
+    boolean wasPending = isPending(schemaRequest.getRequestStatus());
+    String result = jdbcUpdateHelper.updateSchemaRequestDecline(schemaRequest, approver);
+    closePendingSchemaRequest(schemaRequest, wasPending);
+    return result;
   }
 
   public String updatePassword(String username, String pwd) {
@@ -962,12 +1091,32 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   /*--------------------Delete */
   @Override
   public String deleteConnectorRequest(int connectorId, int tenantId) {
-    return jdbcDeleteHelper.deleteConnectorRequest(connectorId, tenantId);
+    KafkaConnectorRequest connectorRequest =
+        getPendingRequest(
+            tenantId,
+            () -> jdbcSelectHelper.selectConnectorRequestsForConnector(connectorId, tenantId),
+            KafkaConnectorRequest::getRequestStatus);
+    String result = jdbcDeleteHelper.deleteConnectorRequest(connectorId, tenantId);
+    if (connectorRequest != null) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(connectorRequest, RequestStatus.DELETED.value, -1));
+    }
+    return result;
   }
 
   @Override
   public String deleteTopicRequest(int topicId, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteTopicRequest(topicId, userName, tenantId);
+    TopicRequest topicRequest =
+        getPendingRequest(
+            tenantId,
+            () -> jdbcSelectHelper.selectTopicRequestsForTopic(topicId, tenantId),
+            TopicRequest::getRequestStatus);
+    String result = jdbcDeleteHelper.deleteTopicRequest(topicId, userName, tenantId);
+    if (topicRequest != null && result.equals(ApiResultStatus.SUCCESS.value)) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(topicRequest, RequestStatus.DELETED.value, -1));
+    }
+    return result;
   }
 
   @Override
@@ -987,7 +1136,17 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteAclRequest(int req_no, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteAclRequest(req_no, userName, tenantId);
+    AclRequests aclRequest =
+        getPendingRequest(
+            tenantId,
+            () -> jdbcSelectHelper.selectAcl(req_no, tenantId),
+            AclRequests::getRequestStatus);
+    String result = jdbcDeleteHelper.deleteAclRequest(req_no, userName, tenantId);
+    if (aclRequest != null && result.equals(ApiResultStatus.SUCCESS.value)) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(aclRequest, RequestStatus.DELETED.value, -1));
+    }
+    return result;
   }
 
   @Override
@@ -1017,7 +1176,17 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteSchemaRequest(int schemaId, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteSchemaRequest(schemaId, userName, tenantId);
+    SchemaRequest schemaRequest =
+        getPendingRequest(
+            tenantId,
+            () -> jdbcSelectHelper.selectSchemaRequest(schemaId, tenantId),
+            SchemaRequest::getRequestStatus);
+    String result = jdbcDeleteHelper.deleteSchemaRequest(schemaId, userName, tenantId);
+    if (schemaRequest != null && result.equals(ApiResultStatus.SUCCESS.value)) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(schemaRequest, RequestStatus.DELETED.value, -1));
+    }
+    return result;
   }
 
   @Override
@@ -1065,6 +1234,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcDeleteHelper.deleteTxnData(tenantId);
   }
 
+  @Override
+  public int deleteMetricsOlderThan(String rollup, long metricsTime) {
+    return jdbcDeleteHelper.deleteMetricsOlderThan(rollup, metricsTime);
+  }
+
   @Override
   public String setTenantActivestatus(int tenantId, boolean status) {
     return jdbcUpdateHelper.setTenantActivestatus(tenantId, status);
@@ -1220,4 +1394,114 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   public String updateDbWithUpdatedVersions(List<MessageSchema> schemaListUpdated) {
     return jdbcUpdateHelper.updateDbWithUpdatedVersions(schemaListUpdated);
   }
+
+  @Override
+  public String updateSyncedSchemas(
+      List<MessageSchema> schemasToSave,
+      List<MessageSchema> schemasToDelete,
+      Collection<String> topicsToRemove,
+      String schemaEnvId,
+      int tenantId) {
+    return jdbcUpdateHelper.updateSyncedSchemas(
+        schemasToSave, schemasToDelete, topicsToRemove, schemaEnvId, tenantId);
+  }
+
+  @Override
+  public boolean claimClusterOperation(int operationId, Timestamp now) {
+    return jdbcUpdateHelper.claimClusterOperation(operationId, now);
+  }
+
+  @Override
+  public boolean renewClusterOperationClaim(int operationId, int attempts, Timestamp now) {
+    return jdbcUpdateHelper.renewClusterOperationClaim(operationId, attempts, now);
+  }
+
+  @Override
+  public int releaseStaleClusterOperations(Timestamp now, Timestamp staleBefore) {
+    return jdbcUpdateHelper.releaseStaleClusterOperations(now, staleBefore);
+  }
+
+  @Override
+  public boolean updateClaimedClusterOperation(KwClusterOperation kwClusterOperation) {
+    return jdbcUpdateHelper.updateClaimedClusterOperation(kwClusterOperation);
+  }
+
+  /*--------------------Pending request counts */
+
+  @Override
+  public PendingRequestCounts getPendingRequestCounts(int tenantId) {
+    return pendingRequestCountsPerTenant.computeIfAbsent(
+        tenantId, jdbcSelectHelper::selectPendingRequestCounts);
+  }
+
+  @Override
+  public void reconcilePendingRequestCounts() {
+    for (Integer tenantId : pendingRequestCountsPerTenant.keySet()) {
+      pendingRequestCountsPerTenant.put(
+          tenantId, jdbcSelectHelper.selectPendingRequestCounts(tenantId));
+    }
+  }
+
+  private static boolean isPending(String requestStatus) {
+    return RequestStatus.CREATED.value.equals(requestStatus);
+  }
+
+  @Override
+  public void applyRequestStatusEvent(RequestStatusEvent event) {
+    if (event.getTenantId() == null) {
+      return;
+    }
+    // counts of tenants which are not loaded yet are read from the database on first use
+    PendingRequestCounts pendingRequestCounts =
+        pendingRequestCountsPerTenant.get(event.getTenantId());
+    if (pendingRequestCounts != null) {
+      pendingRequestCounts.addRequest(event);
+    }
+  }
+
+  private void updatePendingRequestCounts(RequestStatusEvent event) {
+    if (event.getTenantId() == null) {
+      return;
+    }
+    applyRequestStatusEvent(event);
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  private <T> T getPendingRequest(
+      int tenantId, Supplier<T> requestSupplier, Function<T, String> requestStatus) {
+    if (!pendingRequestCountsPerTenant.containsKey(tenantId)) {
+      return null;
+    }
+    T request = requestSupplier.get();
+    return request != null && isPending(requestStatus.apply(request)) ? request : null;
+  }
+
+  private void closePendingTopicRequest(TopicRequest topicRequest, boolean wasPending) {
+    if (wasPending && !isPending(topicRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(topicRequest, topicRequest.getRequestStatus(), -1));
+    }
+  }
+
+  private void closePendingAclRequest(AclRequests aclRequest, boolean wasPending) {
+    if (wasPending && !isPending(aclRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(aclRequest, aclRequest.getRequestStatus(), -1));
+    }
+  }
+
+  private void closePendingSchemaRequest(SchemaRequest schemaRequest, boolean wasPending) {
+    if (wasPending && !isPending(schemaRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(schemaRequest, schemaRequest.getRequestStatus(), -1));
+    }
+  }
+
+  private void closePendingConnectorRequest(
+      KafkaConnectorRequest connectorRequest, boolean wasPending) {
+    if (wasPending && !isPending(connectorRequest.getRequestStatus())) {
+      updatePendingRequestCounts(
+          RequestStatusEvent.of(connectorRequest, connectorRequest.getRequestStatus(), -1));
+    }
+  }
 }
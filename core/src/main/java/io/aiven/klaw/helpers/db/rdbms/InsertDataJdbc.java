@@ -2,6 +2,7 @@ package io.aiven.klaw.helpers.db.rdbms;
 
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.*;
@@ -15,6 +16,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -86,6 +88,12 @@ public class InsertDataJdbc {
   @Autowired(required = false)
   private KwEntitySequenceRepo kwEntitySequenceRepo;
 
+  @Autowired(required = false)
+  private KwClusterSnapshotRepo kwClusterSnapshotRepo;
+
+  @Autowired(required = false)
+  private KwClusterOperationRepo kwClusterOperationRepo;
+
   @Autowired private SelectDataJdbc jdbcSelectHelper;
 
   public InsertDataJdbc() {}
@@ -339,14 +347,19 @@ public class InsertDataJdbc {
   }
 
   public synchronized String insertIntoMessageSchemaSOT(List<MessageSchema> schemas) {
-
+    // the next id is looked up once per tenant, not once per schema
+    Map<Integer, Integer> nextSchemaIds = new HashMap<>();
     for (MessageSchema mSchema : schemas) {
       log.debug("insertIntoMessageSchemaSOT {}", mSchema.getTopicname());
       if (mSchema.getReq_no() == null) {
-        mSchema.setReq_no(getNextSchemaRequestId("SCHEMA_ID", mSchema.getTenantId()));
+        int schemaId =
+            nextSchemaIds.computeIfAbsent(
+                mSchema.getTenantId(), tenantId -> getNextSchemaRequestId("SCHEMA_ID", tenantId));
+        mSchema.setReq_no(schemaId);
+        nextSchemaIds.put(mSchema.getTenantId(), schemaId + 1);
       }
-      messageSchemaRepo.save(mSchema);
     }
+    messageSchemaRepo.saveAll(schemas);
     return ApiResultStatus.SUCCESS.value;
   }
 
@@ -572,6 +585,34 @@ public class InsertDataJdbc {
     return ApiResultStatus.SUCCESS.value;
   }
 
+  public String saveClusterSnapshot(KwClusterSnapshot kwClusterSnapshot) {
+    kwClusterSnapshotRepo.save(kwClusterSnapshot);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  /**
+   * Adds the cluster operation to the outbox, unless an operation with the same key is still
+   * pending or running, in which case that operation is returned instead. The unique active key
+   * keeps a single active operation per key, also when the same request is approved concurrently.
+   */
+  public KwClusterOperation insertClusterOperation(KwClusterOperation kwClusterOperation) {
+    String operationKey = kwClusterOperation.getOperationKey();
+    Optional<KwClusterOperation> activeOperation =
+        kwClusterOperationRepo.findByActiveKey(operationKey);
+    if (activeOperation.isPresent()) {
+      return activeOperation.get();
+    }
+
+    kwClusterOperation.setActiveKey(
+        ClusterOperationStatus.isActive(kwClusterOperation.getStatus()) ? operationKey : null);
+    try {
+      return kwClusterOperationRepo.save(kwClusterOperation);
+    } catch (DataIntegrityViolationException e) {
+      // added by a concurrent approval since, which is going to apply the request
+      return kwClusterOperationRepo.findByActiveKey(operationKey).orElseThrow(() -> e);
+    }
+  }
+
   public String insertDefaultKwProperties(List<KwProperties> kwPropertiesList) {
     kwPropertiesRepo.saveAll(kwPropertiesList);
     return ApiResultStatus.SUCCESS.value;
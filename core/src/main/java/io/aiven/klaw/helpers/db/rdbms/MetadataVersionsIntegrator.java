@@ -0,0 +1,94 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import io.aiven.klaw.dao.KwMetrics;
+import io.aiven.klaw.helpers.MetadataVersions;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+/**
+ * Increases the {@link MetadataVersions} of the tenant of every entity inserted, updated or
+ * deleted, once the change is committed. The version is increased after the commit, so that a
+ * request reading the version before the change can't be answered with the data from before the
+ * change under the version after it.
+ */
+public class MetadataVersionsIntegrator
+    implements Integrator,
+        PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+  private static final String TENANT_ID_PROPERTY = "tenantId";
+
+  @Override
+  public void integrate(
+      Metadata metadata,
+      BootstrapContext bootstrapContext,
+      SessionFactoryImplementor sessionFactory) {
+    EventListenerRegistry eventListenerRegistry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void disintegrate(
+      SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    // metrics are written every minute and are not shown by the versioned endpoints
+    return !KwMetrics.class.equals(persister.getMappedClass());
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    changed(event.getEntity());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    changed(event.getEntity());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    changed(event.getEntity());
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+
+  static void changed(Object entity) {
+    if (entity instanceof KwMetrics) {
+      return;
+    }
+    BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+    if (beanWrapper.isReadableProperty(TENANT_ID_PROPERTY)
+        && beanWrapper.getPropertyValue(TENANT_ID_PROPERTY) instanceof Integer tenantId) {
+      MetadataVersions.changed(tenantId);
+    } else {
+      MetadataVersions.changedAllTenants();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import io.aiven.klaw.helpers.QueryCounter;
+import io.aiven.klaw.helpers.RequestPhases;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts every execution of a statement on the connections of the target data source in the {@link
+ * QueryCounter} scopes of the executing thread, and its time in the {@link RequestPhases} of the
+ * request. A batch is counted once, as it is sent to the database in one round trip.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  public QueryCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  /** Closes the target data source, like the pool of connections, on shutdown. */
+  @Override
+  public void close() throws Exception {
+    if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private static Connection countingConnection(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            QueryCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              Object result = invoke(proxy, connection, method, args);
+              if (result instanceof Statement statement) {
+                return countingStatement(statement);
+              }
+              return result;
+            });
+  }
+
+  private static Statement countingStatement(Statement statement) {
+    Class<?> statementType =
+        statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          if (!method.getName().startsWith("execute")) {
+            return invoke(proxy, statement, method, args);
+          }
+          QueryCounter.increment();
+          long start = System.nanoTime();
+          try {
+            return invoke(proxy, statement, method, args);
+          } finally {
+            RequestPhases.record(RequestPhases.Phase.DB, System.nanoTime() - start);
+          }
+        };
+    return (Statement)
+        Proxy.newProxyInstance(
+            QueryCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {statementType},
+            handler);
+  }
+
+  private static Object invoke(Object proxy, Object target, Method method, Object[] args)
+      throws Throwable {
+    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+      return proxy == args[0];
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -5,8 +5,10 @@ import static io.aiven.klaw.helpers.KwConstants.REQUESTOR_SUBSCRIPTIONS;
 
 import com.google.common.collect.Lists;
 import io.aiven.klaw.dao.*;
+import io.aiven.klaw.helpers.PendingRequestCounts;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.OperationalRequestType;
 import io.aiven.klaw.model.enums.RequestMode;
@@ -15,7 +17,9 @@ import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
 import io.aiven.klaw.repository.*;
 import io.aiven.klaw.service.CommonUtilsService;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -33,6 +37,7 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -102,6 +107,12 @@ public class SelectDataJdbc {
   @Autowired(required = false)
   private KwEntitySequenceRepo kwEntitySequenceRepo;
 
+  @Autowired(required = false)
+  private KwClusterSnapshotRepo kwClusterSnapshotRepo;
+
+  @Autowired(required = false)
+  private KwClusterOperationRepo kwClusterOperationRepo;
+
   public boolean existsAclRequest(
       String topicName, String requestStatus, String env, int tenantId) {
     return aclRequestsRepo.existsByTenantIdAndEnvironmentAndRequestStatusAndTopicname(
@@ -376,6 +387,14 @@ public class SelectDataJdbc {
     return topicOpt.isEmpty() ? Collections.emptyList() : topicOpt;
   }
 
+  public List<KwKafkaConnector> selectConnectorDetails(
+      Collection<String> connectorNames, int tenantId) {
+    if (connectorNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return kafkaConnectorRepo.findAllByTenantIdAndConnectorNameIn(tenantId, connectorNames);
+  }
+
   // "All teams"
   // teamId 1 is All teams
   public List<Topic> selectSyncTopics(String env, Integer teamId, int tenantId) {
@@ -902,6 +921,39 @@ public class SelectDataJdbc {
     return aclReq.orElse(null);
   }
 
+  public List<TopicRequest> selectTopicRequests(Collection<Integer> topicIds, int tenantId) {
+    log.debug("selectTopicRequests {}", topicIds);
+    List<TopicRequestID> topicRequestIds = new ArrayList<>(topicIds.size());
+    for (Integer topicId : topicIds) {
+      TopicRequestID topicRequestID = new TopicRequestID();
+      topicRequestID.setTenantId(tenantId);
+      topicRequestID.setTopicid(topicId);
+      topicRequestIds.add(topicRequestID);
+    }
+    return Lists.newArrayList(topicRequestsRepo.findAllById(topicRequestIds));
+  }
+
+  public List<AclRequests> selectAclRequests(Collection<Integer> reqNos, int tenantId) {
+    log.debug("selectAclRequests {}", reqNos);
+    List<AclRequestID> aclRequestIds = new ArrayList<>(reqNos.size());
+    for (Integer reqNo : reqNos) {
+      AclRequestID aclRequestID = new AclRequestID();
+      aclRequestID.setReq_no(reqNo);
+      aclRequestID.setTenantId(tenantId);
+      aclRequestIds.add(aclRequestID);
+    }
+    return Lists.newArrayList(aclRequestsRepo.findAllById(aclRequestIds));
+  }
+
+  public List<SchemaRequest> selectSchemaRequests(Collection<Integer> avroSchemaIds, int tenantId) {
+    log.debug("selectSchemaRequests {}", avroSchemaIds);
+    List<SchemaRequestID> schemaRequestIds = new ArrayList<>(avroSchemaIds.size());
+    for (Integer avroSchemaId : avroSchemaIds) {
+      schemaRequestIds.add(new SchemaRequestID(avroSchemaId, tenantId));
+    }
+    return Lists.newArrayList(schemaRequestRepo.findAllById(schemaRequestIds));
+  }
+
   public List<UserInfo> selectAllUsersInfo(int tenantId) {
     return userInfoRepo.findAllByTenantId(tenantId);
   }
@@ -1057,6 +1109,49 @@ public class SelectDataJdbc {
     return registerInfoRepo.countByStatusAndTenantId("PENDING", tenantId);
   }
 
+  public PendingRequestCounts selectPendingRequestCounts(int tenantId) {
+    PendingRequestCounts pendingRequestCounts = new PendingRequestCounts();
+    for (Object[] row : topicRequestsRepo.findCreatedRequestsCount(tenantId)) {
+      TopicRequest topicRequest = new TopicRequest();
+      topicRequest.setTeamId(toInteger(row[0]));
+      topicRequest.setApprovingTeamId((String) row[1]);
+      topicRequest.setRequestOperationType((String) row[2]);
+      topicRequest.setEnvironment((String) row[3]);
+      topicRequest.setRequestor((String) row[4]);
+      pendingRequestCounts.addTopicRequest(topicRequest, toInteger(row[5]));
+    }
+    for (Object[] row : aclRequestsRepo.findCreatedRequestsCount(tenantId)) {
+      AclRequests aclRequest = new AclRequests();
+      aclRequest.setTeamId(toInteger(row[0]));
+      aclRequest.setRequestingteam(toInteger(row[1]));
+      aclRequest.setRequestOperationType((String) row[2]);
+      aclRequest.setEnvironment((String) row[3]);
+      aclRequest.setRequestor((String) row[4]);
+      pendingRequestCounts.addAclRequest(aclRequest, toInteger(row[5]));
+    }
+    for (Object[] row : schemaRequestRepo.findCreatedRequestsCount(tenantId)) {
+      SchemaRequest schemaRequest = new SchemaRequest();
+      schemaRequest.setTeamId(toInteger(row[0]));
+      schemaRequest.setEnvironment((String) row[1]);
+      schemaRequest.setRequestor((String) row[2]);
+      pendingRequestCounts.addSchemaRequest(schemaRequest, toInteger(row[3]));
+    }
+    for (Object[] row : kafkaConnectorRequestsRepo.findCreatedRequestsCount(tenantId)) {
+      KafkaConnectorRequest connectorRequest = new KafkaConnectorRequest();
+      connectorRequest.setTeamId(toInteger(row[0]));
+      connectorRequest.setApprovingTeamId((String) row[1]);
+      connectorRequest.setRequestOperationType((String) row[2]);
+      connectorRequest.setEnvironment((String) row[3]);
+      connectorRequest.setRequestor((String) row[4]);
+      pendingRequestCounts.addConnectorRequest(connectorRequest, toInteger(row[5]));
+    }
+    return pendingRequestCounts;
+  }
+
+  private static Integer toInteger(Object value) {
+    return value == null ? null : ((Number) value).intValue();
+  }
+
   public List<RegisterUserInfo> selectAllRegisterUsersInfo() {
     return registerInfoRepo.findAllByStatus("PENDING");
   }
@@ -1292,17 +1387,18 @@ public class SelectDataJdbc {
     return totalTopicCount;
   }
 
-  public List<CommonUtilsService.ChartsOverviewItem<String, Integer>> selectAllMetrics(
-      String metricsType, String metricsName, String env) {
-    List<CommonUtilsService.ChartsOverviewItem<String, Integer>> metricsCount = new ArrayList<>();
+  public List<CommonUtilsService.ChartsOverviewItem<String, Long>> selectAllMetrics(
+      String metricsType, String metricsName, String env, String rollup, int limit) {
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metricsCount = new ArrayList<>();
     try {
       List<Object[]> metrics =
-          kwMetricsRepo.findAllByEnvAndMetricsTypeAndMetricsName(env, metricsType, metricsName);
+          kwMetricsRepo.findAllByEnvAndMetricsTypeAndMetricsNameAndRollup(
+              env, metricsType, metricsName, rollup, limit);
 
       for (Object[] kwMetrics : metrics) {
         metricsCount.add(
             CommonUtilsService.ChartsOverviewItem.of(
-                (String) kwMetrics[0], Integer.parseInt(kwMetrics[1].toString())));
+                (String) kwMetrics[0], Long.parseLong(kwMetrics[1].toString())));
       }
     } catch (Exception e) {
       log.error("Error from selectAllMetrics ", e);
@@ -1310,6 +1406,20 @@ public class SelectDataJdbc {
     return metricsCount;
   }
 
+  public Optional<KwClusterSnapshot> selectClusterSnapshot(
+      String env, String entityType, int tenantId) {
+    return kwClusterSnapshotRepo.findById(new KwClusterSnapshotID(tenantId, env, entityType));
+  }
+
+  public List<KwClusterOperation> selectDueClusterOperations(Timestamp now, int maxOperations) {
+    return kwClusterOperationRepo.findAllByStatusAndNextAttemptTimeLessThanEqualOrderByIdAsc(
+        ClusterOperationStatus.PENDING.value, now, PageRequest.of(0, maxOperations));
+  }
+
+  public List<KwClusterOperation> selectClusterOperations(Collection<String> operationKeys) {
+    return kwClusterOperationRepo.findAllByOperationKeyIn(operationKeys);
+  }
+
   public Map<Integer, Map<String, Map<String, String>>> selectAllKwProperties() {
     Map<Integer, Map<String, Map<String, String>>> tenantProps = new HashMap<>();
 
@@ -1801,6 +1911,10 @@ public class SelectDataJdbc {
         tenantId, topicName, schemaEnvId);
   }
 
+  public List<MessageSchema> getSchemasForTenantAndEnv(int tenantId, String schemaEnvId) {
+    return messageSchemaRepo.findAllByTenantIdAndEnvironment(tenantId, schemaEnvId);
+  }
+
   public List<KwClusters> getClusters() {
     return Lists.newArrayList(kwClusterRepo.findAll());
   }
@@ -5,11 +5,13 @@ import static org.springframework.beans.BeanUtils.copyProperties;
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
 import io.aiven.klaw.model.enums.NewUserStatus;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.AclRepo;
 import io.aiven.klaw.repository.AclRequestsRepo;
+import io.aiven.klaw.repository.KwClusterOperationRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRequestsRepo;
 import io.aiven.klaw.repository.KwPropertiesRepo;
@@ -23,6 +25,7 @@ import io.aiven.klaw.repository.TenantRepo;
 import io.aiven.klaw.repository.TopicRepo;
 import io.aiven.klaw.repository.TopicRequestsRepo;
 import io.aiven.klaw.repository.UserInfoRepo;
+import jakarta.transaction.Transactional;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
@@ -92,6 +95,9 @@ public class UpdateDataJdbc {
   @Autowired(required = false)
   private MessageSchemaRepo messageSchemaRepo;
 
+  @Autowired(required = false)
+  private KwClusterOperationRepo kwClusterOperationRepo;
+
   public UpdateDataJdbc(
       TopicRequestsRepo topicRequestsRepo,
       AclRequestsRepo aclRequestsRepo,
@@ -219,6 +225,42 @@ public class UpdateDataJdbc {
     return saveResult;
   }
 
+  /**
+   * Approves requests which create or promote topics and adds their topics in one transaction. The
+   * ids of the new topics are looked up once per tenant.
+   */
+  @Transactional
+  public CRUDResponse<Topic> updateTopicRequests(
+      List<TopicRequest> topicRequests, String approver) {
+    log.debug("updateTopicRequests {} {}", topicRequests.size(), approver);
+    Timestamp approvingTime = new Timestamp(System.currentTimeMillis());
+    Map<Integer, Integer> nextTopicIds = new HashMap<>();
+    List<Topic> topics = new ArrayList<>(topicRequests.size());
+    for (TopicRequest topicRequest : topicRequests) {
+      topicRequest.setApprover(approver);
+      topicRequest.setRequestStatus(RequestStatus.APPROVED.value);
+      topicRequest.setApprovingtime(approvingTime);
+
+      Topic topicObj = new Topic();
+      copyProperties(topicRequest, topicObj);
+      topicObj.setTopicid(
+          nextTopicIds.compute(
+              topicRequest.getTenantId(),
+              (tenantId, nextTopicId) ->
+                  nextTopicId == null
+                      ? insertDataJdbcHelper.getNextTopicRequestId("TOPIC_ID", tenantId)
+                      : nextTopicId + 1));
+      topicObj.setNoOfReplicas(topicRequest.getReplicationfactor());
+      topicObj.setNoOfPartitions(topicRequest.getTopicpartitions());
+      topicObj.setExistingTopic(false);
+      topicObj.setHistory(topicRequest.getHistory());
+      topics.add(topicObj);
+    }
+    topicRequestsRepo.saveAll(topicRequests);
+
+    return insertDataJdbcHelper.insertIntoTopicSOT(topics);
+  }
+
   public String updateConnectorRequest(KafkaConnectorRequest connectorRequest, String approver) {
     log.debug("updateConnectorRequest {} {}", connectorRequest.getConnectorName(), approver);
     connectorRequest.setApprover(approver);
@@ -627,4 +669,72 @@ public class UpdateDataJdbc {
     messageSchemaRepo.saveAll(schemaListUpdated);
     return ApiResultStatus.SUCCESS.value;
   }
+
+  /**
+   * Applies the outcome of syncing schemas from a cluster in one transaction, so a failure leaves
+   * the schemas of the environment as they were before the sync.
+   */
+  @Transactional
+  public String updateSyncedSchemas(
+      List<MessageSchema> schemasToSave,
+      List<MessageSchema> schemasToDelete,
+      Collection<String> topicsToRemove,
+      String schemaEnvId,
+      int tenantId) {
+    messageSchemaRepo.deleteAll(schemasToDelete);
+    insertDataJdbcHelper.insertIntoMessageSchemaSOT(schemasToSave);
+    for (String topicName : topicsToRemove) {
+      messageSchemaRepo.deleteByTenantIdAndTopicnameAndEnvironment(
+          tenantId, topicName, schemaEnvId);
+    }
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  /** Returns true if the operation was still pending and is now running on this node. */
+  @Transactional
+  public boolean claimClusterOperation(int operationId, Timestamp now) {
+    return kwClusterOperationRepo.claim(
+            operationId,
+            ClusterOperationStatus.PENDING.value,
+            ClusterOperationStatus.RUNNING.value,
+            now)
+        == 1;
+  }
+
+  /** Returns true if the lease of the operation was renewed, false if its claim was lost. */
+  @Transactional
+  public boolean renewClusterOperationClaim(int operationId, int attempts, Timestamp now) {
+    return kwClusterOperationRepo.renewClaim(
+            operationId, attempts, ClusterOperationStatus.RUNNING.value, now)
+        == 1;
+  }
+
+  @Transactional
+  public int releaseStaleClusterOperations(Timestamp now, Timestamp staleBefore) {
+    return kwClusterOperationRepo.releaseStale(
+        ClusterOperationStatus.PENDING.value,
+        ClusterOperationStatus.RUNNING.value,
+        now,
+        staleBefore);
+  }
+
+  /**
+   * Returns true if the outcome of the operation was stored, false if the operation was released
+   * and claimed again since it was claimed by its current attempt.
+   */
+  @Transactional
+  public boolean updateClaimedClusterOperation(KwClusterOperation kwClusterOperation) {
+    return kwClusterOperationRepo.updateClaimed(
+            kwClusterOperation.getId(),
+            kwClusterOperation.getAttempts(),
+            ClusterOperationStatus.RUNNING.value,
+            kwClusterOperation.getStatus(),
+            ClusterOperationStatus.isActive(kwClusterOperation.getStatus())
+                ? kwClusterOperation.getOperationKey()
+                : null,
+            kwClusterOperation.getNextAttemptTime(),
+            kwClusterOperation.getLastError(),
+            kwClusterOperation.getUpdatedTime())
+        == 1;
+  }
 }
@@ -0,0 +1,120 @@
+package io.aiven.klaw.model;
+
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.KafkaConnectorRequest;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A request which started or stopped waiting for approval. It is pushed to the users following the
+ * requests of their team, and sent to the other instances of a HA deployment to keep their counts
+ * of pending requests in step.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestStatusEvent {
+
+  private Integer tenantId;
+
+  private RequestEntityType requestEntityType;
+
+  private Integer requestId;
+
+  private String resourceName;
+
+  private String environment;
+
+  private String requestor;
+
+  private String requestOperationType;
+
+  private String requestStatus;
+
+  private Integer teamId;
+
+  private String approvingTeamId;
+
+  private Integer requestingTeamId;
+
+  // 1 if the request is now waiting for approval, -1 if it is not anymore
+  private int pendingDelta;
+
+  // set when the approved request could not be applied to the cluster, it waits for approval again
+  private String clusterOperationStatus;
+
+  private String clusterOperationError;
+
+  public static RequestStatusEvent of(
+      TopicRequest topicRequest, String requestStatus, int pendingDelta) {
+    return RequestStatusEvent.builder()
+        .tenantId(topicRequest.getTenantId())
+        .requestEntityType(RequestEntityType.TOPIC)
+        .requestId(topicRequest.getTopicid())
+        .resourceName(topicRequest.getTopicname())
+        .environment(topicRequest.getEnvironment())
+        .requestor(topicRequest.getRequestor())
+        .requestOperationType(topicRequest.getRequestOperationType())
+        .requestStatus(requestStatus)
+        .teamId(topicRequest.getTeamId())
+        .approvingTeamId(topicRequest.getApprovingTeamId())
+        .pendingDelta(pendingDelta)
+        .build();
+  }
+
+  public static RequestStatusEvent of(
+      AclRequests aclRequest, String requestStatus, int pendingDelta) {
+    return RequestStatusEvent.builder()
+        .tenantId(aclRequest.getTenantId())
+        .requestEntityType(RequestEntityType.ACL)
+        .requestId(aclRequest.getReq_no())
+        .resourceName(aclRequest.getTopicname())
+        .environment(aclRequest.getEnvironment())
+        .requestor(aclRequest.getRequestor())
+        .requestOperationType(aclRequest.getRequestOperationType())
+        .requestStatus(requestStatus)
+        .teamId(aclRequest.getTeamId())
+        .requestingTeamId(aclRequest.getRequestingteam())
+        .pendingDelta(pendingDelta)
+        .build();
+  }
+
+  public static RequestStatusEvent of(
+      SchemaRequest schemaRequest, String requestStatus, int pendingDelta) {
+    return RequestStatusEvent.builder()
+        .tenantId(schemaRequest.getTenantId())
+        .requestEntityType(RequestEntityType.SCHEMA)
+        .requestId(schemaRequest.getReq_no())
+        .resourceName(schemaRequest.getTopicname())
+        .environment(schemaRequest.getEnvironment())
+        .requestor(schemaRequest.getRequestor())
+        .requestOperationType(schemaRequest.getRequestOperationType())
+        .requestStatus(requestStatus)
+        .teamId(schemaRequest.getTeamId())
+        .pendingDelta(pendingDelta)
+        .build();
+  }
+
+  public static RequestStatusEvent of(
+      KafkaConnectorRequest connectorRequest, String requestStatus, int pendingDelta) {
+    return RequestStatusEvent.builder()
+        .tenantId(connectorRequest.getTenantId())
+        .requestEntityType(RequestEntityType.CONNECTOR)
+        .requestId(connectorRequest.getConnectorId())
+        .resourceName(connectorRequest.getConnectorName())
+        .environment(connectorRequest.getEnvironment())
+        .requestor(connectorRequest.getRequestor())
+        .requestOperationType(connectorRequest.getRequestOperationType())
+        .requestStatus(requestStatus)
+        .teamId(connectorRequest.getTeamId())
+        .approvingTeamId(connectorRequest.getApprovingTeamId())
+        .pendingDelta(pendingDelta)
+        .build();
+  }
+}
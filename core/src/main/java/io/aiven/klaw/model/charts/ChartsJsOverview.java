@@ -8,7 +8,7 @@ import lombok.Setter;
 @Setter
 @Getter
 public class ChartsJsOverview implements Serializable {
-  List<Integer> data;
+  List<Long> data;
   List<String> labels;
   List<String> colors;
   Options options;
@@ -0,0 +1,12 @@
+package io.aiven.klaw.model.cluster;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public class ClusterTopicBatchRequest implements Serializable {
+
+  @JsonProperty private List<ClusterTopicRequest> topicRequests;
+}
@@ -0,0 +1,28 @@
+package io.aiven.klaw.model.enums;
+
+public enum ClusterOperationStatus {
+  PENDING("pending"),
+  RUNNING("running"),
+  COMPLETED("completed"),
+  FAILED("failed");
+
+  public final String value;
+
+  ClusterOperationStatus(String value) {
+    this.value = value;
+  }
+
+  public static ClusterOperationStatus of(String value) {
+    for (ClusterOperationStatus val : values()) {
+      if (val.value.equals(value)) {
+        return val;
+      }
+    }
+    return null;
+  }
+
+  /** Pending and running operations are still going to apply their request. */
+  public static boolean isActive(String status) {
+    return PENDING.value.equals(status) || RUNNING.value.equals(status);
+  }
+}
@@ -11,6 +11,7 @@ public enum MailType {
   TOPIC_REQUEST_APPROVED,
   CONNECTOR_REQUEST_APPROVED,
   TOPIC_REQUEST_DENIED,
+  TOPIC_REQUEST_FAILURE,
   CONNECTOR_REQUEST_DENIED,
   ACL_REQUESTED,
   ACL_DELETE_REQUESTED,
@@ -20,6 +21,7 @@ public enum MailType {
   SCHEMA_REQUESTED,
   SCHEMA_REQUEST_APPROVED,
   SCHEMA_REQUEST_DENIED,
+  SCHEMA_REQUEST_FAILURE,
   REGISTER_USER_REQUEST,
   TOPIC_UPDATE_REQUESTED,
   SCHEMA_PROMOTION_REQUESTED,
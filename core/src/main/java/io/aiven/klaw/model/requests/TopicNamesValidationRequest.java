@@ -0,0 +1,15 @@
+package io.aiven.klaw.model.requests;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class TopicNamesValidationRequest {
+  @NotNull private String env;
+
+  @NotNull
+  @Size(max = 10000)
+  private List<String> topicNames;
+}
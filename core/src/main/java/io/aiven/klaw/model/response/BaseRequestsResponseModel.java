@@ -1,5 +1,6 @@
 package io.aiven.klaw.model.response;
 
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import jakarta.validation.constraints.NotNull;
@@ -57,4 +58,10 @@ public class BaseRequestsResponseModel implements Serializable {
   private String appname;
 
   private String otherParams;
+
+  // latest operation applying the approved request to the cluster, null if not approved yet
+  private ClusterOperationStatus clusterOperationStatus;
+
+  // why the request could not be applied to the cluster, once its operation failed
+  private String clusterOperationError;
 }
@@ -0,0 +1,17 @@
+package io.aiven.klaw.model.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PendingRequestsCountUpdate {
+  // requests to be approved by the user, per type of request
+  private Map<String, Integer> counts;
+
+  // change of the counts since the previous update
+  private Map<String, Integer> changes;
+}
@@ -0,0 +1,23 @@
+package io.aiven.klaw.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SchemaSyncResult {
+  private String topicName;
+
+  private boolean success;
+
+  private String message;
+
+  // versions written, and versions skipped as their schema id was already known
+  private int syncedVersions;
+
+  private int skippedVersions;
+
+  private long durationMillis;
+}
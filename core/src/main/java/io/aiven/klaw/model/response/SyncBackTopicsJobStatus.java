@@ -0,0 +1,35 @@
+package io.aiven.klaw.model.response;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class SyncBackTopicsJobStatus {
+  private String jobId;
+
+  // RUNNING, COMPLETED or FAILED
+  private String status;
+
+  private String sourceEnv;
+
+  private String targetEnv;
+
+  private int totalTopics;
+
+  private int processedTopics;
+
+  private int succeededTopics;
+
+  private int failedTopics;
+
+  private long startTime;
+
+  // 0 while the job is running
+  private long endTime;
+
+  // error which stopped topics from being created, null if there is none
+  private String error;
+
+  // outcome of every processed topic, in the order of the topics of the job
+  private List<SyncBackTopicResult> results;
+}
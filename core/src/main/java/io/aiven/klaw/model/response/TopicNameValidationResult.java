@@ -0,0 +1,16 @@
+package io.aiven.klaw.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TopicNameValidationResult {
+  private String topicName;
+
+  private boolean valid;
+
+  private String message;
+}
@@ -92,4 +92,12 @@ public interface AclRequestsRepo
       @Param("topicStatus") String topicStatus);
 
   void deleteByTenantId(int tenantId);
+
+  @Query(
+      value =
+          "select teamid, requestingteam, acltype, env, requestor, count(*) from kwaclrequests"
+              + " where tenantid = :tenantId and topicstatus = 'created'"
+              + " group by teamid, requestingteam, acltype, env, requestor",
+      nativeQuery = true)
+  List<Object[]> findCreatedRequestsCount(@Param("tenantId") Integer tenantId);
 }
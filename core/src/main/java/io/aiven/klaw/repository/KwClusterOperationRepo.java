@@ -0,0 +1,75 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwClusterOperation;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface KwClusterOperationRepo extends CrudRepository<KwClusterOperation, Integer> {
+
+  Optional<KwClusterOperation> findByActiveKey(String activeKey);
+
+  List<KwClusterOperation> findAllByOperationKeyIn(Collection<String> operationKeys);
+
+  List<KwClusterOperation> findAllByStatusAndNextAttemptTimeLessThanEqualOrderByIdAsc(
+      String status, Timestamp nextAttemptTime, Pageable pageable);
+
+  /** Claims the operation, only one of several nodes polling the same operation claims it. */
+  @Modifying
+  @Query(
+      "update KwClusterOperation o set o.status = :running, o.attempts = o.attempts + 1,"
+          + " o.updatedTime = :now where o.id = :id and o.status = :pending")
+  int claim(
+      @Param("id") int id,
+      @Param("pending") String pending,
+      @Param("running") String running,
+      @Param("now") Timestamp now);
+
+  /** Renews the lease of the operation, while it is still running under the given claim. */
+  @Modifying
+  @Query(
+      "update KwClusterOperation o set o.updatedTime = :now where o.id = :id"
+          + " and o.status = :running and o.attempts = :attempts")
+  int renewClaim(
+      @Param("id") int id,
+      @Param("attempts") int attempts,
+      @Param("running") String running,
+      @Param("now") Timestamp now);
+
+  /** Releases the operations of a node, which stopped while executing them. */
+  @Modifying
+  @Query(
+      "update KwClusterOperation o set o.status = :pending, o.nextAttemptTime = :now"
+          + " where o.status = :running and o.updatedTime < :staleBefore")
+  int releaseStale(
+      @Param("pending") String pending,
+      @Param("running") String running,
+      @Param("now") Timestamp now,
+      @Param("staleBefore") Timestamp staleBefore);
+
+  /**
+   * Stores the outcome of the operation, only while it is still running under the claim of the
+   * given attempt. Once released and claimed again, the operation belongs to the new claim.
+   */
+  @Modifying
+  @Query(
+      "update KwClusterOperation o set o.status = :status, o.activeKey = :activeKey,"
+          + " o.nextAttemptTime = :nextAttemptTime, o.lastError = :lastError,"
+          + " o.updatedTime = :now where o.id = :id and o.status = :running"
+          + " and o.attempts = :attempts")
+  int updateClaimed(
+      @Param("id") int id,
+      @Param("attempts") int attempts,
+      @Param("running") String running,
+      @Param("status") String status,
+      @Param("activeKey") String activeKey,
+      @Param("nextAttemptTime") Timestamp nextAttemptTime,
+      @Param("lastError") String lastError,
+      @Param("now") Timestamp now);
+}
@@ -0,0 +1,8 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwClusterSnapshot;
+import io.aiven.klaw.dao.KwClusterSnapshotID;
+import org.springframework.data.repository.CrudRepository;
+
+public interface KwClusterSnapshotRepo
+    extends CrudRepository<KwClusterSnapshot, KwClusterSnapshotID> {}
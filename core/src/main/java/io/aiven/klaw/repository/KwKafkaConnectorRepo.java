@@ -2,6 +2,7 @@ package io.aiven.klaw.repository;
 
 import io.aiven.klaw.dao.KwKafkaConnector;
 import io.aiven.klaw.dao.KwKafkaConnectorID;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +23,9 @@ public interface KwKafkaConnectorRepo extends CrudRepository<KwKafkaConnector, K
 
   List<KwKafkaConnector> findAllByConnectorNameAndTenantId(String connectorName, int tenantId);
 
+  List<KwKafkaConnector> findAllByTenantIdAndConnectorNameIn(
+      int tenantId, Collection<String> connectorNames);
+
   List<KwKafkaConnector> findAllByConnectorNameAndEnvironmentAndTenantId(
       String connectorName, String env, int tenantId);
 
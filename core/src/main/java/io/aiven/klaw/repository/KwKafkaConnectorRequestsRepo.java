@@ -87,4 +87,13 @@ public interface KwKafkaConnectorRequestsRepo
       @Param("connectorStatus") String connectorStatus);
 
   void deleteByTenantId(int tenantId);
+
+  @Query(
+      value =
+          "select teamid, approvingteamid, connectortype, env, requestor, count(*)"
+              + " from kwkafkaconnectorrequests"
+              + " where tenantid = :tenantId and connectorstatus = 'created'"
+              + " group by teamid, approvingteamid, connectortype, env, requestor",
+      nativeQuery = true)
+  List<Object[]> findCreatedRequestsCount(@Param("tenantId") Integer tenantId);
 }
@@ -2,6 +2,7 @@ package io.aiven.klaw.repository;
 
 import io.aiven.klaw.dao.KwMetrics;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -14,12 +15,21 @@ public interface KwMetricsRepo extends CrudRepository<KwMetrics, Integer> {
       value =
           "select metricstime, metricsattributes from kwkafkametrics where "
               + " env=:envId and metricstype=:metricsType and metricsname=:metricsName"
-              + " order by metricsid desc limit 30;",
+              + " and rollup=:rollup order by metricsid desc limit :limit",
       nativeQuery = true)
-  List<Object[]> findAllByEnvAndMetricsTypeAndMetricsName(
+  List<Object[]> findAllByEnvAndMetricsTypeAndMetricsNameAndRollup(
       @Param("envId") String envId,
       @Param("metricsType") String metricsType,
-      @Param("metricsName") String metricsName);
+      @Param("metricsName") String metricsName,
+      @Param("rollup") String rollup,
+      @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      "delete from KwMetrics m where m.rollup = :rollup"
+          + " and cast(m.metricsTime as Long) < :metricsTime")
+  int deleteByRollupAndMetricsTimeBefore(
+      @Param("rollup") String rollup, @Param("metricsTime") long metricsTime);
 
   @Query(value = "select max(metricsid) from kwkafkametrics", nativeQuery = true)
   Integer getNextId();
@@ -19,6 +19,8 @@ public interface MessageSchemaRepo extends CrudRepository<MessageSchema, Message
   List<MessageSchema> findAllByTenantIdAndTopicnameAndEnvironment(
       int tenantId, String topicName, String environmentId);
 
+  List<MessageSchema> findAllByTenantIdAndEnvironment(int tenantId, String environmentId);
+
   Optional<MessageSchema> findFirstByTenantIdAndEnvironmentAndTopicnameAndSchemaversion(
       int tenantId, String environmentId, String topicName, String schemaVersion);
 
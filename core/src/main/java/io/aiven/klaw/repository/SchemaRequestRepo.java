@@ -71,4 +71,12 @@ public interface SchemaRequestRepo
       @Param("topicStatus") String topicStatus);
 
   void deleteByTenantId(int tenantId);
+
+  @Query(
+      value =
+          "select teamid, env, requestor, count(*) from kwschemarequests"
+              + " where tenantid = :tenantId and topicstatus = 'created'"
+              + " group by teamid, env, requestor",
+      nativeQuery = true)
+  List<Object[]> findCreatedRequestsCount(@Param("tenantId") Integer tenantId);
 }
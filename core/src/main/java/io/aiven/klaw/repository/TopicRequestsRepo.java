@@ -109,4 +109,12 @@ public interface TopicRequestsRepo
     }
     return result;
   }
+
+  @Query(
+      value =
+          "select teamid, approvingteamid, topictype, env, requestor, count(*) from kwtopicrequests"
+              + " where tenantid = :tenantId and topicstatus = 'created'"
+              + " group by teamid, approvingteamid, topictype, env, requestor",
+      nativeQuery = true)
+  List<Object[]> findCreatedRequestsCount(@Param("tenantId") Integer tenantId);
 }
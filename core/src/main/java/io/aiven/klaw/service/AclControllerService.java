@@ -8,6 +8,8 @@ import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_106;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_107;
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_105;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.helpers.KwConstants.REQUESTOR_SUBSCRIPTIONS;
 import static io.aiven.klaw.model.enums.MailType.ACL_DELETE_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.ACL_REQUESTED;
@@ -53,13 +55,16 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -85,6 +90,8 @@ public class AclControllerService {
 
   @Autowired private CommonUtilsService commonUtilsService;
 
+  @Autowired private ClusterOperationOutboxService clusterOperationOutboxService;
+
   AclControllerService(ClusterApiService clusterApiService, MailUtils mailService) {
     this.clusterApiService = clusterApiService;
     this.mailService = mailService;
@@ -384,6 +391,8 @@ public class AclControllerService {
 
         aclRequestsModels.add(setRequestorPermissions(aclRequestsModel, userName));
       }
+    clusterOperationOutboxService.addClusterOperations(
+        RequestEntityType.ACL, tenantId, aclRequestsModels, AclRequestsResponseModel::getReq_no);
     return aclRequestsModels;
   }
 
@@ -594,6 +603,128 @@ public class AclControllerService {
       return aclValidationResponse;
     }
 
+    if (clusterOperationOutboxService.isEnabled()) {
+      clusterOperationOutboxService.enqueue(
+          RequestEntityType.ACL,
+          aclReq.getReq_no(),
+          aclReq.getEnvironment(),
+          tenantId,
+          userDetails);
+      return ApiResponse.ok(REQ_SER_105);
+    }
+    return approveAclRequest(userDetails, tenantId, dbHandle, aclReq, true);
+  }
+
+  /**
+   * Approves several acl requests at once. All requests are validated before any of them is
+   * executed, and the validated requests are executed grouped by their environment.
+   *
+   * @return outcome of every request, in the order of the given ids
+   */
+  public List<ApiResponse> approveAclRequests(List<String> reqNos) {
+    log.info("approveAclRequests {}", reqNos);
+    if (commonUtilsService.isNotAuthorizedUser(
+        getPrincipal(), PermissionType.APPROVE_SUBSCRIPTIONS)) {
+      return Collections.nCopies(reqNos.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    final String userDetails = getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    Set<String> topicsOfEnvs = new HashSet<>();
+    for (Topic topic : manageDatabase.getTopicsForTenant(tenantId)) {
+      topicsOfEnvs.add(topic.getEnvironment() + " " + topic.getTopicname());
+    }
+
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    List<Integer> requestIds = reqNos.stream().map(id -> NumberUtils.toInt(id, -1)).toList();
+    Map<Integer, AclRequests> aclRequestsById = new HashMap<>();
+    for (AclRequests aclReq : dbHandle.getAclRequests(new HashSet<>(requestIds), tenantId)) {
+      aclRequestsById.put(aclReq.getReq_no(), aclReq);
+    }
+
+    ApiResponse[] responses = new ApiResponse[reqNos.size()];
+    Map<String, List<Integer>> requestsPerEnv = new LinkedHashMap<>();
+    Set<Integer> validatedIds = new HashSet<>();
+    for (int i = 0; i < requestIds.size(); i++) {
+      AclRequests aclReq = aclRequestsById.get(requestIds.get(i));
+      // a request given twice is processed once, as approving it the second time would fail
+      if (aclReq != null && !validatedIds.add(requestIds.get(i))) {
+        responses[i] = ApiResponse.notOk(REQ_ERR_101);
+        continue;
+      }
+      ApiResponse aclValidationResponse =
+          validateAclRequest(
+              aclReq,
+              userDetails,
+              request ->
+                  topicsOfEnvs.contains(request.getEnvironment() + " " + request.getTopicname()),
+              allowedEnvIdSet);
+      if (aclValidationResponse.isSuccess() && clusterOperationOutboxService.isEnabled()) {
+        clusterOperationOutboxService.enqueue(
+            RequestEntityType.ACL,
+            aclReq.getReq_no(),
+            aclReq.getEnvironment(),
+            tenantId,
+            userDetails);
+        responses[i] = ApiResponse.ok(REQ_SER_105);
+      } else if (aclValidationResponse.isSuccess()) {
+        requestsPerEnv.computeIfAbsent(aclReq.getEnvironment(), env -> new ArrayList<>()).add(i);
+      } else {
+        responses[i] = aclValidationResponse;
+      }
+    }
+
+    for (List<Integer> positions : requestsPerEnv.values()) {
+      for (int position : positions) {
+        try {
+          responses[position] =
+              approveAclRequest(
+                  userDetails,
+                  tenantId,
+                  dbHandle,
+                  aclRequestsById.get(requestIds.get(position)),
+                  true);
+        } catch (Exception e) {
+          responses[position] =
+              ApiResponse.notOk(
+                  String.format(REQ_SER_ERR_101, reqNos.get(position)) + " " + e.getMessage());
+        }
+      }
+    }
+
+    return Arrays.asList(responses);
+  }
+
+  /**
+   * Applies an acl request approved through the outbox to the cluster and approves the request.
+   * Executing a request, which is already approved, succeeds without calling the cluster api.
+   *
+   * @throws KlawException if the cluster api could not be reached, in which case the operation is
+   *     retried
+   */
+  public ApiResponse executeApprovedAclRequest(String approver, int tenantId, int reqNo)
+      throws KlawException {
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    AclRequests aclReq = dbHandle.getAcl(reqNo, tenantId);
+    if (aclReq == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    } else if (RequestStatus.APPROVED.value.equals(aclReq.getRequestStatus())) {
+      return ApiResponse.ok(ApiResultStatus.SUCCESS.value);
+    } else if (!RequestStatus.CREATED.value.equals(aclReq.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    // the failure is mailed by the worker once the operation failed for good
+    return approveAclRequest(approver, tenantId, dbHandle, aclReq, false);
+  }
+
+  private ApiResponse approveAclRequest(
+      String userDetails,
+      int tenantId,
+      HandleDbRequests dbHandle,
+      AclRequests aclReq,
+      boolean mailFailure)
+      throws KlawException {
     String allIps = aclReq.getAcl_ip();
     String allSsl = aclReq.getAcl_ssl();
 
@@ -612,16 +743,18 @@ public class AclControllerService {
       saveToTopicHistory(userDetails, tenantId, aclReq);
     }
 
-    mailService.sendMail(
-        aclReq.getTopicname(),
-        aclReq.getAclType(),
-        "",
-        aclReq.getRequestor(),
-        aclReq.getApprover(),
-        aclReq.getTeamId(),
-        dbHandle,
-        notifyUserType,
-        commonUtilsService.getLoginUrl());
+    if (mailFailure || notifyUserType != ACL_REQUEST_FAILURE) {
+      mailService.sendMail(
+          aclReq.getTopicname(),
+          aclReq.getAclType(),
+          "",
+          aclReq.getRequestor(),
+          aclReq.getApprover(),
+          aclReq.getTeamId(),
+          dbHandle,
+          notifyUserType,
+          commonUtilsService.getLoginUrl());
+    }
     return ApiResultStatus.SUCCESS.value.equals(updateAclReqStatus)
         ? ApiResponse.ok(updateAclReqStatus)
         : ApiResponse.notOk(updateAclReqStatus);
@@ -654,6 +787,26 @@ public class AclControllerService {
   }
 
   private ApiResponse validateAclRequest(AclRequests aclReq, String userDetails, int tenantId) {
+    return validateAclRequest(
+        aclReq,
+        userDetails,
+        request ->
+            manageDatabase.getTopicsForTenant(tenantId).stream()
+                .anyMatch(
+                    topic ->
+                        topic.getEnvironment().equals(request.getEnvironment())
+                            && request.getTopicname().equals(topic.getTopicname())),
+        commonUtilsService.getEnvsFromUserId(userDetails));
+  }
+
+  /**
+   * @param topicExists whether the topic of the request exists on the environment of the request
+   */
+  private ApiResponse validateAclRequest(
+      AclRequests aclReq,
+      String userDetails,
+      Predicate<AclRequests> topicExists,
+      Set<String> allowedEnvIdSet) {
     if (aclReq == null || aclReq.getReq_no() == null) {
       return ApiResponse.notOk(ACL_ERR_105);
     }
@@ -666,16 +819,12 @@ public class AclControllerService {
       return ApiResponse.notOk(REQ_ERR_101);
     }
 
-    if (manageDatabase.getTopicsForTenant(tenantId).stream()
-        .noneMatch(
-            topic ->
-                topic.getEnvironment().equals(aclReq.getEnvironment())
-                    && aclReq.getTopicname().equals(topic.getTopicname()))) {
+    if (!topicExists.test(aclReq)) {
       return ApiResponse.notOk(ACL_ERR_101);
     }
 
     // tenant filtering
-    if (!commonUtilsService.getEnvsFromUserId(userDetails).contains(aclReq.getEnvironment())) {
+    if (!allowedEnvIdSet.contains(aclReq.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
 
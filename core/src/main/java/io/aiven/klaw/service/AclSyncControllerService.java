@@ -15,6 +15,8 @@ import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.AclKey;
+import io.aiven.klaw.helpers.AclSyncDiff;
 import io.aiven.klaw.helpers.Pager;
 import io.aiven.klaw.model.AclInfo;
 import io.aiven.klaw.model.ApiResponse;
@@ -27,7 +29,6 @@ import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
-import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import java.util.ArrayList;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -301,61 +303,6 @@ public class AclSyncControllerService {
     }
   }
 
-  private List<Map<String, String>> getAclListFromCluster(
-      String bootstrapHost,
-      Env envSelected,
-      KafkaSupportedProtocol protocol,
-      String clusterName,
-      String topicNameSearch,
-      int tenantId)
-      throws KlawException {
-    List<Map<String, String>> aclList;
-    aclList = clusterApiService.getAcls(bootstrapHost, envSelected, protocol, tenantId);
-    return updateConsumerGroups(groupAcls(aclList, topicNameSearch, true), aclList);
-  }
-
-  private List<Map<String, String>> updateConsumerGroups(
-      List<Map<String, String>> groupedList, List<Map<String, String>> clusterAclList) {
-    List<Map<String, String>> updateList = new ArrayList<>(groupedList);
-
-    for (Map<String, String> hMapGroupItem : groupedList) {
-      for (Map<String, String> hMapItem : clusterAclList) {
-        if (AclPermissionType.READ.value.equals(hMapGroupItem.get("operation"))
-            && AclPermissionType.READ.value.equals(hMapItem.get("operation"))
-            && "GROUP".equals(hMapItem.get("resourceType"))) {
-          if (Objects.equals(hMapItem.get("host"), hMapGroupItem.get("host"))
-              && Objects.equals(hMapItem.get("principle"), hMapGroupItem.get("principle"))) {
-            Map<String, String> hashMap = new HashMap<>(hMapGroupItem);
-            hashMap.put("consumerGroup", hMapItem.get("resourceName"));
-            updateList.add(hashMap);
-            break;
-          }
-        }
-      }
-    }
-    return updateList;
-  }
-
-  private List<Map<String, String>> groupAcls(
-      List<Map<String, String>> aclList, String topicNameSearch, boolean isSync) {
-
-    return aclList.stream()
-        .filter(
-            hItem -> {
-              if (isSync) {
-                if (topicNameSearch != null) {
-                  return "TOPIC".equals(hItem.get("resourceType"))
-                      && hItem.get("resourceName").contains(topicNameSearch);
-                } else {
-                  return "TOPIC".equals(hItem.get("resourceType"));
-                }
-              } else {
-                return Objects.equals(hItem.get("resourceName"), topicNameSearch);
-              }
-            })
-        .collect(Collectors.toList());
-  }
-
   private List<Acl> getAclsFromSOT(
       String env, String topicNameSearch, boolean regex, int tenantId) {
     List<Acl> aclsFromSOT;
@@ -380,12 +327,18 @@ public class AclSyncControllerService {
   }
 
   public List<AclInfo> getSyncAcls(
-      String env, String pageNo, String currentPage, String topicNameSearch, String showAllAcls)
+      String env,
+      String pageNo,
+      String currentPage,
+      String topicNameSearch,
+      String principalSearch,
+      String showAllAcls)
       throws KlawException {
     log.info(
-        "getSyncAcls env: {} topicNameSearch: {} showAllAcls:{}",
+        "getSyncAcls env: {} topicNameSearch: {} principalSearch: {} showAllAcls:{}",
         env,
         topicNameSearch,
+        principalSearch,
         showAllAcls);
     boolean showAllAclsOfClusterAndMetadata = !Boolean.parseBoolean(showAllAcls);
     int tenantId = commonUtilsService.getTenantId(getUserName());
@@ -393,42 +346,108 @@ public class AclSyncControllerService {
     if (topicNameSearch != null) {
       topicNameSearch = topicNameSearch.trim();
     }
+    if (principalSearch != null) {
+      principalSearch = principalSearch.trim();
+    }
 
     if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_SUBSCRIPTIONS)) {
       return null;
     }
 
-    List<Map<String, String>> aclList;
+    List<AclInfo> syncAcls =
+        getSyncAclsOfEnv(
+            env, topicNameSearch, principalSearch, showAllAclsOfClusterAndMetadata, tenantId);
+
+    TOPIC_COUNTER = 0;
+
+    return Pager.getItemsList(pageNo, currentPage, syncAcls, aclInfoToPageFunction);
+  }
+
+  /** Acls on the cluster of the environment which are unknown to Klaw, or deleted from it. */
+  public List<AclInfo> getReconAcls(String env) throws KlawException {
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    List<Acl> aclsFromSOT = getAclsFromSOT(env, null, true, tenantId);
+
+    return applyFiltersAcls(
+        env,
+        getClusterAcls(env, tenantId),
+        null,
+        aclsFromSOT,
+        tenantFiltering(new ArrayList<>()),
+        true,
+        tenantId);
+  }
+
+  /**
+   * Acls as retrieved from the cluster of the environment of the tenant, of all resource types.
+   * Does not depend on the logged in user, to be called by the scheduler.
+   */
+  public List<Map<String, String>> getClusterAcls(String env, int tenantId) throws KlawException {
+    Env envSelected = getEnvDetails(env, tenantId);
+    KwClusters kwClusters =
+        manageDatabase
+            .getClusters(KafkaClustersType.KAFKA, tenantId)
+            .get(envSelected.getClusterId());
+    return clusterApiService.getAcls(
+        kwClusters.getBootstrapServers(), envSelected, kwClusters.getProtocol(), tenantId);
+  }
+
+  /**
+   * Reconciliation of acls already retrieved from the cluster of the environment of the tenant.
+   * Does not depend on the logged in user, to be called by the scheduler.
+   */
+  public List<AclInfo> getReconAcls(
+      String env, List<Map<String, String>> clusterAcls, int tenantId) {
+    List<Acl> aclsFromSOT = getAclsFromSOT(env, null, true, tenantId);
+
+    return applyFiltersAcls(
+        env, clusterAcls, null, aclsFromSOT, getTeamNames(tenantId), true, tenantId);
+  }
 
+  private List<AclInfo> getSyncAclsOfEnv(
+      String env,
+      String topicNameSearch,
+      String principalSearch,
+      boolean isReconciliation,
+      int tenantId)
+      throws KlawException {
     Env envSelected = getEnvDetails(env, tenantId);
     KwClusters kwClusters =
         manageDatabase
             .getClusters(KafkaClustersType.KAFKA, tenantId)
             .get(envSelected.getClusterId());
-    aclList =
-        getAclListFromCluster(
+    // the cluster api only returns the acls of the topics and principals searched for
+    List<Map<String, String>> aclList =
+        clusterApiService.getAcls(
             kwClusters.getBootstrapServers(),
             envSelected,
             kwClusters.getProtocol(),
-            kwClusters.getClusterName(),
             topicNameSearch,
+            principalSearch,
             tenantId);
 
     List<Acl> aclsFromSOT = getAclsFromSOT(env, topicNameSearch, true, tenantId);
+    if (principalSearch != null && principalSearch.length() > 0) {
+      // the acls of other principals are not on the cluster side, so they are not deleted ones
+      final String principalSearchFilter = AclKey.normalizePrincipal(principalSearch);
+      aclsFromSOT =
+          aclsFromSOT.stream()
+              .filter(
+                  acl ->
+                      acl.getAclssl() != null
+                          && AclKey.normalizePrincipal(acl.getAclssl())
+                              .contains(principalSearchFilter))
+              .collect(Collectors.toList());
+    }
 
-    TOPIC_COUNTER = 0;
-
-    return Pager.getItemsList(
-        pageNo,
-        currentPage,
-        applyFiltersAcls(
-            env,
-            aclList,
-            aclsFromSOT,
-            showAllAclsOfClusterAndMetadata,
-            tenantId,
-            kwClusters.getKafkaFlavor()),
-        aclInfoToPageFunction);
+    return applyFiltersAcls(
+        env,
+        aclList,
+        topicNameSearch,
+        aclsFromSOT,
+        tenantFiltering(new ArrayList<>()),
+        isReconciliation,
+        tenantId);
   }
 
   public List<AclInfo> getSyncBackAcls(
@@ -491,22 +510,28 @@ public class AclSyncControllerService {
   private List<AclInfo> applyFiltersAcls(
       String env,
       List<Map<String, String>> aclListFromCluster,
+      String topicNameSearch,
       List<Acl> aclsFromMetadata,
+      List<String> teamList,
       boolean isReconciliation,
-      int tenantId,
-      String kafkaFlavor) {
+      int tenantId) {
 
     List<AclInfo> aclListMap = new ArrayList<>();
-    List<String> teamList = new ArrayList<>();
-    teamList = tenantFiltering(teamList);
 
-    List<String> topicListInSelectedEnv =
+    Set<String> topicListInSelectedEnv =
         manageDatabase.getTopicsForTenant(tenantId).stream()
             .filter(topic -> topic.getEnvironment().equals(env))
             .map(Topic::getTopicname)
-            .toList();
+            .collect(Collectors.toSet());
+
+    AclSyncDiff aclSyncDiff =
+        AclSyncDiff.diff(aclListFromCluster, topicNameSearch, aclsFromMetadata);
+    for (AclSyncDiff.ClusterAcl clusterAcl : aclSyncDiff.getClusterAcls()) {
+      Map<String, String> aclListItem = clusterAcl.clusterAcl();
+      if (!topicListInSelectedEnv.contains(aclListItem.get("resourceName"))) {
+        continue;
+      }
 
-    for (Map<String, String> aclListItem : aclListFromCluster) {
       AclInfo mp = new AclInfo();
       mp.setEnvironment(env);
       mp.setPossibleTeams(teamList);
@@ -517,64 +542,29 @@ public class AclSyncControllerService {
       }
 
       String tmpPermType = aclListItem.get("operation");
-
       if (AclPermissionType.WRITE.value.equals(tmpPermType)) {
         mp.setTopictype(AclType.PRODUCER.value);
       } else if (AclPermissionType.READ.value.equals(tmpPermType)) {
         mp.setTopictype(AclType.CONSUMER.value);
-        if (aclListItem.get("consumerGroup") != null) {
-          mp.setConsumergroup(aclListItem.get("consumerGroup"));
-        } else {
-          continue;
-        }
-      }
-
-      if (TOPIC_RESOURCE.equalsIgnoreCase(aclListItem.get("resourceType"))) {
-        mp.setTopicname(aclListItem.get("resourceName"));
+        mp.setConsumergroup(clusterAcl.consumerGroup());
       }
 
+      mp.setTopicname(aclListItem.get("resourceName"));
       mp.setAcl_ip(aclListItem.get("host"));
       mp.setAcl_ssl(aclListItem.get("principle"));
 
-      for (Acl aclSotItem : aclsFromMetadata) {
-        String acl_ssl = aclSotItem.getAclssl();
-        String acl_host = aclSotItem.getAclip();
-
-        if (acl_ssl == null || acl_ssl.equals("")) {
-          acl_ssl = "User:*";
-        } else {
-          if (!KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value.equals(kafkaFlavor)
-              && !"User:*".equals(acl_ssl)
-              && !acl_ssl.startsWith("User:")) {
-            acl_ssl = "User:" + acl_ssl;
-          }
-        }
-
-        if (acl_host == null || acl_host.equals("")) {
-          acl_host = "*";
-        }
-
-        if (aclSotItem.getTopicname() != null
-            && Objects.equals(aclListItem.get("resourceName"), aclSotItem.getTopicname())
-            && Objects.equals(aclListItem.get("host"), acl_host)
-            && Objects.equals(aclListItem.get("principle"), acl_ssl)
-            && Objects.equals(aclSotItem.getAclType(), mp.getTopictype())) {
-          mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
-          mp.setTeamid(aclSotItem.getTeamId());
-          mp.setReq_no(aclSotItem.getReq_no() + "");
-          mp.setRemarks("IN_SYNC");
-          break;
-        }
+      Acl aclSotItem = clusterAcl.sotAcl();
+      if (aclSotItem != null) {
+        mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
+        mp.setTeamid(aclSotItem.getTeamId());
+        mp.setReq_no(aclSotItem.getReq_no() + "");
+        mp.setRemarks("IN_SYNC");
       }
 
       if (mp.getTeamname() == null) {
         mp.setTeamname("Unknown");
       }
 
-      if (!verifyIfTopicExists(aclListItem, topicListInSelectedEnv)) {
-        continue;
-      }
-
       if (isReconciliation) {
         if ("Unknown".equals(mp.getTeamname()) || "".equals(mp.getTeamname())) {
           mp.setRemarks("ADDED");
@@ -590,8 +580,9 @@ public class AclSyncControllerService {
       }
     }
 
-    lookForDeletedAclsOnCluster(
-        aclListFromCluster, aclsFromMetadata, aclListMap, kafkaFlavor, tenantId, env);
+    for (Acl aclSotItem : aclSyncDiff.getDeletedAcls()) {
+      aclListMap.add(deletedAclInfo(aclSotItem, env, tenantId));
+    }
 
     aclListMap =
         aclListMap.stream()
@@ -600,99 +591,24 @@ public class AclSyncControllerService {
     return aclListMap;
   }
 
-  private void lookForDeletedAclsOnCluster(
-      List<Map<String, String>> aclListFromCluster,
-      List<Acl> aclsFromMetadata,
-      List<AclInfo> aclListMap,
-      String kafkaFlavor,
-      int tenantId,
-      String env) {
-
-    for (Acl aclSotItem : aclsFromMetadata) {
-      String acl_ssl = aclSotItem.getAclssl();
-      String acl_host = aclSotItem.getAclip();
-
-      if (acl_ssl == null || acl_ssl.equals("")) {
-        acl_ssl = "User:*";
-      } else {
-        if (!KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value.equals(kafkaFlavor)
-            && !"User:*".equals(acl_ssl)
-            && !acl_ssl.startsWith("User:")) {
-          acl_ssl = "User:" + acl_ssl;
-        }
-      }
-
-      if (acl_host == null || acl_host.equals("")) {
-        acl_host = "*";
-      }
-
-      String finalAcl_host = acl_host;
-      String finalAcl_ssl = acl_ssl;
-      AclInfo mp = new AclInfo();
-
-      List<Map<String, String>> aclListFromClusterSubList =
-          aclListFromCluster.stream()
-              .filter(
-                  aclListItem -> {
-                    return Objects.equals(
-                            aclListItem.get("resourceName"), aclSotItem.getTopicname())
-                        && Objects.equals(aclListItem.get("host"), finalAcl_host)
-                        && Objects.equals(aclListItem.get("principle"), finalAcl_ssl);
-                  })
-              .toList();
-
-      boolean aclFoundMatch = false;
-
-      for (Map<String, String> aclListItem : aclListFromClusterSubList) {
-        String tmpPermType = aclListItem.get("operation");
-
-        if (AclPermissionType.WRITE.value.equals(tmpPermType)) {
-          mp.setTopictype(AclType.PRODUCER.value);
-        } else if (AclPermissionType.READ.value.equals(tmpPermType)) {
-          mp.setTopictype(AclType.CONSUMER.value);
-          if (aclListItem.get("consumerGroup") != null) {
-            mp.setConsumergroup(aclListItem.get("consumerGroup"));
-          } else {
-            continue;
-          }
-        }
-
-        if (Objects.equals(aclSotItem.getAclType(), mp.getTopictype())) {
-          aclFoundMatch = true;
-          break;
-        }
-      }
-
-      if (!aclFoundMatch) {
-        mp.setEnvironment(env);
-        mp.setTopicname(aclSotItem.getTopicname());
-        mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
-        mp.setTeamid(aclSotItem.getTeamId());
-
-        List<String> possibleTeams = new ArrayList<>();
-        possibleTeams.add(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
-        possibleTeams.add(SYNC_102);
-        mp.setPossibleTeams(possibleTeams);
-
-        mp.setReq_no(aclSotItem.getReq_no() + "");
-        mp.setAcl_ip(aclSotItem.getAclip());
-        mp.setAcl_ssl(aclSotItem.getAclssl());
-        mp.setTopictype(aclSotItem.getAclType());
-        mp.setRemarks("DELETED");
-        aclListMap.add(mp);
-      }
-    }
-  }
-
-  private boolean verifyIfTopicExists(
-      Map<String, String> aclListItemFromCluster, List<String> topicListInSelectedEnv) {
-    String topicName;
-    if (TOPIC_RESOURCE.equalsIgnoreCase(aclListItemFromCluster.get("resourceType"))) {
-      topicName = aclListItemFromCluster.get("resourceName");
-      return topicListInSelectedEnv.contains(topicName);
-    }
-
-    return false;
+  private AclInfo deletedAclInfo(Acl aclSotItem, String env, int tenantId) {
+    AclInfo mp = new AclInfo();
+    mp.setEnvironment(env);
+    mp.setTopicname(aclSotItem.getTopicname());
+    mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
+    mp.setTeamid(aclSotItem.getTeamId());
+
+    List<String> possibleTeams = new ArrayList<>();
+    possibleTeams.add(manageDatabase.getTeamNameFromTeamId(tenantId, aclSotItem.getTeamId()));
+    possibleTeams.add(SYNC_102);
+    mp.setPossibleTeams(possibleTeams);
+
+    mp.setReq_no(aclSotItem.getReq_no() + "");
+    mp.setAcl_ip(aclSotItem.getAclip());
+    mp.setAcl_ssl(aclSotItem.getAclssl());
+    mp.setTopictype(aclSotItem.getAclType());
+    mp.setRemarks("DELETED");
+    return mp;
   }
 
   private List<String> tenantFiltering(List<String> teamList) {
@@ -704,21 +620,24 @@ public class AclSyncControllerService {
         || !commonUtilsService.isNotAuthorizedUser(
             getPrincipal(), PermissionType.SYNC_BACK_TOPICS)) {
       // tenant filtering
-      int tenantId = commonUtilsService.getTenantId(getUserName());
-      List<Team> teams = manageDatabase.getHandleDbRequests().getAllTeams(tenantId);
-      teams =
-          teams.stream()
-              .filter(t -> Objects.equals(t.getTenantId(), tenantId))
-              .collect(Collectors.toList());
-      List<String> teamListUpdated = new ArrayList<>();
-      for (Team teamsItem : teams) {
-        teamListUpdated.add(teamsItem.getTeamname());
-      }
-      teamList = teamListUpdated;
+      teamList = getTeamNames(commonUtilsService.getTenantId(getUserName()));
     }
     return teamList;
   }
 
+  private List<String> getTeamNames(int tenantId) {
+    List<Team> teams = manageDatabase.getHandleDbRequests().getAllTeams(tenantId);
+    teams =
+        teams.stream()
+            .filter(t -> Objects.equals(t.getTenantId(), tenantId))
+            .collect(Collectors.toList());
+    List<String> teamNames = new ArrayList<>();
+    for (Team teamsItem : teams) {
+      teamNames.add(teamsItem.getTeamname());
+    }
+    return teamNames;
+  }
+
   private int counterIncrement() {
     TOPIC_COUNTER++;
     return TOPIC_COUNTER;
@@ -552,7 +552,7 @@ public class AnalyticsControllerService {
     XSSFSheet sheet = workbook.createSheet(chartsJsOverview.getTitleForReport());
     // This data needs to be written (Object[])
     Map<Integer, Object[]> data = new HashMap<>();
-    List<Integer> data1 = chartsJsOverview.getData();
+    List<Long> data1 = chartsJsOverview.getData();
     List<String> labels = chartsJsOverview.getLabels();
 
     // header
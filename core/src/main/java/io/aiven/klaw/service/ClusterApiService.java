@@ -8,13 +8,17 @@ import io.aiven.klaw.dao.AclRequests;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawRestException;
 import io.aiven.klaw.error.RestErrorResponse;
+import io.aiven.klaw.helpers.ClusterCallMetrics;
+import io.aiven.klaw.helpers.SingleFlight;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.cluster.ClusterAclRequest;
 import io.aiven.klaw.model.cluster.ClusterConnectorRequest;
 import io.aiven.klaw.model.cluster.ClusterSchemaRequest;
+import io.aiven.klaw.model.cluster.ClusterTopicBatchRequest;
 import io.aiven.klaw.model.cluster.ClusterTopicRequest;
 import io.aiven.klaw.model.cluster.ConnectorsStatus;
 import io.aiven.klaw.model.cluster.LoadTopicsResponse;
@@ -39,6 +43,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.security.Key;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
@@ -48,17 +53,18 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Base64;
@@ -93,12 +99,15 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
 @Slf4j
 public class ClusterApiService {
   private static final String URL_DELIMITER = "/";
   public static final String URI_CONNECTOR_STATUS = "?connectorStatus=";
+  public static final String URI_ACLS_TOPIC_NAME = "topicName";
+  public static final String URI_ACLS_PRINCIPAL = "principal";
   public static final String TOPICS_NATIVE_TYPE = "topicsNativeType";
   public static final String RESET_CACHE = "resetCache";
 
@@ -120,6 +129,22 @@ public class ClusterApiService {
   private String clusterApiAccessBase64Secret;
 
   private static String clusterConnUrl;
+
+  // tokens are valid for 3 minutes, and reused until a minute before they expire
+  private static final long TOKEN_VALIDITY_SECONDS = 180;
+  private static final long TOKEN_RENEWAL_MARGIN_SECONDS = 60;
+
+  private record CachedToken(String username, String token, Instant renewAt) {}
+
+  private volatile CachedToken cachedToken;
+  private volatile Key hmacKey;
+  private final AtomicBoolean missingSecretLogged = new AtomicBoolean();
+
+  // concurrent identical cluster loads, e.g. several users opening the sync pages, share one call
+  private final SingleFlight<String, LoadTopicsResponse> topicLoads =
+      new SingleFlight<>("core", "getAllTopics");
+  private final SingleFlight<String, List<Map<String, String>>> aclLoads =
+      new SingleFlight<>("core", "getAcls");
   protected static HttpComponentsClientHttpRequestFactory requestFactory;
   RestTemplate httpRestTemplate, httpsRestTemplate;
 
@@ -146,7 +171,7 @@ public class ClusterApiService {
 
   private void getClusterApiProperties(int tenantId) {
     clusterConnUrl = manageDatabase.getKwPropertyValue(CLUSTER_CONN_URL_KEY, tenantId);
-    if (clusterApiAccessBase64Secret.isBlank()) {
+    if (clusterApiAccessBase64Secret.isBlank() && missingSecretLogged.compareAndSet(false, true)) {
       log.info(
           "CONFIGURE CLUSTER API SECRET FOR CLUSTER OPERATIONS. klaw.clusterapi.access.base64.secret");
     }
@@ -170,7 +195,11 @@ public class ClusterApiService {
       }
 
       ResponseEntity<ClusterStatus> resultBody =
-          restTemplate.exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
+          ClusterCallMetrics.time(
+              "getClusterApiStatus",
+              ClusterCallMetrics.NO_CLUSTER,
+              () ->
+                  restTemplate.exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class));
       return Objects.requireNonNull(resultBody.getBody());
     } catch (Exception e) {
       log.error("Error from getClusterApiStatus ", e);
@@ -203,7 +232,12 @@ public class ClusterApiService {
                   kafkaFlavor);
 
       ResponseEntity<ClusterStatus> resultBody =
-          getRestTemplate(null).exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
+          ClusterCallMetrics.time(
+              "getKafkaClusterStatus",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class));
       return Objects.requireNonNull(resultBody.getBody());
     } catch (Exception e) {
       log.error("Error from getKafkaClusterStatus ", e);
@@ -232,10 +266,18 @@ public class ClusterApiService {
               + String.join(
                   URL_DELIMITER, protocol.getName(), clusterIdentification, consumerGroupId, topic);
 
+      String offsetsUrl = url;
       ResponseEntity<List<OffsetDetails>> resultBody =
-          getRestTemplate(null)
-              .exchange(
-                  url, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getConsumerOffsets",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          offsetsUrl,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<List<OffsetDetails>>() {}));
 
       offsetDetailsList = new ArrayList<>(Objects.requireNonNull(resultBody.getBody()));
     } catch (Exception e) {
@@ -274,10 +316,18 @@ public class ClusterApiService {
                   offsetId,
                   clusterIdentification);
 
+      String eventsUrl = url;
       ResponseEntity<Map<String, String>> resultBody =
-          getRestTemplate(null)
-              .exchange(
-                  url, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getTopicEvents",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          eventsUrl,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<Map<String, String>>() {}));
 
       eventsMap = new TreeMap<>(Objects.requireNonNull(resultBody.getBody()));
     } catch (Exception e) {
@@ -290,7 +340,70 @@ public class ClusterApiService {
   public List<Map<String, String>> getAcls(
       String bootstrapHost, Env envSelected, KafkaSupportedProtocol protocol, int tenantId)
       throws KlawException {
-    log.info("getAcls {} {} {}", bootstrapHost, protocol, tenantId);
+    return getAcls(bootstrapHost, envSelected, protocol, null, null, tenantId);
+  }
+
+  /**
+   * @param topicNameSearch part of the name of the topics to get the acls of, which the cluster api
+   *     filters on, all acls if empty
+   * @param principalSearch part of the principal to get the acls of, which the cluster api filters
+   *     on, all acls if empty
+   */
+  public List<Map<String, String>> getAcls(
+      String bootstrapHost,
+      Env envSelected,
+      KafkaSupportedProtocol protocol,
+      String topicNameSearch,
+      String principalSearch,
+      int tenantId)
+      throws KlawException {
+    log.info(
+        "getAcls {} {} {} {} {}",
+        bootstrapHost,
+        protocol,
+        topicNameSearch,
+        principalSearch,
+        tenantId);
+    String topicFilter = StringUtils.isBlank(topicNameSearch) ? null : topicNameSearch.trim();
+    String principalFilter = StringUtils.isBlank(principalSearch) ? null : principalSearch.trim();
+    String loadKey =
+        String.join(
+            URL_DELIMITER,
+            String.valueOf(tenantId),
+            String.valueOf(envSelected.getClusterId()),
+            bootstrapHost,
+            protocol.getName(),
+            String.valueOf(topicFilter),
+            String.valueOf(principalFilter));
+    try {
+      // callers get their own copy of the shared result
+      return new ArrayList<>(
+          aclLoads.execute(
+              loadKey,
+              () ->
+                  loadAcls(
+                      bootstrapHost,
+                      envSelected,
+                      protocol,
+                      topicFilter,
+                      principalFilter,
+                      tenantId)));
+    } catch (KlawException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error("Error from getAcls", e);
+      throw new KlawException(CLUSTER_API_ERR_103);
+    }
+  }
+
+  private List<Map<String, String>> loadAcls(
+      String bootstrapHost,
+      Env envSelected,
+      KafkaSupportedProtocol protocol,
+      String topicFilter,
+      String principalFilter,
+      int tenantId)
+      throws KlawException {
     getClusterApiProperties(tenantId);
 
     List<Map<String, String>> aclListOriginal;
@@ -344,11 +457,29 @@ public class ClusterApiService {
                     "na",
                     "na");
       }
-
+      UriComponentsBuilder aclsUriBuilder = UriComponentsBuilder.fromUriString(uri);
+      // the filters typed by the user are expanded as encoded variables of the query
+      Map<String, String> aclsFilters = new HashMap<>();
+      if (topicFilter != null) {
+        aclsUriBuilder.queryParam(URI_ACLS_TOPIC_NAME, "{" + URI_ACLS_TOPIC_NAME + "}");
+        aclsFilters.put(URI_ACLS_TOPIC_NAME, topicFilter);
+      }
+      if (principalFilter != null) {
+        aclsUriBuilder.queryParam(URI_ACLS_PRINCIPAL, "{" + URI_ACLS_PRINCIPAL + "}");
+        aclsFilters.put(URI_ACLS_PRINCIPAL, principalFilter);
+      }
+      URI aclsUri = aclsUriBuilder.encode().buildAndExpand(aclsFilters).toUri();
       ResponseEntity<Set<Map<String, String>>> resultBody =
-          getRestTemplate(null)
-              .exchange(
-                  uri, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAcls",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          aclsUri,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<Set<Map<String, String>>>() {}));
       aclListOriginal = new ArrayList<>(Objects.requireNonNull(resultBody.getBody()));
     } catch (Exception e) {
       log.error("Error from getAcls", e);
@@ -366,6 +497,44 @@ public class ClusterApiService {
       boolean resetTopicsCache)
       throws Exception {
     log.info("getAllTopics {} {}", bootstrapHost, protocol);
+    String loadKey =
+        String.join(
+            URL_DELIMITER,
+            String.valueOf(tenantId),
+            bootstrapHost,
+            protocol.getName(),
+            clusterIdentification,
+            String.valueOf(resetTopicsCache));
+    LoadTopicsResponse loadTopicsResponse =
+        topicLoads.execute(
+            loadKey,
+            () ->
+                loadAllTopics(
+                    bootstrapHost,
+                    protocol,
+                    clusterIdentification,
+                    kafkaFlavors,
+                    tenantId,
+                    resetTopicsCache));
+
+    // callers get their own copy of the shared result
+    return LoadTopicsResponse.builder()
+        .loadingInProgress(loadTopicsResponse.isLoadingInProgress())
+        .topicConfigSet(
+            loadTopicsResponse.getTopicConfigSet() == null
+                ? null
+                : new HashSet<>(loadTopicsResponse.getTopicConfigSet()))
+        .build();
+  }
+
+  private LoadTopicsResponse loadAllTopics(
+      String bootstrapHost,
+      KafkaSupportedProtocol protocol,
+      String clusterIdentification,
+      String kafkaFlavors,
+      int tenantId,
+      boolean resetTopicsCache)
+      throws KlawException {
     getClusterApiProperties(tenantId);
 
     LoadTopicsResponse loadTopicsResponse;
@@ -391,9 +560,16 @@ public class ClusterApiService {
 
       HttpEntity<String> entity = getHttpEntity();
       ResponseEntity<LoadTopicsResponse> s =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetTopicsFull, HttpMethod.GET, entity, new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAllTopics",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriGetTopicsFull,
+                          HttpMethod.GET,
+                          entity,
+                          new ParameterizedTypeReference<LoadTopicsResponse>() {}));
       loadTopicsResponse = Objects.requireNonNull(s.getBody());
     } catch (Exception e) {
       log.error("Error from getAllTopics", e);
@@ -441,8 +617,16 @@ public class ClusterApiService {
       HttpEntity<ClusterConnectorRequest> request =
           new HttpEntity<>(clusterConnectorRequest, headers);
       response =
-          getRestTemplate(null)
-              .exchange(uri, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "approveConnectorRequests",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uri,
+                          HttpMethod.POST,
+                          request,
+                          new ParameterizedTypeReference<ApiResponse>() {}));
 
       ApiResponse apiResponse = response.getBody();
       if (apiResponse != null) {
@@ -560,7 +744,11 @@ public class ClusterApiService {
 
       HttpHeaders headers = createHeaders(clusterApiUser);
       HttpEntity<ClusterTopicRequest> request = new HttpEntity<>(clusterTopicRequest, headers);
-      response = getRestTemplate(null).postForEntity(uri, request, ApiResponse.class);
+      response =
+          ClusterCallMetrics.time(
+              "approveTopicRequests",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () -> getRestTemplate(null).postForEntity(uri, request, ApiResponse.class));
     } catch (Exception e) {
       log.error("approveTopicRequests {}", topicName, e);
       return throwCommonErrors(e, CLUSTER_API_ERR_106);
@@ -568,6 +756,66 @@ public class ClusterApiService {
     return response;
   }
 
+  /**
+   * Creates all given topics on the cluster of the environment with a single call to the cluster
+   * api. The data of the response maps every topic name to SUCCESS or the error of that topic.
+   */
+  public ResponseEntity<ApiResponse> createTopics(
+      String topicEnvId,
+      List<Topic> topics,
+      Map<String, Map<String, String>> advancedConfigs,
+      int tenantId)
+      throws KlawException {
+    log.info("createTopics {} topics on {}", topics.size(), topicEnvId);
+    getClusterApiProperties(tenantId);
+    ResponseEntity<ApiResponse> response;
+    try {
+      Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(topicEnvId, tenantId);
+      KwClusters kwClusters =
+          manageDatabase
+              .getClusters(KafkaClustersType.KAFKA, tenantId)
+              .get(envSelected.getClusterId());
+      ClusterTopicRequest clusterRequest =
+          ClusterTopicRequest.builder()
+              .env(kwClusters.getBootstrapServers())
+              .protocol(kwClusters.getProtocol())
+              .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
+              .aclsNativeType(
+                  (Objects.equals(kwClusters.getKafkaFlavor(), KafkaFlavors.CONFLUENT_CLOUD.value))
+                      ? AclsNativeType.CONFLUENT_CLOUD
+                      : AclsNativeType.NATIVE)
+              .build();
+
+      List<ClusterTopicRequest> topicRequests = new ArrayList<>(topics.size());
+      for (Topic topic : topics) {
+        topicRequests.add(
+            clusterRequest.toBuilder()
+                .topicName(topic.getTopicname())
+                .partitions(topic.getNoOfPartitions())
+                .replicationFactor(Short.parseShort(topic.getNoOfReplicas()))
+                .advancedTopicConfiguration(advancedConfigs.get(topic.getTopicname()))
+                .build());
+      }
+
+      HttpHeaders headers = createHeaders(clusterApiUser);
+      HttpEntity<ClusterTopicBatchRequest> request =
+          new HttpEntity<>(
+              ClusterTopicBatchRequest.builder().topicRequests(topicRequests).build(), headers);
+      response =
+          ClusterCallMetrics.time(
+              "createTopics",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () ->
+                  getRestTemplate(null)
+                      .postForEntity(
+                          clusterConnUrl + URI_CREATE_TOPICS_BATCH, request, ApiResponse.class));
+    } catch (Exception e) {
+      log.error("createTopics {}", topicEnvId, e);
+      return throwCommonErrors(e, CLUSTER_API_ERR_106);
+    }
+    return response;
+  }
+
   public ResponseEntity<ApiResponse> approveAclRequests(AclRequests aclReq, int tenantId)
       throws KlawException {
     log.info("approveAclRequests {}", aclReq);
@@ -665,8 +913,16 @@ public class ClusterApiService {
 
       HttpEntity<ClusterAclRequest> request = new HttpEntity<>(clusterAclRequest, headers);
       response =
-          getRestTemplate(null)
-              .exchange(uri, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "approveAclRequests",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uri,
+                          HttpMethod.POST,
+                          request,
+                          new ParameterizedTypeReference<ApiResponse>() {}));
       return response;
     } catch (Exception e) {
       log.error("Error from approveAclRequests", e);
@@ -691,13 +947,18 @@ public class ClusterApiService {
               .replace("userName", userName);
 
       HttpEntity<String> entity = getHttpEntity();
+      String uri = uriGetServiceAccountDetails;
       ResponseEntity<ServiceAccountDetails> apiResponseResponseEntity =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetServiceAccountDetails,
-                  HttpMethod.GET,
-                  entity,
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAivenServiceAccountDetails",
+              serviceName,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uri,
+                          HttpMethod.GET,
+                          entity,
+                          new ParameterizedTypeReference<ServiceAccountDetails>() {}));
       return apiResponseResponseEntity.getBody();
     } catch (Exception e) {
       log.error("Error from getAivenServiceAccountDetails", e);
@@ -716,13 +977,18 @@ public class ClusterApiService {
               .replace("serviceName", serviceName);
 
       HttpEntity<String> entity = getHttpEntity();
+      String uri = uriGetServiceAccounts;
       ResponseEntity<ApiResponse> apiResponseResponseEntity =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetServiceAccounts,
-                  HttpMethod.GET,
-                  entity,
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAivenServiceAccounts",
+              serviceName,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uri,
+                          HttpMethod.GET,
+                          entity,
+                          new ParameterizedTypeReference<ApiResponse>() {}));
       return apiResponseResponseEntity.getBody();
     } catch (Exception e) {
       log.error("Error from getAivenServiceAccounts", e);
@@ -775,7 +1041,11 @@ public class ClusterApiService {
 
       HttpHeaders headers = createHeaders(clusterApiUser);
       HttpEntity<ClusterTopicRequest> request = new HttpEntity<>(clusterTopicRequest, headers);
-      response = getRestTemplate(null).postForEntity(uri, request, ApiResponse.class);
+      response =
+          ClusterCallMetrics.time(
+              "deleteSchema",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () -> getRestTemplate(null).postForEntity(uri, request, ApiResponse.class));
     } catch (Exception e) {
       log.error("deleteSchema {}", topicName, e);
       return throwCommonErrors(e, CLUSTER_API_ERR_123);
@@ -824,7 +1094,11 @@ public class ClusterApiService {
 
       HttpHeaders headers = createHeaders(clusterApiUser);
       HttpEntity<ClusterSchemaRequest> request = new HttpEntity<>(clusterSchemaRequest, headers);
-      response = getRestTemplate(null).postForEntity(uri, request, ApiResponse.class);
+      response =
+          ClusterCallMetrics.time(
+              "postSchema",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () -> getRestTemplate(null).postForEntity(uri, request, ApiResponse.class));
     } catch (Exception e) {
       log.error("Error from postSchema ", e);
       if (e.getMessage().contains(CLUSTER_API_ERR_120)
@@ -868,7 +1142,11 @@ public class ClusterApiService {
 
         HttpHeaders headers = createHeaders(clusterApiUser);
         HttpEntity<ClusterSchemaRequest> request = new HttpEntity<>(clusterSchemaRequest, headers);
-        response = getRestTemplate(null).postForEntity(uri, request, ApiResponse.class);
+        response =
+            ClusterCallMetrics.time(
+                "resetSchemaInfoCache",
+                kwClusters.getClusterName() + kwClusters.getClusterId(),
+                () -> getRestTemplate(null).postForEntity(uri, request, ApiResponse.class));
       }
     } catch (Exception e) {
       log.error("Error from resetCache ", e);
@@ -908,7 +1186,10 @@ public class ClusterApiService {
       headers.setContentType(MediaType.APPLICATION_JSON);
 
       HttpEntity<ClusterSchemaRequest> request = new HttpEntity<>(clusterSchemaRequest, headers);
-      return getRestTemplate(null).postForEntity(uri, request, ApiResponse.class);
+      return ClusterCallMetrics.time(
+          "validateSchema",
+          kwClusters.getClusterName() + kwClusters.getClusterId(),
+          () -> getRestTemplate(null).postForEntity(uri, request, ApiResponse.class));
     } catch (Exception e) {
       log.error("Error from Validating Schema. ", e);
       throw new KlawException(CLUSTER_API_ERR_112);
@@ -935,12 +1216,17 @@ public class ClusterApiService {
               + String.join(URL_DELIMITER, protocol.getName(), clusterIdentification, topicName);
 
       ResponseEntity<TreeMap<String, Map<String, Object>>> treeMapResponseEntity =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetTopicsFull,
-                  HttpMethod.GET,
-                  getHttpEntity(),
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAvroSchema",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriGetTopicsFull,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<
+                              TreeMap<String, Map<String, Object>>>() {}));
 
       for (String schemaVersion :
           Objects.requireNonNull(treeMapResponseEntity.getBody()).keySet()) {
@@ -978,12 +1264,16 @@ public class ClusterApiService {
                   clusterIdentification);
 
       ResponseEntity<SchemasInfoOfClusterResponse> responseEntity =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetTopicsFull,
-                  HttpMethod.GET,
-                  getHttpEntity(),
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getSchemasFromCluster",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriGetTopicsFull,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<SchemasInfoOfClusterResponse>() {}));
 
       return responseEntity.getBody();
     } catch (Exception e) {
@@ -1013,12 +1303,16 @@ public class ClusterApiService {
       String uriGetConnectorsFull = clusterConnUrl + uriGetTopics;
 
       ResponseEntity<Map<String, Object>> s =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetConnectorsFull,
-                  HttpMethod.GET,
-                  getHttpEntity(),
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getConnectorDetails",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriGetConnectorsFull,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<Map<String, Object>>() {}));
 
       return s.getBody();
     } catch (Exception e) {
@@ -1049,12 +1343,16 @@ public class ClusterApiService {
       String uriGetConnectorsFull = clusterConnUrl + uriGetTopics;
 
       ResponseEntity<ConnectorsStatus> responseEntity =
-          getRestTemplate(null)
-              .exchange(
-                  uriGetConnectorsFull,
-                  HttpMethod.GET,
-                  getHttpEntity(),
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "getAllKafkaConnectors",
+              clusterIdentification,
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriGetConnectorsFull,
+                          HttpMethod.GET,
+                          getHttpEntity(),
+                          new ParameterizedTypeReference<ConnectorsStatus>() {}));
 
       return responseEntity.getBody();
     } catch (Exception e) {
@@ -1094,12 +1392,16 @@ public class ClusterApiService {
       HttpEntity<ClusterConnectorRequest> request =
           new HttpEntity<>(clusterConnectorRequest, headers);
       response =
-          getRestTemplate(null)
-              .exchange(
-                  uriPostConnectorsFull,
-                  HttpMethod.POST,
-                  request,
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "restartConnector",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriPostConnectorsFull,
+                          HttpMethod.POST,
+                          request,
+                          new ParameterizedTypeReference<ApiResponse>() {}));
 
       return response.getBody();
 
@@ -1126,8 +1428,15 @@ public class ClusterApiService {
       HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(params, headers);
 
       ResponseEntity<HashMap<String, String>> s =
-          restTemplate.exchange(
-              uriGetTopicsFull, HttpMethod.POST, entity, new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "retrieveMetrics",
+              ClusterCallMetrics.NO_CLUSTER,
+              () ->
+                  restTemplate.exchange(
+                      uriGetTopicsFull,
+                      HttpMethod.POST,
+                      entity,
+                      new ParameterizedTypeReference<HashMap<String, String>>() {}));
 
       return Objects.requireNonNull(s.getBody());
 
@@ -1167,12 +1476,16 @@ public class ClusterApiService {
       HttpEntity<ResetConsumerGroupOffsetsRequest> request =
           new HttpEntity<>(resetConsumerGroupOffsetsRequest, headers);
       response =
-          getRestTemplate(null)
-              .exchange(
-                  uriResetConsumerOffsets,
-                  HttpMethod.POST,
-                  request,
-                  new ParameterizedTypeReference<>() {});
+          ClusterCallMetrics.time(
+              "resetConsumerOffsets",
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              () ->
+                  getRestTemplate(null)
+                      .exchange(
+                          uriResetConsumerOffsets,
+                          HttpMethod.POST,
+                          request,
+                          new ParameterizedTypeReference<ApiResponse>() {}));
 
       return response.getBody();
 
@@ -1247,20 +1560,31 @@ public class ClusterApiService {
       throw new KlawException(CLUSTER_API_ERR_117);
     }
 
-    Key hmacKey =
-        new SecretKeySpec(
-            Base64.decodeBase64(clusterApiAccessBase64Secret),
-            SignatureAlgorithm.HS256.getJcaName());
     Instant now = Instant.now();
+    CachedToken token = cachedToken;
+    if (token != null && token.username().equals(username) && now.isBefore(token.renewAt())) {
+      return token.token();
+    }
 
-    return Jwts.builder()
-        .claim("name", username)
-        .subject(username)
-        .id(UUID.randomUUID().toString())
-        .issuedAt(Date.from(now))
-        .expiration(Date.from(now.plus(3L, ChronoUnit.MINUTES))) // expiry in 3 minutes
-        .signWith(hmacKey)
-        .compact();
+    if (hmacKey == null) {
+      hmacKey =
+          new SecretKeySpec(
+              Base64.decodeBase64(clusterApiAccessBase64Secret),
+              SignatureAlgorithm.HS256.getJcaName());
+    }
+    String jwt =
+        Jwts.builder()
+            .claim("name", username)
+            .subject(username)
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plusSeconds(TOKEN_VALIDITY_SECONDS)))
+            .signWith(hmacKey)
+            .compact();
+    cachedToken =
+        new CachedToken(
+            username, jwt, now.plusSeconds(TOKEN_VALIDITY_SECONDS - TOKEN_RENEWAL_MARGIN_SECONDS));
+    return jwt;
   }
 
   private HttpEntity<String> getHttpEntity() throws KlawException {
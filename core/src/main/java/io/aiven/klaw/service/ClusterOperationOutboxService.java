@@ -0,0 +1,109 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwClusterOperation;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.model.response.BaseRequestsResponseModel;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Outbox of the cluster operations of approved requests. When enabled, approving a request only
+ * records its cluster operation, which {@link ClusterOperationWorkerService} applies to the cluster
+ * asynchronously and which approves the request once applied.
+ */
+@Service
+@Slf4j
+public class ClusterOperationOutboxService {
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Value("${klaw.approvals.outbox.enabled:false}")
+  private boolean outboxEnabled;
+
+  public boolean isEnabled() {
+    return outboxEnabled;
+  }
+
+  /**
+   * Adds the cluster operation of the request to the outbox. Approving a request again while its
+   * operation is still pending or running does not add another operation.
+   *
+   * @return the operation which is going to apply the request
+   */
+  public KwClusterOperation enqueue(
+      RequestEntityType requestType, int requestId, String env, int tenantId, String approver) {
+    Timestamp now = Timestamp.from(Instant.now());
+    KwClusterOperation kwClusterOperation = new KwClusterOperation();
+    kwClusterOperation.setTenantId(tenantId);
+    kwClusterOperation.setRequestType(requestType.name());
+    kwClusterOperation.setRequestId(requestId);
+    kwClusterOperation.setEnv(env);
+    kwClusterOperation.setOperationKey(getOperationKey(requestType, requestId, tenantId));
+    kwClusterOperation.setApprover(approver);
+    kwClusterOperation.setStatus(ClusterOperationStatus.PENDING.value);
+    kwClusterOperation.setAttempts(0);
+    kwClusterOperation.setNextAttemptTime(now);
+    kwClusterOperation.setCreatedTime(now);
+    kwClusterOperation.setUpdatedTime(now);
+
+    KwClusterOperation queuedOperation =
+        manageDatabase.getHandleDbRequests().addClusterOperation(kwClusterOperation);
+    log.info(
+        "Cluster operation {} of {} request {} is {}",
+        queuedOperation.getId(),
+        requestType,
+        requestId,
+        queuedOperation.getStatus());
+    return queuedOperation;
+  }
+
+  /**
+   * Adds the status of the latest operation of each request waiting for approval, and its error
+   * once failed. A request whose operation failed waits to be approved again.
+   *
+   * @param requestId id of the request of a response model
+   */
+  public <T extends BaseRequestsResponseModel> void addClusterOperations(
+      RequestEntityType requestType,
+      int tenantId,
+      List<T> requestModels,
+      Function<T, Integer> requestId) {
+    Map<String, T> requestModelsByKey = new HashMap<>();
+    for (T requestModel : requestModels) {
+      if (RequestStatus.CREATED == requestModel.getRequestStatus()) {
+        requestModelsByKey.put(
+            getOperationKey(requestType, requestId.apply(requestModel), tenantId), requestModel);
+      }
+    }
+    if (requestModelsByKey.isEmpty()) {
+      return;
+    }
+
+    // a request is approved again after its operation failed, so the latest operation is set last
+    manageDatabase.getHandleDbRequests().getClusterOperations(requestModelsByKey.keySet()).stream()
+        .sorted(Comparator.comparing(KwClusterOperation::getId))
+        .forEach(
+            kwClusterOperation -> {
+              T requestModel = requestModelsByKey.get(kwClusterOperation.getOperationKey());
+              requestModel.setClusterOperationStatus(
+                  ClusterOperationStatus.of(kwClusterOperation.getStatus()));
+              requestModel.setClusterOperationError(kwClusterOperation.getLastError());
+            });
+  }
+
+  static String getOperationKey(RequestEntityType requestType, int requestId, int tenantId) {
+    return requestType.name() + ":" + tenantId + ":" + requestId;
+  }
+}
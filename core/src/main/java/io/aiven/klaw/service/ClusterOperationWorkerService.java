@@ -0,0 +1,323 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.KwClusterOperation;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
+import io.aiven.klaw.model.enums.MailType;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies the cluster operations of the outbox of {@link ClusterOperationOutboxService}. Every node
+ * polls the outbox, and an operation is only executed by the node which claims it, which only
+ * stores the outcome while its claim holds. Operations failing because the cluster api could not be
+ * reached are retried with an exponential backoff, operations rejected by the cluster api fail
+ * right away and leave their request to be approved again. The requestor and the approver of a
+ * request whose operation failed are notified.
+ */
+@Service
+@Slf4j
+@EnableScheduling
+public class ClusterOperationWorkerService {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private ClusterOperationOutboxService clusterOperationOutboxService;
+
+  @Autowired private TopicControllerService topicControllerService;
+
+  @Autowired private AclControllerService aclControllerService;
+
+  @Autowired private SchemaRegistryControllerService schemaRegistryControllerService;
+
+  @Autowired private MailUtils mailService;
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
+
+  @Value("${klaw.approvals.outbox.batch.size:50}")
+  private int batchSize = 50;
+
+  @Value("${klaw.approvals.outbox.max.attempts:5}")
+  private int maxAttempts = 5;
+
+  @Value("${klaw.approvals.outbox.backoff.millis:1000}")
+  private long backoffMillis = 1000;
+
+  @Value("${klaw.approvals.outbox.backoff.max.millis:60000}")
+  private long maxBackoffMillis = 60000;
+
+  // operations whose lease was not renewed for longer are considered abandoned by a node which
+  // stopped, the lease of a running operation is renewed every third of it
+  @Value("${klaw.approvals.outbox.lease.seconds:300}")
+  private long leaseSeconds = 300;
+
+  @Autowired
+  @Qualifier("clusterOperationsTaskExecutor")
+  private Executor workersExecutor;
+
+  // operations claimed by this node, only used by the polls of the outbox which never overlap
+  private final List<RunningOperation> runningOperations = new ArrayList<>();
+
+  private Instant claimsRenewedAt = Instant.EPOCH;
+
+  /**
+   * Claims the due operations and hands them to the workers. Does not wait for the operations, so
+   * the scheduler thread is free for the other scheduled jobs, the later polls renew the leases of
+   * the operations still running.
+   */
+  @Scheduled(
+      fixedDelayString = "${klaw.approvals.outbox.poll.interval.millis:1000}",
+      initialDelay = 10000)
+  public void processOutbox() {
+    if (!clusterOperationOutboxService.isEnabled()) {
+      return;
+    }
+
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    Instant now = Instant.now();
+    runningOperations.removeIf(runningOperation -> runningOperation.outcome().isDone());
+    long renewalIntervalMillis = Math.max(1, TimeUnit.SECONDS.toMillis(leaseSeconds) / 3);
+    if (!now.isBefore(claimsRenewedAt.plusMillis(renewalIntervalMillis))) {
+      renewClaims(dbHandle);
+      claimsRenewedAt = now;
+    }
+
+    int releasedOperations =
+        dbHandle.releaseStaleClusterOperations(
+            Timestamp.from(now), Timestamp.from(now.minusSeconds(leaseSeconds)));
+    if (releasedOperations > 0) {
+      log.warn("Released {} abandoned cluster operations", releasedOperations);
+    }
+
+    // no more than a batch of operations is claimed by this node at any time
+    int freeSlots = batchSize - runningOperations.size();
+    if (freeSlots <= 0) {
+      return;
+    }
+    for (KwClusterOperation kwClusterOperation :
+        dbHandle.getDueClusterOperations(Timestamp.from(now), freeSlots)) {
+      if (!dbHandle.claimClusterOperation(
+          kwClusterOperation.getId(), Timestamp.from(Instant.now()))) {
+        continue;
+      }
+      kwClusterOperation.setStatus(ClusterOperationStatus.RUNNING.value);
+      kwClusterOperation.setAttempts(kwClusterOperation.getAttempts() + 1);
+      runningOperations.add(
+          new RunningOperation(
+              kwClusterOperation,
+              CompletableFuture.runAsync(() -> execute(kwClusterOperation), workersExecutor)));
+    }
+  }
+
+  // keeps operations which take longer than the lease from being released and run a second time
+  private void renewClaims(HandleDbRequests dbHandle) {
+    for (RunningOperation runningOperation : runningOperations) {
+      KwClusterOperation kwClusterOperation = runningOperation.operation();
+      if (!runningOperation.outcome().isDone()
+          && !dbHandle.renewClusterOperationClaim(
+              kwClusterOperation.getId(),
+              kwClusterOperation.getAttempts(),
+              Timestamp.from(Instant.now()))) {
+        log.warn(
+            "Lease of cluster operation {} could not be renewed for attempt {}",
+            kwClusterOperation.getId(),
+            kwClusterOperation.getAttempts());
+      }
+    }
+  }
+
+  void execute(KwClusterOperation kwClusterOperation) {
+    // the approved requests are applied in the name of their approver
+    SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+    securityContext.setAuthentication(
+        new UsernamePasswordAuthenticationToken(
+            kwClusterOperation.getApprover(), null, Collections.emptyList()));
+    SecurityContextHolder.setContext(securityContext);
+    try {
+      applyOperation(kwClusterOperation);
+
+      kwClusterOperation.setUpdatedTime(Timestamp.from(Instant.now()));
+      if (!manageDatabase.getHandleDbRequests().updateClaimedClusterOperation(kwClusterOperation)) {
+        log.warn(
+            "Cluster operation {} was released after its lease and claimed again, the outcome {}"
+                + " of attempt {} is discarded",
+            kwClusterOperation.getId(),
+            kwClusterOperation.getStatus(),
+            kwClusterOperation.getAttempts());
+        return;
+      }
+      log.info(
+          "Cluster operation {} of {} request {} is {} after {} attempts",
+          kwClusterOperation.getId(),
+          kwClusterOperation.getRequestType(),
+          kwClusterOperation.getRequestId(),
+          kwClusterOperation.getStatus(),
+          kwClusterOperation.getAttempts());
+      if (ClusterOperationStatus.FAILED.value.equals(kwClusterOperation.getStatus())) {
+        notifyFailure(kwClusterOperation);
+      }
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  private void applyOperation(KwClusterOperation kwClusterOperation) {
+    try {
+      ApiResponse apiResponse = executeRequest(kwClusterOperation);
+      if (apiResponse.isSuccess()) {
+        kwClusterOperation.setStatus(ClusterOperationStatus.COMPLETED.value);
+        kwClusterOperation.setLastError(null);
+      } else {
+        kwClusterOperation.setStatus(ClusterOperationStatus.FAILED.value);
+        kwClusterOperation.setLastError(truncate(apiResponse.getMessage()));
+      }
+    } catch (Exception e) {
+      log.error("Error in executing cluster operation {}", kwClusterOperation, e);
+      kwClusterOperation.setLastError(truncate(e.getMessage()));
+      if (kwClusterOperation.getAttempts() >= maxAttempts) {
+        kwClusterOperation.setStatus(ClusterOperationStatus.FAILED.value);
+      } else {
+        kwClusterOperation.setStatus(ClusterOperationStatus.PENDING.value);
+        kwClusterOperation.setNextAttemptTime(
+            Timestamp.from(
+                Instant.now().plusMillis(getBackoffMillis(kwClusterOperation.getAttempts()))));
+      }
+    }
+  }
+
+  // the request of a failed operation waits for approval again, its requestor and approver are
+  // mailed and the users following it are told the approval was not applied
+  private void notifyFailure(KwClusterOperation kwClusterOperation) {
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    int tenantId = kwClusterOperation.getTenantId();
+    int requestId = kwClusterOperation.getRequestId();
+    String approver = kwClusterOperation.getApprover();
+    String error = Objects.requireNonNullElse(kwClusterOperation.getLastError(), "");
+    RequestStatusEvent requestStatusEvent;
+    try {
+      switch (RequestEntityType.valueOf(kwClusterOperation.getRequestType())) {
+        case TOPIC -> {
+          TopicRequest topicRequest = dbHandle.getTopicRequestsForTopic(requestId, tenantId);
+          if (topicRequest == null) {
+            return;
+          }
+          mailService.sendMail(
+              topicRequest.getTopicname(),
+              null,
+              error,
+              topicRequest.getRequestor(),
+              approver,
+              NumberUtils.toInt(topicRequest.getApprovingTeamId(), -1),
+              dbHandle,
+              MailType.TOPIC_REQUEST_FAILURE,
+              commonUtilsService.getLoginUrl());
+          requestStatusEvent =
+              RequestStatusEvent.of(topicRequest, topicRequest.getRequestStatus(), 0);
+        }
+        case ACL -> {
+          AclRequests aclRequest = dbHandle.getAcl(requestId, tenantId);
+          if (aclRequest == null) {
+            return;
+          }
+          mailService.sendMail(
+              aclRequest.getTopicname(),
+              aclRequest.getAclType(),
+              error,
+              aclRequest.getRequestor(),
+              approver,
+              aclRequest.getTeamId(),
+              dbHandle,
+              MailType.ACL_REQUEST_FAILURE,
+              commonUtilsService.getLoginUrl());
+          requestStatusEvent = RequestStatusEvent.of(aclRequest, aclRequest.getRequestStatus(), 0);
+        }
+        case SCHEMA -> {
+          SchemaRequest schemaRequest = dbHandle.getSchemaRequest(requestId, tenantId);
+          if (schemaRequest == null) {
+            return;
+          }
+          mailService.sendMail(
+              schemaRequest.getTopicname(),
+              null,
+              error,
+              schemaRequest.getRequestor(),
+              approver,
+              schemaRequest.getTeamId(),
+              dbHandle,
+              MailType.SCHEMA_REQUEST_FAILURE,
+              commonUtilsService.getLoginUrl());
+          requestStatusEvent =
+              RequestStatusEvent.of(schemaRequest, schemaRequest.getRequestStatus(), 0);
+        }
+        default -> {
+          return;
+        }
+      }
+    } catch (Exception e) {
+      log.error("Error in notifying the failure of cluster operation {}", kwClusterOperation, e);
+      return;
+    }
+    requestStatusEvent.setClusterOperationStatus(kwClusterOperation.getStatus());
+    requestStatusEvent.setClusterOperationError(kwClusterOperation.getLastError());
+    applicationEventPublisher.publishEvent(requestStatusEvent);
+  }
+
+  private ApiResponse executeRequest(KwClusterOperation kwClusterOperation) throws KlawException {
+    String approver = kwClusterOperation.getApprover();
+    int tenantId = kwClusterOperation.getTenantId();
+    int requestId = kwClusterOperation.getRequestId();
+    return switch (RequestEntityType.valueOf(kwClusterOperation.getRequestType())) {
+      case TOPIC -> topicControllerService.executeApprovedTopicRequest(
+          approver, tenantId, requestId);
+      case ACL -> aclControllerService.executeApprovedAclRequest(approver, tenantId, requestId);
+      case SCHEMA -> schemaRegistryControllerService.executeApprovedSchemaRequest(
+          approver, tenantId, requestId);
+      default -> ApiResponse.notOk(
+          "Unsupported request type " + kwClusterOperation.getRequestType());
+    };
+  }
+
+  // doubles with every attempt, from the configured backoff up to the configured maximum
+  long getBackoffMillis(int attempts) {
+    return Math.min(maxBackoffMillis, backoffMillis << Math.min(Math.max(attempts - 1, 0), 30));
+  }
+
+  private record RunningOperation(KwClusterOperation operation, CompletableFuture<Void> outcome) {}
+
+  private static String truncate(String error) {
+    return error == null || error.length() <= MAX_ERROR_LENGTH
+        ? error
+        : error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -217,8 +217,8 @@ public class CommonUtilsService {
     }
   }
 
-  public <X> ChartsJsOverview getChartsJsOverview(
-      List<ChartsOverviewItem<X, Integer>> activityCountList,
+  public <X, Y extends Number> ChartsJsOverview getChartsJsOverview(
+      List<ChartsOverviewItem<X, Y>> activityCountList,
       String title,
       String xaxisLabel,
       String xAxisLabelConstant,
@@ -226,20 +226,20 @@ public class CommonUtilsService {
       int tenantId) {
     ChartsJsOverview chartsJsOverview = new ChartsJsOverview();
     final int size = activityCountList == null ? 0 : activityCountList.size();
-    List<Integer> data = new ArrayList<>(size);
+    List<Long> data = new ArrayList<>(size);
     List<String> labels = new ArrayList<>(size);
     List<String> colors = new ArrayList<>(size);
 
-    data.add(0);
+    data.add(0L);
     labels.add("");
 
-    int totalCount = 0;
+    long totalCount = 0;
 
     if (activityCountList != null) {
       final boolean isTeamId = "teamid".equals(xaxisLabel);
-      for (ChartsOverviewItem<X, Integer> item : activityCountList) {
-        totalCount += item.yValue;
-        data.add(item.yValue);
+      for (ChartsOverviewItem<X, Y> item : activityCountList) {
+        totalCount += item.yValue.longValue();
+        data.add(item.yValue.longValue());
         if (isTeamId) {
           labels.add(
               manageDatabase.getTeamNameFromTeamId(
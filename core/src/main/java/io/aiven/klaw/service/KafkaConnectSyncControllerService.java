@@ -2,7 +2,6 @@ package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.KAFKA_CONNECT_SYNC_102;
 import static io.aiven.klaw.error.KlawErrorMessages.KAFKA_CONNECT_SYNC_ERR_101;
-import static io.aiven.klaw.error.KlawErrorMessages.KAFKA_CONNECT_SYNC_ERR_102;
 import static io.aiven.klaw.error.KlawErrorMessages.KAFKA_CONNECT_SYNC_ERR_103;
 import static io.aiven.klaw.error.KlawErrorMessages.SYNC_102;
 import static io.aiven.klaw.error.KlawErrorMessages.SYNC_ERR_101;
@@ -26,14 +25,20 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.KafkaConnectorModelResponse;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -52,6 +57,15 @@ public class KafkaConnectSyncControllerService {
 
   @Autowired ManageDatabase manageDatabase;
 
+  @Autowired
+  @Qualifier("syncConnectorsTaskExecutor")
+  private Executor syncConnectorsExecutor;
+
+  /**
+   * @param config configuration of the connector on its cluster, null if it could not be retrieved
+   */
+  private record ConnectorConfiguration(String connectorName, String config) {}
+
   public ApiResponse getConnectorDetails(String connectorName, String envId) throws KlawException {
     int tenantId = commonUtilsService.getTenantId(getUserName());
     KwClusters kwClusters =
@@ -89,7 +103,6 @@ public class KafkaConnectSyncControllerService {
     int tenantId = commonUtilsService.getTenantId(userName);
     String syncCluster =
         manageDatabase.getTenantConfig().get(tenantId).getBaseSyncKafkaConnectCluster();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_KAFKA_CONNECT_ENVS");
 
     List<KwKafkaConnector> existingTopics;
     List<KwKafkaConnector> kafkaConnectorList = new ArrayList<>();
@@ -98,124 +111,83 @@ public class KafkaConnectSyncControllerService {
     StringBuilder erroredTopics = new StringBuilder();
     boolean topicsWithDiffTeams = false;
 
-    StringBuilder erroredTopicsExist = new StringBuilder();
-    boolean topicsDontExistInMainCluster = false;
     int topicId =
         manageDatabase.getHandleDbRequests().getNextConnectorRequestId("CONNECTOR_ID", tenantId);
 
     List<Integer> updatedSyncTopicsDelete = new ArrayList<>();
     updatedSyncTopics = handleConnectorDeletes(updatedSyncTopics, updatedSyncTopicsDelete);
 
-    if (updatedSyncTopics.size() > 0) {
-      for (SyncConnectorUpdates topicUpdate : updatedSyncTopics) {
-        // tenant filtering
-        if (!commonUtilsService
-            .getEnvsFromUserId(userName)
-            .contains(topicUpdate.getEnvSelected())) {
-          return ApiResponse.NOT_AUTHORIZED;
-        }
-        existingTopics = getConnectorsFromName(topicUpdate.getConnectorName(), tenantId);
-
-        if (existingTopics != null) {
-          for (KwKafkaConnector existingTopic : existingTopics) {
-            if (Objects.equals(existingTopic.getEnvironment(), syncCluster)) {
-              if (!Objects.equals(
-                      manageDatabase.getTeamNameFromTeamId(tenantId, existingTopic.getTeamId()),
-                      topicUpdate.getTeamSelected())
-                  && !Objects.equals(topicUpdate.getEnvSelected(), syncCluster)) {
-                erroredTopics.append(topicUpdate.getConnectorName()).append(" ");
-                topicsWithDiffTeams = true;
-              }
-              break;
-            }
-          }
-        } else if (!Objects.equals(topicUpdate.getEnvSelected(), syncCluster)) {
-          erroredTopicsExist.append(topicUpdate.getConnectorName()).append(" ");
-          if (checkInPromotionOrder(topicUpdate.getEnvSelected(), orderOfEnvs))
-            topicsDontExistInMainCluster = true;
-        }
+    // tenant filtering, the environments of the user are resolved once for all connectors
+    Set<String> userEnvs = commonUtilsService.getEnvsFromUserId(userName);
+    for (SyncConnectorUpdates topicUpdate : updatedSyncTopics) {
+      if (!userEnvs.contains(topicUpdate.getEnvSelected())) {
+        return ApiResponse.NOT_AUTHORIZED;
+      }
+    }
 
-        String connectorConfig;
-        try {
-          connectorConfig =
-              getConnectorConfiguration(
-                  topicUpdate.getConnectorName(), topicUpdate.getEnvSelected(), tenantId);
-        } catch (KlawException | JsonProcessingException e) {
-          log.error("Exception:", e);
-          return ApiResponse.notOk(
-              String.format(KAFKA_CONNECT_SYNC_ERR_101, topicUpdate.getConnectorName()));
+    Map<String, List<KwKafkaConnector>> connectorsByName =
+        getConnectorsByName(updatedSyncTopics, tenantId);
+    List<ConnectorConfiguration> connectorConfigs =
+        getConnectorConfigurations(updatedSyncTopics, tenantId);
+
+    for (int i = 0; i < updatedSyncTopics.size(); i++) {
+      SyncConnectorUpdates topicUpdate = updatedSyncTopics.get(i);
+      existingTopics =
+          connectorsByName.getOrDefault(topicUpdate.getConnectorName(), Collections.emptyList());
+
+      for (KwKafkaConnector existingTopic : existingTopics) {
+        if (Objects.equals(existingTopic.getEnvironment(), syncCluster)) {
+          if (!Objects.equals(
+                  manageDatabase.getTeamNameFromTeamId(tenantId, existingTopic.getTeamId()),
+                  topicUpdate.getTeamSelected())
+              && !Objects.equals(topicUpdate.getEnvSelected(), syncCluster)) {
+            erroredTopics.append(topicUpdate.getConnectorName()).append(" ");
+            topicsWithDiffTeams = true;
+          }
+          break;
         }
+      }
 
-        boolean topicAdded = false;
-        if (existingTopics == null) {
-          t = new KwKafkaConnector();
+      String connectorConfig = connectorConfigs.get(i).config();
+      if (connectorConfig == null) {
+        return ApiResponse.notOk(
+            String.format(KAFKA_CONNECT_SYNC_ERR_101, topicUpdate.getConnectorName()));
+      }
 
-          topicId = topicId + 1;
-          t.setConnectorId(topicId);
+      Integer teamId =
+          manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected());
+      boolean topicAdded = false;
+      boolean envFound = false;
+      for (KwKafkaConnector existingTopic : existingTopics) {
+        boolean sameEnv =
+            Objects.equals(existingTopic.getEnvironment(), topicUpdate.getEnvSelected());
+        envFound = envFound || sameEnv;
+        if (sameEnv || !Objects.equals(existingTopic.getTeamId(), teamId)) {
+          t = existingTopic;
+          t.setTeamId(teamId);
           t.setConnectorName(topicUpdate.getConnectorName());
           t.setConnectorConfig(connectorConfig);
-          t.setEnvironment(topicUpdate.getEnvSelected());
-          t.setTeamId(
-              manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected()));
-          t.setDescription(KAFKA_CONNECT_SYNC_102);
-          t.setExistingConnector(false);
+          t.setEnvironment(existingTopic.getEnvironment());
+          t.setExistingConnector(true);
           t.setTenantId(tenantId);
-
           kafkaConnectorList.add(t);
-        } else {
-          for (KwKafkaConnector existingTopic : existingTopics) {
-            if (Objects.equals(existingTopic.getEnvironment(), topicUpdate.getEnvSelected())) {
-              t = existingTopic;
-              t.setTeamId(
-                  manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected()));
-              t.setConnectorName(topicUpdate.getConnectorName());
-              t.setConnectorConfig(connectorConfig);
-              t.setEnvironment(existingTopic.getEnvironment());
-              t.setExistingConnector(true);
-              t.setTenantId(tenantId);
-              kafkaConnectorList.add(t);
-              topicAdded = true;
-            } else if (!Objects.equals(
-                existingTopic.getTeamId(),
-                manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected()))) {
-              t = existingTopic;
-              t.setTeamId(
-                  manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected()));
-              t.setConnectorName(topicUpdate.getConnectorName());
-              t.setConnectorConfig(connectorConfig);
-              t.setEnvironment(existingTopic.getEnvironment());
-              t.setExistingConnector(true);
-              t.setTenantId(tenantId);
-              kafkaConnectorList.add(t);
-              topicAdded = true;
-            }
-          }
+          topicAdded = true;
         }
+      }
 
-        boolean envFound = false;
-        if (existingTopics != null) {
-          for (KwKafkaConnector existingTopic : existingTopics) {
-            if (Objects.equals(existingTopic.getEnvironment(), topicUpdate.getEnvSelected())) {
-              envFound = true;
-              break;
-            }
-          }
-          if (!envFound && !topicAdded) {
-            t = new KwKafkaConnector();
-            topicId = topicId + 1;
-            t.setConnectorId(topicId);
-            t.setConnectorName(topicUpdate.getConnectorName());
-            t.setConnectorConfig(connectorConfig);
-            t.setEnvironment(topicUpdate.getEnvSelected());
-            t.setTeamId(
-                manageDatabase.getTeamIdFromTeamName(tenantId, topicUpdate.getTeamSelected()));
-            t.setDescription(KAFKA_CONNECT_SYNC_102);
-            t.setExistingConnector(false);
-            t.setTenantId(tenantId);
-
-            kafkaConnectorList.add(t);
-          }
-        }
+      if (!envFound && !topicAdded) {
+        t = new KwKafkaConnector();
+        topicId = topicId + 1;
+        t.setConnectorId(topicId);
+        t.setConnectorName(topicUpdate.getConnectorName());
+        t.setConnectorConfig(connectorConfig);
+        t.setEnvironment(topicUpdate.getEnvSelected());
+        t.setTeamId(teamId);
+        t.setDescription(KAFKA_CONNECT_SYNC_102);
+        t.setExistingConnector(false);
+        t.setTenantId(tenantId);
+
+        kafkaConnectorList.add(t);
       }
     }
 
@@ -223,11 +195,6 @@ public class KafkaConnectSyncControllerService {
       return ApiResponse.SUCCESS;
     }
 
-    if (topicsDontExistInMainCluster) {
-      return ApiResponse.notOk(
-          KAFKA_CONNECT_SYNC_ERR_102 + " :" + syncCluster + ". \n Topics : " + erroredTopicsExist);
-    }
-
     if (topicsWithDiffTeams) {
       return ApiResponse.notOk(
           KAFKA_CONNECT_SYNC_ERR_103 + " :" + syncCluster + ". \n Topics : " + erroredTopics);
@@ -248,23 +215,67 @@ public class KafkaConnectSyncControllerService {
     }
   }
 
-  private String getConnectorConfiguration(String connectorName, String environmentId, int tenantId)
-      throws KlawException, JsonProcessingException {
-    KwClusters kwClusters =
-        manageDatabase
-            .getClusters(KafkaClustersType.KAFKA_CONNECT, tenantId)
-            .get(getKafkaConnectorEnvDetails(environmentId).getClusterId());
-
-    Object configMap =
-        clusterApiService
-            .getConnectorDetails(
-                connectorName,
-                kwClusters.getBootstrapServers(),
-                kwClusters.getProtocol(),
-                kwClusters.getClusterName() + kwClusters.getClusterId(),
-                tenantId)
-            .get("config");
-    return WRITER_WITH_DEFAULT_PRETTY_PRINTER.writeValueAsString(configMap);
+  /** Connectors stored in Klaw with the names of the updates, retrieved at once. */
+  private Map<String, List<KwKafkaConnector>> getConnectorsByName(
+      List<SyncConnectorUpdates> syncConnectorUpdates, int tenantId) {
+    Set<String> connectorNames = new HashSet<>();
+    syncConnectorUpdates.forEach(update -> connectorNames.add(update.getConnectorName()));
+    return manageDatabase
+        .getHandleDbRequests()
+        .getConnectorsFromNames(connectorNames, tenantId)
+        .stream()
+        .collect(Collectors.groupingBy(KwKafkaConnector::getConnectorName));
+  }
+
+  /**
+   * Retrieves the configuration of every connector from its Kafka Connect cluster, with a bounded
+   * number of requests in parallel. The configurations are in the order of the updates, a
+   * configuration which could not be retrieved is null.
+   */
+  private List<ConnectorConfiguration> getConnectorConfigurations(
+      List<SyncConnectorUpdates> syncConnectorUpdates, int tenantId) {
+    // clusters are resolved on the calling thread, which holds the security context of the user
+    Map<String, KwClusters> clustersOfEnvs = new HashMap<>();
+    for (SyncConnectorUpdates update : syncConnectorUpdates) {
+      clustersOfEnvs.computeIfAbsent(
+          update.getEnvSelected(), envId -> getKafkaConnectCluster(envId, tenantId));
+    }
+
+    List<CompletableFuture<ConnectorConfiguration>> connectorConfigs = new ArrayList<>();
+    for (SyncConnectorUpdates update : syncConnectorUpdates) {
+      KwClusters kwClusters = clustersOfEnvs.get(update.getEnvSelected());
+      connectorConfigs.add(
+          CompletableFuture.supplyAsync(
+              () -> getConnectorConfiguration(update.getConnectorName(), kwClusters, tenantId),
+              syncConnectorsExecutor));
+    }
+    return connectorConfigs.stream().map(CompletableFuture::join).toList();
+  }
+
+  private ConnectorConfiguration getConnectorConfiguration(
+      String connectorName, KwClusters kwClusters, int tenantId) {
+    try {
+      Object configMap =
+          clusterApiService
+              .getConnectorDetails(
+                  connectorName,
+                  kwClusters.getBootstrapServers(),
+                  kwClusters.getProtocol(),
+                  kwClusters.getClusterName() + kwClusters.getClusterId(),
+                  tenantId)
+              .get("config");
+      return new ConnectorConfiguration(
+          connectorName, WRITER_WITH_DEFAULT_PRETTY_PRINTER.writeValueAsString(configMap));
+    } catch (Exception e) {
+      log.error("Exception:", e);
+      return new ConnectorConfiguration(connectorName, null);
+    }
+  }
+
+  private KwClusters getKafkaConnectCluster(String envId, int tenantId) {
+    return manageDatabase
+        .getClusters(KafkaClustersType.KAFKA_CONNECT, tenantId)
+        .get(getKafkaConnectorEnvDetails(envId).getClusterId());
   }
 
   private List<SyncConnectorUpdates> handleConnectorDeletes(
@@ -288,11 +299,6 @@ public class KafkaConnectSyncControllerService {
     return updatedSyncTopicsUpdated;
   }
 
-  private boolean checkInPromotionOrder(String envId, String orderOfEnvs) {
-    List<String> orderedEnv = Arrays.asList(orderOfEnvs.split(","));
-    return orderedEnv.contains(envId);
-  }
-
   public List<KwKafkaConnector> getConnectorsFromName(String connectorName, int tenantId) {
     return manageDatabase.getHandleDbRequests().getConnectorsFromName(connectorName, tenantId);
   }
@@ -318,7 +324,7 @@ public class KafkaConnectSyncControllerService {
               .filter(topic -> topic.getConnectorName().contains(topicSearchFilter))
               .collect(Collectors.toList());
     }
-    List<String> allSyncConnectors = new ArrayList<>();
+    Set<String> allSyncConnectors = new HashSet<>();
     for (KafkaConnectorModelResponse kafkaConnectorModel : kafkaConnectorModelSourceList) {
       allSyncConnectors.add(kafkaConnectorModel.getConnectorName());
     }
@@ -348,68 +354,47 @@ public class KafkaConnectSyncControllerService {
                 .toList();
       }
 
+      // connectors on the cluster by name, so every connector of Klaw is looked up once
+      Map<String, ConnectorState> connectorsOnCluster = new HashMap<>();
       for (ConnectorState connectorState : connectorsList) {
+        connectorsOnCluster.putIfAbsent(connectorState.getConnectorName(), connectorState);
+
+        // connectors which already exist in metastore are added from there
+        if (allSyncConnectors.contains(connectorState.getConnectorName())) {
+          continue;
+        }
         KafkaConnectorModelResponse kafkaConnectorModel = new KafkaConnectorModelResponse();
         kafkaConnectorModel.setConnectorName(connectorState.getConnectorName());
         kafkaConnectorModel.setRunningTasks(connectorState.getRunningTasks());
         kafkaConnectorModel.setConnectorStatus(connectorState.getConnectorStatus());
         kafkaConnectorModel.setFailedTasks(connectorState.getFailedTasks());
         kafkaConnectorModel.setEnvironmentId(envId);
-        kafkaConnectorModel.setEnvironmentName(getKafkaConnectorEnvDetails(envId).getName());
+        kafkaConnectorModel.setEnvironmentName(envSelected.getName());
         kafkaConnectorModel.setPossibleTeams(teamList);
 
         kafkaConnectorModelClusterList.add(kafkaConnectorModel);
       }
 
-      // remove if any which already exist in metastore
-      kafkaConnectorModelClusterList.removeIf(
-          p -> !allSyncConnectors.isEmpty() && allSyncConnectors.contains(p.getConnectorName()));
-
       for (KafkaConnectorModelResponse kafkaConnectorModelResponse :
           kafkaConnectorModelSourceList) {
-        kafkaConnectorModelResponse.setRemarks("IN_SYNC"); // default
-        Optional<ConnectorState> optionalConnectorState =
-            connectorsList.stream()
-                .filter(
-                    connectorState ->
-                        connectorState
-                            .getConnectorName()
-                            .equals(kafkaConnectorModelResponse.getConnectorName()))
-                .findFirst();
-        if (optionalConnectorState.isPresent()) {
-          ConnectorState connectorState = optionalConnectorState.get();
+        ConnectorState connectorState =
+            connectorsOnCluster.get(kafkaConnectorModelResponse.getConnectorName());
+        if (connectorState != null) {
+          kafkaConnectorModelResponse.setRemarks("IN_SYNC");
           kafkaConnectorModelResponse.setConnectorStatus(connectorState.getConnectorStatus());
           kafkaConnectorModelResponse.setFailedTasks(connectorState.getFailedTasks());
           kafkaConnectorModelResponse.setRunningTasks(connectorState.getRunningTasks());
         } else {
           kafkaConnectorModelResponse.setConnectorStatus("NOT_KNOWN");
+          kafkaConnectorModelResponse.setRemarks("DELETED");
+          // Remove the other team options added and replace with existing team and option to
+          // remove it.
+          List<String> possibleTeams = new ArrayList<>();
+          possibleTeams.add(kafkaConnectorModelResponse.getTeamName());
+          possibleTeams.add(SYNC_102);
+          kafkaConnectorModelResponse.setPossibleTeams(possibleTeams);
         }
-      }
-
-      kafkaConnectorModelClusterList.addAll(kafkaConnectorModelSourceList);
-
-      for (KafkaConnectorModelResponse kafkaConnectorModel : kafkaConnectorModelSourceList) {
-        if (connectorsList.stream()
-            .noneMatch(
-                connectorState ->
-                    connectorState
-                        .getConnectorName()
-                        .equals(kafkaConnectorModel.getConnectorName()))) {
-          for (KafkaConnectorModelResponse kafkaConnectorModelCluster :
-              kafkaConnectorModelClusterList) {
-            if (Objects.equals(
-                kafkaConnectorModelCluster.getConnectorName(),
-                kafkaConnectorModel.getConnectorName())) {
-              kafkaConnectorModelCluster.setRemarks("DELETED");
-              // Remove the other team options added and replace with existing team and option to
-              // remove it.
-              List<String> possibleTeams = new ArrayList<>();
-              possibleTeams.add(kafkaConnectorModelCluster.getTeamName());
-              possibleTeams.add(SYNC_102);
-              kafkaConnectorModelCluster.setPossibleTeams(possibleTeams);
-            }
-          }
-        }
+        kafkaConnectorModelClusterList.add(kafkaConnectorModelResponse);
       }
 
       // set sequence
@@ -457,12 +442,16 @@ public class KafkaConnectSyncControllerService {
     List<KwKafkaConnector> connectorsFromSOT =
         manageDatabase.getHandleDbRequests().getSyncConnectors(envId, null, tenantId);
 
+    Map<String, String> envNames = new HashMap<>();
+    for (Env env : manageDatabase.getKafkaConnectEnvList(tenantId)) {
+      envNames.putIfAbsent(env.getId(), env.getName());
+    }
+
     List<KafkaConnectorModelResponse> kafkaConnectorModelSourceList = new ArrayList<>();
 
     for (KwKafkaConnector kwKafkaConnector : connectorsFromSOT) {
       KafkaConnectorModelResponse kafkaConnectorModel = new KafkaConnectorModelResponse();
-      kafkaConnectorModel.setEnvironmentName(
-          getKafkaConnectorEnvDetails(kwKafkaConnector.getEnvironment()).getName());
+      kafkaConnectorModel.setEnvironmentName(envNames.get(kwKafkaConnector.getEnvironment()));
       kafkaConnectorModel.setEnvironmentId(kwKafkaConnector.getEnvironment());
       kafkaConnectorModel.setConnectorName(kwKafkaConnector.getConnectorName());
       kafkaConnectorModel.setTeamName(
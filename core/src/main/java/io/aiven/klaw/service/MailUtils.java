@@ -160,6 +160,13 @@ public class MailUtils {
             String.format(topicRequestDenied, "'" + topicName + "'", "'" + reasonToDecline + "'");
         subject = "Topic Request Denied";
       }
+      case TOPIC_REQUEST_FAILURE -> {
+        formattedStr = "Topic Request processing failed : " + topicName;
+        if (reasonToDecline != null && !reasonToDecline.isBlank()) {
+          formattedStr += " because : " + reasonToDecline;
+        }
+        subject = "Request processing failed.";
+      }
       case ACL_REQUESTED -> {
         formattedStr = String.format(aclRequestMail, "'" + acl + "'", "'" + topicName + "'");
         subject = "New Acl Request";
@@ -185,6 +192,9 @@ public class MailUtils {
       }
       case ACL_REQUEST_FAILURE -> {
         formattedStr = "Acl Request processing failed : " + acl + ", " + topicName;
+        if (reasonToDecline != null && !reasonToDecline.isBlank()) {
+          formattedStr += " because : " + reasonToDecline;
+        }
         subject = "Request processing failed.";
       }
       case SCHEMA_REQUESTED -> {
@@ -217,6 +227,14 @@ public class MailUtils {
                 + "because : "
                 + reasonToDecline;
       }
+      case SCHEMA_REQUEST_FAILURE -> {
+        subject = "Request processing failed.";
+        formattedStr =
+            "Schema Request on " + topicName + " approved by " + approverUsername + " failed";
+        if (reasonToDecline != null && !reasonToDecline.isBlank()) {
+          formattedStr += " because : " + reasonToDecline;
+        }
+      }
       case CONNECTOR_REQUEST_DENIED -> {
         subject = "Connector Request Denied";
         formattedStr =
@@ -424,7 +442,7 @@ public class MailUtils {
       String subject, String reconTopicsContent, String tenantName, int tenantId, String loginUrl) {
     String reconMailContent =
         manageDatabase.getKwPropertyValue(RECONCILIATION_TOPICS_KEY, tenantId);
-    String formattedStr = String.format(reconMailContent, tenantName);
+    String formattedStr = String.format(reconMailContent, tenantName) + "\n\n" + reconTopicsContent;
 
     try {
       CompletableFuture.runAsync(
@@ -3,10 +3,14 @@ package io.aiven.klaw.service;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.KwMetrics;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.MetricsRingBuffer;
 import io.aiven.klaw.model.charts.ChartsJsOverview;
 import io.aiven.klaw.model.charts.JmxOverview;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -19,11 +23,38 @@ import org.springframework.stereotype.Service;
 @EnableScheduling
 public class MetricsControllerService {
 
+  public static final String ROLLUP_MINUTE = "1m";
+  public static final String ROLLUP_HOUR = "1h";
+  private static final long MINUTE_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+  private static final int CHART_SAMPLES = 30;
+  // one week of hour rollups
+  private static final int HOURLY_CHART_SAMPLES = 7 * 24;
+
+  private static final String BROKER_TOPIC_METRICS_TYPE = "kafka.server:type=BrokerTopicMetrics";
+  private static final String MESSAGES_IN_METRICS_NAME = "name=MessagesInPerSec";
+  private static final String METRICS_ENV = "1";
+
   @Autowired ManageDatabase manageDatabase;
 
   @Value("${klaw.monitoring.metrics.enable:false}")
   private String enableMetrics;
 
+  // recent raw samples per metric, only the 1m and 1h rollups are persisted
+  @Value("${klaw.monitoring.metrics.buffer.size:360}")
+  private int sampleBufferSize = 360;
+
+  @Value("${klaw.monitoring.metrics.rollup.minute.retention.hours:48}")
+  private long minuteRollupRetentionHours = 48;
+
+  @Value("${klaw.monitoring.metrics.rollup.hour.retention.days:90}")
+  private long hourRollupRetentionDays = 90;
+
+  private final Map<String, MetricsRingBuffer> recentSamples = new ConcurrentHashMap<>();
+
+  // start of the rollup window which is still collecting samples, per metric and rollup
+  private final Map<String, Long> openRollupWindows = new ConcurrentHashMap<>();
+
   @Autowired ClusterApiService clusterApiService;
 
   @Autowired MailUtils mailService;
@@ -38,34 +69,112 @@ public class MetricsControllerService {
   @Scheduled(
       fixedRateString = "${klaw.monitoring.metrics.collectinterval.ms:60000}",
       initialDelay = 60000)
-  private void loadMetricsScheduler() {
+  void loadMetricsScheduler() {
     if ("false".equals(enableMetrics)) {
       return;
     }
 
     log.info("Scheduled job : Collect metrics");
 
-    String metricsType = "kafka.server:type=BrokerTopicMetrics";
-    String metricsName = "name=MessagesInPerSec";
-    String metricsObjectName = metricsType + "," + metricsName;
+    String metricsObjectName = BROKER_TOPIC_METRICS_TYPE + "," + MESSAGES_IN_METRICS_NAME;
     String jmxUrl = "service:jmx:rmi:///jndi/rmi://localhost:9996/jmxrmi";
 
     try {
       Map<String, String> metrics = clusterApiService.retrieveMetrics(jmxUrl, metricsObjectName);
-      KwMetrics kwMetrics =
-          KwMetrics.builder()
-              .metricsTime(new Date().getTime() + "")
-              .metricsType(metricsType)
-              .metricsName(metricsName)
-              .metricsAttributes(metrics.get("Count"))
-              .env("1")
-              .build();
-      manageDatabase.getHandleDbRequests().insertMetrics(kwMetrics);
+      recordSample(
+          METRICS_ENV,
+          BROKER_TOPIC_METRICS_TYPE,
+          MESSAGES_IN_METRICS_NAME,
+          new Date().getTime(),
+          Long.parseLong(metrics.get("Count")));
     } catch (KlawException e) {
       log.error("Error from  retrieveMetrics {}", jmxUrl, e);
+    } catch (NumberFormatException e) {
+      log.error("Unexpected Count attribute from retrieveMetrics {}", jmxUrl, e);
     }
   }
 
+  /**
+   * Adds a sample to the in memory buffer of the metric. When the sample is the first one of a new
+   * minute or hour, the window before it is complete and its rollup gets persisted.
+   */
+  void recordSample(
+      String env, String metricsType, String metricsName, long metricsTime, long value) {
+    String metricsKey = getMetricsKey(env, metricsType, metricsName);
+    MetricsRingBuffer samples =
+        recentSamples.computeIfAbsent(metricsKey, key -> new MetricsRingBuffer(sampleBufferSize));
+    samples.add(metricsTime, value);
+
+    rollup(samples, env, metricsType, metricsName, ROLLUP_MINUTE, MINUTE_MS, metricsTime);
+    rollup(samples, env, metricsType, metricsName, ROLLUP_HOUR, HOUR_MS, metricsTime);
+  }
+
+  private void rollup(
+      MetricsRingBuffer samples,
+      String env,
+      String metricsType,
+      String metricsName,
+      String rollup,
+      long windowMs,
+      long metricsTime) {
+    long window = metricsTime - metricsTime % windowMs;
+    Long completedWindow =
+        openRollupWindows.put(getMetricsKey(env, metricsType, metricsName) + rollup, window);
+    if (completedWindow == null || completedWindow == window) {
+      return;
+    }
+
+    // Count is a cumulative counter, so a window is represented by its last sample
+    MetricsRingBuffer.Sample lastSample =
+        samples.lastBetween(completedWindow, completedWindow + windowMs);
+    if (lastSample == null) {
+      return;
+    }
+    KwMetrics kwMetrics =
+        KwMetrics.builder()
+            .metricsTime(completedWindow + "")
+            .metricsType(metricsType)
+            .metricsName(metricsName)
+            .metricsAttributes(lastSample.value() + "")
+            .env(env)
+            .rollup(rollup)
+            .build();
+    manageDatabase.getHandleDbRequests().insertMetrics(kwMetrics);
+  }
+
+  @Scheduled(
+      fixedRateString = "${klaw.monitoring.metrics.retention.interval.ms:3600000}",
+      initialDelay = 300000)
+  @SchedulerLock(
+      name = "TaskScheduler_MetricsRetention",
+      lockAtLeastFor = "PT5M",
+      lockAtMostFor = "PT30M")
+  public void deleteExpiredMetrics() {
+    if ("false".equals(enableMetrics)) {
+      return;
+    }
+
+    long now = new Date().getTime();
+    int deletedMinuteRollups =
+        manageDatabase
+            .getHandleDbRequests()
+            .deleteMetricsOlderThan(
+                ROLLUP_MINUTE, now - TimeUnit.HOURS.toMillis(minuteRollupRetentionHours));
+    int deletedHourRollups =
+        manageDatabase
+            .getHandleDbRequests()
+            .deleteMetricsOlderThan(
+                ROLLUP_HOUR, now - TimeUnit.DAYS.toMillis(hourRollupRetentionDays));
+    log.info(
+        "Scheduled job : Deleted {} minute and {} hour metrics rollups",
+        deletedMinuteRollups,
+        deletedHourRollups);
+  }
+
+  private static String getMetricsKey(String env, String metricsType, String metricsName) {
+    return env + "-" + metricsType + "-" + metricsName;
+  }
+
   public JmxOverview getBrokerTopMetrics() {
     int tenantId = commonUtilsService.getTenantId(getUserName());
     JmxOverview jmxOverview = new JmxOverview();
@@ -73,13 +182,14 @@ public class MetricsControllerService {
     //                .getUsersInfo(getUserDetails().getUsername()).getTeam();
 
     jmxOverview.setBrokerTopMetricsOverview(getBrokerTopMetricsOverview());
+    jmxOverview.setBrokerTopMetricsHourlyOverview(getBrokerTopMetricsHourlyOverview());
 
     return jmxOverview;
   }
 
   private ChartsJsOverview getBrokerTopMetricsOverview() {
     int numberOfDays = 30;
-    List<CommonUtilsService.ChartsOverviewItem<String, Integer>> metricsCountList;
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metricsCountList;
     String title = "Messages Per Sec";
 
     //        if(teamName != null) {
@@ -92,9 +202,7 @@ public class MetricsControllerService {
     //            List<String> allowedEnvIdList = getEnvsFromUserId(getUserName());
     try {
       metricsCountList =
-          manageDatabase
-              .getHandleDbRequests()
-              .getAllMetrics("kafka.server:type=BrokerTopicMetrics", "name=MessagesInPerSec", "1");
+          getRecentMetrics(METRICS_ENV, BROKER_TOPIC_METRICS_TYPE, MESSAGES_IN_METRICS_NAME);
     } catch (Exception e) {
       log.error("No environments/clusters found.", e);
       metricsCountList = new ArrayList<>();
@@ -110,6 +218,58 @@ public class MetricsControllerService {
         commonUtilsService.getTenantId(getUserName()));
   }
 
+  /** The last week of the metrics, read from the hour rollups. */
+  private ChartsJsOverview getBrokerTopMetricsHourlyOverview() {
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metricsCountList;
+    try {
+      metricsCountList =
+          manageDatabase
+              .getHandleDbRequests()
+              .getAllMetrics(
+                  BROKER_TOPIC_METRICS_TYPE,
+                  MESSAGES_IN_METRICS_NAME,
+                  METRICS_ENV,
+                  ROLLUP_HOUR,
+                  HOURLY_CHART_SAMPLES);
+    } catch (Exception e) {
+      log.error("No environments/clusters found.", e);
+      metricsCountList = new ArrayList<>();
+    }
+
+    return commonUtilsService.getChartsJsOverview(
+        metricsCountList,
+        "Messages Per Hour",
+        "datetime",
+        "DateTime",
+        "Messages",
+        commonUtilsService.getTenantId(getUserName()));
+  }
+
+  /**
+   * Serves the chart from the in memory samples once enough were collected, and falls back to the
+   * persisted minute rollups right after a restart.
+   */
+  List<CommonUtilsService.ChartsOverviewItem<String, Long>> getRecentMetrics(
+      String env, String metricsType, String metricsName) {
+    MetricsRingBuffer samples = recentSamples.get(getMetricsKey(env, metricsType, metricsName));
+    if (samples == null || samples.size() < CHART_SAMPLES) {
+      return manageDatabase
+          .getHandleDbRequests()
+          .getAllMetrics(metricsType, metricsName, env, ROLLUP_MINUTE, CHART_SAMPLES);
+    }
+
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metricsCountList =
+        new ArrayList<>(CHART_SAMPLES);
+    // newest first, in line with the persisted rollups
+    List<MetricsRingBuffer.Sample> latestSamples = samples.latest(CHART_SAMPLES);
+    for (int i = latestSamples.size() - 1; i >= 0; i--) {
+      MetricsRingBuffer.Sample sample = latestSamples.get(i);
+      metricsCountList.add(
+          CommonUtilsService.ChartsOverviewItem.of(sample.time() + "", sample.value()));
+    }
+    return metricsCountList;
+  }
+
   private Object getPrincipal() {
     return SecurityContextHolder.getContext().getAuthentication().getPrincipal();
   }
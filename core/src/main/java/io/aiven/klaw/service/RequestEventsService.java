@@ -0,0 +1,225 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.constants.CacheConstants;
+import io.aiven.klaw.helpers.PendingRequestsScope;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.response.PendingRequestsCountUpdate;
+import io.aiven.klaw.service.interfaces.HAMessagingServiceI;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the counts of the requests a user can approve, and the changes of status of the requests
+ * of their team, to the users following them through server sent events, so that clients don't have
+ * to poll for them. Counts are read from the in-memory counts of pending requests and coalesced, so
+ * a burst of requests results in one update per user. Clients which don't keep up with their events
+ * are disconnected and get the current counts again when they reconnect.
+ */
+@Service
+@Slf4j
+@EnableScheduling
+public class RequestEventsService {
+
+  static final String REQUEST_COUNTS_EVENT = "requestCounts";
+  static final String REQUEST_STATUS_EVENT = "requestStatus";
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Autowired private UtilControllerService utilControllerService;
+
+  @Autowired private HAMessagingServiceI haMessagingService;
+
+  @Value("${klaw.core.ha.enable:false}")
+  private boolean haEnabled;
+
+  // clients reconnect once their connection times out
+  @Value("${klaw.requests.events.timeout.ms:1800000}")
+  private long timeoutMillis = 1800000;
+
+  // events waiting to be sent to a client, it is disconnected once they exceed this size
+  @Value("${klaw.requests.events.queue.size:100}")
+  private int queueSize = 100;
+
+  private final Map<Integer, Set<Subscriber>> subscribersPerTenant = new ConcurrentHashMap<>();
+
+  @Autowired
+  @Qualifier("requestEventsTaskExecutor")
+  private Executor dispatchExecutor;
+
+  public SseEmitter subscribe() {
+    String userName = commonUtilsService.getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    Subscriber subscriber =
+        new Subscriber(
+            utilControllerService.getPendingRequestsScope(userName, tenantId), createEmitter());
+    subscribersPerTenant
+        .computeIfAbsent(tenantId, t -> ConcurrentHashMap.newKeySet())
+        .add(subscriber);
+    subscriber.emitter.onCompletion(subscriber::close);
+    subscriber.emitter.onTimeout(subscriber::close);
+    subscriber.emitter.onError(error -> subscriber.close());
+
+    // the current counts are sent right away
+    subscriber.countsChanged();
+    return subscriber.emitter;
+  }
+
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeoutMillis);
+  }
+
+  @EventListener
+  public void onRequestStatusEvent(RequestStatusEvent event) {
+    publish(event);
+    if (haEnabled) {
+      dispatchExecutor.execute(
+          () ->
+              haMessagingService.sendUpdate(
+                  CacheConstants.REQUEST_EVENT_PATH, event.getTenantId(), event));
+    }
+  }
+
+  /** Handles a request created, approved, declined or deleted through another node. */
+  public void onRemoteRequestStatusEvent(RequestStatusEvent event) {
+    manageDatabase.getHandleDbRequests().applyRequestStatusEvent(event);
+    publish(event);
+  }
+
+  private void publish(RequestStatusEvent event) {
+    Set<Subscriber> subscribers = subscribersPerTenant.get(event.getTenantId());
+    if (subscribers == null) {
+      return;
+    }
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.scope.follows(event)) {
+        subscriber.offer(SseEmitter.event().name(REQUEST_STATUS_EVENT).data(event));
+        subscriber.countsChanged();
+      }
+    }
+  }
+
+  // keeps idle connections open through proxies, and detects the clients which are gone
+  @Scheduled(
+      fixedRateString = "${klaw.requests.events.heartbeat.interval.ms:15000}",
+      initialDelay = 15000)
+  public void sendHeartbeats() {
+    for (Set<Subscriber> subscribers : subscribersPerTenant.values()) {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.offer(SseEmitter.event().comment("heartbeat"));
+      }
+    }
+  }
+
+  int getSubscribersCount() {
+    return subscribersPerTenant.values().stream().mapToInt(Set::size).sum();
+  }
+
+  private class Subscriber {
+    private final PendingRequestsScope scope;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> events;
+    private final AtomicBoolean countsChanged = new AtomicBoolean();
+    // events of a subscriber are sent by one thread at a time, in order
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean closed;
+    private Map<String, Integer> sentCounts = Map.of();
+
+    Subscriber(PendingRequestsScope scope, SseEmitter emitter) {
+      this.scope = scope;
+      this.emitter = emitter;
+      this.events = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+    }
+
+    void offer(SseEmitter.SseEventBuilder event) {
+      if (!events.offer(event)) {
+        log.warn(
+            "Disconnecting {} from request events, as they are not consumed", scope.getUserName());
+        close();
+        return;
+      }
+      dispatch();
+    }
+
+    void countsChanged() {
+      countsChanged.set(true);
+      dispatch();
+    }
+
+    private void dispatch() {
+      if (!closed && sending.compareAndSet(false, true)) {
+        dispatchExecutor.execute(this::send);
+      }
+    }
+
+    private void send() {
+      try {
+        if (countsChanged.getAndSet(false)) {
+          sendCounts();
+        }
+        SseEmitter.SseEventBuilder event;
+        while (!closed && (event = events.poll()) != null) {
+          emitter.send(event);
+        }
+      } catch (IOException | RuntimeException e) {
+        log.debug("Unable to send request events to {}", scope.getUserName(), e);
+        close();
+      } finally {
+        sending.set(false);
+      }
+      // events which arrived after the last poll
+      if (countsChanged.get() || !events.isEmpty()) {
+        dispatch();
+      }
+    }
+
+    private void sendCounts() throws IOException {
+      Map<String, Integer> counts =
+          scope.count(
+              manageDatabase.getHandleDbRequests().getPendingRequestCounts(scope.getTenantId()));
+      if (counts.equals(sentCounts)) {
+        return;
+      }
+      Map<String, Integer> changes = new LinkedHashMap<>();
+      counts.forEach(
+          (requestType, count) ->
+              changes.put(requestType, count - sentCounts.getOrDefault(requestType, 0)));
+      emitter.send(
+          SseEmitter.event()
+              .name(REQUEST_COUNTS_EVENT)
+              .data(new PendingRequestsCountUpdate(counts, changes)));
+      sentCounts = counts;
+    }
+
+    void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      Set<Subscriber> subscribers = subscribersPerTenant.get(scope.getTenantId());
+      if (subscribers != null) {
+        subscribers.remove(this);
+      }
+      events.clear();
+      emitter.complete();
+    }
+  }
+}
@@ -28,7 +28,22 @@ public class RequestService {
 
   @Autowired private OperationalRequestsService operationalRequestsService;
 
+  /**
+   * Topic, acl and schema requests are approved together, so that they are validated up front and
+   * their cluster and database operations are batched. Other requests are approved one by one.
+   */
   public List<ApiResponse> processApprovalRequests(RequestVerdict requestVerdict) {
+    switch (requestVerdict.getRequestEntityType()) {
+      case TOPIC -> {
+        return topicControllerService.approveTopicRequests(requestVerdict.getReqIds());
+      }
+      case ACL -> {
+        return aclControllerService.approveAclRequests(requestVerdict.getReqIds());
+      }
+      case SCHEMA -> {
+        return schemaRegistryControllerService.execSchemaRequests(requestVerdict.getReqIds());
+      }
+    }
     return requestVerdict.getReqIds().stream()
         .map(req -> processApprovalRequests(req, requestVerdict.getRequestEntityType()))
         .collect(Collectors.toList());
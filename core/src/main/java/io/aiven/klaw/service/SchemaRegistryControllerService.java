@@ -1,5 +1,8 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_105;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_102;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_103;
@@ -39,6 +42,7 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -61,6 +65,8 @@ public class SchemaRegistryControllerService {
 
   @Autowired private RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Autowired private ClusterOperationOutboxService clusterOperationOutboxService;
+
   public SchemaRegistryControllerService(
       ClusterApiService clusterApiService, MailUtils mailService) {
     this.clusterApiService = clusterApiService;
@@ -145,19 +151,26 @@ public class SchemaRegistryControllerService {
 
     schemaRequestModels = schemaRequestModels.stream().sorted(getPreferredOrder(order)).toList();
 
-    return Pager.getItemsList(
-        pageNo,
-        currentPage,
-        10,
+    schemaRequestModels =
+        Pager.getItemsList(
+            pageNo,
+            currentPage,
+            10,
+            schemaRequestModels,
+            (pageContext, schemaRequestModel1) -> {
+              schemaRequestModel1.setAllPageNos(pageContext.getAllPageNos());
+              schemaRequestModel1.setTotalNoPages(pageContext.getTotalPages());
+              schemaRequestModel1.setCurrentPage(pageContext.getPageNo());
+              schemaRequestModel1.setTeamname(
+                  manageDatabase.getTeamNameFromTeamId(tenantId, schemaRequestModel1.getTeamId()));
+              return schemaRequestModel1;
+            });
+    clusterOperationOutboxService.addClusterOperations(
+        RequestEntityType.SCHEMA,
+        tenantId,
         schemaRequestModels,
-        (pageContext, schemaRequestModel1) -> {
-          schemaRequestModel1.setAllPageNos(pageContext.getAllPageNos());
-          schemaRequestModel1.setTotalNoPages(pageContext.getTotalPages());
-          schemaRequestModel1.setCurrentPage(pageContext.getPageNo());
-          schemaRequestModel1.setTeamname(
-              manageDatabase.getTeamNameFromTeamId(tenantId, schemaRequestModel1.getTeamId()));
-          return schemaRequestModel1;
-        });
+        SchemaRequestsResponseModel::getReq_no);
+    return schemaRequestModels;
   }
 
   private Comparator<SchemaRequestsResponseModel> getPreferredOrder(Order order) {
@@ -242,6 +255,111 @@ public class SchemaRegistryControllerService {
       return ApiResponse.NOT_AUTHORIZED;
     }
 
+    if (clusterOperationOutboxService.isEnabled()) {
+      clusterOperationOutboxService.enqueue(
+          RequestEntityType.SCHEMA,
+          schemaRequest.getReq_no(),
+          schemaRequest.getEnvironment(),
+          tenantId,
+          userDetails);
+      return ApiResponse.ok(REQ_SER_105);
+    }
+    return registerSchemaOfRequest(userDetails, tenantId, schemaRequest);
+  }
+
+  /**
+   * Approves several schema requests at once. All requests are validated before any of them is
+   * executed, and the validated requests are executed grouped by their environment.
+   *
+   * @return outcome of every request, in the order of the given ids
+   */
+  public List<ApiResponse> execSchemaRequests(List<String> avroSchemaIds) {
+    log.info("execSchemaRequests {}", avroSchemaIds);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_SCHEMAS)) {
+      return Collections.nCopies(avroSchemaIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    String userDetails = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    List<Integer> requestIds = avroSchemaIds.stream().map(id -> NumberUtils.toInt(id, -1)).toList();
+    Map<Integer, SchemaRequest> schemaRequestsById = new HashMap<>();
+    for (SchemaRequest schemaRequest :
+        manageDatabase
+            .getHandleDbRequests()
+            .getSchemaRequests(new HashSet<>(requestIds), tenantId)) {
+      schemaRequestsById.put(schemaRequest.getReq_no(), schemaRequest);
+    }
+
+    ApiResponse[] responses = new ApiResponse[avroSchemaIds.size()];
+    Map<String, List<Integer>> requestsPerEnv = new LinkedHashMap<>();
+    Set<Integer> validatedIds = new HashSet<>();
+    for (int i = 0; i < requestIds.size(); i++) {
+      SchemaRequest schemaRequest = schemaRequestsById.get(requestIds.get(i));
+      // a request given twice is processed once, as approving it the second time would fail
+      if (schemaRequest == null || !validatedIds.add(requestIds.get(i))) {
+        responses[i] = ApiResponse.notOk(REQ_ERR_101);
+      } else if (Objects.equals(schemaRequest.getRequestor(), userDetails)) {
+        responses[i] = ApiResponse.notOk(SCHEMA_ERR_101);
+      } else if (!allowedEnvIdSet.contains(schemaRequest.getEnvironment())) {
+        responses[i] = ApiResponse.NOT_AUTHORIZED;
+      } else if (clusterOperationOutboxService.isEnabled()) {
+        clusterOperationOutboxService.enqueue(
+            RequestEntityType.SCHEMA,
+            schemaRequest.getReq_no(),
+            schemaRequest.getEnvironment(),
+            tenantId,
+            userDetails);
+        responses[i] = ApiResponse.ok(REQ_SER_105);
+      } else {
+        requestsPerEnv
+            .computeIfAbsent(schemaRequest.getEnvironment(), env -> new ArrayList<>())
+            .add(i);
+      }
+    }
+
+    for (List<Integer> positions : requestsPerEnv.values()) {
+      for (int position : positions) {
+        try {
+          responses[position] =
+              registerSchemaOfRequest(
+                  userDetails, tenantId, schemaRequestsById.get(requestIds.get(position)));
+        } catch (Exception e) {
+          responses[position] =
+              ApiResponse.notOk(
+                  String.format(REQ_SER_ERR_101, avroSchemaIds.get(position))
+                      + " "
+                      + e.getMessage());
+        }
+      }
+    }
+
+    return Arrays.asList(responses);
+  }
+
+  /**
+   * Registers the schema of a request approved through the outbox and approves the request.
+   * Executing a request, which is already approved, succeeds without calling the cluster api.
+   *
+   * @throws KlawException if the cluster api could not be reached, in which case the operation is
+   *     retried
+   */
+  public ApiResponse executeApprovedSchemaRequest(String approver, int tenantId, int avroSchemaId)
+      throws KlawException {
+    SchemaRequest schemaRequest =
+        manageDatabase.getHandleDbRequests().getSchemaRequest(avroSchemaId, tenantId);
+    if (schemaRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    } else if (RequestStatus.APPROVED.value.equals(schemaRequest.getRequestStatus())) {
+      return ApiResponse.ok(ApiResultStatus.SUCCESS.value);
+    } else if (!RequestStatus.CREATED.value.equals(schemaRequest.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    return registerSchemaOfRequest(approver, tenantId, schemaRequest);
+  }
+
+  private ApiResponse registerSchemaOfRequest(
+      String userDetails, int tenantId, SchemaRequest schemaRequest) throws KlawException {
     ResponseEntity<ApiResponse> response =
         clusterApiService.postSchema(
             schemaRequest, schemaRequest.getEnvironment(), schemaRequest.getTopicname(), tenantId);
@@ -2,6 +2,7 @@ package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.SCH_SYNC_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.SCH_SYNC_ERR_102;
+import static io.aiven.klaw.error.KlawErrorMessages.SCH_SYNC_ERR_103;
 import static io.aiven.klaw.error.KlawErrorMessages.SYNC_102;
 import static io.aiven.klaw.error.KlawErrorMessages.SYNC_103;
 
@@ -25,21 +26,28 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.SchemaDetailsResponse;
 import io.aiven.klaw.model.response.SchemaSubjectInfoResponse;
+import io.aiven.klaw.model.response.SchemaSyncResult;
 import io.aiven.klaw.model.response.SyncSchemasList;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -55,6 +63,18 @@ public class SchemaRegistrySyncControllerService {
   public static final String SOURCE_METADATA = "metadata";
   public static final String SOURCE_CLUSTER = "cluster";
   private static final String LEGACY_TOPIC_VERSION = "1.0";
+
+  /**
+   * @param logLines lines of the sync to cluster log
+   * @param schemasToSave schemas to write to Klaw
+   * @param schemasToDelete schemas to delete from Klaw
+   */
+  private record SubjectSync(
+      SchemaSyncResult result,
+      List<String> logLines,
+      List<MessageSchema> schemasToSave,
+      List<MessageSchema> schemasToDelete) {}
+
   @Autowired ManageDatabase manageDatabase;
 
   @Autowired ClusterApiService clusterApiService;
@@ -63,6 +83,10 @@ public class SchemaRegistrySyncControllerService {
 
   @Autowired private CommonUtilsService commonUtilsService;
 
+  @Autowired
+  @Qualifier("syncSchemasTaskExecutor")
+  private Executor syncSchemasExecutor;
+
   public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   public static final ObjectWriter WRITER_WITH_DEFAULT_PRETTY_PRINTER =
@@ -465,77 +489,161 @@ public class SchemaRegistrySyncControllerService {
       syncSchemaUpdates.setTopicList(topicList);
     }
 
-    for (String topicName : syncSchemaUpdates.getTopicList()) {
+    String schemaEnvId = kafkaEnv.getAssociatedEnv().getId();
+    KwClusters kwClusters = getSchemaRegistryCluster(schemaEnvId, tenantId);
+    Map<String, List<MessageSchema>> schemasOfTopics = getSchemasOfTopics(schemaEnvId, tenantId);
+
+    List<SubjectSync> subjectSyncs =
+        syncSubjects(
+            syncSchemaUpdates.getTopicList(),
+            topicName ->
+                syncSubjectToCluster(
+                    topicName,
+                    syncSchemaUpdates,
+                    schemaEnvId,
+                    kwClusters,
+                    schemasOfTopics.getOrDefault(topicName, List.of()),
+                    tenantId));
+
+    List<MessageSchema> schemaListUpdated = new ArrayList<>();
+    for (SubjectSync subjectSync : subjectSyncs) {
+      logArray.addAll(subjectSync.logLines());
+      schemaListUpdated.addAll(subjectSync.schemasToSave());
+    }
+    if (!schemaListUpdated.isEmpty()) {
+      manageDatabase.getHandleDbRequests().updateDbWithUpdatedVersions(schemaListUpdated);
+    }
+
+    return ApiResponse.builder()
+        .success(true)
+        .message(ApiResultStatus.SUCCESS.value)
+        .data(logArray)
+        .build();
+  }
+
+  /**
+   * Registers the schemas of a subject stored in Klaw on the cluster, oldest version first. A
+   * subject, whose versions are all registered on the cluster with the schema ids known to Klaw, is
+   * skipped unless registering is forced.
+   */
+  private SubjectSync syncSubjectToCluster(
+      String topicName,
+      SyncSchemaUpdates syncSchemaUpdates,
+      String schemaEnvId,
+      KwClusters kwClusters,
+      List<MessageSchema> schemasInDb,
+      int tenantId) {
+    long startTime = System.currentTimeMillis();
+    List<String> logLines = new ArrayList<>();
+    List<MessageSchema> schemaList =
+        schemasInDb.stream()
+            .sorted(Comparator.comparing(a -> parseIntFromSchemaVersion(a.getSchemaversion())))
+            .toList();
+
+    if (!syncSchemaUpdates.isForceRegisterSchema()
+        && isRegisteredOnCluster(topicName, kwClusters, schemaList, tenantId)) {
+      logLines.add("Schemas already registered on cluster for " + topicName);
+      return subjectSync(
+          topicName, true, null, 0, schemaList.size(), startTime, logLines, List.of(), List.of());
+    }
+
+    List<MessageSchema> schemaListUpdated = new ArrayList<>();
+    try {
       // delete all schemas
       ResponseEntity<ApiResponse> apiResponseEntity =
           clusterApiService.deleteSchema(
               topicName, syncSchemaUpdates.getTargetKafkaEnvSelected(), tenantId);
 
       // check for success or schema may not exist
-      if (apiResponseEntity.getBody() != null
-          && (apiResponseEntity.getBody().isSuccess()
-              || (!apiResponseEntity.getBody().isSuccess()
-                  && apiResponseEntity.getBody().getMessage().contains(SCH_SYNC_ERR_102)))) {
-        logArray.add("Schemas deleted for " + topicName);
-        // create new schemas
-        List<MessageSchema> schemaList =
-            manageDatabase
-                .getHandleDbRequests()
-                .getSchemaForTenantAndEnvAndTopic(
-                    tenantId, kafkaEnv.getAssociatedEnv().getId(), topicName);
-        schemaList =
-            schemaList.stream()
-                .sorted(Comparator.comparing(a -> parseIntFromSchemaVersion(a.getSchemaversion())))
-                .toList();
-
-        List<MessageSchema> schemaListUpdated = new ArrayList<>();
-        for (MessageSchema messageSchema : schemaList) {
-          SchemaRequest schemaRequest = new SchemaRequest();
-          schemaRequest.setForceRegister(syncSchemaUpdates.isForceRegisterSchema());
-          schemaRequest.setSchemafull(messageSchema.getSchemafull());
-
-          ResponseEntity<ApiResponse> apiResponseCreateEntity =
-              clusterApiService.postSchema(
-                  schemaRequest, kafkaEnv.getAssociatedEnv().getId(), topicName, tenantId);
-          ApiResponse apiResponse = apiResponseCreateEntity.getBody();
-          Map<String, Object> registerSchemaCustomResponse = null;
-          boolean schemaRegistered = false;
-          if (apiResponse != null
-              && apiResponse.getData() != null
-              && apiResponse.getData() instanceof Map<?, ?>) {
-            registerSchemaCustomResponse = (Map) apiResponse.getData();
-            schemaRegistered = (Boolean) registerSchemaCustomResponse.get("schemaRegistered");
-          }
-          if (registerSchemaCustomResponse != null
-              && (registerSchemaCustomResponse.containsKey("id")
-                  && schemaRegistered
-                  && registerSchemaCustomResponse.containsKey("compatibility"))) {
-
-            Integer schemaVersion = (Integer) registerSchemaCustomResponse.get("version");
-            messageSchema.setSchemaversion(schemaVersion + "");
-            schemaRequest.setSchemaId((Integer) registerSchemaCustomResponse.get("id"));
-            schemaRequest.setCompatibility(
-                (String) registerSchemaCustomResponse.get("compatibility"));
-            schemaListUpdated.add(messageSchema);
-
-            logArray.add(
-                "Schemas registered on cluster for " + topicName + " Version " + schemaVersion);
-          } else {
-            logArray.add("Schema NOT updated :" + topicName);
-          }
+      if (apiResponseEntity.getBody() == null
+          || (!apiResponseEntity.getBody().isSuccess()
+              && !apiResponseEntity.getBody().getMessage().contains(SCH_SYNC_ERR_102))) {
+        logLines.add("Schema NOT updated :" + topicName);
+        return subjectSync(topicName, false, null, 0, 0, startTime, logLines, List.of(), List.of());
+      }
+      logLines.add("Schemas deleted for " + topicName);
+
+      // create new schemas, versions are registered in order
+      for (MessageSchema messageSchema : schemaList) {
+        SchemaRequest schemaRequest = new SchemaRequest();
+        schemaRequest.setForceRegister(syncSchemaUpdates.isForceRegisterSchema());
+        schemaRequest.setSchemafull(messageSchema.getSchemafull());
+
+        ResponseEntity<ApiResponse> apiResponseCreateEntity =
+            clusterApiService.postSchema(schemaRequest, schemaEnvId, topicName, tenantId);
+        ApiResponse apiResponse = apiResponseCreateEntity.getBody();
+        Map<String, Object> registerSchemaCustomResponse = null;
+        boolean schemaRegistered = false;
+        if (apiResponse != null
+            && apiResponse.getData() != null
+            && apiResponse.getData() instanceof Map<?, ?>) {
+          registerSchemaCustomResponse = (Map) apiResponse.getData();
+          schemaRegistered = (Boolean) registerSchemaCustomResponse.get("schemaRegistered");
+        }
+        if (registerSchemaCustomResponse != null
+            && (registerSchemaCustomResponse.containsKey("id")
+                && schemaRegistered
+                && registerSchemaCustomResponse.containsKey("compatibility"))) {
+
+          Integer schemaVersion = (Integer) registerSchemaCustomResponse.get("version");
+          messageSchema.setSchemaversion(schemaVersion + "");
+          schemaRequest.setSchemaId((Integer) registerSchemaCustomResponse.get("id"));
+          schemaRequest.setCompatibility(
+              (String) registerSchemaCustomResponse.get("compatibility"));
+          schemaListUpdated.add(messageSchema);
+
+          logLines.add(
+              "Schemas registered on cluster for " + topicName + " Version " + schemaVersion);
+        } else {
+          logLines.add("Schema NOT updated :" + topicName);
         }
-
-        manageDatabase.getHandleDbRequests().updateDbWithUpdatedVersions(schemaListUpdated);
-      } else {
-        logArray.add("Schema NOT updated :" + topicName);
       }
+    } catch (KlawException e) {
+      log.error("Error syncing schemas of {} to cluster", topicName, e);
+      logLines.add("Schema NOT updated :" + topicName);
+      return subjectSync(
+          topicName,
+          false,
+          e.getMessage(),
+          schemaListUpdated.size(),
+          0,
+          startTime,
+          logLines,
+          schemaListUpdated,
+          List.of());
     }
 
-    return ApiResponse.builder()
-        .success(true)
-        .message(ApiResultStatus.SUCCESS.value)
-        .data(logArray)
-        .build();
+    return subjectSync(
+        topicName,
+        schemaListUpdated.size() == schemaList.size(),
+        null,
+        schemaListUpdated.size(),
+        0,
+        startTime,
+        logLines,
+        schemaListUpdated,
+        List.of());
+  }
+
+  private boolean isRegisteredOnCluster(
+      String topicName, KwClusters kwClusters, List<MessageSchema> schemaList, int tenantId) {
+    if (schemaList.isEmpty()
+        || schemaList.stream().anyMatch(messageSchema -> messageSchema.getSchemaId() == null)) {
+      return false;
+    }
+    try {
+      Set<Integer> schemaIdsOnCluster =
+          getSchemasOfSubject(topicName, kwClusters, tenantId).values().stream()
+              .map(schemaOnCluster -> (Integer) schemaOnCluster.get("id"))
+              .collect(Collectors.toSet());
+      Set<Integer> schemaIdsInDb =
+          schemaList.stream().map(MessageSchema::getSchemaId).collect(Collectors.toSet());
+      return schemaIdsOnCluster.equals(schemaIdsInDb);
+    } catch (Exception e) {
+      // the subject is registered again, when it cannot be compared with the cluster
+      log.error("Error retrieving schemas of {} from cluster", topicName, e);
+      return false;
+    }
   }
 
   private ApiResponse updateSyncSchemasToMetadata(SyncSchemaUpdates syncSchemaUpdates)
@@ -555,67 +663,197 @@ public class SchemaRegistrySyncControllerService {
       return ApiResponse.notOk(SCH_SYNC_ERR_101);
     }
 
-    Env schemaEnvSelected =
-        manageDatabase
-            .getHandleDbRequests()
-            .getEnvDetails(kafkaEnv.getAssociatedEnv().getId(), tenantId);
-    KwClusters kwClusters =
-        manageDatabase
-            .getClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId)
-            .get(schemaEnvSelected.getClusterId());
+    String schemaEnvId = kafkaEnv.getAssociatedEnv().getId();
+    KwClusters kwClusters = getSchemaRegistryCluster(schemaEnvId, tenantId);
+    Map<String, List<MessageSchema>> schemasOfTopics = getSchemasOfTopics(schemaEnvId, tenantId);
+    Map<String, Integer> teamIdsOfTopics = new HashMap<>();
+    for (Topic topic : manageDatabase.getTopicsForTenant(tenantId)) {
+      teamIdsOfTopics.putIfAbsent(topic.getTopicname(), topic.getTeamId());
+    }
 
-    for (String topicName : syncSchemaUpdates.getTopicList()) {
-      TreeMap<Integer, Map<String, Object>> schemaObject =
-          clusterApiService.getAvroSchema(
-              kwClusters.getBootstrapServers(),
-              kwClusters.getProtocol(),
-              kwClusters.getClusterName() + kwClusters.getClusterId(),
-              topicName,
-              tenantId);
+    List<SubjectSync> subjectSyncs =
+        syncSubjects(
+            syncSchemaUpdates.getTopicList(),
+            topicName ->
+                syncSubjectToMetadata(
+                    topicName,
+                    schemaEnvId,
+                    kwClusters,
+                    teamIdsOfTopics.get(topicName),
+                    schemasOfTopics.getOrDefault(topicName, List.of()),
+                    tenantId));
+
+    List<MessageSchema> schemasToSave = new ArrayList<>();
+    List<MessageSchema> schemasToDelete = new ArrayList<>();
+    List<SchemaSyncResult> results = new ArrayList<>();
+    for (SubjectSync subjectSync : subjectSyncs) {
+      schemasToSave.addAll(subjectSync.schemasToSave());
+      schemasToDelete.addAll(subjectSync.schemasToDelete());
+      results.add(subjectSync.result());
+    }
+
+    // This is a list of the Schemas refrenced by the topic that owned them originally.
+    Set<String> topicsToRemove = new LinkedHashSet<>();
+    if (syncSchemaUpdates.getTypeOfSync().equalsIgnoreCase("SYNC_SCHEMAS")) {
+      topicsToRemove.addAll(
+          CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicListForRemoval()));
+    }
+
+    // all schemas are written in one transaction
+    manageDatabase
+        .getHandleDbRequests()
+        .updateSyncedSchemas(schemasToSave, schemasToDelete, topicsToRemove, schemaEnvId, tenantId);
+
+    return ApiResponse.builder()
+        .success(true)
+        .message(
+            "Topics/Schemas "
+                + CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicList())
+                + "\nSchemas removed "
+                + CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicListForRemoval()))
+        .data(results)
+        .build();
+  }
+
+  /**
+   * Compares the versions of a subject on the cluster with the versions stored in Klaw. Versions
+   * stored with the same schema id, team and compatibility are skipped, other versions are written
+   * and versions no longer on the cluster are deleted.
+   */
+  private SubjectSync syncSubjectToMetadata(
+      String topicName,
+      String schemaEnvId,
+      KwClusters kwClusters,
+      Integer teamId,
+      List<MessageSchema> schemasInDb,
+      int tenantId) {
+    long startTime = System.currentTimeMillis();
+    if (teamId == null) {
+      return subjectSync(
+          topicName, false, SCH_SYNC_ERR_103, 0, 0, startTime, List.of(), List.of(), List.of());
+    }
 
-      int teamId = commonUtilsService.getTopicsForTopicName(topicName, tenantId).get(0).getTeamId();
+    TreeMap<Integer, Map<String, Object>> schemaObject;
+    try {
+      schemaObject = getSchemasOfSubject(topicName, kwClusters, tenantId);
+    } catch (Exception e) {
+      log.error("Error retrieving schemas of {} from cluster", topicName, e);
+      return subjectSync(
+          topicName, false, e.getMessage(), 0, 0, startTime, List.of(), List.of(), List.of());
+    }
 
-      // delete all versions of topic
-      Topic topic = new Topic();
-      topic.setEnvironment(schemaEnvSelected.getId());
-      topic.setTenantId(tenantId);
-      topic.setTopicname(topicName);
-      manageDatabase.getHandleDbRequests().deleteSchemas(topic);
+    Map<String, MessageSchema> schemasByVersion = new HashMap<>();
+    List<MessageSchema> schemasToDelete = new ArrayList<>();
+    for (MessageSchema messageSchema : schemasInDb) {
+      if (schemasByVersion.putIfAbsent(messageSchema.getSchemaversion(), messageSchema) != null) {
+        schemasToDelete.add(messageSchema);
+      }
+    }
 
-      // insert all versions of topic
-      List<MessageSchema> schemaList = new ArrayList<>();
-      for (Integer schemaVersion : schemaObject.keySet()) {
-        MessageSchema messageSchema = new MessageSchema();
-        messageSchema.setEnvironment(schemaEnvSelected.getId());
+    List<MessageSchema> schemasToSave = new ArrayList<>();
+    int skippedVersions = 0;
+    for (Map.Entry<Integer, Map<String, Object>> schemaOnCluster : schemaObject.entrySet()) {
+      Integer schemaId = (Integer) schemaOnCluster.getValue().get("id");
+      String compatibility = (String) schemaOnCluster.getValue().get("compatibility");
+      MessageSchema messageSchema = schemasByVersion.remove(schemaOnCluster.getKey() + "");
+      if (messageSchema != null
+          && Objects.equals(messageSchema.getSchemaId(), schemaId)
+          && Objects.equals(messageSchema.getTeamId(), teamId)
+          && Objects.equals(messageSchema.getCompatibility(), compatibility)) {
+        skippedVersions++;
+        continue;
+      }
+      if (messageSchema == null) {
+        messageSchema = new MessageSchema();
+        messageSchema.setEnvironment(schemaEnvId);
         messageSchema.setTopicname(topicName);
         messageSchema.setTenantId(tenantId);
-        messageSchema.setSchemaversion(schemaVersion + "");
-        messageSchema.setSchemafull((String) schemaObject.get(schemaVersion).get("schema"));
-        messageSchema.setTeamId(teamId);
-        messageSchema.setSchemaId((Integer) schemaObject.get(schemaVersion).get("id"));
-        messageSchema.setCompatibility(
-            (String) schemaObject.get(schemaVersion).get("compatibility"));
-        schemaList.add(messageSchema);
+        messageSchema.setSchemaversion(schemaOnCluster.getKey() + "");
       }
-
-      manageDatabase.getHandleDbRequests().insertIntoMessageSchemaSOT(schemaList);
+      messageSchema.setSchemafull((String) schemaOnCluster.getValue().get("schema"));
+      messageSchema.setTeamId(teamId);
+      messageSchema.setSchemaId(schemaId);
+      messageSchema.setCompatibility(compatibility);
+      schemasToSave.add(messageSchema);
     }
+    // versions which are no longer on the cluster
+    schemasToDelete.addAll(schemasByVersion.values());
+
+    return subjectSync(
+        topicName,
+        true,
+        null,
+        schemasToSave.size(),
+        skippedVersions,
+        startTime,
+        List.of(),
+        schemasToSave,
+        schemasToDelete);
+  }
 
-    if (syncSchemaUpdates.getTypeOfSync().equalsIgnoreCase("SYNC_SCHEMAS")
-        && syncSchemaUpdates.getTopicListForRemoval() != null) {
-      // This is a list of the Schemas refrenced by the topic that owned them originally.
-      for (String schemaByTopicName : syncSchemaUpdates.getTopicListForRemoval()) {
-        manageDatabase
-            .getHandleDbRequests()
-            .deleteSchema(tenantId, schemaByTopicName, kafkaEnv.getAssociatedEnv().getId());
-      }
+  /** Syncs the given subjects in parallel, the outcomes are in the order of the subjects. */
+  private List<SubjectSync> syncSubjects(
+      List<String> topicNames, Function<String, SubjectSync> syncSubject) {
+    List<CompletableFuture<SubjectSync>> subjectSyncs = new ArrayList<>();
+    for (String topicName : new LinkedHashSet<>(CollectionUtils.emptyIfNull(topicNames))) {
+      subjectSyncs.add(
+          CompletableFuture.supplyAsync(() -> syncSubject.apply(topicName), syncSchemasExecutor));
     }
+    return subjectSyncs.stream().map(CompletableFuture::join).toList();
+  }
+
+  private SubjectSync subjectSync(
+      String topicName,
+      boolean success,
+      String message,
+      int syncedVersions,
+      int skippedVersions,
+      long startTime,
+      List<String> logLines,
+      List<MessageSchema> schemasToSave,
+      List<MessageSchema> schemasToDelete) {
+    long durationMillis = System.currentTimeMillis() - startTime;
+    log.info(
+        "Synced schemas of {} in {} ms, {} versions synced, {} versions skipped",
+        topicName,
+        durationMillis,
+        syncedVersions,
+        skippedVersions);
+    List<String> subjectLogLines = new ArrayList<>(logLines);
+    subjectLogLines.add("Schemas of " + topicName + " synced in " + durationMillis + " ms");
+    return new SubjectSync(
+        new SchemaSyncResult(
+            topicName, success, message, syncedVersions, skippedVersions, durationMillis),
+        subjectLogLines,
+        schemasToSave,
+        schemasToDelete);
+  }
+
+  private TreeMap<Integer, Map<String, Object>> getSchemasOfSubject(
+      String topicName, KwClusters kwClusters, int tenantId) throws Exception {
+    return clusterApiService.getAvroSchema(
+        kwClusters.getBootstrapServers(),
+        kwClusters.getProtocol(),
+        kwClusters.getClusterName() + kwClusters.getClusterId(),
+        topicName,
+        tenantId);
+  }
+
+  private KwClusters getSchemaRegistryCluster(String schemaEnvId, int tenantId) {
+    Env schemaEnvSelected =
+        manageDatabase.getHandleDbRequests().getEnvDetails(schemaEnvId, tenantId);
+    return manageDatabase
+        .getClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId)
+        .get(schemaEnvSelected.getClusterId());
+  }
 
-    return ApiResponse.ok(
-        "Topics/Schemas "
-            + CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicList())
-            + "\nSchemas removed "
-            + CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicListForRemoval()));
+  /** Schemas stored for the schema environment, retrieved at once and grouped by topic. */
+  private Map<String, List<MessageSchema>> getSchemasOfTopics(String schemaEnvId, int tenantId) {
+    return manageDatabase
+        .getHandleDbRequests()
+        .getSchemasForTenantAndEnv(tenantId, schemaEnvId)
+        .stream()
+        .collect(Collectors.groupingBy(MessageSchema::getTopicname));
   }
 
   // schema content either from metadata or cluster
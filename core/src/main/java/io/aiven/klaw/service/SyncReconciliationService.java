@@ -0,0 +1,352 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusterSnapshot;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.AclKey;
+import io.aiven.klaw.helpers.ClusterSnapshot;
+import io.aiven.klaw.helpers.EnvReconciliationRunner;
+import io.aiven.klaw.helpers.EnvReconciliationRunner.EnvResult;
+import io.aiven.klaw.helpers.EnvReconciliationRunner.EnvTask;
+import io.aiven.klaw.model.AclInfo;
+import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.model.response.TopicSyncResponseModel;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Scheduled reconciliation of the topics and acls of all environments of all tenants against their
+ * clusters. Environments are reconciled in parallel, each within its own time budget, and every
+ * tenant receives one mail covering all of its environments. Runs on the schedule of
+ * klaw.reconciliation.cron, by one instance at a time, and is disabled by default.
+ *
+ * <p>The state observed on each cluster is stored as a snapshot, together with a hash of the topics
+ * and acls of the env in Klaw. When running incrementally, only the topics and acls which changed
+ * on the cluster since the previous snapshot are compared with Klaw and reported, and a cluster
+ * which did not change at all is not compared with Klaw. Once the topics or acls of the env change
+ * in Klaw, the next reconciliation compares all of them again.
+ */
+@Service
+@Slf4j
+public class SyncReconciliationService {
+
+  static final String TOPICS = "topics";
+  static final String ACLS = "acls";
+
+  private static final String ACL_ATTRIBUTE_SEPARATOR = "|";
+  private static final String ACL_KEY_VALUE_SEPARATOR = "=";
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private TopicSyncControllerService topicSyncControllerService;
+
+  @Autowired private AclSyncControllerService aclSyncControllerService;
+
+  @Autowired private MailUtils mailService;
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Autowired
+  @Qualifier("reconciliationTaskExecutor")
+  private Executor reconciliationExecutor;
+
+  @Value("${klaw.reconciliation.env.budget.seconds:300}")
+  private long envBudgetSeconds;
+
+  @Value("${klaw.reconciliation.incremental:true}")
+  private boolean incremental;
+
+  // disabled by default, for example 0 0 7 * * ? to reconcile at 7 am everyday
+  @Scheduled(cron = "${klaw.reconciliation.cron:-}")
+  @SchedulerLock(
+      name = "TaskScheduler_Reconciliation",
+      lockAtLeastFor = "${klaw.shedlock.lockAtLeastFor:PT30M}",
+      lockAtMostFor = "${klaw.shedlock.lockAtMostFor:PT60M}")
+  public void reconcileScheduled() {
+    List<EnvTask> tasks = new ArrayList<>();
+    for (Integer tenantId : manageDatabase.getTenantMap().keySet()) {
+      // topics and acls only exist on kafka clusters
+      for (Env env : manageDatabase.getKafkaEnvList(tenantId)) {
+        String envId = env.getId();
+        tasks.add(new EnvTask(tenantId, envId, TOPICS, () -> reconcileTopics(tenantId, envId)));
+        tasks.add(new EnvTask(tenantId, envId, ACLS, () -> reconcileAcls(tenantId, envId)));
+      }
+    }
+
+    List<EnvResult> results =
+        new EnvReconciliationRunner(reconciliationExecutor, Duration.ofSeconds(envBudgetSeconds))
+            .run(tasks);
+
+    Map<Integer, List<EnvResult>> resultsPerTenant = new LinkedHashMap<>();
+    for (EnvResult result : results) {
+      resultsPerTenant
+          .computeIfAbsent(result.task().tenantId(), tenantId -> new ArrayList<>())
+          .add(result);
+    }
+    resultsPerTenant.forEach(this::sendReconciliationMail);
+  }
+
+  List<String> reconcileTopics(int tenantId, String envId) throws Exception {
+    Set<TopicConfig> clusterTopics = topicSyncControllerService.getClusterTopics(envId, tenantId);
+    Map<String, String> contentHashes = new HashMap<>();
+    for (TopicConfig topic : clusterTopics) {
+      contentHashes.put(
+          topic.getTopicName(),
+          ClusterSnapshot.contentHash(
+              topic.getTopicName(), topic.getPartitions(), topic.getReplicationFactor()));
+    }
+    ClusterSnapshot snapshot = new ClusterSnapshot(contentHashes);
+    String metadataHash =
+        topicsMetadataHash(
+            manageDatabase.getHandleDbRequests().getSyncTopics(envId, null, tenantId));
+
+    Predicate<String> topicNameFilter = topicName -> true;
+    Optional<ClusterSnapshot.Delta> delta =
+        getDelta(tenantId, envId, TOPICS, snapshot, metadataHash);
+    if (delta.isPresent()) {
+      if (delta.get().isEmpty()) {
+        return List.of();
+      }
+      topicNameFilter = delta.get().keys()::contains;
+    }
+
+    List<String> lines = new ArrayList<>();
+    for (TopicSyncResponseModel topic :
+        topicSyncControllerService.getReconTopics(
+            envId, clusterTopics, topicNameFilter, tenantId)) {
+      lines.add(topic.getTopicname() + " " + topic.getRemarks());
+    }
+    saveSnapshot(tenantId, envId, TOPICS, snapshot, metadataHash);
+    return lines;
+  }
+
+  List<String> reconcileAcls(int tenantId, String envId) throws Exception {
+    List<Map<String, String>> clusterAcls =
+        aclSyncControllerService.getClusterAcls(envId, tenantId);
+    Map<String, String> contentHashes = new HashMap<>();
+    for (Map<String, String> clusterAcl : clusterAcls) {
+      String aclKey = aclSnapshotKey(clusterAcl);
+      contentHashes.put(aclKey, ClusterSnapshot.contentHash(aclKey));
+    }
+    ClusterSnapshot snapshot = new ClusterSnapshot(contentHashes);
+    String metadataHash =
+        aclsMetadataHash(manageDatabase.getHandleDbRequests().getSyncAcls(envId, tenantId));
+
+    Predicate<AclInfo> aclFilter = acl -> true;
+    Optional<ClusterSnapshot.Delta> delta = getDelta(tenantId, envId, ACLS, snapshot, metadataHash);
+    if (delta.isPresent()) {
+      if (delta.get().isEmpty()) {
+        return List.of();
+      }
+      aclFilter = changedAclsFilter(delta.get().keys());
+    }
+
+    List<String> lines = new ArrayList<>();
+    for (AclInfo acl : aclSyncControllerService.getReconAcls(envId, clusterAcls, tenantId)) {
+      if (aclFilter.test(acl)) {
+        lines.add(
+            acl.getTopicname()
+                + " "
+                + acl.getTopictype()
+                + " "
+                + acl.getAcl_ssl()
+                + " "
+                + acl.getAcl_ip()
+                + " "
+                + acl.getRemarks());
+      }
+    }
+    saveSnapshot(tenantId, envId, ACLS, snapshot, metadataHash);
+    return lines;
+  }
+
+  /**
+   * Changes on the cluster since the previous snapshot, empty if everything is reconciled. Also
+   * empty if the metadata in Klaw changed since, as then all topics or acls need to be compared.
+   */
+  private Optional<ClusterSnapshot.Delta> getDelta(
+      int tenantId,
+      String envId,
+      String entityType,
+      ClusterSnapshot snapshot,
+      String metadataHash) {
+    if (!incremental) {
+      return Optional.empty();
+    }
+    return manageDatabase
+        .getHandleDbRequests()
+        .getClusterSnapshot(envId, entityType, tenantId)
+        .filter(previous -> metadataHash.equals(previous.getMetadataHash()))
+        .map(previous -> snapshot.diff(ClusterSnapshot.parse(previous.getSnapshot())));
+  }
+
+  private void saveSnapshot(
+      int tenantId,
+      String envId,
+      String entityType,
+      ClusterSnapshot snapshot,
+      String metadataHash) {
+    KwClusterSnapshot kwClusterSnapshot = new KwClusterSnapshot();
+    kwClusterSnapshot.setTenantId(tenantId);
+    kwClusterSnapshot.setEnv(envId);
+    kwClusterSnapshot.setEntityType(entityType);
+    kwClusterSnapshot.setSnapshot(snapshot.serialize());
+    kwClusterSnapshot.setEntityCount(snapshot.size());
+    kwClusterSnapshot.setMetadataHash(metadataHash);
+    kwClusterSnapshot.setSnapshotTime(new Timestamp(System.currentTimeMillis()));
+    manageDatabase.getHandleDbRequests().saveClusterSnapshot(kwClusterSnapshot);
+  }
+
+  /** Hash of the attributes of the topics in Klaw which are compared with the cluster. */
+  static String topicsMetadataHash(List<Topic> topics) {
+    return metadataHash(
+        topics.stream()
+            .map(
+                topic ->
+                    ClusterSnapshot.contentHash(
+                        topic.getTopicname(),
+                        topic.getNoOfPartitions(),
+                        topic.getNoOfReplicas(),
+                        topic.getTeamId())));
+  }
+
+  /** Hash of the attributes of the acls in Klaw which are compared with the cluster. */
+  static String aclsMetadataHash(List<Acl> acls) {
+    return metadataHash(
+        acls.stream()
+            .map(
+                acl ->
+                    ClusterSnapshot.contentHash(
+                        acl.getTopicname(),
+                        acl.getAclType(),
+                        acl.getAclssl(),
+                        acl.getAclip(),
+                        acl.getConsumergroup(),
+                        acl.getAclPatternType(),
+                        acl.getAclResourceType(),
+                        acl.getTransactionalId(),
+                        acl.getTeamId())));
+  }
+
+  // sorted, so the hash does not depend on the order in which the database returns the entries
+  private static String metadataHash(Stream<String> entryHashes) {
+    return ClusterSnapshot.contentHash(entryHashes.sorted().toArray());
+  }
+
+  /** All attributes of the acl in a fixed order, so the same acl always has the same key. */
+  static String aclSnapshotKey(Map<String, String> clusterAcl) {
+    return new TreeMap<>(clusterAcl)
+        .entrySet().stream()
+            .map(entry -> entry.getKey() + ACL_KEY_VALUE_SEPARATOR + entry.getValue())
+            .collect(Collectors.joining(ACL_ATTRIBUTE_SEPARATOR));
+  }
+
+  /**
+   * Accepts the acls of the reconciliation which match a changed cluster acl on topic, principal
+   * and host. A changed consumer group acl matches every acl of its principal and host.
+   */
+  private static Predicate<AclInfo> changedAclsFilter(Set<String> changedAclKeys) {
+    Set<String> changedTopicAcls = new HashSet<>();
+    Set<String> changedGroupAcls = new HashSet<>();
+    for (String aclKey : changedAclKeys) {
+      Map<String, String> clusterAcl = new HashMap<>();
+      for (String attribute : aclKey.split(Pattern.quote(ACL_ATTRIBUTE_SEPARATOR))) {
+        int separator = attribute.indexOf(ACL_KEY_VALUE_SEPARATOR);
+        if (separator > 0) {
+          clusterAcl.put(attribute.substring(0, separator), attribute.substring(separator + 1));
+        }
+      }
+      String principalAndHost =
+          AclKey.normalizePrincipal(clusterAcl.get("principle"))
+              + " "
+              + AclKey.normalizeHost(clusterAcl.get("host"));
+      if (AclKey.GROUP_RESOURCE.equals(clusterAcl.get("resourceType"))) {
+        changedGroupAcls.add(principalAndHost);
+      } else {
+        changedTopicAcls.add(clusterAcl.get("resourceName") + " " + principalAndHost);
+      }
+    }
+
+    return acl -> {
+      String principalAndHost =
+          AclKey.normalizePrincipal(acl.getAcl_ssl()) + " " + AclKey.normalizeHost(acl.getAcl_ip());
+      return changedGroupAcls.contains(principalAndHost)
+          || changedTopicAcls.contains(acl.getTopicname() + " " + principalAndHost);
+    };
+  }
+
+  private void sendReconciliationMail(int tenantId, List<EnvResult> results) {
+    boolean hasFindings =
+        results.stream()
+            .anyMatch(
+                result ->
+                    !result.lines().isEmpty()
+                        || result.outcome() != EnvReconciliationRunner.Outcome.SUCCESS);
+    if (!hasFindings) {
+      return;
+    }
+
+    String tenantName = manageDatabase.getTenantMap().get(tenantId);
+    StringBuilder reconStr = new StringBuilder();
+    reconStr.append("Tenant : ").append(tenantName).append("\n");
+    for (EnvResult result : results) {
+      reconStr
+          .append("\n")
+          .append(getEnvName(tenantId, result.task().envId()))
+          .append(" ")
+          .append(result.task().entity())
+          .append(" : ")
+          .append(result.outcome())
+          .append(" in ")
+          .append(result.durationMillis())
+          .append(" ms\n");
+      result.lines().forEach(line -> reconStr.append(line).append("\n"));
+    }
+
+    mailService.sendReconMailToAdmin(
+        "Reconciliation of Topics and Acls",
+        reconStr.toString(),
+        tenantName,
+        tenantId,
+        getLoginUrl());
+  }
+
+  // the scheduler reconciles outside of any request, without a url of its own
+  private String getLoginUrl() {
+    return RequestContextHolder.getRequestAttributes() != null
+        ? commonUtilsService.getLoginUrl()
+        : "/login";
+  }
+
+  private String getEnvName(int tenantId, String envId) {
+    return manageDatabase.getKafkaEnvList(tenantId).stream()
+        .filter(env -> envId.equals(env.getId()))
+        .map(Env::getName)
+        .findFirst()
+        .orElse(envId);
+  }
+}
@@ -1,6 +1,8 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_105;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_108;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_102;
@@ -15,6 +17,9 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_111;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_112;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_113;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_114;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_104;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_106;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_111;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_121;
 import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 import static io.aiven.klaw.model.enums.MailType.*;
@@ -59,13 +64,17 @@ import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.TopicRequestModel;
 import io.aiven.klaw.model.response.TopicConfig;
 import io.aiven.klaw.model.response.TopicDetailsPerEnv;
+import io.aiven.klaw.model.response.TopicNameValidationResult;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.TopicTeamResponse;
+import io.aiven.klaw.validation.TopicPolicy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -73,10 +82,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -86,6 +97,10 @@ import org.springframework.stereotype.Service;
 public class TopicControllerService {
 
   public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  // same characters as accepted by the topic requests
+  private static final Pattern TOPIC_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9._-]{3,}$");
+
   @Autowired private final ClusterApiService clusterApiService;
 
   @Autowired ManageDatabase manageDatabase;
@@ -96,6 +111,11 @@ public class TopicControllerService {
 
   @Autowired private RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Autowired private ClusterOperationOutboxService clusterOperationOutboxService;
+
+  @Value("${klaw.validation.min.size.topicName:3}")
+  private int minimumTopicNameSize = 3;
+
   private int topicCounter = 0;
 
   TopicControllerService(ClusterApiService clusterApiService, MailUtils mailService) {
@@ -643,6 +663,11 @@ public class TopicControllerService {
 
       topicRequestModelList.add(setRequestorPermissions(topicRequestModel, userName));
     }
+    clusterOperationOutboxService.addClusterOperations(
+        RequestEntityType.TOPIC,
+        tenantId,
+        topicRequestModelList,
+        TopicRequestsResponseModel::getTopicid);
     return topicRequestModelList;
   }
 
@@ -725,6 +750,16 @@ public class TopicControllerService {
       return validationResponse;
     }
 
+    if (isAppliedThroughOutbox(topicRequest)) {
+      clusterOperationOutboxService.enqueue(
+          RequestEntityType.TOPIC,
+          topicRequest.getTopicid(),
+          topicRequest.getEnvironment(),
+          tenantId,
+          userName);
+      return ApiResponse.ok(REQ_SER_105);
+    }
+
     HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
     String updateTopicReqStatus;
     // Starts as success as their may be no schema related to this topic.
@@ -783,6 +818,215 @@ public class TopicControllerService {
         : ApiResponse.notOk(message);
   }
 
+  /**
+   * Approves several topic requests at once. All requests are validated before any of them is
+   * executed. The topics of the requests creating or promoting topics are created with one call to
+   * the cluster api per environment and their requests are approved in one transaction, the other
+   * requests are approved one by one.
+   *
+   * @return outcome of every request, in the order of the given ids
+   */
+  public List<ApiResponse> approveTopicRequests(List<String> topicIds) {
+    log.info("approveTopicRequests {}", topicIds);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_TOPICS)) {
+      return Collections.nCopies(topicIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
+    List<Integer> requestIds = topicIds.stream().map(id -> NumberUtils.toInt(id, -1)).toList();
+    Map<Integer, TopicRequest> topicRequestsById = new HashMap<>();
+    for (TopicRequest topicRequest :
+        manageDatabase
+            .getHandleDbRequests()
+            .getTopicRequests(new HashSet<>(requestIds), tenantId)) {
+      topicRequestsById.put(topicRequest.getTopicid(), topicRequest);
+    }
+
+    ApiResponse[] responses = new ApiResponse[topicIds.size()];
+    Map<String, Map<Integer, TopicRequest>> topicCreationsPerEnv = new LinkedHashMap<>();
+    List<Integer> otherRequests = new ArrayList<>();
+    Set<Integer> validatedIds = new HashSet<>();
+    for (int i = 0; i < requestIds.size(); i++) {
+      TopicRequest topicRequest = topicRequestsById.get(requestIds.get(i));
+      // a request given twice is processed once, as approving it the second time would fail
+      if (topicRequest == null || !validatedIds.add(requestIds.get(i))) {
+        responses[i] = ApiResponse.notOk(REQ_ERR_101);
+        continue;
+      }
+      ApiResponse validationResponse =
+          validateTopicRequest(topicRequest, userName, allowedEnvIdSet);
+      if (!validationResponse.isSuccess()) {
+        responses[i] = validationResponse;
+      } else if (isAppliedThroughOutbox(topicRequest)) {
+        clusterOperationOutboxService.enqueue(
+            RequestEntityType.TOPIC,
+            topicRequest.getTopicid(),
+            topicRequest.getEnvironment(),
+            tenantId,
+            userName);
+        responses[i] = ApiResponse.ok(REQ_SER_105);
+      } else if (RequestOperationType.CREATE.value.equals(topicRequest.getRequestOperationType())
+          || RequestOperationType.PROMOTE.value.equals(topicRequest.getRequestOperationType())) {
+        topicCreationsPerEnv
+            .computeIfAbsent(topicRequest.getEnvironment(), env -> new LinkedHashMap<>())
+            .put(i, topicRequest);
+      } else {
+        otherRequests.add(i);
+      }
+    }
+
+    for (int position : otherRequests) {
+      try {
+        responses[position] = approveTopicRequests(topicIds.get(position));
+      } catch (Exception e) {
+        responses[position] =
+            ApiResponse.notOk(
+                String.format(REQ_SER_ERR_101, topicIds.get(position)) + " " + e.getMessage());
+      }
+    }
+
+    boolean topicsCreated = false;
+    for (Map.Entry<String, Map<Integer, TopicRequest>> topicCreations :
+        topicCreationsPerEnv.entrySet()) {
+      topicsCreated |=
+          createTopicsOfRequests(
+              userName, tenantId, topicCreations.getKey(), topicCreations.getValue(), responses);
+    }
+    if (topicsCreated) {
+      commonUtilsService.updateMetadata(
+          tenantId, EntityType.TOPICS, MetadataOperationType.CREATE, null);
+    }
+
+    return Arrays.asList(responses);
+  }
+
+  // claim requests only change Klaw metadata, so there is nothing to apply to the cluster
+  private boolean isAppliedThroughOutbox(TopicRequest topicRequest) {
+    return clusterOperationOutboxService.isEnabled()
+        && !RequestOperationType.CLAIM.value.equals(topicRequest.getRequestOperationType());
+  }
+
+  /**
+   * Applies a topic request approved through the outbox to the cluster and approves the request.
+   * Executing a request, which is already approved, succeeds without calling the cluster api.
+   *
+   * @throws KlawException if the cluster api could not be reached, in which case the operation is
+   *     retried
+   */
+  public ApiResponse executeApprovedTopicRequest(String approver, int tenantId, int topicId)
+      throws KlawException {
+    TopicRequest topicRequest = getTopicRequestFromTopicId(topicId, tenantId);
+    if (topicRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    } else if (RequestStatus.APPROVED.value.equals(topicRequest.getRequestStatus())) {
+      return ApiResponse.ok(ApiResultStatus.SUCCESS.value);
+    } else if (!RequestStatus.CREATED.value.equals(topicRequest.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+
+    Map<String, String> topicConfig =
+        UtilMethods.createAdvancedConfigFromJson(topicRequest.getJsonParams(), OBJECT_MAPPER);
+    String updateTopicReqStatus =
+        invokeClusterApiForTopicRequest(
+            approver, tenantId, topicRequest, manageDatabase.getHandleDbRequests(), topicConfig);
+    if (!ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus)) {
+      return ApiResponse.notOk("Topic Status: " + updateTopicReqStatus);
+    }
+    commonUtilsService.updateMetadata(
+        tenantId, EntityType.TOPICS, MetadataOperationType.CREATE, null);
+    return ApiResponse.ok("Topic Status: " + updateTopicReqStatus);
+  }
+
+  /**
+   * Creates the topics of the requests on the cluster of the environment and approves the requests
+   * of the created topics.
+   *
+   * @param topicRequests requests by their position in the given responses
+   * @return true if any of the requests is approved
+   */
+  private boolean createTopicsOfRequests(
+      String userName,
+      int tenantId,
+      String envId,
+      Map<Integer, TopicRequest> topicRequests,
+      ApiResponse[] responses) {
+    List<Topic> topics = new ArrayList<>(topicRequests.size());
+    Map<String, Map<String, String>> advancedConfigs = new HashMap<>();
+    for (TopicRequest topicRequest : topicRequests.values()) {
+      Topic topic = new Topic();
+      topic.setTopicname(topicRequest.getTopicname());
+      topic.setNoOfPartitions(topicRequest.getTopicpartitions());
+      topic.setNoOfReplicas(topicRequest.getReplicationfactor());
+      topics.add(topic);
+      advancedConfigs.put(
+          topicRequest.getTopicname(),
+          UtilMethods.createAdvancedConfigFromJson(topicRequest.getJsonParams(), OBJECT_MAPPER));
+    }
+
+    Map<?, ?> topicResults;
+    String clusterApiMessage;
+    try {
+      ApiResponse apiResponse =
+          Objects.requireNonNull(
+              clusterApiService.createTopics(envId, topics, advancedConfigs, tenantId).getBody());
+      topicResults = apiResponse.getData() instanceof Map<?, ?> data ? data : Map.of();
+      clusterApiMessage = apiResponse.getMessage();
+    } catch (Exception e) {
+      log.error("Error in creating topics of requests on {}", envId, e);
+      topicResults = Map.of();
+      clusterApiMessage = e.getMessage();
+    }
+
+    Map<Integer, TopicRequest> createdTopics = new LinkedHashMap<>();
+    for (Map.Entry<Integer, TopicRequest> topicRequest : topicRequests.entrySet()) {
+      Object topicResult = topicResults.get(topicRequest.getValue().getTopicname());
+      String message = topicResult != null ? String.valueOf(topicResult) : clusterApiMessage;
+      if (ApiResultStatus.SUCCESS.value.equals(message)) {
+        saveToTopicHistory(userName, tenantId, topicRequest.getValue());
+        createdTopics.put(topicRequest.getKey(), topicRequest.getValue());
+      } else {
+        responses[topicRequest.getKey()] = ApiResponse.notOk("Topic Status: " + message);
+      }
+    }
+    if (createdTopics.isEmpty()) {
+      return false;
+    }
+
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    String updateTopicReqStatus;
+    try {
+      updateTopicReqStatus =
+          dbHandle
+              .updateTopicRequests(new ArrayList<>(createdTopics.values()), userName)
+              .getResultStatus();
+    } catch (Exception e) {
+      log.error("Error in approving topic requests on {}", envId, e);
+      updateTopicReqStatus = e.getMessage();
+    }
+
+    String message = "Topic Status: " + updateTopicReqStatus;
+    boolean approved = ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus);
+    for (Map.Entry<Integer, TopicRequest> topicRequest : createdTopics.entrySet()) {
+      responses[topicRequest.getKey()] =
+          approved ? ApiResponse.ok(message) : ApiResponse.notOk(message);
+      if (approved) {
+        mailService.sendMail(
+            topicRequest.getValue().getTopicname(),
+            null,
+            "",
+            topicRequest.getValue().getRequestor(),
+            topicRequest.getValue().getApprover(),
+            NumberUtils.toInt(topicRequest.getValue().getApprovingTeamId(), -1),
+            dbHandle,
+            TOPIC_REQUEST_APPROVED,
+            commonUtilsService.getLoginUrl());
+      }
+    }
+    return approved;
+  }
+
   private String invokeClusterApiForTopicRequest(
       String userName,
       int tenantId,
@@ -843,6 +1087,12 @@ public class TopicControllerService {
   }
 
   private ApiResponse validateTopicRequest(TopicRequest topicRequest, String userName) {
+    return validateTopicRequest(
+        topicRequest, userName, commonUtilsService.getEnvsFromUserId(userName));
+  }
+
+  private ApiResponse validateTopicRequest(
+      TopicRequest topicRequest, String userName, Set<String> allowedEnvIdSet) {
     if (Objects.equals(topicRequest.getRequestor(), userName)) {
       return ApiResponse.notOk(TOPICS_ERR_112);
     }
@@ -852,7 +1102,6 @@ public class TopicControllerService {
     }
 
     // tenant filtering
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
     if (!allowedEnvIdSet.contains(topicRequest.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
@@ -1283,6 +1532,42 @@ public class TopicControllerService {
     return topicCounter;
   }
 
+  /**
+   * Validates candidate topic names against the naming rules of an environment in one call, so that
+   * many topics can be checked before requesting them.
+   */
+  public List<TopicNameValidationResult> validateTopicNames(String envId, List<String> topicNames) {
+    log.debug("validateTopicNames env {}, {} topic names", envId, topicNames.size());
+    String userName = getUserName();
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.REQUEST_CREATE_TOPICS)
+        || !commonUtilsService.getEnvsFromUserId(userName).contains(envId)) {
+      return topicNames.stream()
+          .map(topicName -> new TopicNameValidationResult(topicName, false, TOPICS_VLD_ERR_104))
+          .toList();
+    }
+
+    int tenantId = commonUtilsService.getTenantId(userName);
+    TopicPolicy topicPolicy = manageDatabase.getTopicPolicy(tenantId, getEnvDetails(envId));
+    Set<String> existingTopicNames =
+        commonUtilsService.getTopics(envId, null, tenantId).stream()
+            .map(Topic::getTopicname)
+            .collect(Collectors.toSet());
+
+    List<TopicNameValidationResult> results = new ArrayList<>(topicNames.size());
+    for (String topicName : topicNames) {
+      String error;
+      if (topicName == null || !TOPIC_NAME_PATTERN.matcher(topicName).matches()) {
+        error = TOPICS_VLD_ERR_106;
+      } else if (existingTopicNames.contains(topicName)) {
+        error = TOPICS_VLD_ERR_111;
+      } else {
+        error = topicPolicy.validateTopicName(topicName, minimumTopicNameSize);
+      }
+      results.add(new TopicNameValidationResult(topicName, error == null, error));
+    }
+    return results;
+  }
+
   public String getUserName() {
     return mailService.getUserName(getPrincipal());
   }
@@ -10,6 +10,8 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_106;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_107;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_108;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_109;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_110;
 import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
@@ -25,6 +27,8 @@ import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.helpers.KlawResourceUtils;
 import io.aiven.klaw.helpers.Pager;
+import io.aiven.klaw.helpers.SyncBackTopicsJob;
+import io.aiven.klaw.helpers.TopicSyncDiff;
 import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwMetadataUpdates;
@@ -39,32 +43,43 @@ import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.response.SyncBackTopicResult;
+import io.aiven.klaw.model.response.SyncBackTopicsJobStatus;
 import io.aiven.klaw.model.response.SyncTopicsList;
 import io.aiven.klaw.model.response.TopicConfig;
 import io.aiven.klaw.model.response.TopicSyncResponseModel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-@EnableScheduling
 @Service
 @Slf4j
 public class TopicSyncControllerService {
@@ -81,50 +96,20 @@ public class TopicSyncControllerService {
 
   private int topicCounter = 0;
 
-  // default at 7 am everyday
-  //    @Scheduled(cron = "${klaw.recontopics.fixedtime:0 7 * * ?}")
-  public void getReconTopicsScheduledAsync() {
-    CompletableFuture.runAsync(this::getReconTopicsScheduled);
-  }
+  // finished sync back jobs remain available for polling for an hour
+  private static final long SYNC_BACK_JOB_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(1);
 
-  public void getReconTopicsScheduled() {
-    Map<Integer, List<String>> envTenantMap = manageDatabase.getEnvsOfTenantsMap();
-    Map<Integer, String> tenantMap = manageDatabase.getTenantMap();
-    List<Integer> tenants = new ArrayList<>(envTenantMap.keySet());
-
-    for (Integer tenantId : tenants) {
-      List<String> envsStrList = envTenantMap.get(tenantId);
-      StringBuilder reconStr = new StringBuilder();
-      reconStr.append("Tenant : ").append(tenantMap.get(tenantId)).append("\n");
-
-      for (String envStr : envsStrList) {
-        reconStr = new StringBuilder();
-        try {
-          List<TopicSyncResponseModel> results =
-              getReconTopics(envStr, "-1", "", null, "false", false, false).getResultSet();
-
-          for (TopicSyncResponseModel topicRequestModel : results) {
-            reconStr
-                .append(topicRequestModel.getTopicname())
-                .append(topicRequestModel.getEnvironmentName())
-                .append(topicRequestModel.getRemarks())
-                .append("\n");
-          }
+  @Value("${klaw.syncback.topics.batch.size:100}")
+  private int syncBackBatchSize = 100;
 
-          if (!results.isEmpty()) {
-            mailService.sendReconMailToAdmin(
-                "Reconciliation of Topics",
-                reconStr.toString(),
-                tenantMap.get(tenantId),
-                tenantId,
-                commonUtilsService.getLoginUrl());
-          }
-        } catch (Exception e) {
-          log.error("Exception:", e);
-        }
-      }
-    }
-  }
+  // jobs started by this instance, which are not shared with the other instances
+  private final Map<String, SyncBackTopicsJob> syncBackTopicsJobs = new ConcurrentHashMap<>();
+
+  private final Object syncBackRequestsLock = new Object();
+
+  @Autowired
+  @Qualifier("syncBackTopicsTaskExecutor")
+  private Executor syncBackExecutor;
 
   public SyncTopicsList getReconTopics(
       String envId,
@@ -209,7 +194,7 @@ public class TopicSyncControllerService {
     }
 
     LoadTopicsResponse loadTopicsResponse =
-        getTopicsFromKafkaCluster(env, topicNameSearch, resetTopicsCache);
+        getTopicsFromKafkaCluster(env, topicNameSearch, resetTopicsCache, tenantId);
     syncTopicsList.setTopicsLoadingStatus(loadTopicsResponse.isLoadingInProgress());
     List<TopicConfig> topicsList;
 
@@ -222,9 +207,19 @@ public class TopicSyncControllerService {
     List<Integer> sizeOfTopics = new ArrayList<>();
 
     if (isReconciliation) {
+      // tenant filtering
+      List<Topic> topicsFromSOT =
+          commonUtilsService.getFilteredTopicsForTenant(
+              manageDatabase.getHandleDbRequests().getSyncTopics(env, null, tenantId));
       syncTopicsList.setResultSet(
           getSyncTopicListRecon(
-              topicsList, deletedTopicsFromClusterList, env, isBulkOption, tenantId));
+              topicsList,
+              topicsFromSOT,
+              tenantFilterTeams(new ArrayList<>()),
+              deletedTopicsFromClusterList,
+              env,
+              isBulkOption,
+              tenantId));
       syncTopicsList.setAllTopicsCount(topicsList.size());
       syncTopicsList.setAllTopicWarningsCount(
           Long.valueOf(
@@ -255,6 +250,52 @@ public class TopicSyncControllerService {
     return syncTopicsList;
   }
 
+  /**
+   * Topics on the cluster of the environment of the tenant, throws while the cluster is still
+   * loading them. Does not depend on the logged in user, to be called by the scheduler.
+   */
+  public Set<TopicConfig> getClusterTopics(String envId, int tenantId) throws Exception {
+    LoadTopicsResponse loadTopicsResponse = getTopicsFromKafkaCluster(envId, null, false, tenantId);
+    if (loadTopicsResponse.isLoadingInProgress()) {
+      throw new KlawException(TOPICS_SYNC_ERR_109);
+    }
+    return loadTopicsResponse.getTopicConfigSet();
+  }
+
+  /**
+   * Reconciliation of topics already retrieved from the cluster of the environment of the tenant,
+   * limited to the topics accepted by topicNameFilter on both the cluster and the Klaw side. Does
+   * not depend on the logged in user, to be called by the scheduler.
+   */
+  public List<TopicSyncResponseModel> getReconTopics(
+      String envId,
+      Collection<TopicConfig> clusterTopics,
+      Predicate<String> topicNameFilter,
+      int tenantId) {
+    List<TopicConfig> topicsList =
+        clusterTopics.stream()
+            .filter(topicConfig -> topicNameFilter.test(topicConfig.getTopicName()))
+            .sorted(new TopicControllerService.TopicNameSyncComparator())
+            .collect(Collectors.toList());
+    List<Topic> topicsFromSOT =
+        manageDatabase.getHandleDbRequests().getSyncTopics(envId, null, tenantId).stream()
+            .filter(topic -> topicNameFilter.test(topic.getTopicname()))
+            .collect(Collectors.toList());
+
+    List<TopicSyncResponseModel> topicSyncModelList =
+        getSyncTopicListRecon(
+            topicsList,
+            topicsFromSOT,
+            getTeamNames(tenantId),
+            new ArrayList<>(),
+            envId,
+            false,
+            tenantId);
+    String envName = getEnvDetails(envId, tenantId).getName();
+    topicSyncModelList.forEach(topicSyncModel -> topicSyncModel.setEnvironmentName(envName));
+    return topicSyncModelList;
+  }
+
   private List<TopicSyncResponseModel> getSyncTopicList(
       List<TopicConfig> topicsList,
       List<TopicSyncResponseModel> deletedTopicsFromClusterList,
@@ -270,26 +311,26 @@ public class TopicSyncControllerService {
 
     // tenant filtering
     topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
-    int counterInc;
     List<String> teamList = new ArrayList<>();
     teamList = tenantFilterTeams(teamList);
+    TopicSyncDiff topicSyncDiff = diffTopics(topicsList, topicsFromSOT, env, teamList, tenantId);
 
     if (!isBulkOption) {
-      updateClusterDeletedTopicsList(
-          topicsList, deletedTopicsFromClusterList, topicsFromSOT, teamList, tenantId);
+      updateClusterDeletedTopicsList(topicSyncDiff, deletedTopicsFromClusterList, tenantId);
     }
 
     List<TopicRequest> topicsListMap = new ArrayList<>();
 
-    for (int i = 0; i < topicsList.size(); i++) {
-      counterInc = counterIncrement();
-      TopicRequest mp = new TopicRequest();
-      if (createTopicRequest(topicsList, topicsFromSOT, teamList, i, counterInc, mp, tenantId)) {
-        topicsListMap.add(mp);
+    for (TopicSyncDiff.ClusterTopic clusterTopic : topicSyncDiff.getClusterTopics()) {
+      int counterInc = counterIncrement();
+      // topics of other or unknown teams are not listed, topics without a team are ADDED
+      if (clusterTopic.classification() != TopicSyncDiff.Classification.TEAM_MISMATCH) {
+        topicsListMap.add(createTopicRequest(clusterTopic, teamList, counterInc, tenantId));
       }
     }
     // topics which exist on cluster and not in kw, with no recon option.
-    List<TopicSyncResponseModel> topicRequestModelList = getTopicSyncModels(topicsListMap, env);
+    List<TopicSyncResponseModel> topicRequestModelList =
+        getTopicSyncModels(topicsListMap, env, tenantId);
     topicRequestModelList.addAll(deletedTopicsFromClusterList);
 
     sizeOfTopics.add(topicRequestModelList.size());
@@ -308,51 +349,63 @@ public class TopicSyncControllerService {
 
   private List<TopicSyncResponseModel> getSyncTopicListRecon(
       List<TopicConfig> clusterTopicsList,
+      List<Topic> topicsFromSOT,
+      List<String> teamList,
       List<TopicSyncResponseModel> deletedTopicsFromClusterList,
       String env,
       boolean isBulkOption,
       int tenantId) {
-    // Get Sync topics
-    List<Topic> topicsFromSOT =
-        manageDatabase.getHandleDbRequests().getSyncTopics(env, null, tenantId);
-
-    // tenant filtering
-    topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
     List<TopicRequest> topicsListMap = new ArrayList<>();
-
-    List<String> teamList = new ArrayList<>();
-    teamList = tenantFilterTeams(teamList);
-    int counterInc;
+    TopicSyncDiff topicSyncDiff =
+        diffTopics(clusterTopicsList, topicsFromSOT, env, teamList, tenantId);
 
     if (!isBulkOption) {
-      updateClusterDeletedTopicsList(
-          clusterTopicsList, deletedTopicsFromClusterList, topicsFromSOT, teamList, tenantId);
+      updateClusterDeletedTopicsList(topicSyncDiff, deletedTopicsFromClusterList, tenantId);
     }
 
-    for (int i = 0; i < clusterTopicsList.size(); i++) {
-      counterInc = counterIncrement();
-      TopicRequest mp = new TopicRequest();
-      if (createTopicRequest(
-          clusterTopicsList, topicsFromSOT, teamList, i, counterInc, mp, tenantId)) {
-        if (mp.getTeamId().equals(0) || mp.getTeamId() == null) {
-          topicsListMap.add(mp);
-        }
+    for (TopicSyncDiff.ClusterTopic clusterTopic : topicSyncDiff.getClusterTopics()) {
+      int counterInc = counterIncrement();
+      if (clusterTopic.classification() == TopicSyncDiff.Classification.NEW) {
+        topicsListMap.add(createTopicRequest(clusterTopic, teamList, counterInc, tenantId));
       }
     }
 
     // topics which exist in cluster and not in kw.
-    List<TopicSyncResponseModel> topicSyncModelList = getTopicSyncModels(topicsListMap, env);
+    List<TopicSyncResponseModel> topicSyncModelList =
+        getTopicSyncModels(topicsListMap, env, tenantId);
     topicSyncModelList.addAll(deletedTopicsFromClusterList);
 
     return topicSyncModelList;
   }
 
+  private TopicSyncDiff diffTopics(
+      List<TopicConfig> clusterTopicsList,
+      List<Topic> topicsFromSOT,
+      String env,
+      List<String> teamList,
+      int tenantId) {
+    TopicSyncDiff topicSyncDiff =
+        TopicSyncDiff.diff(
+            clusterTopicsList,
+            topicsFromSOT,
+            topic -> manageDatabase.getTeamNameFromTeamId(tenantId, topic.getTeamId()),
+            new HashSet<>(teamList));
+    log.info(
+        "Topics of env {} : {} new, {} deleted, {} partition/replica mismatch, {} team mismatch",
+        env,
+        topicSyncDiff.getCount(TopicSyncDiff.Classification.NEW),
+        topicSyncDiff.getCount(TopicSyncDiff.Classification.DELETED),
+        topicSyncDiff.getCount(TopicSyncDiff.Classification.PARTITION_REPLICA_MISMATCH),
+        topicSyncDiff.getCount(TopicSyncDiff.Classification.TEAM_MISMATCH));
+    return topicSyncDiff;
+  }
+
   private List<TopicSyncResponseModel> getTopicSyncModels(
-      List<TopicRequest> topicsList, String envId) {
+      List<TopicRequest> topicsList, String envId, int tenantId) {
     List<TopicSyncResponseModel> topicSyncList = new ArrayList<>();
     TopicSyncResponseModel topicSyncModel;
 
-    Env env = getEnvDetails(envId);
+    Env env = getEnvDetails(envId, tenantId);
 
     String topicPrefix = "";
     String topicSuffix = "";
@@ -390,103 +443,49 @@ public class TopicSyncControllerService {
     return topicSyncList;
   }
 
-  private boolean createTopicRequest(
-      List<TopicConfig> topicsList,
-      List<Topic> topicsFromSOT,
+  private TopicRequest createTopicRequest(
+      TopicSyncDiff.ClusterTopic clusterTopic,
       List<String> teamList,
-      int i,
       int counterInc,
-      TopicRequest mp,
       int tenantId) {
-    TopicConfig topicMap;
+    TopicConfig topicMap = clusterTopic.topicConfig();
+    TopicRequest mp = new TopicRequest();
     mp.setSequence(counterInc + "");
-
-    topicMap = topicsList.get(i);
-    final String tmpTopicName = topicMap.getTopicName();
-
-    mp.setTopicname(tmpTopicName);
+    mp.setTopicname(topicMap.getTopicName());
     mp.setTopicpartitions(Integer.parseInt(topicMap.getPartitions()));
     mp.setReplicationfactor(topicMap.getReplicationFactor());
+    mp.setPossibleTeams(teamList);
 
-    String teamUpdated = null;
-
-    try {
-      Optional<Topic> teamUpdatedFirst =
-          topicsFromSOT.stream()
-              .filter(a -> Objects.equals(a.getTopicname(), tmpTopicName))
-              .findFirst();
-
-      if (teamUpdatedFirst.isPresent()) {
-        teamUpdated =
-            manageDatabase.getTeamNameFromTeamId(tenantId, teamUpdatedFirst.get().getTeamId());
-      }
-    } catch (Exception e) {
-      log.error("Error from getSyncTopicList ", e);
-    }
-
-    if (teamUpdated != null && !teamUpdated.equals("undefined")) {
-      mp.setPossibleTeams(teamList);
-      if (teamList.contains(teamUpdated)) {
-        mp.setTeamId(manageDatabase.getTeamIdFromTeamName(tenantId, teamUpdated));
-      } else {
-        return false; // belongs to different tenant
-      }
-    } else {
-      mp.setPossibleTeams(teamList);
+    if (clusterTopic.classification() == TopicSyncDiff.Classification.NEW) {
       mp.setTeamId(0);
       mp.setRemarks("ADDED");
+    } else {
+      mp.setTeamId(clusterTopic.sotTopic().getTeamId());
     }
-
-    return true;
+    return mp;
   }
 
   private void updateClusterDeletedTopicsList(
-      List<TopicConfig> clusterTopicsList,
+      TopicSyncDiff topicSyncDiff,
       List<TopicSyncResponseModel> deletedTopicsFromClusterList,
-      List<Topic> topicsFromSOT,
-      List<String> teamList,
       int tenantId) {
-    try {
-      List<String> clusterTopicStringList = new ArrayList<>();
-      clusterTopicsList.forEach(
-          hashMapTopicObj -> clusterTopicStringList.add(hashMapTopicObj.getTopicName()));
-
-      Map<String, TopicSyncResponseModel> sotTopics = new HashMap<>();
-
-      List<String> sotTopicStringList = new ArrayList<>();
-      for (Topic topicObj : topicsFromSOT) {
-        List<String> possibleTeams = new ArrayList<>();
-        possibleTeams.add(manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()));
-        possibleTeams.add(SYNC_102);
-
-        sotTopicStringList.add(topicObj.getTopicname());
-        TopicSyncResponseModel topicSyncModel = new TopicSyncResponseModel();
-        topicSyncModel.setTopicname(topicObj.getTopicname());
-        topicSyncModel.setEnvironment(topicObj.getEnvironment());
-        topicSyncModel.setTopicpartitions(topicObj.getNoOfPartitions());
-        topicSyncModel.setReplicationfactor(topicObj.getNoOfReplicas());
-        topicSyncModel.setTeamId(topicObj.getTeamId());
-        topicSyncModel.setTeamname(
-            manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()));
-        topicSyncModel.setPossibleTeams(possibleTeams);
-        topicSyncModel.setSequence("" + topicObj.getTopicid());
-        topicSyncModel.setRemarks("DELETED");
-
-        // tenant teams
-        if (teamList.contains(
-            manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()))) {
-          sotTopics.put(topicObj.getTopicname(), topicSyncModel);
-        }
-      }
-
-      List<String> deletedTopicsFromClusterListTmp =
-          sotTopicStringList.stream()
-              .filter(topicName -> !clusterTopicStringList.contains(topicName))
-              .toList();
-      deletedTopicsFromClusterListTmp.forEach(
-          topicName -> deletedTopicsFromClusterList.add(sotTopics.get(topicName)));
-    } catch (Exception e) {
-      log.error("Error from updateClusterDeletedTopicsList ", e);
+    for (Topic topicObj : topicSyncDiff.getDeletedTopics()) {
+      String teamName = manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId());
+      List<String> possibleTeams = new ArrayList<>();
+      possibleTeams.add(teamName);
+      possibleTeams.add(SYNC_102);
+
+      TopicSyncResponseModel topicSyncModel = new TopicSyncResponseModel();
+      topicSyncModel.setTopicname(topicObj.getTopicname());
+      topicSyncModel.setEnvironment(topicObj.getEnvironment());
+      topicSyncModel.setTopicpartitions(topicObj.getNoOfPartitions());
+      topicSyncModel.setReplicationfactor(topicObj.getNoOfReplicas());
+      topicSyncModel.setTeamId(topicObj.getTeamId());
+      topicSyncModel.setTeamname(teamName);
+      topicSyncModel.setPossibleTeams(possibleTeams);
+      topicSyncModel.setSequence("" + topicObj.getTopicid());
+      topicSyncModel.setRemarks("DELETED");
+      deletedTopicsFromClusterList.add(topicSyncModel);
     }
   }
 
@@ -499,112 +498,197 @@ public class TopicSyncControllerService {
         || !commonUtilsService.isNotAuthorizedUser(
             getPrincipal(), PermissionType.SYNC_BACK_TOPICS)) {
       // tenant filtering
-      int tenantId = commonUtilsService.getTenantId(getUserName());
-      List<Team> teams = manageDatabase.getHandleDbRequests().getAllTeams(tenantId);
-      List<String> teamListUpdated = new ArrayList<>();
-      for (Team teamsItem : teams) {
-        teamListUpdated.add(teamsItem.getTeamname());
-      }
-      teamList = teamListUpdated;
+      teamList = getTeamNames(commonUtilsService.getTenantId(getUserName()));
     }
     return teamList;
   }
 
-  public ApiResponse updateSyncBackTopics(SyncBackTopics syncBackTopics) {
-    log.info("updateSyncBackTopics {}", syncBackTopics);
-    Map<String, List<String>> resultMap = new HashMap<>();
-    int tenantId = commonUtilsService.getTenantId(getUserName());
-
-    List<String> logArray = new ArrayList<>();
+  private List<String> getTeamNames(int tenantId) {
+    List<Team> teams = manageDatabase.getHandleDbRequests().getAllTeams(tenantId);
+    List<String> teamNames = new ArrayList<>();
+    for (Team teamsItem : teams) {
+      teamNames.add(teamsItem.getTeamname());
+    }
+    return teamNames;
+  }
 
-    logArray.add("Source Environment " + getEnvDetails(syncBackTopics.getSourceEnv()).getName());
-    logArray.add("Target Environment " + getEnvDetails(syncBackTopics.getTargetEnv()).getName());
-    logArray.add("Type of Sync " + syncBackTopics.getTypeOfSync());
+  /**
+   * Starts syncing back the topics without waiting for them to be created, like {@link
+   * #createSyncBackTopicsJob}.
+   *
+   * @return api response with the id of the job, to poll its progress with
+   */
+  public ApiResponse updateSyncBackTopics(SyncBackTopics syncBackTopics) {
+    return createSyncBackTopicsJob(syncBackTopics);
+  }
 
+  /**
+   * Starts syncing back the topics without waiting for them to be created. The job is kept in the
+   * memory of this instance only, so with several instances its progress is polled from the
+   * instance which started it.
+   *
+   * @return api response with the id of the job, to poll its progress with
+   */
+  public ApiResponse createSyncBackTopicsJob(SyncBackTopics syncBackTopics) {
+    log.info("createSyncBackTopicsJob {}", syncBackTopics);
     if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_BACK_TOPICS)) {
       return ApiResponse.NOT_AUTHORIZED;
     }
 
-    List<String> resultStatus = new ArrayList<>();
-    resultStatus.add(ApiResultStatus.SUCCESS.value);
-    resultMap.put("result", resultStatus);
+    SyncBackTopicsJob job = startSyncBackTopicsJob(syncBackTopics);
+    return ApiResponse.builder()
+        .success(true)
+        .message(ApiResultStatus.SUCCESS.value)
+        .data(job.getJobId())
+        .build();
+  }
+
+  public SyncBackTopicsJobStatus getSyncBackTopicsJob(String jobId) throws KlawException {
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    SyncBackTopicsJob job = syncBackTopicsJobs.get(jobId);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_BACK_TOPICS)
+        || job == null
+        || job.getTenantId() != tenantId) {
+      throw new KlawException(TOPICS_SYNC_ERR_110);
+    }
+    return job.toStatus();
+  }
 
+  private SyncBackTopicsJob startSyncBackTopicsJob(SyncBackTopics syncBackTopics) {
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    List<Topic> topics = new ArrayList<>();
     if ("SELECTED_TOPICS".equals(syncBackTopics.getTypeOfSync())) {
       for (String topicId : syncBackTopics.getTopicIds()) {
-        Optional<Topic> topicFoundOptional =
-            manageDatabase
-                .getHandleDbRequests()
-                .getTopicFromId(Integer.parseInt(topicId), tenantId);
-        Topic topicFound;
-        if (topicFoundOptional.isPresent()) {
-          topicFound = topicFoundOptional.get();
-          approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
-        }
+        manageDatabase
+            .getHandleDbRequests()
+            .getTopicFromId(Integer.parseInt(topicId), tenantId)
+            .ifPresent(topics::add);
       }
     } else {
-      List<Topic> topics =
+      topics.addAll(
           manageDatabase
               .getHandleDbRequests()
-              .getTopicsFromEnv(syncBackTopics.getSourceEnv(), tenantId);
-      for (Topic topicFound : topics) {
-        approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
-      }
+              .getTopicsFromEnv(syncBackTopics.getSourceEnv(), tenantId));
     }
 
-    String result = resultMap.get("result").get(0);
-    return ApiResponse.builder()
-        .success(result.equals(ApiResultStatus.SUCCESS.value))
-        .message(result)
-        .data(logArray)
-        .build();
+    evictCompletedSyncBackTopicsJobs();
+    SyncBackTopicsJob job =
+        new SyncBackTopicsJob(
+            UUID.randomUUID().toString(),
+            tenantId,
+            syncBackTopics.getSourceEnv(),
+            syncBackTopics.getTargetEnv(),
+            topics.size());
+    syncBackTopicsJobs.put(job.getJobId(), job);
+
+    List<CompletableFuture<Void>> batches = new ArrayList<>();
+    for (int from = 0; from < topics.size(); from += syncBackBatchSize) {
+      int batchStart = from;
+      List<Topic> batch = topics.subList(from, Math.min(from + syncBackBatchSize, topics.size()));
+      batches.add(
+          CompletableFuture.runAsync(
+              new DelegatingSecurityContextRunnable(
+                  () -> syncBackTopicsBatch(syncBackTopics, job, batch, batchStart, tenantId)),
+              syncBackExecutor));
+    }
+
+    CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (result, error) -> {
+              if (error != null) {
+                log.error("Error in sync back of topics, job {}", job.getJobId(), error);
+                job.addError("Error :" + error.getMessage());
+              }
+              if (!Objects.equals(syncBackTopics.getSourceEnv(), syncBackTopics.getTargetEnv())
+                  && job.getResults().stream().anyMatch(SyncBackTopicResult::isSuccess)) {
+                // Single reset on other servers for all topics of the job.
+                // Later this should be updated to send particular objects across instead of
+                // having the cache reloaded on the other side.
+                commonUtilsService.resetCacheOnOtherServers(
+                    KwMetadataUpdates.builder()
+                        .tenantId(tenantId)
+                        .entityType(EntityType.TOPICS.name())
+                        .operationType(RequestOperationType.CREATE.value)
+                        .build());
+              }
+              job.complete();
+            });
+    return job;
   }
 
-  private void approveSyncBackTopics(
+  /** Creates one batch of topics on the cluster and records the outcome of each of them. */
+  private void syncBackTopicsBatch(
       SyncBackTopics syncBackTopics,
-      Map<String, List<String>> resultMap,
-      List<String> logUpdateSyncBackTopics,
-      Topic topicFound,
+      SyncBackTopicsJob job,
+      List<Topic> batch,
+      int batchStart,
       int tenantId) {
+    Map<String, Map<String, String>> advancedConfigs = new HashMap<>();
+    for (Topic topic : batch) {
+      advancedConfigs.put(
+          topic.getTopicname(),
+          UtilMethods.createAdvancedConfigFromJson(topic.getJsonParams(), mapper));
+    }
+
     try {
       ResponseEntity<ApiResponse> response =
-          clusterApiService.approveTopicRequests(
-              topicFound.getTopicname(),
-              RequestOperationType.CREATE.value,
-              topicFound.getNoOfPartitions(),
-              topicFound.getNoOfReplicas(),
-              syncBackTopics.getTargetEnv(),
-              UtilMethods.createAdvancedConfigFromJson(topicFound.getJsonParams(), mapper),
-              tenantId,
-              false);
-
-      if (!Objects.equals(
-          Objects.requireNonNull(response.getBody()).getMessage(), ApiResultStatus.SUCCESS.value)) {
-        log.error("Error in creating topic {} {}", topicFound, response.getBody());
-        if (Objects.requireNonNull(response.getBody())
-            .getMessage()
-            .contains("TopicExistsException")) {
-          logUpdateSyncBackTopics.add(
-              TOPICS_SYNC_ERR_101
-                  + topicFound.getTopicname()
-                  + " already exists. TopicExistsException");
-        } else {
-          logUpdateSyncBackTopics.add(
-              TOPICS_SYNC_ERR_101 + topicFound.getTopicname() + " " + response.getBody());
-        }
-      } else {
-        logUpdateSyncBackTopics.add("Topic created " + topicFound.getTopicname());
-        if (!Objects.equals(syncBackTopics.getSourceEnv(), syncBackTopics.getTargetEnv())) {
-          createAndApproveTopicRequest(syncBackTopics, topicFound, tenantId);
-        }
+          clusterApiService.createTopics(
+              syncBackTopics.getTargetEnv(), batch, advancedConfigs, tenantId);
+      ApiResponse apiResponse = Objects.requireNonNull(response.getBody());
+      Map<?, ?> topicResults =
+          apiResponse.getData() instanceof Map<?, ?> data ? data : Collections.emptyMap();
+
+      for (int i = 0; i < batch.size(); i++) {
+        Topic topicFound = batch.get(i);
+        Object topicResult = topicResults.get(topicFound.getTopicname());
+        String message =
+            topicResult != null ? String.valueOf(topicResult) : apiResponse.getMessage();
+        job.addResult(
+            batchStart + i, syncBackTopicResult(syncBackTopics, topicFound, message, tenantId));
       }
     } catch (KlawException e) {
-      log.error("Error in creating topic {}", topicFound, e);
-      List<String> resultStatus = new ArrayList<>();
-      resultStatus.add("Error :" + e.getMessage());
-      resultMap.put("result", resultStatus);
+      log.error("Error in creating topics {}", batch, e);
+      job.addError("Error :" + e.getMessage());
+      for (int i = 0; i < batch.size(); i++) {
+        job.addResult(
+            batchStart + i,
+            new SyncBackTopicResult(
+                batch.get(i).getTopicname(),
+                false,
+                TOPICS_SYNC_ERR_101 + batch.get(i).getTopicname() + " " + e.getMessage()));
+      }
     }
   }
 
+  private SyncBackTopicResult syncBackTopicResult(
+      SyncBackTopics syncBackTopics, Topic topicFound, String message, int tenantId) {
+    String topicName = topicFound.getTopicname();
+    if (!Objects.equals(message, ApiResultStatus.SUCCESS.value)) {
+      log.error("Error in creating topic {} {}", topicFound, message);
+      if (message != null && message.contains("TopicExistsException")) {
+        return new SyncBackTopicResult(
+            topicName,
+            false,
+            TOPICS_SYNC_ERR_101 + topicName + " already exists. TopicExistsException");
+      }
+      return new SyncBackTopicResult(
+          topicName, false, TOPICS_SYNC_ERR_101 + topicName + " " + message);
+    }
+
+    if (!Objects.equals(syncBackTopics.getSourceEnv(), syncBackTopics.getTargetEnv())) {
+      // requests of concurrent batches are saved one after another
+      synchronized (syncBackRequestsLock) {
+        createAndApproveTopicRequest(syncBackTopics, topicFound, tenantId);
+      }
+    }
+    return new SyncBackTopicResult(topicName, true, "Topic created " + topicName);
+  }
+
+  private void evictCompletedSyncBackTopicsJobs() {
+    long evictBefore = System.currentTimeMillis() - SYNC_BACK_JOB_RETENTION_MILLIS;
+    syncBackTopicsJobs.values().removeIf(job -> job.isCompletedBefore(evictBefore));
+  }
+
   private void createAndApproveTopicRequest(
       SyncBackTopics syncBackTopics, Topic topicFound, int tenantId) {
     List<Topic> topics = getTopicFromName(topicFound.getTopicname(), tenantId);
@@ -638,16 +722,6 @@ public class TopicSyncControllerService {
         }
       }
     }
-    // Single reset on other servers.
-    // Later this should be updated to send particular object across instead of having the cache
-    // reloaded on the other side.
-
-    commonUtilsService.resetCacheOnOtherServers(
-        KwMetadataUpdates.builder()
-            .tenantId(tenantId)
-            .entityType(EntityType.TOPICS.name())
-            .operationType(RequestOperationType.CREATE.value)
-            .build());
   }
 
   public List<TopicInfo> getTopicsRowView(
@@ -833,7 +907,10 @@ public class TopicSyncControllerService {
       try {
         LoadTopicsResponse loadTopicsResponse =
             getTopicsFromKafkaCluster(
-                syncTopicsBulk.getSourceEnv(), syncTopicsBulk.getTopicSearchFilter(), false);
+                syncTopicsBulk.getSourceEnv(),
+                syncTopicsBulk.getTopicSearchFilter(),
+                false,
+                commonUtilsService.getTenantId(getUserName()));
         for (TopicConfig topicConfig : loadTopicsResponse.getTopicConfigSet()) {
           invokeUpdateSyncAllTopics(syncTopicsBulk, logArray, topicConfig);
         }
@@ -876,12 +953,11 @@ public class TopicSyncControllerService {
   }
 
   private LoadTopicsResponse getTopicsFromKafkaCluster(
-      String env, String topicNameSearch, boolean resetTopicsCache) throws Exception {
+      String env, String topicNameSearch, boolean resetTopicsCache, int tenantId) throws Exception {
     if (topicNameSearch != null) {
       topicNameSearch = topicNameSearch.trim();
     }
-    int tenantId = commonUtilsService.getTenantId(getUserName());
-    Env envSelected = getEnvDetails(env);
+    Env envSelected = getEnvDetails(env, tenantId);
     KwClusters kwClusters =
         manageDatabase
             .getClusters(KafkaClustersType.KAFKA, tenantId)
@@ -1156,8 +1232,12 @@ public class TopicSyncControllerService {
   }
 
   public Env getEnvDetails(String envId) {
+    return getEnvDetails(envId, commonUtilsService.getTenantId(getUserName()));
+  }
+
+  private Env getEnvDetails(String envId, int tenantId) {
     Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(commonUtilsService.getTenantId(getUserName())).stream()
+        manageDatabase.getKafkaEnvList(tenantId).stream()
             .filter(env -> Objects.equals(env.getId(), envId))
             .findFirst();
     return envFound.orElse(null);
@@ -1,34 +1,28 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.*;
-import static io.aiven.klaw.helpers.KwConstants.APPROVER_SUBSCRIPTIONS;
 import static io.aiven.klaw.helpers.KwConstants.CORAL_INDEX_FILE_PATH;
-import static io.aiven.klaw.helpers.KwConstants.REQUESTOR_SUBSCRIPTIONS;
 import static io.aiven.klaw.model.enums.AuthenticationType.ACTIVE_DIRECTORY;
 import static io.aiven.klaw.model.enums.RolesType.SUPERADMIN;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiven.klaw.config.ManageDatabase;
-import io.aiven.klaw.dao.AclRequests;
-import io.aiven.klaw.dao.KafkaConnectorRequest;
-import io.aiven.klaw.dao.SchemaRequest;
-import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
+import io.aiven.klaw.helpers.PendingRequestsScope;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwMetadataUpdates;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.PermissionType;
-import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.ResetEntityCache;
 import io.aiven.klaw.model.response.AuthenticationInfo;
 import io.aiven.klaw.model.response.DashboardStats;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +30,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +37,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
@@ -136,115 +130,18 @@ public class UtilControllerService implements InitializingBean {
     HandleDbRequests reqsHandle = manageDatabase.getHandleDbRequests();
 
     Map<String, String> countList = new HashMap<>();
-    String roleToSet = "";
-    if (!commonUtilsService.isNotAuthorizedUser(
-        getPrincipal(), PermissionType.APPROVE_SUBSCRIPTIONS)) {
-      roleToSet = APPROVER_SUBSCRIPTIONS;
-    }
-    if (!commonUtilsService.isNotAuthorizedUser(
-        getPrincipal(), PermissionType.REQUEST_CREATE_SUBSCRIPTIONS)) {
-      roleToSet = REQUESTOR_SUBSCRIPTIONS;
-    }
-    List<SchemaRequest> allSchemaReqs =
-        reqsHandle.getAllSchemaRequests(
-            true,
-            requestor,
-            tenantId,
-            null,
-            null,
-            null,
-            null,
-            null,
-            !commonUtilsService.isNotAuthorizedUser(
-                getPrincipal(), PermissionType.APPROVE_ALL_REQUESTS_TEAMS),
-            false);
-
-    List<AclRequests> allAclReqs;
-    List<TopicRequest> allTopicReqs;
-    List<KafkaConnectorRequest> allConnectorReqs;
-
-    if (commonUtilsService.isNotAuthorizedUser(
-        getPrincipal(), PermissionType.APPROVE_ALL_REQUESTS_TEAMS)) {
-      allAclReqs =
-          reqsHandle.getAllAclRequests(
-              true,
-              requestor,
-              roleToSet,
-              RequestStatus.CREATED.value,
-              false,
-              null,
-              null,
-              null,
-              null,
-              null,
-              false,
-              tenantId);
-      allTopicReqs =
-          reqsHandle.getCreatedTopicRequests(
-              requestor, RequestStatus.CREATED.value, false, tenantId);
-      allConnectorReqs =
-          reqsHandle.getCreatedConnectorRequests(
-              requestor, RequestStatus.CREATED.value, false, tenantId, null, null, null);
-    } else {
-      allAclReqs =
-          reqsHandle.getAllAclRequests(
-              true,
-              requestor,
-              roleToSet,
-              RequestStatus.CREATED.value,
-              true,
-              null,
-              null,
-              null,
-              null,
-              null,
-              false,
-              tenantId);
-      allTopicReqs =
-          reqsHandle.getCreatedTopicRequests(
-              requestor, RequestStatus.CREATED.value, true, tenantId);
-      allConnectorReqs =
-          reqsHandle.getCreatedConnectorRequests(
-              requestor, RequestStatus.CREATED.value, true, tenantId, null, null, null);
-    }
-
+    Map<String, Integer> pendingCounts = Map.of();
     try {
-      // tenant filtering
-      final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(getUserName());
-      allAclReqs =
-          allAclReqs.stream()
-              .filter(request -> allowedEnvIdSet.contains(request.getEnvironment()))
-              .collect(Collectors.toList());
-
-      // tenant filtering
-      allSchemaReqs =
-          allSchemaReqs.stream()
-              .filter(request -> allowedEnvIdSet.contains(request.getEnvironment()))
-              .collect(Collectors.toList());
-
-      // tenant filtering
-      allTopicReqs =
-          allTopicReqs.stream()
-              .filter(request -> allowedEnvIdSet.contains(request.getEnvironment()))
-              .collect(Collectors.toList());
-
-      // tenant filtering
-      allConnectorReqs =
-          allConnectorReqs.stream()
-              .filter(request -> allowedEnvIdSet.contains(request.getEnvironment()))
-              .collect(Collectors.toList());
+      pendingCounts =
+          getPendingRequestsScope(requestor, tenantId)
+              .count(reqsHandle.getPendingRequestCounts(tenantId));
     } catch (Exception e) {
       log.error("No environments/clusters found.", e);
-      allAclReqs = new ArrayList<>();
-      allSchemaReqs = new ArrayList<>();
-      allTopicReqs = new ArrayList<>();
-      allConnectorReqs = new ArrayList<>();
     }
 
-    countList.put("topics", allTopicReqs.size() + "");
-    countList.put("acls", allAclReqs.size() + "");
-    countList.put("schemas", allSchemaReqs.size() + "");
-    countList.put("connectors", allConnectorReqs.size() + "");
+    for (String requestType : List.of("topics", "acls", "schemas", "connectors")) {
+      countList.put(requestType, pendingCounts.getOrDefault(requestType, 0) + "");
+    }
 
     if (commonUtilsService.isNotAuthorizedUser(
         getPrincipal(), PermissionType.ADD_EDIT_DELETE_USERS)) {
@@ -256,6 +153,37 @@ public class UtilControllerService implements InitializingBean {
     return countList;
   }
 
+  /** Returns the requests waiting for approval which are shown to the logged in user. */
+  public PendingRequestsScope getPendingRequestsScope(String requestor, int tenantId) {
+    // requestors of subscriptions see the acl requests of their own team
+    RequestKind aclRequestKind =
+        commonUtilsService.isNotAuthorizedUser(
+                getPrincipal(), PermissionType.REQUEST_CREATE_SUBSCRIPTIONS)
+            ? RequestKind.ACL
+            : RequestKind.ACL_REQUESTING_TEAM;
+    Integer teamId = commonUtilsService.getTeamId(requestor);
+    Integer approvingTeamId =
+        commonUtilsService.isNotAuthorizedUser(
+                getPrincipal(), PermissionType.APPROVE_ALL_REQUESTS_TEAMS)
+            ? teamId
+            : null;
+    // tenant filtering
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(requestor);
+    return new PendingRequestsScope(
+        tenantId, requestor, teamId, approvingTeamId, aclRequestKind, allowedEnvIdSet);
+  }
+
+  @Scheduled(
+      fixedRateString = "${klaw.requests.pending.counts.reconcile.interval.ms:60000}",
+      initialDelay = 60000)
+  public void reconcilePendingRequestCounts() {
+    try {
+      manageDatabase.getHandleDbRequests().reconcilePendingRequestCounts();
+    } catch (Exception e) {
+      log.error("Error in reconciling the counts of pending requests", e);
+    }
+  }
+
   public AuthenticationInfo getAuth() {
     int tenantId = commonUtilsService.getTenantId(getUserName());
     String userName = getUserName();
@@ -1,5 +1,6 @@
 package io.aiven.klaw.service.utils;
 
+import io.aiven.klaw.helpers.CacheMetrics;
 import io.aiven.klaw.service.interfaces.HAMessagingServiceI;
 import java.util.*;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +24,14 @@ public class CacheService<T> {
 
   private final HAMessagingServiceI utilsService;
 
-  public CacheService(String entityType, HAMessagingServiceI utilsService) {
+  private final CacheMetrics cacheMetrics;
+
+  /**
+   * @param cacheName name of the cache in the cache metrics
+   * @param entityType type of the entities, used to update the caches of the other instances
+   * @param utilsService messaging service updating the caches of the other instances
+   */
+  public CacheService(String cacheName, String entityType, HAMessagingServiceI utilsService) {
     // TODO an interface needs to be added to allow the passing in of different communication
     // methods (kafka/https/rabbitmq etc) to allow any org to use what they want for maintaining
     // cache.
@@ -31,6 +39,7 @@ public class CacheService<T> {
     this.urlEndpoint = "cache";
     this.entityType = entityType;
     this.utilsService = utilsService;
+    this.cacheMetrics = new CacheMetrics(cacheName);
   }
 
   public T add(int tenantId, Integer id, T entry) {
@@ -49,11 +58,15 @@ public class CacheService<T> {
     if (!isLocalUpdate) {
       sendHighAvailabilityRemove(tenantId, id);
     }
-    return getCache(tenantId).remove(id);
+    T removed = getCache(tenantId).remove(id);
+    cacheMetrics.evictions(tenantId, removed == null ? 0 : 1);
+    return removed;
   }
 
   public Map<Integer, T> removeCache(int tenantId) {
-    return cache.remove(tenantId);
+    Map<Integer, T> removed = cache.remove(tenantId);
+    cacheMetrics.evictions(tenantId, removed == null ? 0 : removed.size());
+    return removed;
   }
 
   public T update(int tenantId, Integer id, T entry) {
@@ -70,23 +83,31 @@ public class CacheService<T> {
   }
 
   public Optional<T> get(int tenantId, Integer id) {
-    return Optional.ofNullable(getCache(tenantId).get(id));
+    return Optional.ofNullable(cacheMetrics.get(tenantId, getCache(tenantId).get(id)));
   }
 
   public Map<Integer, T> getCache(Integer tenantId) {
     if (!cache.containsKey(tenantId)) {
       cache.put(tenantId, new HashMap<>());
+      cacheMetrics.monitor(tenantId, () -> values(tenantId));
     }
     return cache.get(tenantId);
   }
 
   public List<T> getCacheAsList(Integer tenantId) {
     if (!cache.containsKey(tenantId)) {
-      cache.put(tenantId, new HashMap<>());
+      cacheMetrics.miss(tenantId);
+      return new ArrayList<>(getCache(tenantId).values());
     }
+    cacheMetrics.hit(tenantId);
     return new ArrayList<>(cache.get(tenantId).values());
   }
 
+  private Collection<T> values(Integer tenantId) {
+    Map<Integer, T> tenantCache = cache.get(tenantId);
+    return tenantCache == null ? null : tenantCache.values();
+  }
+
   private void sendHighAvailabilityUpdate(int tenantId, T entry) {
     utilsService.sendUpdate(entityType, tenantId, entry);
   }
@@ -0,0 +1,99 @@
+package io.aiven.klaw.uglify;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a gzip variant next to every compressible static file at build time, after the files are
+ * minified, so that the server sends the precompressed variant instead of compressing the file for
+ * every request.
+ */
+@Slf4j
+public class PrecompressFiles {
+
+  static final String GZIP_EXTENSION = ".gz";
+
+  private static final String STATIC_DIR = "./target/classes/static/";
+
+  private static final Set<String> COMPRESSIBLE_EXTENSIONS =
+      Set.of("css", "eot", "html", "js", "json", "map", "svg", "ttf", "txt");
+
+  // same as server.compression.min-response-size, smaller files are not worth compressing
+  private static final long MIN_SIZE = 1024;
+
+  public static void main(String[] args) throws IOException {
+    Path staticDir = Path.of(STATIC_DIR);
+    if (!Files.isDirectory(staticDir)) {
+      staticDir = Path.of("./core/" + STATIC_DIR);
+    }
+    if (!Files.isDirectory(staticDir)) {
+      log.info("No static files to precompress in {}", staticDir.toAbsolutePath());
+      return;
+    }
+    int compressed = precompress(staticDir);
+    log.info("Precompressed {} static files in {}", compressed, staticDir.toAbsolutePath());
+  }
+
+  /** Returns the number of files for which a gzip variant was written. */
+  static int precompress(Path staticDir) throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(staticDir)) {
+      files = paths.filter(Files::isRegularFile).filter(PrecompressFiles::isCompressible).toList();
+    }
+
+    int compressed = 0;
+    for (Path file : files) {
+      if (gzip(file)) {
+        compressed++;
+      }
+    }
+    return compressed;
+  }
+
+  private static boolean isCompressible(Path file) {
+    String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    int extensionIndex = fileName.lastIndexOf('.');
+    try {
+      return extensionIndex > 0
+          && COMPRESSIBLE_EXTENSIONS.contains(fileName.substring(extensionIndex + 1))
+          && Files.size(file) >= MIN_SIZE;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean gzip(Path file) throws IOException {
+    Path gzipFile = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+    if (Files.exists(gzipFile)
+        && Files.getLastModifiedTime(gzipFile).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+      return false;
+    }
+
+    try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(gzipFile))) {
+      Files.copy(file, out);
+    }
+    // keep the variant only when it saves bytes, already compressed content can grow
+    if (Files.size(gzipFile) >= Files.size(file)) {
+      Files.delete(gzipFile);
+      return false;
+    }
+    return true;
+  }
+
+  private static class BestGzipOutputStream extends GZIPOutputStream {
+
+    BestGzipOutputStream(OutputStream out) throws IOException {
+      super(out);
+      def.setLevel(Deflater.BEST_COMPRESSION);
+    }
+  }
+}
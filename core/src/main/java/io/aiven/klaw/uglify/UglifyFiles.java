@@ -1,7 +1,12 @@
 package io.aiven.klaw.uglify;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -14,13 +19,12 @@ public class UglifyFiles {
   public UglifyFiles() {
     String osName = System.getProperty("os.name");
     System.out.println("OS : " + osName);
-    Runtime rt = Runtime.getRuntime();
 
-    uglifyJsFiles(osName, rt);
-    uglifyCssFiles(osName, rt);
+    uglifyJsFiles(osName);
+    uglifyCssFiles(osName);
   }
 
-  private void uglifyCssFiles(String osName, Runtime rt) {
+  private void uglifyCssFiles(String osName) {
     String styleCssFile = cssDir + "style.css";
     String styleBlueDarkCssFile = cssDir + "colors/blue-dark.css";
     File style = new File(styleCssFile);
@@ -34,16 +38,14 @@ public class UglifyFiles {
       bluedark = new File("./core/" + styleBlueDarkCssFile);
     }
 
-    String commandToExec =
-        "uglifycss " + style.getAbsolutePath() + " --output " + style.getAbsolutePath();
-    executeCommand(rt, commandToExec, osName);
-
-    commandToExec =
-        "uglifycss " + bluedark.getAbsolutePath() + " --output " + bluedark.getAbsolutePath();
-    executeCommand(rt, commandToExec, osName);
+    executeCommand(
+        List.of("uglifycss", style.getAbsolutePath(), "--output", style.getAbsolutePath()), osName);
+    executeCommand(
+        List.of("uglifycss", bluedark.getAbsolutePath(), "--output", bluedark.getAbsolutePath()),
+        osName);
   }
 
-  private void uglifyJsFiles(String osName, Runtime rt) {
+  private void uglifyJsFiles(String osName) {
 
     File f = new File(sourceDirJsFiles);
     File[] filesInDir = f.listFiles();
@@ -54,29 +56,46 @@ public class UglifyFiles {
     if (filesInDir != null) {
 
       for (File file : filesInDir) {
-        String commandToExec =
-            "uglifyjs " + file.getAbsolutePath() + " -o " + file.getAbsolutePath();
-        executeCommand(rt, commandToExec, osName);
+        // precompressed files of a previous build are not minified
+        if (!file.getName().endsWith(".js")) {
+          continue;
+        }
+        executeCommand(
+            List.of("uglifyjs", file.getAbsolutePath(), "-o", file.getAbsolutePath()), osName);
       }
     }
   }
 
-  private void executeCommand(Runtime rt, String commandToExec, String osName) {
-    String commandPrefix = "";
-
+  private void executeCommand(List<String> command, String osName) {
+    List<String> commandToExec = new ArrayList<>();
     if (osName.startsWith("Windows")) {
-      commandPrefix = "cmd.exe /c ";
-    } else {
-      commandPrefix = "";
+      commandToExec.add("cmd.exe");
+      commandToExec.add("/c");
     }
+    commandToExec.addAll(command);
 
-    commandToExec = commandPrefix + commandToExec;
-
-    System.out.println(commandToExec);
+    System.out.println(String.join(" ", commandToExec));
     try {
-      rt.exec(commandToExec);
+      Process process = new ProcessBuilder(commandToExec).redirectErrorStream(true).start();
+      // the output is read until the end, a process blocked on a full pipe would never exit
+      try (BufferedReader output =
+          new BufferedReader(
+              new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = output.readLine()) != null) {
+          System.out.println(line);
+        }
+      }
+      // wait for the file to be minified, the files are precompressed afterwards
+      int exitCode = process.waitFor();
+      if (exitCode != 0) {
+        log.error("{} exited with code {}", String.join(" ", commandToExec), exitCode);
+      }
     } catch (IOException e) {
       log.error("Exception:", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("Exception:", e);
     }
   }
 
@@ -0,0 +1,117 @@
+package io.aiven.klaw.validation;
+
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_115;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_116;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_117;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_118;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_119;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_120;
+
+import io.aiven.klaw.model.response.EnvParams;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Topic naming rules of a Kafka environment, compiled once from the parameters of the environment.
+ * A policy is immutable, so one instance is shared by all validations against the environment until
+ * its parameters change.
+ */
+@Slf4j
+public final class TopicPolicy {
+
+  /** Policy of an environment without parameters, which accepts every topic name. */
+  public static final TopicPolicy NONE = new TopicPolicy(null);
+
+  private final boolean hasParams;
+  private final String topicPrefix;
+  private final String topicSuffix;
+  private final String topicRegex;
+  private final boolean applyRegex;
+
+  // null if there is no regex or if the regex does not compile
+  private final Pattern topicPattern;
+
+  private TopicPolicy(EnvParams params) {
+    this.hasParams = params != null;
+    this.topicPrefix = params == null ? "" : getValueOrDefault(params.getTopicPrefix(), "");
+    this.topicSuffix = params == null ? "" : getValueOrDefault(params.getTopicSuffix(), "");
+    this.topicRegex = params == null ? "" : getValueOrDefault(params.getTopicRegex(), "");
+    this.applyRegex = params != null && params.isApplyRegex();
+    this.topicPattern = applyRegex ? compile(topicRegex) : null;
+  }
+
+  public static TopicPolicy of(EnvParams params) {
+    return params == null ? NONE : new TopicPolicy(params);
+  }
+
+  /** Returns true if this policy applies the naming rules of the given parameters. */
+  public boolean isCompiledFrom(EnvParams params) {
+    if (params == null) {
+      return !hasParams;
+    }
+    return hasParams
+        && applyRegex == params.isApplyRegex()
+        && Objects.equals(topicPrefix, getValueOrDefault(params.getTopicPrefix(), ""))
+        && Objects.equals(topicSuffix, getValueOrDefault(params.getTopicSuffix(), ""))
+        && Objects.equals(topicRegex, getValueOrDefault(params.getTopicRegex(), ""));
+  }
+
+  /**
+   * @param topicName name of the topic, not null
+   * @param minimumTopicNameSize characters required in the name besides its prefix and suffix
+   * @return null if the name follows the naming rules, otherwise the rule it breaks
+   */
+  public String validateTopicName(String topicName, int minimumTopicNameSize) {
+    if (!hasParams) {
+      return null;
+    }
+
+    if (applyRegex) {
+      if (topicRegex.isBlank()) {
+        return null;
+      } else if (topicPattern == null) {
+        return TOPICS_VLD_ERR_117;
+      }
+      return topicPattern.matcher(topicName).matches()
+          ? null
+          : String.format(TOPICS_VLD_ERR_118, topicName);
+    }
+
+    if (!topicPrefix.isBlank() && !topicName.startsWith(topicPrefix)) {
+      return String.format(TOPICS_VLD_ERR_115, topicName);
+    }
+    if (!topicSuffix.isBlank() && !topicName.endsWith(topicSuffix)) {
+      return String.format(TOPICS_VLD_ERR_116, topicName);
+    }
+    // the prefix and suffix must not overlap
+    String uniqueName = StringUtils.removeStart(topicName, topicPrefix);
+    if (uniqueName.length() < topicSuffix.length()) {
+      return String.format(TOPICS_VLD_ERR_120, topicName, minimumTopicNameSize);
+    }
+    uniqueName = StringUtils.removeEnd(uniqueName, topicSuffix);
+    if (uniqueName.length() < minimumTopicNameSize) {
+      return String.format(TOPICS_VLD_ERR_119, topicName, minimumTopicNameSize);
+    }
+    return null;
+  }
+
+  private static Pattern compile(String topicRegex) {
+    if (topicRegex.isBlank()) {
+      return null;
+    }
+    try {
+      return Pattern.compile(topicRegex);
+    } catch (PatternSyntaxException e) {
+      log.error("Invalid topic regex {}", topicRegex, e);
+      return null;
+    }
+  }
+
+  private static String getValueOrDefault(List<String> params, String defaultValue) {
+    return (params != null && params.size() > 0) ? params.get(0) : defaultValue;
+  }
+}
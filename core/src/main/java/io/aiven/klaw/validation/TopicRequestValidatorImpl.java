@@ -3,13 +3,13 @@ package io.aiven.klaw.validation;
 import static io.aiven.klaw.error.KlawErrorMessages.*;
 import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 
+import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.TopicRequestModel;
-import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.service.CommonUtilsService;
 import io.aiven.klaw.service.MailUtils;
 import io.aiven.klaw.service.TopicControllerService;
@@ -18,10 +18,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -30,6 +27,7 @@ public class TopicRequestValidatorImpl
     implements ConstraintValidator<TopicRequestValidator, TopicRequestModel> {
 
   @Autowired private CommonUtilsService commonUtilsService;
+  @Autowired private ManageDatabase manageDatabase;
   @Autowired private MailUtils mailService;
   @Autowired private TopicControllerService topicControllerService;
 
@@ -129,7 +127,8 @@ public class TopicRequestValidatorImpl
     if (!checkIfPromotionOfTopic(
         topics, tenantId, topicRequestModel, syncCluster, constraintValidatorContext)) return false;
 
-    if (!validateTopicConfigParameters(topicRequestModel, constraintValidatorContext)) return false;
+    if (!validateTopicConfigParameters(topicRequestModel, tenantId, constraintValidatorContext))
+      return false;
 
     // Verify if topic request already exists
     if (topics != null && topicRequestModel.getRequestId() == null) {
@@ -243,101 +242,26 @@ public class TopicRequestValidatorImpl
   }
 
   private boolean validateTopicConfigParameters(
-      TopicRequestModel topicRequestReq, ConstraintValidatorContext constraintValidatorContext) {
-
-    EnvParams params =
-        topicControllerService.getEnvDetails(topicRequestReq.getEnvironment()).getParams();
-    if (params != null) {
-      String topicPrefix = getValueOrDefault(params.getTopicPrefix(), "");
-      String topicSuffix = getValueOrDefault(params.getTopicSuffix(), "");
-      String topicRegex = getValueOrDefault(params.getTopicRegex(), "");
-      String topicName = topicRequestReq.getTopicname();
-      try {
-        if (!params.isApplyRegex()) {
-          if (topicPrefix != null && !topicPrefix.isBlank() && !topicName.startsWith(topicPrefix)) {
-            log.error(
-                "Topic prefix {} does not match. {}", topicPrefix, topicRequestReq.getTopicname());
-            updateConstraint(
-                constraintValidatorContext,
-                String.format(TOPICS_VLD_ERR_115, topicRequestReq.getTopicname()));
-            return false;
-          }
-
-          if (topicSuffix != null && !topicSuffix.isBlank() && !topicName.endsWith(topicSuffix)) {
-            log.error(
-                "Topic suffix {} does not match. {}", topicSuffix, topicRequestReq.getTopicname());
-            updateConstraint(
-                constraintValidatorContext,
-                String.format(TOPICS_VLD_ERR_116, topicRequestReq.getTopicname()));
-            return false;
-          }
-          // It will return before here if any other validation is not met.
-          topicName = StringUtils.removeStart(topicName, topicPrefix);
-          // if the prefix is set it will be removed by now, so we just need to see if there was any
-          // over lap in the prefix.
-          if (topicPrefix != null
-              && topicSuffix != null
-              && topicName.length() < topicSuffix.length()) {
-            log.error(
-                "Topic Suffix and Topic Prefix overlap there is a requirement for {} characters minimum to be unique between the prefix and suffix.",
-                topicRequestReq.getTopicname(),
-                minimumTopicNameSize);
-            updateConstraint(
-                constraintValidatorContext,
-                String.format(
-                    TOPICS_VLD_ERR_120, topicRequestReq.getTopicname(), minimumTopicNameSize));
-
-            return false;
-          }
-          topicName = StringUtils.removeEnd(topicName, topicSuffix);
-
-          // Check topic name without prefix or suffix meets minimum length requirements
-          if (topicName.length() < minimumTopicNameSize) {
-            log.error(
-                "Topic name: {} is not long enough when prefix and suffix's are excluded. {} characters minimum are required to be unique.",
-                topicRequestReq.getTopicname(),
-                minimumTopicNameSize);
-            updateConstraint(
-                constraintValidatorContext,
-                String.format(
-                    TOPICS_VLD_ERR_119, topicRequestReq.getTopicname(), minimumTopicNameSize));
-            return false;
-          }
-
-        } else {
-          if (topicRegex != null
-              && !topicRegex.isBlank()
-              && !isRegexAMatch(topicRequestReq, topicRegex)) {
-
-            log.error(
-                "Topic Regex {} does not match. {}", topicRegex, topicRequestReq.getTopicname());
-            updateConstraint(
-                constraintValidatorContext,
-                String.format(TOPICS_VLD_ERR_118, topicRequestReq.getTopicname()));
-            return false;
-          }
-        }
-
-      } catch (Exception e) {
-        log.error("Unable to set topic partitions, setting default from properties.", e);
-        updateConstraint(constraintValidatorContext, TOPICS_VLD_ERR_117);
-        return false;
-      }
+      TopicRequestModel topicRequestReq,
+      int tenantId,
+      ConstraintValidatorContext constraintValidatorContext) {
+    TopicPolicy topicPolicy =
+        manageDatabase.getTopicPolicy(
+            tenantId, topicControllerService.getEnvDetails(topicRequestReq.getEnvironment()));
+    String topicPolicyError =
+        topicPolicy.validateTopicName(topicRequestReq.getTopicname(), minimumTopicNameSize);
+    if (topicPolicyError != null) {
+      log.error(
+          "Topic {} does not follow the naming rules of env {}. {}",
+          topicRequestReq.getTopicname(),
+          topicRequestReq.getEnvironment(),
+          topicPolicyError);
+      updateConstraint(constraintValidatorContext, topicPolicyError);
+      return false;
     }
     return true;
   }
 
-  // TODO Review rej and see if this would provide a better experience for Klaw.
-  private boolean isRegexAMatch(TopicRequestModel topicRequestReq, String topicRegex) {
-    Pattern p = Pattern.compile(topicRegex);
-    Matcher m = p.matcher(topicRequestReq.getTopicname());
-    return m.matches();
-  }
-
-  private static String getValueOrDefault(List<String> params, String defaultValue) {
-    return (params != null && params.size() > 0) ? params.get(0) : defaultValue;
-  }
-
   private void updateConstraint(
       ConstraintValidatorContext constraintValidatorContext, String errorMessage) {
     constraintValidatorContext
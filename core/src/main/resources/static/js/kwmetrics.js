@@ -24,6 +24,7 @@ app.controller("kwMetricsCtrl", function($scope, $http, $location, $window) {
                     headers : { 'Content-Type' : 'application/json' }
                 }).success(function(output) {
                     $scope.brokermetrics = output.brokerTopMetricsOverview;
+                    $scope.brokermetricshourly = output.brokerTopMetricsHourlyOverview;
                 }).error(
                     function(error)
                     {
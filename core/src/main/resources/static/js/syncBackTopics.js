@@ -341,6 +341,39 @@ app.controller("syncBackTopicsCtrl", function($scope, $http, $location, $window)
 
     $scope.enableCreateTopicsButton = false;
 
+    // the topics are created in the background, the job is polled until all topics are processed
+	$scope.getSyncBackTopicsJob = function(jobId){
+        $http({
+            method: "GET",
+            url: "syncBackTopics/jobs/" + jobId,
+            headers : { 'Content-Type' : 'application/json' }
+        }).success(function(output) {
+            if(output.status == "RUNNING"){
+                setTimeout(function(){ $scope.getSyncBackTopicsJob(jobId); }, 1000);
+                return;
+            }
+            $scope.ShowSpinnerStatus = false;
+            var message = output.error == null ? "success" : output.error;
+            $scope.alert = "Sync back topic request : "+ message;
+            $scope.syncbacklog = output.results.map(function(result){ return result.message; });
+            if(output.error == null){
+                $scope.alert = $scope.alert + ". Errors are ignored if topics already exist on the target environment. Please verify logs.";
+                swal({
+                       title: "",
+                       text: "Sync back topic request : "+ message,
+                       timer: 2000,
+                       showConfirmButton: false
+                   });
+            }else $scope.showSubmitFailed('','');
+        }).error(
+            function(error)
+            {
+                $scope.ShowSpinnerStatus = false;
+                $scope.handleErrorMessage(error);
+            }
+        );
+	}
+
 	$scope.syncBackTopics = function(){
 	    $scope.alert = "";
 	    $scope.alertnote = "";
@@ -410,21 +443,14 @@ app.controller("syncBackTopicsCtrl", function($scope, $http, $location, $window)
                         headers : { 'Content-Type' : 'application/json' },
                         data:  serviceInput
                     }).success(function(output) {
-                        $scope.ShowSpinnerStatus = false;
-                        $scope.alert = "Sync back topic request : "+ output.message;
                         if(output.success){
                             $scope.resetCheckBoxes();
-                            $scope.syncbacklog = output.data;
-                            $scope.alert = $scope.alert + ". Errors are ignored if topics already exist on the target environment. Please verify logs.";
+                            $scope.getSyncBackTopicsJob(output.data);
+                        }else{
+                            $scope.ShowSpinnerStatus = false;
+                            $scope.alert = "Sync back topic request : "+ output.message;
+                            $scope.showSubmitFailed('','');
                         }
-                         if(output.success){
-                          swal({
-                        		   title: "",
-                        		   text: "Sync back topic request : "+ output.message,
-                        		   timer: 2000,
-                        		   showConfirmButton: false
-                        	   });
-                        }else $scope.showSubmitFailed('','');
                     }).error(
                         function(error)
                         {
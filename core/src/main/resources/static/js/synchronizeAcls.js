@@ -295,6 +295,7 @@ app.controller("synchronizeAclsCtrl", function($scope, $http, $location, $window
             headers : { 'Content-Type' : 'application/json' },
             params: {'env' : $scope.getAcls.envName,
              'topicnamesearch' : $scope.getAcls.topicnamesearch,
+             'principalsearch' : $scope.getAcls.principalsearch,
              'showAllAcls' : "" + $scope.showAllAcls,
                 'pageNo' : pageNoSelected,
                 'currentPage' : $scope.currentPageSelected}
@@ -0,0 +1,25 @@
+package io.aiven.klaw;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.QueryCounter;
+import java.util.concurrent.Callable;
+
+/**
+ * Asserts the number of sql statements executed by a call, like a request performed with MockMvc,
+ * so that an endpoint starting to issue a query per item fails the build.
+ */
+public final class QueryCountAssertions {
+
+  private QueryCountAssertions() {}
+
+  public static <T> T assertMaxQueries(int maxQueries, Callable<T> call) throws Exception {
+    try (QueryCounter.Scope scope = QueryCounter.open()) {
+      T result = call.call();
+      assertThat(scope.getQueries())
+          .describedAs("sql statements executed, at most %d expected", maxQueries)
+          .isLessThanOrEqualTo(maxQueries);
+      return result;
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package io.aiven.klaw;
 
+import static io.aiven.klaw.QueryCountAssertions.assertMaxQueries;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_124;
 import static io.aiven.klaw.helpers.KwConstants.TENANT_CONFIG_PROPERTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -12,6 +14,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -60,9 +64,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -72,7 +78,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
     webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
     classes = UiapiApplication.class)
 @AutoConfigureMockMvc
-@TestPropertySource(locations = "classpath:test-application-rdbms.properties")
+@TestPropertySource(
+    locations = "classpath:test-application-rdbms.properties",
+    properties = "klaw.diagnostics.enabled=true")
 @TestMethodOrder(OrderAnnotation.class)
 @DirtiesContext
 public class TopicAclControllerIT {
@@ -93,6 +101,7 @@ public class TopicAclControllerIT {
   private static final String user1 = "tkwusera", user2 = "tkwuserb", user3 = "tkwuserc";
   private static final String topicName = "testtopic";
   private static final int topicId1 = 1001, topicId3 = 1004, topicId4 = 1006, topicId5 = 1008;
+  private static String aclRequestsETag;
 
   @BeforeAll
   public static void setup() {
@@ -591,18 +600,21 @@ public class TopicAclControllerIT {
         .thenReturn(utilMethods.getClusterApiTopics(topicName, 10));
 
     String res =
-        mvc.perform(
-                MockMvcRequestBuilders.get("/getTopics")
-                    .with(user(user1).password(PASSWORD))
-                    .param("env", "1")
-                    .param("pageNo", "1")
-                    .param("topicnamesearch", topicName)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON))
-            .andExpect(status().isOk())
-            .andReturn()
-            .getResponse()
-            .getContentAsString();
+        assertMaxQueries(
+            0,
+            () ->
+                mvc.perform(
+                        MockMvcRequestBuilders.get("/getTopics")
+                            .with(user(user1).password(PASSWORD))
+                            .param("env", "1")
+                            .param("pageNo", "1")
+                            .param("topicnamesearch", topicName)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
 
     List<List<TopicInfo>> response = OBJECT_MAPPER.readValue(res, new TypeReference<>() {});
     assertThat(response).hasSize(1);
@@ -694,21 +706,39 @@ public class TopicAclControllerIT {
   @Test
   public void getCreatedAclRequest() throws Exception {
 
-    String res =
-        mvc.perform(
-                get("/getAclRequestsForApprover")
-                    .with(user(user3).password(PASSWORD))
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .param("pageNo", "1")
-                    .accept(MediaType.APPLICATION_JSON))
-            .andExpect(status().isOk())
-            .andReturn()
-            .getResponse()
-            .getContentAsString();
+    MockHttpServletResponse httpResponse =
+        assertMaxQueries(
+            4,
+            () ->
+                mvc.perform(
+                        get("/getAclRequestsForApprover")
+                            .with(user(user3).password(PASSWORD))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .param("pageNo", "1")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andReturn()
+                    .getResponse());
 
     List<AclRequestsResponseModel> response =
-        OBJECT_MAPPER.readValue(res, new TypeReference<>() {});
+        OBJECT_MAPPER.readValue(httpResponse.getContentAsString(), new TypeReference<>() {});
     assertThat(response).hasSize(1);
+
+    // unchanged requests are not read again
+    aclRequestsETag = httpResponse.getHeader(HttpHeaders.ETAG);
+    assertThat(aclRequestsETag).isNotNull();
+    assertMaxQueries(
+        0,
+        () ->
+            mvc.perform(
+                    get("/getAclRequestsForApprover")
+                        .with(user(user3).password(PASSWORD))
+                        .header(HttpHeaders.IF_NONE_MATCH, aclRequestsETag)
+                        .param("pageNo", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string("")));
   }
 
   // Get acl requests again, and approve that request
@@ -751,6 +781,16 @@ public class TopicAclControllerIT {
             .getContentAsString();
     ApiResponse response1 = OBJECT_MAPPER.readValue(res, new TypeReference<>() {});
     assertThat(response1.isSuccess()).isTrue();
+
+    // the approval changed the requests to approve
+    mvc.perform(
+            get("/getAclRequestsForApprover")
+                .with(user(user3).password(PASSWORD))
+                .header(HttpHeaders.IF_NONE_MATCH, aclRequestsETag)
+                .param("pageNo", "1")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, not(aclRequestsETag)));
   }
 
   // Request for a acl
@@ -889,7 +929,7 @@ public class TopicAclControllerIT {
     List<Map<String, String>> aclInfo = utilMethods.getClusterSyncAcls();
 
     when(clusterApiService.getAcls(
-            anyString(), any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyInt()))
+            anyString(), any(), eq(KafkaSupportedProtocol.PLAINTEXT), any(), any(), anyInt()))
         .thenReturn(aclInfo);
 
     String res =
@@ -1362,6 +1402,8 @@ public class TopicAclControllerIT {
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            // read from the schema registry, not versioned by the metadata of klaw
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
             .andReturn()
             .getResponse()
             .getContentAsString();
@@ -1532,6 +1574,27 @@ public class TopicAclControllerIT {
     assertThat(str).contains(TOPICS_VLD_ERR_124);
   }
 
+  @Test
+  @Order(48)
+  public void listSlowestRequestsWithTheirPhases() throws Exception {
+    String res =
+        mvc.perform(
+                get("/actuator/slowrequests")
+                    .with(user(superAdmin).password(superAdminPwd))
+                    .param("limit", "50")
+                    .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    List<Map<String, Object>> slowestRequests =
+        OBJECT_MAPPER.readValue(res, new TypeReference<>() {});
+    assertThat(slowestRequests).isNotEmpty().hasSizeLessThanOrEqualTo(20);
+    assertThat(slowestRequests)
+        .anySatisfy(request -> assertThat((Integer) request.get("dbQueries")).isPositive());
+  }
+
   private String createOffsetRequest() throws Exception {
     ConsumerOffsetResetRequestModel consumerOffsetResetRequestModel =
         utilMethods.getConsumerOffsetResetRequest(topicId1);
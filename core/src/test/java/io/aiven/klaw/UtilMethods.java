@@ -1117,7 +1117,7 @@ public class UtilMethods {
     ChartsJsOverview chartsJsOverview = new ChartsJsOverview();
     chartsJsOverview.setXAxisLabel(TestConstants.X_AXIS_LABEL);
     chartsJsOverview.setYAxisLabel(TestConstants.Y_AXIS_LABEL);
-    chartsJsOverview.setData(List.of(1, 2, 3, 4));
+    chartsJsOverview.setData(List.of(1L, 2L, 3L, 4L));
     chartsJsOverview.setLabels(List.of("Label 1", "Label 2", "Label 3", "Label 4"));
     chartsJsOverview.setTitleForReport(reportTitle);
     Options options = new Options();
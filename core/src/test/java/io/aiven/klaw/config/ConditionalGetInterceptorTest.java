@@ -0,0 +1,143 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.helpers.MetadataVersions;
+import io.aiven.klaw.service.CommonUtilsService;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+  private static final int TENANT_ID = 101;
+  private static final String ENDPOINT = "/getTopics";
+
+  @Mock private CommonUtilsService commonUtilsService;
+
+  @InjectMocks private ConditionalGetInterceptor conditionalGetInterceptor;
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  void answersNotModifiedUntilTheMetadataOfTheTenantChanges() {
+    stubUser("user1");
+    MockHttpServletResponse response = perform(null);
+    String eTag = response.getHeader(HttpHeaders.ETAG);
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(eTag).startsWith("W/\"");
+    assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+
+    assertThat(perform(eTag).getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+    MetadataVersions.changed(TENANT_ID + 1);
+    assertThat(perform(eTag).getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+    MetadataVersions.changed(TENANT_ID);
+    response = perform(eTag);
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+  }
+
+  @Test
+  void changesToDataOfNoTenantChangeTheTagsOfAllTenants() {
+    stubUser("user1");
+    String eTag = perform(null).getHeader(HttpHeaders.ETAG);
+
+    MetadataVersions.changedAllTenants();
+
+    assertThat(perform(eTag).getStatus()).isEqualTo(HttpStatus.OK.value());
+  }
+
+  @Test
+  void tagsDifferPerUser() {
+    stubUser("user1");
+    String eTag = perform(null).getHeader(HttpHeaders.ETAG);
+
+    stubUser("user2");
+    assertThat(perform(eTag).getStatus()).isEqualTo(HttpStatus.OK.value());
+  }
+
+  @Test
+  void recordsRatioOfNotModifiedResponsesPerEndpoint() {
+    // the gauges stay registered in the global registry, an endpoint of no other test
+    String endpoint = "/getTeamsOverview";
+    stubUser("user1");
+    String eTag = perform(endpoint, null).getHeader(HttpHeaders.ETAG);
+    perform(endpoint, eTag);
+    perform(endpoint, eTag);
+    perform(endpoint, eTag);
+
+    assertThat(
+            registry
+                .get(ConditionalGetInterceptor.CONDITIONAL_REQUESTS_METRIC)
+                .tags("uri", endpoint, "outcome", "not_modified")
+                .counter()
+                .count())
+        .isEqualTo(3);
+    assertThat(
+            registry
+                .get(ConditionalGetInterceptor.NOT_MODIFIED_RATIO_METRIC)
+                .tag("uri", endpoint)
+                .gauge()
+                .value())
+        .isEqualTo(0.75);
+  }
+
+  @Test
+  void doesNotTagResponsesWithHighAvailability() {
+    ReflectionTestUtils.setField(conditionalGetInterceptor, "haEnabled", true);
+
+    MockHttpServletResponse response = perform("W/\"any\"");
+
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+  }
+
+  private void stubUser(String userName) {
+    when(commonUtilsService.getCurrentUserName()).thenReturn(userName);
+    when(commonUtilsService.getTenantId(userName)).thenReturn(TENANT_ID);
+  }
+
+  private MockHttpServletResponse perform(String ifNoneMatch) {
+    return perform(ENDPOINT, ifNoneMatch);
+  }
+
+  private MockHttpServletResponse perform(String endpoint, String ifNoneMatch) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", endpoint);
+    request.setQueryString("env=1&pageNo=1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, endpoint);
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    boolean handled = conditionalGetInterceptor.preHandle(request, response, new Object());
+    assertThat(handled).isEqualTo(response.getStatus() != HttpStatus.NOT_MODIFIED.value());
+    return response;
+  }
+}
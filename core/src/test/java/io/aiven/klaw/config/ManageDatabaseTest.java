@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.response.EnvParams;
+import io.aiven.klaw.validation.TopicPolicy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -60,6 +63,29 @@ public class ManageDatabaseTest {
     assertThat(getTopicFromCache(TENANT_ID, topicId)).hasSize(1);
   }
 
+  @Test
+  public void getTopicPolicyIsReusedUntilEnvParamsChange() {
+    Env env = new Env();
+    env.setId("1");
+    EnvParams params = new EnvParams();
+    params.setTopicPrefix(List.of("dev-"));
+    env.setParams(params);
+
+    TopicPolicy topicPolicy = manageDatabase.getTopicPolicy(TENANT_ID, env);
+    assertThat(manageDatabase.getTopicPolicy(TENANT_ID, env)).isSameAs(topicPolicy);
+    assertThat(topicPolicy.validateTopicName("test-orders", 3)).isNotNull();
+
+    params.setTopicPrefix(List.of("test-"));
+    TopicPolicy recompiledPolicy = manageDatabase.getTopicPolicy(TENANT_ID, env);
+    assertThat(recompiledPolicy).isNotSameAs(topicPolicy);
+    assertThat(recompiledPolicy.validateTopicName("test-orders", 3)).isNull();
+  }
+
+  @Test
+  public void getTopicPolicyOfUnknownEnv() {
+    assertThat(manageDatabase.getTopicPolicy(TENANT_ID, null)).isSameAs(TopicPolicy.NONE);
+  }
+
   private List<Topic> getTopicFromCache(int tenantId, int topicId) {
     return manageDatabase.getTopicsForTenant(tenantId).stream()
         .filter(entry -> entry.getTopicid().equals(topicId))
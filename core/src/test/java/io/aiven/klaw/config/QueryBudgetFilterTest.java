@@ -0,0 +1,56 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.QueryCounter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class QueryBudgetFilterTest {
+
+  private QueryBudgetFilter queryBudgetFilter;
+
+  @BeforeEach
+  void setUp() {
+    queryBudgetFilter = new QueryBudgetFilter();
+    queryBudgetFilter.setQueryBudget(3);
+  }
+
+  @Test
+  void recordsQueriesPerEndpointWorstFirst() throws Exception {
+    perform("/getTopics", 1);
+    perform("/getAclRequests", 5);
+    perform("/getAclRequests", 2);
+
+    assertThat(queryBudgetFilter.getWorstEndpoints(10))
+        .containsExactly(
+            new QueryBudgetFilter.EndpointQueries("GET /getAclRequests", 2, 5, 3.5, 1),
+            new QueryBudgetFilter.EndpointQueries("GET /getTopics", 1, 1, 1.0, 0));
+    assertThat(queryBudgetFilter.getWorstEndpoints(1)).hasSize(1);
+  }
+
+  @Test
+  void doesNotRecordRequestsNotMappedToAnEndpoint() throws Exception {
+    perform(null, 2);
+
+    assertThat(queryBudgetFilter.getWorstEndpoints(10)).isEmpty();
+  }
+
+  private void perform(String pattern, int queries) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/any");
+    FilterChain filterChain =
+        (req, res) -> {
+          for (int i = 0; i < queries; i++) {
+            QueryCounter.increment();
+          }
+          if (pattern != null) {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+          }
+        };
+    queryBudgetFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+  }
+}
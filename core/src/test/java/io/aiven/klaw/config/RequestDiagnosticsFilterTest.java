@@ -0,0 +1,107 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.RequestPhases;
+import io.aiven.klaw.helpers.RequestPhases.Phase;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestDiagnosticsFilterTest {
+
+  private RequestDiagnosticsFilter requestDiagnosticsFilter;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  @BeforeEach
+  void setUp() {
+    requestDiagnosticsFilter = new RequestDiagnosticsFilter();
+    requestDiagnosticsFilter.nanoClock = nanos::get;
+    ReflectionTestUtils.setField(requestDiagnosticsFilter, "slowRequestThresholdMillis", 100L);
+    ReflectionTestUtils.setField(requestDiagnosticsFilter, "slowestRequestsKept", 2);
+  }
+
+  @Test
+  void recordsPhasesOfRequest() throws Exception {
+    perform(
+        "/getTopics",
+        () -> {
+          RequestPhases.record(Phase.DB, TimeUnit.MILLISECONDS.toNanos(30));
+          RequestPhases.record(Phase.DB, TimeUnit.MILLISECONDS.toNanos(20));
+          RequestPhases.record(Phase.CLUSTER_API, TimeUnit.MILLISECONDS.toNanos(200));
+          RequestPhases.record(Phase.SERIALIZATION, TimeUnit.MILLISECONDS.toNanos(5));
+        });
+
+    assertThat(requestDiagnosticsFilter.getSlowestRequests(10))
+        .singleElement()
+        .satisfies(
+            breakdown -> {
+              assertThat(breakdown.endpoint()).isEqualTo("GET /getTopics");
+              assertThat(breakdown.dbQueries()).isEqualTo(2);
+              assertThat(breakdown.dbMillis()).isEqualTo(50);
+              assertThat(breakdown.clusterApiCalls()).isEqualTo(1);
+              assertThat(breakdown.clusterApiMillis()).isEqualTo(200);
+              assertThat(breakdown.serializationMillis()).isEqualTo(5);
+            });
+  }
+
+  @Test
+  void keepsSlowestRequestsSlowestFirst() throws Exception {
+    perform("/getTopics", () -> elapse(30));
+    perform("/getAcls", () -> elapse(10));
+    perform("/getEnvs", () -> elapse(60));
+
+    assertThat(requestDiagnosticsFilter.getSlowestRequests(10))
+        .extracting(RequestDiagnosticsFilter.RequestBreakdown::endpoint)
+        .containsExactly("GET /getEnvs", "GET /getTopics");
+    assertThat(requestDiagnosticsFilter.getSlowestRequests(1)).hasSize(1);
+  }
+
+  @Test
+  void doesNotRecordRequestsNotMappedToAnEndpoint() throws Exception {
+    perform(null, () -> {});
+
+    assertThat(requestDiagnosticsFilter.getSlowestRequests(10)).isEmpty();
+  }
+
+  @Test
+  void stopsRecordingPhasesAfterRequest() throws Exception {
+    perform("/getTopics", () -> {});
+    RequestPhases.record(Phase.DB, TimeUnit.MILLISECONDS.toNanos(30));
+
+    assertThat(requestDiagnosticsFilter.getSlowestRequests(10))
+        .singleElement()
+        .satisfies(breakdown -> assertThat(breakdown.dbQueries()).isZero());
+  }
+
+  private void elapse(long millis) {
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  private interface RequestWork {
+    void run() throws Exception;
+  }
+
+  private void perform(String pattern, RequestWork work) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/any");
+    FilterChain filterChain =
+        (req, res) -> {
+          try {
+            work.run();
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+          if (pattern != null) {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+          }
+        };
+    requestDiagnosticsFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+  }
+}
@@ -243,7 +243,8 @@ public class AclControllerTest {
   public void getSyncAcls() throws Exception {
     List<AclInfo> aclInfo = utilMethods.getAclInfoList();
 
-    when(aclSyncControllerService.getSyncAcls(anyString(), anyString(), anyString(), any(), any()))
+    when(aclSyncControllerService.getSyncAcls(
+            anyString(), anyString(), anyString(), any(), any(), any()))
         .thenReturn(aclInfo);
 
     mvcAclsSync
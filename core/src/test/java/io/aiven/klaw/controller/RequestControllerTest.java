@@ -1,6 +1,7 @@
 package io.aiven.klaw.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -62,25 +63,28 @@ class RequestControllerTest {
   @Order(1)
   @Test
   public void givenARequestToApproveCallCorrectServiceAndReturnSuccessOK() throws KlawException {
-    when(topicControllerService.approveTopicRequests(eq("1001")))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.TOPIC, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(1)).approveTopicRequests(eq("1001"));
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001")));
   }
 
   @Order(2)
   @Test
   public void givenARequestToApproveMulitpleCallTOPICCorrectServiceAndReturnSuccessOK()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(3)
@@ -88,52 +92,61 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectTOPICServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(4)
   @Test
   public void givenARequestToApproveCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.TOPIC, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(1)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001")));
   }
 
   @Order(4)
   @Test
   public void givenMultipleRequestToApproveCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(5)
   @Test
   public void givenARequestToApproveMulitpleCallCorrectSCHEMAServiceAndReturnSuccessOK()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(6)
@@ -141,39 +154,46 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectSCHEMAServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(7)
   @Test
   public void givenARequestToApproveCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.SCHEMA, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(eq(List.of("1001")));
   }
 
   @Order(8)
   @Test
   public void givenMultipleRequestToApproveCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(9)
@@ -233,13 +253,16 @@ class RequestControllerTest {
   @Test
   public void givenARequestToApproveMulitpleCallCorrectACLServiceAndReturnSuccessOK()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(14)
@@ -247,39 +270,44 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectACLServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(15)
   @Test
   public void givenARequestToApproveCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.ACL, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(1)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(eq(List.of("1001")));
   }
 
   @Order(16)
   @Test
   public void givenMultipleRequestToApproveCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(eq(List.of("1001", "2001")));
   }
 
   @Order(17)
@@ -291,10 +319,10 @@ class RequestControllerTest {
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.USER, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(0)).approveAclRequests(anyString());
+    verify(aclControllerService, times(0)).approveAclRequests(anyList());
     verify(kafkaConnectControllerService, times(0)).approveConnectorRequests(anyString());
-    verify(schemaRegistryControllerService, times(0)).execSchemaRequests(anyString());
-    verify(topicControllerService, times(0)).approveTopicRequests(anyString());
+    verify(schemaRegistryControllerService, times(0)).execSchemaRequests(anyList());
+    verify(topicControllerService, times(0)).approveTopicRequests(anyList());
   }
 
   @Order(18)
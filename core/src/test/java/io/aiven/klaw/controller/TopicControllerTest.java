@@ -19,8 +19,10 @@ import io.aiven.klaw.model.SyncTopicUpdates;
 import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.requests.TopicNamesValidationRequest;
 import io.aiven.klaw.model.requests.TopicRequestModel;
 import io.aiven.klaw.model.response.SyncTopicsList;
+import io.aiven.klaw.model.response.TopicNameValidationResult;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.TopicTeamResponse;
 import io.aiven.klaw.service.TopicControllerService;
@@ -313,4 +315,29 @@ public class TopicControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.message", is(ApiResultStatus.SUCCESS.value)));
   }
+
+  @Test
+  @Order(13)
+  public void validateTopicNames() throws Exception {
+    TopicNamesValidationRequest validationRequest = new TopicNamesValidationRequest();
+    validationRequest.setEnv("1");
+    validationRequest.setTopicNames(List.of("dev-orders", "orders"));
+    String jsonReq = OBJECT_MAPPER.writer().writeValueAsString(validationRequest);
+    when(topicControllerService.validateTopicNames("1", List.of("dev-orders", "orders")))
+        .thenReturn(
+            List.of(
+                new TopicNameValidationResult("dev-orders", true, null),
+                new TopicNameValidationResult(
+                    "orders", false, "Topic prefix does not match. orders")));
+
+    mvc.perform(
+            MockMvcRequestBuilders.post("/validateTopicNames")
+                .content(jsonReq)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].valid", is(true)))
+        .andExpect(jsonPath("$[1].message", is("Topic prefix does not match. orders")));
+  }
 }
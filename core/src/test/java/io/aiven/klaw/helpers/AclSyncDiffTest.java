@@ -0,0 +1,127 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AclSyncDiffTest {
+
+  @Test
+  void diffMatchesAclsOnNormalizedKeys() {
+    List<Map<String, String>> clusterAcls =
+        List.of(
+            clusterAcl("TOPIC", "synced-topic", "User:alice", "*", "WRITE"),
+            clusterAcl("TOPIC", "new-topic", "User:bob", "10.0.0.1", "WRITE"),
+            clusterAcl("TOPIC", "synced-topic", "User:carol", "*", "READ"),
+            clusterAcl("GROUP", "carol-group", "User:carol", "*", "READ"));
+    List<Acl> sotAcls =
+        List.of(
+            // stored without the User: prefix and with an empty host
+            sotAcl("synced-topic", "alice", "", AclType.PRODUCER),
+            sotAcl("synced-topic", "carol", "*", AclType.CONSUMER),
+            sotAcl("deleted-topic", "alice", "*", AclType.PRODUCER));
+
+    AclSyncDiff aclSyncDiff = AclSyncDiff.diff(clusterAcls, null, sotAcls);
+
+    assertThat(aclSyncDiff.getClusterAcls())
+        .extracting(
+            clusterAcl -> clusterAcl.key().resourceName(),
+            clusterAcl -> clusterAcl.sotAcl() != null,
+            AclSyncDiff.ClusterAcl::consumerGroup)
+        .containsExactly(
+            tuple("synced-topic", true, null),
+            tuple("new-topic", false, null),
+            tuple("synced-topic", true, "carol-group"));
+    assertThat(aclSyncDiff.getDeletedAcls())
+        .extracting(Acl::getTopicname)
+        .containsExactly("deleted-topic");
+  }
+
+  @Test
+  void diffSkipsConsumerAclsWithoutConsumerGroup() {
+    List<Map<String, String>> clusterAcls =
+        List.of(clusterAcl("TOPIC", "topic", "User:carol", "*", "READ"));
+    List<Acl> sotAcls = List.of(sotAcl("topic", "carol", "*", AclType.CONSUMER));
+
+    AclSyncDiff aclSyncDiff = AclSyncDiff.diff(clusterAcls, null, sotAcls);
+
+    assertThat(aclSyncDiff.getClusterAcls()).isEmpty();
+    assertThat(aclSyncDiff.getDeletedAcls()).hasSize(1);
+  }
+
+  @Test
+  void diffDoesNotMatchDifferentPatternOrPermission() {
+    Map<String, String> denied = clusterAcl("TOPIC", "topic", "User:alice", "*", "WRITE");
+    denied.put("permissionType", "DENY");
+    List<Acl> sotAcls = new ArrayList<>();
+    sotAcls.add(sotAcl("topic", "alice", "*", AclType.PRODUCER));
+    Acl prefixed = sotAcl("topic", "alice", "*", AclType.PRODUCER);
+    prefixed.setAclPatternType(AclPatternType.PREFIXED.value);
+    sotAcls.add(prefixed);
+
+    AclSyncDiff aclSyncDiff = AclSyncDiff.diff(List.of(denied), null, sotAcls);
+
+    assertThat(aclSyncDiff.getClusterAcls()).hasSize(1);
+    assertThat(aclSyncDiff.getClusterAcls().get(0).sotAcl()).isNull();
+    assertThat(aclSyncDiff.getDeletedAcls()).hasSize(2);
+  }
+
+  @Test
+  void diffSkipsAclsWithoutTopic() {
+    List<Map<String, String>> clusterAcls =
+        List.of(clusterAcl("TOPIC", "topic", "User:alice", "*", "WRITE"));
+    // prefixed or cluster level acls are stored without a topic name
+    List<Acl> sotAcls =
+        List.of(
+            sotAcl("topic", "alice", "*", AclType.PRODUCER),
+            sotAcl(null, "bob", "*", AclType.PRODUCER));
+
+    AclSyncDiff aclSyncDiff = AclSyncDiff.diff(clusterAcls, null, sotAcls);
+
+    assertThat(aclSyncDiff.getClusterAcls()).hasSize(1);
+    assertThat(aclSyncDiff.getDeletedAcls()).isEmpty();
+  }
+
+  @Test
+  void diffFiltersOnTopicName() {
+    List<Map<String, String>> clusterAcls =
+        List.of(
+            clusterAcl("TOPIC", "orders", "User:alice", "*", "WRITE"),
+            clusterAcl("TOPIC", "payments", "User:alice", "*", "WRITE"));
+
+    AclSyncDiff aclSyncDiff = AclSyncDiff.diff(clusterAcls, "ord", List.of());
+
+    assertThat(aclSyncDiff.getClusterAcls())
+        .extracting(clusterAcl -> clusterAcl.key().resourceName())
+        .containsExactly("orders");
+  }
+
+  private static Map<String, String> clusterAcl(
+      String resourceType, String resourceName, String principal, String host, String operation) {
+    Map<String, String> clusterAcl = new HashMap<>();
+    clusterAcl.put("resourceType", resourceType);
+    clusterAcl.put("resourceName", resourceName);
+    clusterAcl.put("principle", principal);
+    clusterAcl.put("host", host);
+    clusterAcl.put("operation", operation);
+    clusterAcl.put("permissionType", "ALLOW");
+    return clusterAcl;
+  }
+
+  private static Acl sotAcl(String topicName, String principal, String host, AclType aclType) {
+    Acl acl = new Acl();
+    acl.setTopicname(topicName);
+    acl.setAclssl(principal);
+    acl.setAclip(host);
+    acl.setAclType(aclType.value);
+    return acl;
+  }
+}
@@ -0,0 +1,104 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheMetricsTest {
+
+  private SimpleMeterRegistry registry;
+
+  private String cacheName;
+
+  private CacheMetrics cacheMetrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    // a cache name per test, the meters stay registered in the global registry
+    cacheName = "test" + System.nanoTime();
+    cacheMetrics = new CacheMetrics(cacheName);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  void countsHitsAndMissesPerTenant() {
+    assertThat(cacheMetrics.get(101, "value")).isEqualTo("value");
+    assertThat(cacheMetrics.get(101, (String) null)).isNull();
+    cacheMetrics.hit(101);
+    cacheMetrics.miss(102);
+
+    assertThat(gets("101", "hit")).isEqualTo(2);
+    assertThat(gets("101", "miss")).isEqualTo(1);
+    assertThat(gets("102", "miss")).isEqualTo(1);
+  }
+
+  @Test
+  void recordsLoadsAndEvictions() {
+    cacheMetrics.loaded(101, System.nanoTime());
+    cacheMetrics.evictions(101, 3);
+    cacheMetrics.evictions(101, 0);
+
+    assertThat(registry.get(CacheMetrics.CACHE_LOADS_METRIC).tags(cacheTags("101")).timer().count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get(CacheMetrics.CACHE_EVICTIONS_METRIC)
+                .tags(cacheTags("101"))
+                .counter()
+                .count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void publishesEntriesAndEstimatedMemoryOfCurrentEntries() {
+    List<String> entries = new ArrayList<>(List.of("abcd", "ef"));
+    cacheMetrics.monitor(101, () -> entries);
+
+    assertThat(gauge(CacheMetrics.CACHE_ENTRIES_METRIC)).isEqualTo(2);
+    assertThat(gauge(CacheMetrics.CACHE_ESTIMATED_BYTES_METRIC)).isEqualTo(12);
+
+    entries.add("ghijkl");
+    assertThat(gauge(CacheMetrics.CACHE_ENTRIES_METRIC)).isEqualTo(3);
+    assertThat(gauge(CacheMetrics.CACHE_ESTIMATED_BYTES_METRIC)).isEqualTo(24);
+  }
+
+  @Test
+  void estimatesMemoryOfLargeCacheFromSample() {
+    List<String> entries = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      entries.add("0123456789");
+    }
+
+    assertThat(CacheMetrics.estimatedBytes(entries)).isEqualTo(20_000);
+    assertThat(CacheMetrics.estimatedBytes(null)).isZero();
+  }
+
+  private double gets(String tenant, String result) {
+    return registry
+        .get(CacheMetrics.CACHE_GETS_METRIC)
+        .tags(cacheTags(tenant))
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private double gauge(String name) {
+    return registry.get(name).tags(cacheTags("101")).gauge().value();
+  }
+
+  private String[] cacheTags(String tenant) {
+    return new String[] {"cache", cacheName, "tenant", tenant};
+  }
+}
@@ -0,0 +1,102 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.aiven.klaw.model.ApiResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class ClusterCallMetricsTest {
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  void recordsSuccessfulCall() throws Exception {
+    String result = ClusterCallMetrics.time("getAllTopics", "DEV1", () -> "topics");
+
+    assertThat(result).isEqualTo("topics");
+    assertThat(timer("getAllTopics", "DEV1", ClusterCallMetrics.Outcome.SUCCESS).count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void recordsUnsuccessfulApiResponseAsFailure() throws Exception {
+    ClusterCallMetrics.time(
+        "approveTopicRequests",
+        "DEV1",
+        () -> new ResponseEntity<>(ApiResponse.notOk("failed"), HttpStatus.OK));
+
+    assertThat(timer("approveTopicRequests", "DEV1", ClusterCallMetrics.Outcome.FAILURE).count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void recordsOutcomeOfErrorAndRethrows() {
+    assertThatThrownBy(
+            () ->
+                ClusterCallMetrics.time(
+                    "getAcls",
+                    "DEV1",
+                    () -> {
+                      throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+                    }))
+        .isInstanceOf(HttpServerErrorException.class);
+    assertThatThrownBy(
+            () ->
+                ClusterCallMetrics.time(
+                    "getAcls",
+                    "DEV1",
+                    () -> {
+                      throw new ResourceAccessException("timed out", new IOException());
+                    }))
+        .isInstanceOf(ResourceAccessException.class);
+
+    assertThat(timer("getAcls", "DEV1", ClusterCallMetrics.Outcome.SERVER_ERROR).count())
+        .isEqualTo(1);
+    assertThat(timer("getAcls", "DEV1", ClusterCallMetrics.Outcome.UNREACHABLE).count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void tagsCallsWithoutClusterAsNone() throws Exception {
+    ClusterCallMetrics.time("getClusterApiStatus", null, () -> "ONLINE");
+
+    assertThat(
+            timer(
+                    "getClusterApiStatus",
+                    ClusterCallMetrics.NO_CLUSTER,
+                    ClusterCallMetrics.Outcome.SUCCESS)
+                .count())
+        .isEqualTo(1);
+  }
+
+  private Timer timer(String operation, String cluster, ClusterCallMetrics.Outcome outcome) {
+    return registry
+        .get(ClusterCallMetrics.CLUSTER_API_CALLS_METRIC)
+        .tag("operation", operation)
+        .tag("cluster", cluster)
+        .tag("outcome", outcome.name())
+        .timer();
+  }
+}
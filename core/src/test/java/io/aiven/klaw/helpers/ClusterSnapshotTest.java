@@ -0,0 +1,52 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ClusterSnapshotTest {
+
+  @Test
+  void diffReportsAddedRemovedAndChangedEntries() {
+    ClusterSnapshot previous =
+        new ClusterSnapshot(Map.of("unchanged", "a1", "changed", "b1", "removed", "c1"));
+    ClusterSnapshot current =
+        new ClusterSnapshot(Map.of("unchanged", "a1", "changed", "b2", "added", "d1"));
+
+    ClusterSnapshot.Delta delta = current.diff(previous);
+
+    assertThat(delta.added()).containsExactly("added");
+    assertThat(delta.removed()).containsExactly("removed");
+    assertThat(delta.changed()).containsExactly("changed");
+    assertThat(delta.keys()).isEqualTo(Set.of("added", "removed", "changed"));
+    assertThat(current.diff(current).isEmpty()).isTrue();
+  }
+
+  @Test
+  void serializedSnapshotParsesToSameEntries() {
+    String aclKey = "host=*|principle=User:CN=host, OU=klaw|resourceName=topic1";
+    ClusterSnapshot snapshot =
+        new ClusterSnapshot(
+            Map.of(
+                "topic1",
+                ClusterSnapshot.contentHash("topic1", "3", "1"),
+                aclKey,
+                ClusterSnapshot.contentHash(aclKey)));
+
+    String serialized = snapshot.serialize();
+
+    assertThat(ClusterSnapshot.parse(serialized).getContentHashes())
+        .isEqualTo(snapshot.getContentHashes());
+    assertThat(ClusterSnapshot.parse("").size()).isZero();
+  }
+
+  @Test
+  void contentHashSeparatesValues() {
+    assertThat(ClusterSnapshot.contentHash("topic1", "3", "1")).hasSize(16);
+    assertThat(ClusterSnapshot.contentHash("topic1", "3", "1"))
+        .isEqualTo(ClusterSnapshot.contentHash("topic1", "3", "1"))
+        .isNotEqualTo(ClusterSnapshot.contentHash("topic1", "31", ""));
+  }
+}
@@ -0,0 +1,136 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.aiven.klaw.helpers.EnvReconciliationRunner.EnvResult;
+import io.aiven.klaw.helpers.EnvReconciliationRunner.EnvTask;
+import io.aiven.klaw.helpers.EnvReconciliationRunner.Outcome;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class EnvReconciliationRunnerTest {
+
+  private ThreadPoolTaskExecutor workers;
+
+  @AfterEach
+  void tearDown() {
+    workers.shutdown();
+  }
+
+  @Test
+  void envsAreReconciledInParallel() {
+    CountDownLatch allStarted = new CountDownLatch(3);
+    EnvReconciliationRunner runner =
+        new EnvReconciliationRunner(workers(3), Duration.ofSeconds(10));
+
+    // every env waits for the others to start, so this only completes when they run in parallel
+    List<EnvResult> results =
+        runner.run(
+            List.of(
+                task("1", allStarted, "topic1 ADDED"),
+                task("2", allStarted),
+                task("3", allStarted, "topic3 DELETED")));
+
+    assertThat(results)
+        .extracting(result -> result.task().envId(), EnvResult::outcome, EnvResult::lines)
+        .containsExactly(
+            tuple("1", Outcome.SUCCESS, List.of("topic1 ADDED")),
+            tuple("2", Outcome.SUCCESS, List.of()),
+            tuple("3", Outcome.SUCCESS, List.of("topic3 DELETED")));
+  }
+
+  @Test
+  void slowAndFailingEnvsDoNotHoldBackOtherEnvs() {
+    EnvReconciliationRunner runner =
+        new EnvReconciliationRunner(workers(2), Duration.ofMillis(200));
+
+    long start = System.nanoTime();
+    List<EnvResult> results =
+        runner.run(
+            List.of(
+                new EnvTask(
+                    101,
+                    "1",
+                    "topics",
+                    () -> {
+                      Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                      return List.of();
+                    }),
+                new EnvTask(
+                    101,
+                    "2",
+                    "topics",
+                    () -> {
+                      throw new IllegalStateException("cluster unreachable");
+                    }),
+                new EnvTask(101, "3", "topics", () -> List.of("topic3 ADDED"))));
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+    assertThat(results)
+        .extracting(result -> result.task().envId(), EnvResult::outcome, EnvResult::lines)
+        .containsExactly(
+            tuple("1", Outcome.TIMED_OUT, List.of()),
+            tuple("2", Outcome.FAILED, List.of()),
+            tuple("3", Outcome.SUCCESS, List.of("topic3 ADDED")));
+    assertThat(results.get(0).durationMillis()).isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  void envsOfDifferentTenantsAreTimedSeparately() throws InterruptedException {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      EnvReconciliationRunner runner =
+          new EnvReconciliationRunner(workers(2), Duration.ofSeconds(10));
+
+      // both tenants have an env with id 1
+      runner.run(
+          List.of(
+              new EnvTask(101, "1", "schemas", List::of),
+              new EnvTask(102, "1", "schemas", List::of)));
+      // the timers are recorded by the workers just after the results are handed back
+      workers.getThreadPoolExecutor().shutdown();
+      assertThat(workers.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(
+              registry
+                  .find(EnvReconciliationRunner.RECONCILIATION_METRIC)
+                  .tags("entity", "schemas", "env", "1")
+                  .timers())
+          .extracting(timer -> timer.getId().getTag("tenant"), Timer::count)
+          .containsExactlyInAnyOrder(tuple("101", 1L), tuple("102", 1L));
+    } finally {
+      Metrics.removeRegistry(registry);
+    }
+  }
+
+  private ThreadPoolTaskExecutor workers(int poolSize) {
+    workers = new ThreadPoolTaskExecutor();
+    workers.setCorePoolSize(poolSize);
+    workers.initialize();
+    return workers;
+  }
+
+  private EnvTask task(String envId, CountDownLatch allStarted, String... lines) {
+    return new EnvTask(
+        101,
+        envId,
+        "topics",
+        () -> {
+          allStarted.countDown();
+          if (!allStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("envs were not reconciled in parallel");
+          }
+          return List.of(lines);
+        });
+  }
+}
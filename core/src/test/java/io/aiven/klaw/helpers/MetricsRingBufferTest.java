@@ -0,0 +1,36 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsRingBufferTest {
+
+  @Test
+  void latestReturnsNewestSamplesOldestFirst() {
+    MetricsRingBuffer buffer = new MetricsRingBuffer(3);
+    for (int i = 1; i <= 5; i++) {
+      buffer.add(i * 10L, i);
+    }
+
+    assertThat(buffer.size()).isEqualTo(3);
+    assertThat(buffer.latest(10))
+        .containsExactly(
+            new MetricsRingBuffer.Sample(30, 3),
+            new MetricsRingBuffer.Sample(40, 4),
+            new MetricsRingBuffer.Sample(50, 5));
+    assertThat(buffer.latest(1)).containsExactly(new MetricsRingBuffer.Sample(50, 5));
+  }
+
+  @Test
+  void lastBetweenReturnsLastSampleOfWindow() {
+    MetricsRingBuffer buffer = new MetricsRingBuffer(10);
+    buffer.add(100, 1);
+    buffer.add(150, 2);
+    buffer.add(200, 3);
+
+    assertThat(buffer.lastBetween(100, 200)).isEqualTo(new MetricsRingBuffer.Sample(150, 2));
+    assertThat(buffer.lastBetween(200, 300)).isEqualTo(new MetricsRingBuffer.Sample(200, 3));
+    assertThat(buffer.lastBetween(0, 100)).isNull();
+  }
+}
@@ -0,0 +1,86 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PendingRequestCountsTest {
+
+  private static final List<String> ENVS = List.of("1", "2");
+
+  @Test
+  void countExcludesOwnRequestsAndOtherEnvs() {
+    PendingRequestCounts counts = new PendingRequestCounts();
+    counts.add(RequestKind.SCHEMA, 101, "1", "alice", 2);
+    counts.add(RequestKind.SCHEMA, 101, "2", "bob", 1);
+    counts.add(RequestKind.SCHEMA, 101, "3", "bob", 4);
+    counts.add(RequestKind.SCHEMA, 102, "1", "bob", 8);
+
+    assertThat(counts.count(RequestKind.SCHEMA, 101, ENVS, "carol")).isEqualTo(3);
+    assertThat(counts.count(RequestKind.SCHEMA, 101, ENVS, "alice")).isEqualTo(1);
+    assertThat(counts.count(RequestKind.SCHEMA, null, ENVS, "alice")).isEqualTo(9);
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "alice")).isZero();
+  }
+
+  @Test
+  void claimRequestsAreCountedForTheApprovingTeam() {
+    PendingRequestCounts counts = new PendingRequestCounts();
+    counts.addTopicRequest(topicRequest(RequestOperationType.CREATE, 101, null), 1);
+    counts.addTopicRequest(topicRequest(RequestOperationType.CLAIM, 101, "102"), 1);
+    counts.addTopicRequest(topicRequest(RequestOperationType.CLAIM, 101, null), 1);
+
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "bob")).isEqualTo(1);
+    assertThat(counts.count(RequestKind.TOPIC, 102, ENVS, "bob")).isEqualTo(1);
+    assertThat(counts.count(RequestKind.TOPIC, null, ENVS, "bob")).isEqualTo(3);
+  }
+
+  @Test
+  void aclRequestsAreCountedForOwningAndRequestingTeam() {
+    PendingRequestCounts counts = new PendingRequestCounts();
+    counts.addAclRequest(aclRequest(RequestOperationType.CREATE), 1);
+    counts.addAclRequest(aclRequest(RequestOperationType.DELETE), 1);
+
+    assertThat(counts.count(RequestKind.ACL, 101, ENVS, "bob")).isEqualTo(1);
+    assertThat(counts.count(RequestKind.ACL, 102, ENVS, "bob")).isEqualTo(1);
+    assertThat(counts.count(RequestKind.ACL_REQUESTING_TEAM, 102, ENVS, "bob")).isEqualTo(2);
+  }
+
+  @Test
+  void countsDoNotBecomeNegative() {
+    PendingRequestCounts counts = new PendingRequestCounts();
+    counts.add(RequestKind.CONNECTOR, 101, "1", "alice", 1);
+    counts.add(RequestKind.CONNECTOR, 101, "1", "alice", -1);
+    counts.add(RequestKind.CONNECTOR, 101, "1", "alice", -1);
+
+    assertThat(counts.count(RequestKind.CONNECTOR, 101, ENVS, "bob")).isZero();
+    counts.add(RequestKind.CONNECTOR, 101, "1", "alice", 1);
+    assertThat(counts.count(RequestKind.CONNECTOR, 101, ENVS, "bob")).isEqualTo(1);
+  }
+
+  private static TopicRequest topicRequest(
+      RequestOperationType requestOperationType, int teamId, String approvingTeamId) {
+    TopicRequest topicRequest = new TopicRequest();
+    topicRequest.setRequestOperationType(requestOperationType.value);
+    topicRequest.setTeamId(teamId);
+    topicRequest.setApprovingTeamId(approvingTeamId);
+    topicRequest.setEnvironment("1");
+    topicRequest.setRequestor("alice");
+    return topicRequest;
+  }
+
+  // acl of team 102 on a topic owned by team 101
+  private static AclRequests aclRequest(RequestOperationType requestOperationType) {
+    AclRequests aclRequest = new AclRequests();
+    aclRequest.setRequestOperationType(requestOperationType.value);
+    aclRequest.setTeamId(101);
+    aclRequest.setRequestingteam(102);
+    aclRequest.setEnvironment("1");
+    aclRequest.setRequestor("alice");
+    return aclRequest;
+  }
+}
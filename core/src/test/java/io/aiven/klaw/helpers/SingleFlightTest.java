@@ -0,0 +1,146 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private SingleFlight<String, String> singleFlight;
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    singleFlight = new SingleFlight<>("core", "test");
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  void concurrentCallsForSameKeyShareOneCall() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch callReleased = new CountDownLatch(1);
+
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(
+            () -> blockingCall("cluster1", calls, callStarted, callReleased));
+    assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    // the call of the first caller is in flight until released, the second joins it
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(
+            () -> blockingCall("cluster1", calls, callStarted, callReleased));
+    awaitCoalescedCalls(1);
+    callReleased.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result1");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result1");
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(singleFlight.getCoalescedCount()).isEqualTo(1);
+    assertThat(
+            registry
+                .get(SingleFlight.COALESCED_CALLS_METRIC)
+                .tags("module", "core", "operation", "test")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void sequentialCallsAreNotCached() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    singleFlight.execute("cluster1", () -> "result" + calls.incrementAndGet());
+    String result = singleFlight.execute("cluster1", () -> "result" + calls.incrementAndGet());
+
+    assertThat(result).isEqualTo("result2");
+    assertThat(singleFlight.getCoalescedCount()).isZero();
+  }
+
+  @Test
+  void differentKeysAreNotCoalesced() throws Exception {
+    assertThat(singleFlight.execute("cluster1", () -> "one")).isEqualTo("one");
+    assertThat(singleFlight.execute("cluster2", () -> "two")).isEqualTo("two");
+    assertThat(singleFlight.getCoalescedCount()).isZero();
+  }
+
+  @Test
+  void waitingCallersReceiveTheException() throws Exception {
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch callReleased = new CountDownLatch(1);
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return singleFlight.execute(
+                    "cluster1",
+                    () -> {
+                      callStarted.countDown();
+                      callReleased.await(5, TimeUnit.SECONDS);
+                      throw new IllegalStateException("cluster unavailable");
+                    });
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return singleFlight.execute("cluster1", () -> "not called");
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    awaitCoalescedCalls(1);
+    callReleased.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasRootCauseMessage("cluster unavailable");
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasRootCauseMessage("cluster unavailable");
+  }
+
+  // the leader is blocked on its latch meanwhile, so the callers cannot miss the call in flight
+  private void awaitCoalescedCalls(long count) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(singleFlight.getCoalescedCount()).isEqualTo(count);
+  }
+
+  private String blockingCall(
+      String key, AtomicInteger calls, CountDownLatch callStarted, CountDownLatch callReleased) {
+    try {
+      return singleFlight.execute(
+          key,
+          () -> {
+            callStarted.countDown();
+            callReleased.await(5, TimeUnit.SECONDS);
+            return "result" + calls.incrementAndGet();
+          });
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
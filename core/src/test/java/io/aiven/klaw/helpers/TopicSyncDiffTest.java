@@ -0,0 +1,123 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.TopicSyncDiff.Classification;
+import io.aiven.klaw.model.response.TopicConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class TopicSyncDiffTest {
+
+  private static final String ENV_ID = "1";
+  private static final Map<Integer, String> TEAMS = Map.of(1, "Octopus", 2, "Seahorses");
+  private static final Function<Topic, String> TEAM_NAME_OF_TOPIC =
+      topic -> TEAMS.getOrDefault(topic.getTeamId(), "UNKNOWN-TEAM");
+  private static final Set<String> TENANT_TEAMS = Set.of("Octopus");
+
+  @Test
+  void diffClassifiesEveryTopic() {
+    List<TopicConfig> clusterTopics =
+        List.of(
+            clusterTopic("new-topic", "1", "1"),
+            clusterTopic("synced-topic", "2", "3"),
+            clusterTopic("resized-topic", "6", "3"),
+            clusterTopic("other-team-topic", "1", "1"));
+    List<Topic> sotTopics =
+        List.of(
+            sotTopic("synced-topic", ENV_ID, 2, "3", 1),
+            sotTopic("resized-topic", ENV_ID, 3, "3", 1),
+            sotTopic("other-team-topic", ENV_ID, 1, "1", 2),
+            sotTopic("deleted-topic", ENV_ID, 1, "1", 1),
+            sotTopic("deleted-other-team-topic", ENV_ID, 1, "1", 2));
+
+    TopicSyncDiff topicSyncDiff =
+        TopicSyncDiff.diff(clusterTopics, sotTopics, TEAM_NAME_OF_TOPIC, TENANT_TEAMS);
+
+    assertThat(topicSyncDiff.getClusterTopics())
+        .extracting(TopicSyncDiff.ClusterTopic::classification)
+        .containsExactly(
+            Classification.NEW,
+            Classification.IN_SYNC,
+            Classification.PARTITION_REPLICA_MISMATCH,
+            Classification.TEAM_MISMATCH);
+    assertThat(topicSyncDiff.getDeletedTopics())
+        .extracting(Topic::getTopicname)
+        .containsExactly("deleted-topic");
+    assertThat(topicSyncDiff.getCount(Classification.NEW)).isEqualTo(1);
+    assertThat(topicSyncDiff.getCount(Classification.DELETED)).isEqualTo(1);
+  }
+
+  @Test
+  void topicsWithoutTeamAreNewAndTopicsOfUnknownTeamsAreTeamMismatch() {
+    Topic topicWithoutTeam = sotTopic("no-team-topic", ENV_ID, 1, "1", 1);
+    topicWithoutTeam.setTeamId(null);
+    List<Topic> sotTopics =
+        List.of(
+            topicWithoutTeam,
+            sotTopic("deleted-team-topic", ENV_ID, 1, "1", 3),
+            sotTopic("deleted-team-topic-not-on-cluster", ENV_ID, 1, "1", 3));
+
+    TopicSyncDiff topicSyncDiff =
+        TopicSyncDiff.diff(
+            List.of(
+                clusterTopic("no-team-topic", "1", "1"),
+                clusterTopic("deleted-team-topic", "1", "1")),
+            sotTopics,
+            TEAM_NAME_OF_TOPIC,
+            TENANT_TEAMS);
+
+    assertThat(topicSyncDiff.getClusterTopics())
+        .extracting(TopicSyncDiff.ClusterTopic::classification)
+        .containsExactly(Classification.NEW, Classification.TEAM_MISMATCH);
+    assertThat(topicSyncDiff.getDeletedTopics()).isEmpty();
+  }
+
+  @Test
+  void diffClassifies100kTopics() {
+    int numberOfTopics = 100_000;
+    List<TopicConfig> clusterTopics = new ArrayList<>(numberOfTopics);
+    List<Topic> sotTopics = new ArrayList<>(numberOfTopics);
+    for (int i = 0; i < numberOfTopics; i++) {
+      // every 10th topic only exists on the cluster and every 10th only in Klaw
+      if (i % 10 != 0) {
+        clusterTopics.add(clusterTopic("topic-" + i, "3", "2"));
+      }
+      if (i % 10 != 5) {
+        sotTopics.add(sotTopic("topic-" + i, ENV_ID, i % 7 == 0 ? 6 : 3, "2", 1 + i % 2));
+      }
+    }
+
+    TopicSyncDiff topicSyncDiff =
+        TopicSyncDiff.diff(clusterTopics, sotTopics, TEAM_NAME_OF_TOPIC, TENANT_TEAMS);
+
+    assertThat(topicSyncDiff.getClusterTopics()).hasSize(clusterTopics.size());
+    assertThat(topicSyncDiff.getCount(Classification.NEW)).isEqualTo(numberOfTopics / 10);
+    // the topics only in Klaw have even numbers, owned by the team of the tenant
+    assertThat(topicSyncDiff.getCount(Classification.DELETED)).isEqualTo(numberOfTopics / 10);
+  }
+
+  private TopicConfig clusterTopic(String topicName, String partitions, String replicas) {
+    TopicConfig topicConfig = new TopicConfig();
+    topicConfig.setTopicName(topicName);
+    topicConfig.setPartitions(partitions);
+    topicConfig.setReplicationFactor(replicas);
+    return topicConfig;
+  }
+
+  private Topic sotTopic(
+      String topicName, String env, int partitions, String replicas, int teamId) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    topic.setEnvironment(env);
+    topic.setNoOfPartitions(partitions);
+    topic.setNoOfReplicas(replicas);
+    topic.setTeamId(teamId);
+    return topic;
+  }
+}
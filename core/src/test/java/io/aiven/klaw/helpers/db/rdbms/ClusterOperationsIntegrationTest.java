@@ -0,0 +1,226 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.KwClusterOperation;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
+import io.aiven.klaw.repository.KwClusterOperationRepo;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+public class ClusterOperationsIntegrationTest {
+
+  private static final Instant NOW = Instant.parse("2026-10-19T10:00:00Z");
+
+  @Autowired TestEntityManager entityManager;
+  @Autowired KwClusterOperationRepo kwClusterOperationRepo;
+
+  private InsertDataJdbc insertDataJdbc;
+  private SelectDataJdbc selectDataJdbc;
+  private UpdateDataJdbc updateDataJdbc;
+
+  @BeforeEach
+  public void setUp() {
+    insertDataJdbc = new InsertDataJdbc();
+    selectDataJdbc = new SelectDataJdbc();
+    updateDataJdbc = new UpdateDataJdbc();
+    ReflectionTestUtils.setField(insertDataJdbc, "kwClusterOperationRepo", kwClusterOperationRepo);
+    ReflectionTestUtils.setField(selectDataJdbc, "kwClusterOperationRepo", kwClusterOperationRepo);
+    ReflectionTestUtils.setField(updateDataJdbc, "kwClusterOperationRepo", kwClusterOperationRepo);
+  }
+
+  @Test
+  public void insertClusterOperation_CollapsesActiveDuplicates() {
+    KwClusterOperation first = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:1"));
+    KwClusterOperation duplicate = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:1"));
+    KwClusterOperation other = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:2"));
+
+    assertThat(duplicate.getId()).isEqualTo(first.getId());
+    assertThat(other.getId()).isNotEqualTo(first.getId());
+    assertThat(kwClusterOperationRepo.count()).isEqualTo(2);
+  }
+
+  @Test
+  public void insertClusterOperation_AddsOperationAgainOnceCompleted() {
+    KwClusterOperation first = insertDataJdbc.insertClusterOperation(operation("ACL:101:1"));
+    updateDataJdbc.claimClusterOperation(first.getId(), Timestamp.from(NOW));
+    // the worker updates its own copy of the operation
+    entityManager.clear();
+    first.setAttempts(1);
+    first.setStatus(ClusterOperationStatus.FAILED.value);
+    assertThat(updateDataJdbc.updateClaimedClusterOperation(first)).isTrue();
+    entityManager.clear();
+
+    KwClusterOperation second = insertDataJdbc.insertClusterOperation(operation("ACL:101:1"));
+
+    assertThat(second.getId()).isNotEqualTo(first.getId());
+  }
+
+  @Test
+  // like the approvals, outside of a transaction, which the conflicting insert rolls back
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void insertClusterOperation_ReturnsOperationAddedConcurrently() {
+    KwClusterOperation concurrent = insertDataJdbc.insertClusterOperation(operation("ACL:101:9"));
+    // the other approval adds its operation after this one looked for an active operation
+    KwClusterOperationRepo racingRepo =
+        Mockito.mock(
+            KwClusterOperationRepo.class, AdditionalAnswers.delegatesTo(kwClusterOperationRepo));
+    Mockito.doReturn(Optional.empty())
+        .doAnswer(invocation -> kwClusterOperationRepo.findByActiveKey("ACL:101:9"))
+        .when(racingRepo)
+        .findByActiveKey("ACL:101:9");
+    ReflectionTestUtils.setField(insertDataJdbc, "kwClusterOperationRepo", racingRepo);
+
+    try {
+      KwClusterOperation duplicate = insertDataJdbc.insertClusterOperation(operation("ACL:101:9"));
+
+      assertThat(duplicate.getId()).isEqualTo(concurrent.getId());
+      assertThat(kwClusterOperationRepo.count()).isEqualTo(1);
+    } finally {
+      kwClusterOperationRepo.deleteAll();
+    }
+  }
+
+  @Test
+  public void updateClaimedClusterOperation_OnlyUpdatesTheCurrentClaim() {
+    KwClusterOperation operation = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:1"));
+    updateDataJdbc.claimClusterOperation(operation.getId(), Timestamp.from(NOW));
+    // released after the lease and claimed again by another node
+    updateDataJdbc.releaseStaleClusterOperations(
+        Timestamp.from(NOW), Timestamp.from(NOW.plusSeconds(1)));
+    updateDataJdbc.claimClusterOperation(operation.getId(), Timestamp.from(NOW));
+    KwClusterOperation firstAttempt = operation("TOPIC:101:1");
+    firstAttempt.setId(operation.getId());
+    firstAttempt.setAttempts(1);
+    firstAttempt.setStatus(ClusterOperationStatus.COMPLETED.value);
+
+    boolean updated = updateDataJdbc.updateClaimedClusterOperation(firstAttempt);
+    entityManager.clear();
+
+    assertThat(updated).isFalse();
+    KwClusterOperation stored = kwClusterOperationRepo.findById(operation.getId()).orElseThrow();
+    assertThat(stored.getStatus()).isEqualTo(ClusterOperationStatus.RUNNING.value);
+    assertThat(stored.getAttempts()).isEqualTo(2);
+    assertThat(stored.getActiveKey()).isEqualTo("TOPIC:101:1");
+  }
+
+  @Test
+  public void selectDueClusterOperations_OnlyReturnsDuePendingOperations() {
+    KwClusterOperation due = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:1"));
+    KwClusterOperation later = operation("TOPIC:101:2");
+    later.setNextAttemptTime(Timestamp.from(NOW.plusSeconds(60)));
+    insertDataJdbc.insertClusterOperation(later);
+    KwClusterOperation running = operation("TOPIC:101:3");
+    running.setStatus(ClusterOperationStatus.RUNNING.value);
+    insertDataJdbc.insertClusterOperation(running);
+
+    List<KwClusterOperation> dueOperations =
+        selectDataJdbc.selectDueClusterOperations(Timestamp.from(NOW), 10);
+
+    assertThat(dueOperations).extracting(KwClusterOperation::getId).containsExactly(due.getId());
+  }
+
+  @Test
+  public void claimClusterOperation_OnlyClaimsOnce() {
+    KwClusterOperation operation = insertDataJdbc.insertClusterOperation(operation("SCHEMA:101:1"));
+
+    boolean firstClaim =
+        updateDataJdbc.claimClusterOperation(operation.getId(), Timestamp.from(NOW));
+    boolean secondClaim =
+        updateDataJdbc.claimClusterOperation(operation.getId(), Timestamp.from(NOW));
+    entityManager.clear();
+
+    assertThat(firstClaim).isTrue();
+    assertThat(secondClaim).isFalse();
+    KwClusterOperation claimed = kwClusterOperationRepo.findById(operation.getId()).orElseThrow();
+    assertThat(claimed.getStatus()).isEqualTo(ClusterOperationStatus.RUNNING.value);
+    assertThat(claimed.getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  public void renewClusterOperationClaim_OnlyRenewsTheCurrentClaim() {
+    KwClusterOperation operation = insertDataJdbc.insertClusterOperation(operation("TOPIC:101:1"));
+    updateDataJdbc.claimClusterOperation(operation.getId(), Timestamp.from(NOW.minusSeconds(600)));
+
+    boolean renewedByOtherAttempt =
+        updateDataJdbc.renewClusterOperationClaim(operation.getId(), 2, Timestamp.from(NOW));
+    boolean renewed =
+        updateDataJdbc.renewClusterOperationClaim(operation.getId(), 1, Timestamp.from(NOW));
+    int released =
+        updateDataJdbc.releaseStaleClusterOperations(
+            Timestamp.from(NOW), Timestamp.from(NOW.minusSeconds(300)));
+    entityManager.clear();
+
+    assertThat(renewedByOtherAttempt).isFalse();
+    assertThat(renewed).isTrue();
+    assertThat(released).isZero();
+    assertThat(kwClusterOperationRepo.findById(operation.getId()).orElseThrow().getStatus())
+        .isEqualTo(ClusterOperationStatus.RUNNING.value);
+  }
+
+  @Test
+  public void releaseStaleClusterOperations_ReleasesOperationsBeyondTheirLease() {
+    KwClusterOperation stale = operation("TOPIC:101:1");
+    stale.setStatus(ClusterOperationStatus.RUNNING.value);
+    stale.setUpdatedTime(Timestamp.from(NOW.minusSeconds(600)));
+    stale = insertDataJdbc.insertClusterOperation(stale);
+    KwClusterOperation active = operation("TOPIC:101:2");
+    active.setStatus(ClusterOperationStatus.RUNNING.value);
+    active = insertDataJdbc.insertClusterOperation(active);
+
+    int released =
+        updateDataJdbc.releaseStaleClusterOperations(
+            Timestamp.from(NOW), Timestamp.from(NOW.minusSeconds(300)));
+    entityManager.clear();
+
+    assertThat(released).isEqualTo(1);
+    assertThat(kwClusterOperationRepo.findById(stale.getId()).orElseThrow().getStatus())
+        .isEqualTo(ClusterOperationStatus.PENDING.value);
+    assertThat(kwClusterOperationRepo.findById(active.getId()).orElseThrow().getStatus())
+        .isEqualTo(ClusterOperationStatus.RUNNING.value);
+  }
+
+  @Test
+  public void selectClusterOperations_ReturnsAllOperationsOfTheRequests() {
+    insertDataJdbc.insertClusterOperation(operation("ACL:101:1"));
+    insertDataJdbc.insertClusterOperation(operation("ACL:101:2"));
+    insertDataJdbc.insertClusterOperation(operation("ACL:102:1"));
+
+    assertThat(selectDataJdbc.selectClusterOperations(List.of("ACL:101:1", "ACL:102:1")))
+        .extracting(KwClusterOperation::getOperationKey)
+        .containsExactlyInAnyOrder("ACL:101:1", "ACL:102:1");
+  }
+
+  private static KwClusterOperation operation(String operationKey) {
+    String[] keyParts = operationKey.split(":");
+    KwClusterOperation kwClusterOperation = new KwClusterOperation();
+    kwClusterOperation.setRequestType(keyParts[0]);
+    kwClusterOperation.setTenantId(Integer.parseInt(keyParts[1]));
+    kwClusterOperation.setRequestId(Integer.parseInt(keyParts[2]));
+    kwClusterOperation.setEnv("1");
+    kwClusterOperation.setOperationKey(operationKey);
+    kwClusterOperation.setApprover("approver");
+    kwClusterOperation.setStatus(ClusterOperationStatus.PENDING.value);
+    kwClusterOperation.setAttempts(0);
+    kwClusterOperation.setNextAttemptTime(Timestamp.from(NOW));
+    kwClusterOperation.setCreatedTime(Timestamp.from(NOW));
+    kwClusterOperation.setUpdatedTime(Timestamp.from(NOW));
+    return kwClusterOperation;
+  }
+}
@@ -0,0 +1,144 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.helpers.PendingRequestCounts;
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class HandleDbRequestsJdbcTest {
+
+  private static final int TENANT_ID = 101;
+  private static final List<String> ENVS = List.of("1");
+
+  @Mock private SelectDataJdbc jdbcSelectHelper;
+  @Mock private InsertDataJdbc jdbcInsertHelper;
+  @Mock private UpdateDataJdbc jdbcUpdateHelper;
+  @Mock private DeleteDataJdbc jdbcDeleteHelper;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
+  @InjectMocks private HandleDbRequestsJdbc handleDbRequestsJdbc;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.when(jdbcSelectHelper.selectPendingRequestCounts(TENANT_ID))
+        .thenReturn(new PendingRequestCounts());
+  }
+
+  @Test
+  void pendingRequestCountsFollowCreateAndApprove() {
+    PendingRequestCounts counts = handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID);
+    TopicRequest topicRequest = topicRequest();
+
+    handleDbRequestsJdbc.requestForTopic(topicRequest);
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "approver")).isEqualTo(1);
+
+    Mockito.when(jdbcUpdateHelper.updateTopicRequestStatus(topicRequest, "approver"))
+        .thenAnswer(
+            invocation -> {
+              topicRequest.setRequestStatus(RequestStatus.APPROVED.value);
+              return ApiResultStatus.SUCCESS.value;
+            });
+    handleDbRequestsJdbc.updateTopicRequestStatus(topicRequest, "approver");
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "approver")).isZero();
+
+    // approving again does not count the request twice
+    handleDbRequestsJdbc.updateTopicRequestStatus(topicRequest, "approver");
+    handleDbRequestsJdbc.requestForTopic(topicRequest);
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "approver")).isZero();
+  }
+
+  @Test
+  void pendingRequestCountsFollowDelete() {
+    PendingRequestCounts counts = handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID);
+    SchemaRequest schemaRequest = new SchemaRequest();
+    schemaRequest.setTenantId(TENANT_ID);
+    schemaRequest.setTeamId(101);
+    schemaRequest.setEnvironment("1");
+    schemaRequest.setRequestor("requestor");
+    schemaRequest.setRequestStatus(RequestStatus.CREATED.value);
+    handleDbRequestsJdbc.requestForSchema(schemaRequest);
+    Mockito.when(jdbcSelectHelper.selectSchemaRequest(1, TENANT_ID)).thenReturn(schemaRequest);
+    Mockito.when(jdbcDeleteHelper.deleteSchemaRequest(1, "other", TENANT_ID))
+        .thenReturn(ApiResultStatus.FAILURE.value);
+    Mockito.when(jdbcDeleteHelper.deleteSchemaRequest(1, "requestor", TENANT_ID))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+
+    handleDbRequestsJdbc.deleteSchemaRequest(1, "other", TENANT_ID);
+    assertThat(counts.count(RequestKind.SCHEMA, 101, ENVS, "approver")).isEqualTo(1);
+
+    handleDbRequestsJdbc.deleteSchemaRequest(1, "requestor", TENANT_ID);
+    assertThat(counts.count(RequestKind.SCHEMA, 101, ENVS, "approver")).isZero();
+  }
+
+  @Test
+  void requestStatusChangesArePublished() {
+    handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID);
+    TopicRequest topicRequest = topicRequest();
+    handleDbRequestsJdbc.requestForTopic(topicRequest);
+    Mockito.when(jdbcUpdateHelper.declineTopicRequest(topicRequest, "approver"))
+        .thenAnswer(
+            invocation -> {
+              topicRequest.setRequestStatus(RequestStatus.DECLINED.value);
+              return ApiResultStatus.SUCCESS.value;
+            });
+    handleDbRequestsJdbc.declineTopicRequest(topicRequest, "approver");
+
+    ArgumentCaptor<RequestStatusEvent> events = ArgumentCaptor.forClass(RequestStatusEvent.class);
+    Mockito.verify(applicationEventPublisher, Mockito.times(2)).publishEvent(events.capture());
+    assertThat(events.getAllValues())
+        .extracting(RequestStatusEvent::getRequestStatus, RequestStatusEvent::getPendingDelta)
+        .containsExactly(
+            tuple(RequestStatus.CREATED.value, 1), tuple(RequestStatus.DECLINED.value, -1));
+  }
+
+  @Test
+  void applyRequestStatusEventCountsRemoteRequestsWithoutPublishing() {
+    PendingRequestCounts counts = handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID);
+
+    handleDbRequestsJdbc.applyRequestStatusEvent(
+        RequestStatusEvent.of(topicRequest(), RequestStatus.CREATED.value, 1));
+
+    assertThat(counts.count(RequestKind.TOPIC, 101, ENVS, "approver")).isEqualTo(1);
+    Mockito.verifyNoInteractions(applicationEventPublisher);
+  }
+
+  @Test
+  void reconcilePendingRequestCountsReloadsLoadedTenants() {
+    handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID);
+    PendingRequestCounts reloadedCounts = new PendingRequestCounts();
+    Mockito.when(jdbcSelectHelper.selectPendingRequestCounts(TENANT_ID)).thenReturn(reloadedCounts);
+
+    handleDbRequestsJdbc.reconcilePendingRequestCounts();
+
+    assertThat(handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID)).isSameAs(reloadedCounts);
+  }
+
+  private static TopicRequest topicRequest() {
+    TopicRequest topicRequest = new TopicRequest();
+    topicRequest.setTenantId(TENANT_ID);
+    topicRequest.setTeamId(101);
+    topicRequest.setEnvironment("1");
+    topicRequest.setRequestor("requestor");
+    topicRequest.setRequestOperationType(RequestOperationType.CREATE.value);
+    topicRequest.setRequestStatus(RequestStatus.CREATED.value);
+    return topicRequest;
+  }
+}
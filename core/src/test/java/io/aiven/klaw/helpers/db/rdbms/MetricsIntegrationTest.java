@@ -0,0 +1,90 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.KwMetrics;
+import io.aiven.klaw.repository.KwMetricsRepo;
+import io.aiven.klaw.service.CommonUtilsService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+public class MetricsIntegrationTest {
+
+  private static final String METRICS_TYPE = "kafka.server:type=BrokerTopicMetrics";
+  private static final String METRICS_NAME = "name=MessagesInPerSec";
+
+  @Autowired TestEntityManager entityManager;
+  @Autowired KwMetricsRepo kwMetricsRepo;
+
+  private SelectDataJdbc selectDataJdbc;
+
+  @BeforeEach
+  public void setUp() {
+    selectDataJdbc = new SelectDataJdbc();
+    ReflectionTestUtils.setField(selectDataJdbc, "kwMetricsRepo", kwMetricsRepo);
+  }
+
+  @Test
+  public void selectAllMetrics_OnlyReturnsRequestedRollup() {
+    persistMetrics(1, "1000", "10", "1m");
+    persistMetrics(2, "2000", "20", "1m");
+    persistMetrics(3, "0", "20", "1h");
+
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metrics =
+        selectDataJdbc.selectAllMetrics(METRICS_TYPE, METRICS_NAME, "1", "1m", 30);
+
+    assertThat(metrics)
+        .extracting(CommonUtilsService.ChartsOverviewItem::getxValue)
+        .containsExactly("2000", "1000");
+  }
+
+  @Test
+  public void selectAllMetrics_ReturnsLatestRowsUpToLimitWithoutTruncatingCounters() {
+    persistMetrics(1, "0", "10", "1h");
+    persistMetrics(2, "3600000", "5000000000", "1h");
+    persistMetrics(3, "7200000", "6000000000", "1h");
+
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> metrics =
+        selectDataJdbc.selectAllMetrics(METRICS_TYPE, METRICS_NAME, "1", "1h", 2);
+
+    assertThat(metrics)
+        .extracting(CommonUtilsService.ChartsOverviewItem::getyValue)
+        .containsExactly(6000000000L, 5000000000L);
+  }
+
+  @Test
+  public void deleteByRollupAndMetricsTimeBefore() {
+    persistMetrics(1, "1000", "10", "1m");
+    persistMetrics(2, "2000", "20", "1m");
+    persistMetrics(3, "1000", "20", "1h");
+
+    int deleted = kwMetricsRepo.deleteByRollupAndMetricsTimeBefore("1m", 1500);
+
+    assertThat(deleted).isEqualTo(1);
+    assertThat(kwMetricsRepo.findAll())
+        .extracting(KwMetrics::getMetricsId)
+        .containsExactlyInAnyOrder(2, 3);
+  }
+
+  private void persistMetrics(int id, String time, String value, String rollup) {
+    entityManager.persistAndFlush(
+        KwMetrics.builder()
+            .metricsId(id)
+            .metricsTime(time)
+            .metricsType(METRICS_TYPE)
+            .metricsName(METRICS_NAME)
+            .metricsAttributes(value)
+            .env("1")
+            .rollup(rollup)
+            .build());
+  }
+}
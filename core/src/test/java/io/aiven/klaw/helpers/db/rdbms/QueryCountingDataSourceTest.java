@@ -0,0 +1,108 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.QueryCounter;
+import io.aiven.klaw.helpers.RequestPhases;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryCountingDataSourceTest {
+
+  private QueryCountingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    JdbcDataSource h2DataSource = new JdbcDataSource();
+    h2DataSource.setURL("jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1");
+    dataSource = new QueryCountingDataSource(h2DataSource);
+    try (Connection connection = h2DataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("create table if not exists topics (name varchar(255))");
+      statement.execute("delete from topics");
+    }
+  }
+
+  @Test
+  void countsEveryStatementExecutedInScope() throws Exception {
+    try (QueryCounter.Scope scope = QueryCounter.open();
+        Connection connection = dataSource.getConnection()) {
+      try (PreparedStatement insert =
+          connection.prepareStatement("insert into topics (name) values (?)")) {
+        for (int i = 0; i < 3; i++) {
+          insert.setString(1, "topic" + i);
+          insert.executeUpdate();
+        }
+      }
+      try (Statement select = connection.createStatement();
+          ResultSet resultSet = select.executeQuery("select count(*) from topics")) {
+        resultSet.next();
+        assertThat(resultSet.getInt(1)).isEqualTo(3);
+      }
+
+      assertThat(scope.getQueries()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  void countsBatchOnce() throws Exception {
+    try (QueryCounter.Scope scope = QueryCounter.open();
+        Connection connection = dataSource.getConnection();
+        PreparedStatement insert =
+            connection.prepareStatement("insert into topics (name) values (?)")) {
+      for (int i = 0; i < 3; i++) {
+        insert.setString(1, "topic" + i);
+        insert.addBatch();
+      }
+      insert.executeBatch();
+
+      assertThat(scope.getQueries()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void countsStatementsInEveryOpenScope() throws Exception {
+    try (QueryCounter.Scope request = QueryCounter.open();
+        Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("select 1");
+      try (QueryCounter.Scope nested = QueryCounter.open()) {
+        statement.execute("select 2");
+        assertThat(nested.getQueries()).isEqualTo(1);
+      }
+      statement.execute("select 3");
+
+      assertThat(request.getQueries()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void recordsStatementsInPhasesOfRequest() throws Exception {
+    try (RequestPhases.Recording recording = RequestPhases.start();
+        Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("select 1");
+      statement.execute("select 2");
+      connection.isValid(1);
+
+      assertThat(recording.getCount(RequestPhases.Phase.DB)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void doesNotCountOutsideScope() throws Exception {
+    QueryCounter.Scope closed = QueryCounter.open();
+    closed.close();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("select 1");
+    }
+
+    assertThat(closed.getQueries()).isZero();
+  }
+}
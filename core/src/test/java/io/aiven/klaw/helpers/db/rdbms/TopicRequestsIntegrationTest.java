@@ -7,9 +7,14 @@ import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.PendingRequestCounts;
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
 import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.repository.AclRequestsRepo;
+import io.aiven.klaw.repository.KwKafkaConnectorRequestsRepo;
+import io.aiven.klaw.repository.SchemaRequestRepo;
 import io.aiven.klaw.repository.TeamRepo;
 import io.aiven.klaw.repository.TopicRequestsRepo;
 import io.aiven.klaw.repository.UserInfoRepo;
@@ -38,6 +43,9 @@ public class TopicRequestsIntegrationTest {
   @Autowired private TopicRequestsRepo topicRequestsRepo;
   @Autowired private UserInfoRepo userInfoRepo;
   @Autowired private TeamRepo teamRepo;
+  @Autowired private AclRequestsRepo aclRequestsRepo;
+  @Autowired private SchemaRequestRepo schemaRequestRepo;
+  @Autowired private KwKafkaConnectorRequestsRepo kafkaConnectorRequestsRepo;
 
   @Autowired TestEntityManager entityManager;
 
@@ -913,6 +921,45 @@ public class TopicRequestsIntegrationTest {
     assertThat(james).hasSize(Integer.valueOf(7));
   }
 
+  @Order(35)
+  @ParameterizedTest
+  @CsvSource({
+    "James,101,false",
+    "John,103,false",
+    "Jackie,103,false",
+    "James,101,true",
+    "Jackie,103,true"
+  })
+  public void selectPendingRequestCounts_MatchesRequestsToApprove(
+      String requestor, int teamId, boolean showRequestsOfAllTeams) {
+    ReflectionTestUtils.setField(selectDataJdbc, "aclRequestsRepo", aclRequestsRepo);
+    ReflectionTestUtils.setField(selectDataJdbc, "schemaRequestRepo", schemaRequestRepo);
+    ReflectionTestUtils.setField(
+        selectDataJdbc, "kafkaConnectorRequestsRepo", kafkaConnectorRequestsRepo);
+
+    PendingRequestCounts pendingRequestCounts = selectDataJdbc.selectPendingRequestCounts(101);
+    List<TopicRequest> requestsToApprove =
+        selectDataJdbc.selectFilteredTopicRequests(
+            true,
+            requestor,
+            RequestStatus.CREATED.value,
+            showRequestsOfAllTeams,
+            101,
+            null,
+            null,
+            null,
+            null,
+            false);
+
+    assertThat(
+            pendingRequestCounts.count(
+                RequestKind.TOPIC,
+                showRequestsOfAllTeams ? null : teamId,
+                List.of("dev", "test"),
+                requestor))
+        .isEqualTo(requestsToApprove.size());
+  }
+
   private void generateData(
       int number,
       int teamId,
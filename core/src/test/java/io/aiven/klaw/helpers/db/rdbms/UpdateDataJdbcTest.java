@@ -1,6 +1,7 @@
 package io.aiven.klaw.helpers.db.rdbms;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
@@ -17,6 +18,7 @@ import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.AclRequestsRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRepo;
 import io.aiven.klaw.repository.MessageSchemaRepo;
@@ -28,6 +30,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -157,6 +160,32 @@ public class UpdateDataJdbcTest {
     verify(insertDataJdbcHelper, times(1)).insertIntoTopicSOT(any());
   }
 
+  @Test
+  public void updateTopicRequestsLooksUpTopicIdOnce() {
+    when(insertDataJdbcHelper.insertIntoTopicSOT(any()))
+        .thenReturn(
+            CRUDResponse.<Topic>builder().resultStatus(ApiResultStatus.SUCCESS.value).build());
+    when(insertDataJdbcHelper.getNextTopicRequestId(anyString(), anyInt())).thenReturn(1001);
+    TopicRequest req1 = utilMethods.getTopicRequest(1001);
+    TopicRequest req2 = utilMethods.getTopicRequest(1002);
+
+    CRUDResponse<Topic> result = updateData.updateTopicRequests(List.of(req1, req2), "uiuser2");
+
+    assertThat(result.getResultStatus()).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(List.of(req1, req2))
+        .extracting(TopicRequest::getRequestStatus, TopicRequest::getApprover)
+        .containsOnly(tuple(RequestStatus.APPROVED.value, "uiuser2"));
+    verify(insertDataJdbcHelper, times(1)).getNextTopicRequestId(anyString(), anyInt());
+    verify(topicRequestsRepo, times(1)).saveAll(List.of(req1, req2));
+    verify(insertDataJdbcHelper)
+        .insertIntoTopicSOT(
+            argThat(
+                topics ->
+                    topics.size() == 2
+                        && topics.get(0).getTopicid() == 1001
+                        && topics.get(1).getTopicid() == 1002));
+  }
+
   @Test
   public void updateAclRequest() {
     when(insertDataJdbcHelper.insertIntoAclsSOT(any(), eq(false)))
@@ -2,6 +2,7 @@ package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_107;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -80,6 +81,8 @@ public class AclControllerServiceTest {
   @Mock private UserInfo userInfo;
   @Mock private Pager pager;
 
+  @Mock private ClusterOperationOutboxService clusterOperationOutboxService;
+
   private AclControllerService aclControllerService;
 
   @BeforeEach
@@ -93,6 +96,8 @@ public class AclControllerServiceTest {
     env.setClusterId(1);
     ReflectionTestUtils.setField(aclControllerService, "manageDatabase", manageDatabase);
     ReflectionTestUtils.setField(aclControllerService, "commonUtilsService", commonUtilsService);
+    ReflectionTestUtils.setField(
+        aclControllerService, "clusterOperationOutboxService", clusterOperationOutboxService);
     ReflectionTestUtils.setField(
         aclControllerService,
         "rolesPermissionsControllerService",
@@ -1070,6 +1075,39 @@ public class AclControllerServiceTest {
     assertThat(apiResp.isSuccess()).isFalse();
   }
 
+  @Test
+  @Order(38)
+  public void approveAclRequestsInBulk() throws KlawException {
+    AclRequests aclReq = getAclRequestDao();
+    AclRequests aclReqOfUnknownTopic = getAclRequestDao();
+    aclReqOfUnknownTopic.setReq_no(113);
+    aclReqOfUnknownTopic.setTopicname("testtopic1");
+
+    stubUserInfo();
+    when(handleDbRequests.getAclRequests(any(), anyInt()))
+        .thenReturn(List.of(aclReq, aclReqOfUnknownTopic));
+    when(clusterApiService.approveAclRequests(any(), anyInt()))
+        .thenReturn(new ResponseEntity<>(ApiResponse.SUCCESS, HttpStatus.OK));
+    when(handleDbRequests.updateAclRequest(any(), any(), anyMap(), anyBoolean()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    Topic t1 = new Topic();
+    t1.setTopicname("testtopic");
+    t1.setEnvironment("1");
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(List.of(t1));
+
+    List<ApiResponse> apiResponses =
+        aclControllerService.approveAclRequests(List.of("113", "112", "112"));
+
+    assertThat(apiResponses)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly(ACL_ERR_101, ApiResultStatus.SUCCESS.value, REQ_ERR_101);
+    verify(handleDbRequests, times(1)).getAclRequests(any(), anyInt());
+    verify(clusterApiService, times(1)).approveAclRequests(any(), anyInt());
+    verify(manageDatabase, times(1)).getTopicsForTenant(anyInt());
+  }
+
   private AclRequestsModel getAclRequestProducer() {
     AclRequestsModel aclReq = new AclRequestsModel();
     aclReq.setTopicname("testtopic");
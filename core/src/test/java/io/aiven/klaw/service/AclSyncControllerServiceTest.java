@@ -2,11 +2,13 @@ package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.SYNC_102;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
@@ -168,7 +170,7 @@ public class AclSyncControllerServiceTest {
     when(manageDatabase.getTeamsAndAllowedEnvs(anyInt(), anyInt()))
         .thenReturn(Collections.singletonList("1"));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
-    when(clusterApiService.getAcls(anyString(), any(), any(), anyInt()))
+    when(clusterApiService.getAcls(anyString(), any(), any(), any(), any(), anyInt()))
         .thenReturn(utilMethods.getClusterAcls());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(getAvailableTeams());
@@ -183,7 +185,7 @@ public class AclSyncControllerServiceTest {
     when(kwClusters.getBootstrapServers()).thenReturn("clusters");
 
     List<AclInfo> aclList =
-        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, "");
+        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, null, "");
 
     assertThat(aclList).hasSize(1);
   }
@@ -197,7 +199,7 @@ public class AclSyncControllerServiceTest {
     when(manageDatabase.getTeamsAndAllowedEnvs(anyInt(), anyInt()))
         .thenReturn(Collections.singletonList("1"));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
-    when(clusterApiService.getAcls(anyString(), any(), any(), anyInt()))
+    when(clusterApiService.getAcls(anyString(), any(), any(), any(), any(), anyInt()))
         .thenReturn(utilMethods.getClusterAclsNonApacheKafka());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(getAvailableTeams());
@@ -213,7 +215,7 @@ public class AclSyncControllerServiceTest {
     when(kwClusters.getBootstrapServers()).thenReturn("clusters");
 
     List<AclInfo> aclList =
-        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, "");
+        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, null, "");
 
     assertThat(aclList).hasSize(2);
     assertThat(aclList)
@@ -249,7 +251,7 @@ public class AclSyncControllerServiceTest {
     aclReq.setConsumergroup("-na-");
     aclReq.setAclType(AclType.PRODUCER.value);
     metadataAcls.add(aclReq);
-    when(clusterApiService.getAcls(anyString(), any(), any(), anyInt()))
+    when(clusterApiService.getAcls(anyString(), any(), any(), any(), any(), anyInt()))
         .thenReturn(utilMethods.getClusterAclsNonApacheKafka());
     when(handleDbRequests.getSyncAcls(anyString(), anyInt())).thenReturn(metadataAcls);
 
@@ -259,7 +261,7 @@ public class AclSyncControllerServiceTest {
     when(kwClusters.getBootstrapServers()).thenReturn("clusters");
 
     List<AclInfo> aclList =
-        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, "");
+        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", topicNameSearch, null, "");
 
     assertThat(aclList).hasSize(3);
     assertThat(aclList)
@@ -276,7 +278,8 @@ public class AclSyncControllerServiceTest {
     when(manageDatabase.getTeamsAndAllowedEnvs(anyInt(), anyInt()))
         .thenReturn(Collections.singletonList("1"));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
-    when(clusterApiService.getAcls(anyString(), any(), any(KafkaSupportedProtocol.class), anyInt()))
+    when(clusterApiService.getAcls(
+            anyString(), any(), any(KafkaSupportedProtocol.class), any(), any(), anyInt()))
         .thenReturn(utilMethods.getClusterAcls());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(getAvailableTeams());
@@ -287,12 +290,58 @@ public class AclSyncControllerServiceTest {
     when(kwClusters.getBootstrapServers()).thenReturn("clusters");
 
     List<AclInfo> aclList =
-        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "", topicNameSearch, "");
+        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "", topicNameSearch, null, "");
 
     assertThat(aclList).hasSize(1);
     assertThat(aclList.get(0).getPossibleTeams()).contains(SYNC_102);
   }
 
+  @Test
+  @Order(9)
+  public void getAclsSyncFilteredByPrincipal() throws KlawException {
+    String envSelected = "1", pageNo = "1", principalSearch = " User:testuser1234 ";
+
+    stubUserInfo();
+    when(manageDatabase.getTeamsAndAllowedEnvs(anyInt(), anyInt()))
+        .thenReturn(Collections.singletonList("1"));
+    when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
+    when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
+        .thenReturn(getAvailableTeams());
+    Topic t1 = new Topic();
+    t1.setTopicname("testtopic1");
+    t1.setEnvironment(envSelected);
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(List.of(t1));
+
+    List<Acl> metadataAcls = getAclsSOT0NonApacheKafka();
+    Acl aclReq = new Acl();
+    aclReq.setReq_no(1002);
+    aclReq.setTopicname("testtopic1");
+    aclReq.setTeamId(1);
+    aclReq.setAclip("*");
+    aclReq.setAclssl("testuser");
+    aclReq.setConsumergroup("-na-");
+    aclReq.setAclType(AclType.PRODUCER.value);
+    metadataAcls.add(aclReq);
+    // the cluster api is asked for the acls of the principal only
+    when(clusterApiService.getAcls(
+            anyString(), any(), any(), any(), eq("User:testuser1234"), anyInt()))
+        .thenReturn(utilMethods.getClusterAclsNonApacheKafka());
+    when(handleDbRequests.getSyncAcls(anyString(), anyInt())).thenReturn(metadataAcls);
+
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getBootstrapServers()).thenReturn("clusters");
+
+    List<AclInfo> aclList =
+        aclSyncControllerService.getSyncAcls(envSelected, pageNo, "1", null, principalSearch, "");
+
+    // acls of other principals known to Klaw are not reported as deleted from the cluster
+    assertThat(aclList)
+        .extracting(AclInfo::getAcl_ssl, AclInfo::getRemarks)
+        .containsExactly(tuple("testuser1234", "ADDED"));
+  }
+
   @Test
   @Order(10)
   public void updateSyncBackAcls() throws KlawException {
@@ -28,6 +28,7 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.TopicConfig;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -152,7 +153,7 @@ public class ClusterApiServiceTest {
     when(kwClusters.getKafkaFlavor()).thenReturn("Apache Kafka");
 
     when(restTemplate.exchange(
-            Mockito.anyString(),
+            any(URI.class),
             eq(HttpMethod.GET),
             Mockito.any(),
             (ParameterizedTypeReference<Object>) any()))
@@ -163,12 +164,40 @@ public class ClusterApiServiceTest {
     assertThat(result).isEqualTo(new ArrayList<>(aclListOriginal));
   }
 
+  @Test
+  @Order(3)
+  public void getAclsEncodesTopicFilter() throws KlawException {
+    ResponseEntity response = new ResponseEntity<>(utilMethods.getAclsMock(), HttpStatus.OK);
+
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getKafkaFlavor()).thenReturn("Apache Kafka");
+    ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+    when(restTemplate.exchange(
+            uriCaptor.capture(),
+            eq(HttpMethod.GET),
+            Mockito.any(),
+            (ParameterizedTypeReference<Object>) any()))
+        .thenReturn(response);
+
+    clusterApiService.getAcls(
+        "", env, KafkaSupportedProtocol.PLAINTEXT, " topic&resetCache=true #1 ", null, 1);
+
+    assertThat(uriCaptor.getValue().getRawQuery())
+        .isEqualTo("topicName=topic%26resetCache%3Dtrue%20%231");
+    assertThat(uriCaptor.getValue().getQuery()).isEqualTo("topicName=topic&resetCache=true #1");
+  }
+
   @Test
   @Order(4)
   public void getAclsFailure() {
 
     when(restTemplate.exchange(
-            Mockito.anyString(), eq(HttpMethod.GET), Mockito.any(), eq(Set.class)))
+            any(URI.class),
+            eq(HttpMethod.GET),
+            Mockito.any(),
+            (ParameterizedTypeReference<Object>) any()))
         .thenThrow(new RuntimeException("error"));
 
     assertThatThrownBy(
@@ -518,6 +547,28 @@ public class ClusterApiServiceTest {
     assertThat(Objects.requireNonNull(response1)).isEqualTo(FAILED_TO_EXECUTE_SUCCESSFULLY);
   }
 
+  @Test
+  @Order(16)
+  public void clusterApiCallsReuseAccessToken() {
+    ResponseEntity<ClusterStatus> response =
+        new ResponseEntity<>(ClusterStatus.ONLINE, HttpStatus.OK);
+    when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(ClusterStatus.class)))
+        .thenReturn(response);
+
+    clusterApiService.getClusterApiStatus("/topics/getApiStatus", false, 1);
+    clusterApiService.getClusterApiStatus("/topics/getApiStatus", false, 1);
+
+    ArgumentCaptor<HttpEntity<?>> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+    verify(restTemplate, times(2))
+        .exchange(anyString(), eq(HttpMethod.GET), entityCaptor.capture(), eq(ClusterStatus.class));
+    List<String> authHeaders =
+        entityCaptor.getAllValues().stream()
+            .map(entity -> entity.getHeaders().getFirst("Authorization"))
+            .toList();
+    assertThat(authHeaders.get(0)).startsWith("Bearer ");
+    assertThat(authHeaders.get(1)).isEqualTo(authHeaders.get(0));
+  }
+
   private Set<TopicConfig> getTopics() {
     Set<TopicConfig> topicsList = new HashSet<>();
     TopicConfig tc1 = new TopicConfig();
@@ -0,0 +1,83 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwClusterOperation;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.model.response.AclRequestsResponseModel;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterOperationOutboxServiceTest {
+
+  private static final int TENANT_ID = 101;
+
+  @Mock private ManageDatabase manageDatabase;
+  @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
+
+  @InjectMocks private ClusterOperationOutboxService clusterOperationOutboxService;
+
+  @Test
+  void addClusterOperations_AddsLatestOperationOfPendingRequests() {
+    AclRequestsResponseModel failedRequest = aclRequest(1, RequestStatus.CREATED);
+    AclRequestsResponseModel approvedRequest = aclRequest(2, RequestStatus.APPROVED);
+    AclRequestsResponseModel newRequest = aclRequest(3, RequestStatus.CREATED);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    // the request failed, was approved again and failed a second time
+    Mockito.when(handleDbRequestsJdbc.getClusterOperations(Set.of("ACL:101:1", "ACL:101:3")))
+        .thenReturn(
+            List.of(
+                operation(12, "ACL:101:1", ClusterOperationStatus.FAILED, "Acl already exists"),
+                operation(11, "ACL:101:1", ClusterOperationStatus.FAILED, "Connection refused")));
+
+    clusterOperationOutboxService.addClusterOperations(
+        RequestEntityType.ACL,
+        TENANT_ID,
+        List.of(failedRequest, approvedRequest, newRequest),
+        AclRequestsResponseModel::getReq_no);
+
+    assertThat(failedRequest.getClusterOperationStatus()).isEqualTo(ClusterOperationStatus.FAILED);
+    assertThat(failedRequest.getClusterOperationError()).isEqualTo("Acl already exists");
+    assertThat(approvedRequest.getClusterOperationStatus()).isNull();
+    assertThat(newRequest.getClusterOperationStatus()).isNull();
+  }
+
+  @Test
+  void addClusterOperations_SkipsLookupWithoutPendingRequests() {
+    clusterOperationOutboxService.addClusterOperations(
+        RequestEntityType.ACL,
+        TENANT_ID,
+        List.of(aclRequest(2, RequestStatus.APPROVED)),
+        AclRequestsResponseModel::getReq_no);
+
+    Mockito.verifyNoInteractions(manageDatabase);
+  }
+
+  private static AclRequestsResponseModel aclRequest(int reqNo, RequestStatus requestStatus) {
+    AclRequestsResponseModel aclRequest = new AclRequestsResponseModel();
+    aclRequest.setReq_no(reqNo);
+    aclRequest.setRequestStatus(requestStatus);
+    return aclRequest;
+  }
+
+  private static KwClusterOperation operation(
+      int id, String operationKey, ClusterOperationStatus status, String lastError) {
+    KwClusterOperation kwClusterOperation = new KwClusterOperation();
+    kwClusterOperation.setId(id);
+    kwClusterOperation.setOperationKey(operationKey);
+    kwClusterOperation.setStatus(status.value);
+    kwClusterOperation.setLastError(lastError);
+    return kwClusterOperation;
+  }
+}
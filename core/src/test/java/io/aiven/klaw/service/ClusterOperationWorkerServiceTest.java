@@ -0,0 +1,355 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwClusterOperation;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.enums.ClusterOperationStatus;
+import io.aiven.klaw.model.enums.MailType;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterOperationWorkerServiceTest {
+
+  private static final int TENANT_ID = 101;
+
+  @Mock private ManageDatabase manageDatabase;
+  @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
+  @Mock private ClusterOperationOutboxService clusterOperationOutboxService;
+  @Mock private TopicControllerService topicControllerService;
+  @Mock private AclControllerService aclControllerService;
+  @Mock private SchemaRegistryControllerService schemaRegistryControllerService;
+  @Mock private MailUtils mailService;
+  @Mock private CommonUtilsService commonUtilsService;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
+  @InjectMocks private ClusterOperationWorkerService clusterOperationWorkerService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(clusterOperationWorkerService, "maxAttempts", 3);
+    ReflectionTestUtils.setField(clusterOperationWorkerService, "backoffMillis", 1000L);
+    ReflectionTestUtils.setField(clusterOperationWorkerService, "maxBackoffMillis", 3000L);
+    // the operations are executed one after another on the polling thread
+    ReflectionTestUtils.setField(
+        clusterOperationWorkerService, "workersExecutor", new SyncTaskExecutor());
+  }
+
+  @Test
+  void processOutbox_RetriesUnreachableClusterApiUntilApplied() throws KlawException {
+    KwClusterOperation operation = operation(1, "TOPIC", 1001);
+    stubOutbox(operation);
+    // the cluster api cannot be reached twice, the third attempt applies the request
+    Mockito.when(topicControllerService.executeApprovedTopicRequest("approver", TENANT_ID, 1001))
+        .thenThrow(new KlawException("Connection refused"))
+        .thenThrow(new KlawException("Connection refused"))
+        .thenReturn(ApiResponse.ok("Topic Status: success"));
+
+    clusterOperationWorkerService.processOutbox();
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.PENDING.value);
+    assertThat(operation.getAttempts()).isEqualTo(1);
+    assertThat(operation.getLastError()).isEqualTo("Connection refused");
+    assertThat(operation.getNextAttemptTime()).isAfter(Timestamp.from(Instant.now()));
+
+    clusterOperationWorkerService.processOutbox();
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.PENDING.value);
+    assertThat(operation.getAttempts()).isEqualTo(2);
+
+    clusterOperationWorkerService.processOutbox();
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.COMPLETED.value);
+    assertThat(operation.getAttempts()).isEqualTo(3);
+    assertThat(operation.getLastError()).isNull();
+    Mockito.verify(handleDbRequestsJdbc, Mockito.times(3)).updateClaimedClusterOperation(operation);
+  }
+
+  @Test
+  void processOutbox_FailsOperationAfterMaxAttempts() throws KlawException {
+    KwClusterOperation operation = operation(1, "ACL", 2001);
+    operation.setAttempts(2);
+    stubOutbox(operation);
+    Mockito.when(aclControllerService.executeApprovedAclRequest("approver", TENANT_ID, 2001))
+        .thenThrow(new KlawException("Connection refused"));
+
+    clusterOperationWorkerService.processOutbox();
+
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.FAILED.value);
+    assertThat(operation.getAttempts()).isEqualTo(3);
+    assertThat(operation.getLastError()).isEqualTo("Connection refused");
+  }
+
+  @Test
+  void processOutbox_FailsRejectedOperationWithoutRetry() throws KlawException {
+    KwClusterOperation operation = operation(1, "SCHEMA", 3001);
+    stubOutbox(operation);
+    Mockito.when(
+            schemaRegistryControllerService.executeApprovedSchemaRequest(
+                "approver", TENANT_ID, 3001))
+        .thenReturn(ApiResponse.notOk("Schema is not compatible"));
+
+    clusterOperationWorkerService.processOutbox();
+
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.FAILED.value);
+    assertThat(operation.getAttempts()).isEqualTo(1);
+    assertThat(operation.getLastError()).isEqualTo("Schema is not compatible");
+  }
+
+  @Test
+  void execute_NotifiesFailureToRequestorAndApprover() throws KlawException {
+    KwClusterOperation operation = operation(1, "SCHEMA", 3001);
+    operation.setAttempts(1);
+    SchemaRequest schemaRequest = new SchemaRequest();
+    schemaRequest.setTenantId(TENANT_ID);
+    schemaRequest.setReq_no(3001);
+    schemaRequest.setTopicname("testtopic");
+    schemaRequest.setRequestor("requestor");
+    schemaRequest.setTeamId(8);
+    schemaRequest.setRequestStatus(RequestStatus.CREATED.value);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.updateClaimedClusterOperation(operation)).thenReturn(true);
+    Mockito.when(handleDbRequestsJdbc.getSchemaRequest(3001, TENANT_ID)).thenReturn(schemaRequest);
+    Mockito.when(commonUtilsService.getLoginUrl()).thenReturn("http://localhost:9097/login");
+    Mockito.when(
+            schemaRegistryControllerService.executeApprovedSchemaRequest(
+                "approver", TENANT_ID, 3001))
+        .thenReturn(ApiResponse.notOk("Schema is not compatible"));
+    // the mail is sent in the name of the approver
+    Mockito.doAnswer(
+            invocation -> {
+              assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                  .isEqualTo("approver");
+              return null;
+            })
+        .when(mailService)
+        .sendMail(
+            "testtopic",
+            null,
+            "Schema is not compatible",
+            "requestor",
+            "approver",
+            8,
+            handleDbRequestsJdbc,
+            MailType.SCHEMA_REQUEST_FAILURE,
+            "http://localhost:9097/login");
+
+    clusterOperationWorkerService.execute(operation);
+
+    Mockito.verify(mailService)
+        .sendMail(
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            eq(MailType.SCHEMA_REQUEST_FAILURE),
+            any());
+    ArgumentCaptor<RequestStatusEvent> event = ArgumentCaptor.forClass(RequestStatusEvent.class);
+    Mockito.verify(applicationEventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getRequestEntityType()).isEqualTo(RequestEntityType.SCHEMA);
+    assertThat(event.getValue().getRequestId()).isEqualTo(3001);
+    assertThat(event.getValue().getRequestStatus()).isEqualTo(RequestStatus.CREATED.value);
+    assertThat(event.getValue().getPendingDelta()).isZero();
+    assertThat(event.getValue().getClusterOperationStatus())
+        .isEqualTo(ClusterOperationStatus.FAILED.value);
+    assertThat(event.getValue().getClusterOperationError()).isEqualTo("Schema is not compatible");
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  void execute_DoesNotNotifyRetriedOperation() throws KlawException {
+    KwClusterOperation operation = operation(1, "TOPIC", 1001);
+    operation.setAttempts(1);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.updateClaimedClusterOperation(operation)).thenReturn(true);
+    Mockito.when(topicControllerService.executeApprovedTopicRequest("approver", TENANT_ID, 1001))
+        .thenThrow(new KlawException("Connection refused"));
+
+    clusterOperationWorkerService.execute(operation);
+
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.PENDING.value);
+    Mockito.verifyNoInteractions(mailService, applicationEventPublisher);
+  }
+
+  @Test
+  void processOutbox_RenewsLeaseWhileOperationIsRunning() throws Exception {
+    ReflectionTestUtils.setField(clusterOperationWorkerService, "leaseSeconds", 1L);
+    ReflectionTestUtils.setField(
+        clusterOperationWorkerService,
+        "workersExecutor",
+        (Executor) runnable -> new Thread(runnable).start());
+    KwClusterOperation operation = operation(1, "TOPIC", 1001);
+    stubOutbox(operation);
+    Mockito.when(handleDbRequestsJdbc.getDueClusterOperations(any(), anyInt()))
+        .thenReturn(List.of(operation), List.of());
+    CountDownLatch leaseRenewed = new CountDownLatch(1);
+    CountDownLatch applied = new CountDownLatch(1);
+    Mockito.when(handleDbRequestsJdbc.renewClusterOperationClaim(eq(1), eq(1), any()))
+        .thenAnswer(
+            invocation -> {
+              leaseRenewed.countDown();
+              return true;
+            });
+    // the cluster api only answers once the lease of the operation was renewed
+    Mockito.when(topicControllerService.executeApprovedTopicRequest("approver", TENANT_ID, 1001))
+        .thenAnswer(
+            invocation -> {
+              assertThat(leaseRenewed.await(10, TimeUnit.SECONDS)).isTrue();
+              applied.countDown();
+              return ApiResponse.ok("Topic Status: success");
+            });
+
+    // the poll does not wait for the operation, the later polls renew its lease
+    clusterOperationWorkerService.processOutbox();
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.RUNNING.value);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (applied.getCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(100);
+      clusterOperationWorkerService.processOutbox();
+    }
+
+    assertThat(applied.await(10, TimeUnit.SECONDS)).isTrue();
+    Mockito.verify(handleDbRequestsJdbc, Mockito.timeout(10000))
+        .updateClaimedClusterOperation(operation);
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.COMPLETED.value);
+    Mockito.verify(topicControllerService, Mockito.times(1))
+        .executeApprovedTopicRequest("approver", TENANT_ID, 1001);
+  }
+
+  @Test
+  void processOutbox_ClaimsNoMoreThanABatchOfRunningOperations() {
+    ReflectionTestUtils.setField(clusterOperationWorkerService, "batchSize", 2);
+    // the operations never complete
+    ReflectionTestUtils.setField(
+        clusterOperationWorkerService, "workersExecutor", (Executor) r -> {});
+    Mockito.when(clusterOperationOutboxService.isEnabled()).thenReturn(true);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.getDueClusterOperations(any(), eq(2)))
+        .thenReturn(List.of(operation(1, "TOPIC", 1001)));
+    Mockito.when(handleDbRequestsJdbc.getDueClusterOperations(any(), eq(1)))
+        .thenReturn(List.of(operation(2, "TOPIC", 1002)));
+    Mockito.when(handleDbRequestsJdbc.claimClusterOperation(anyInt(), any())).thenReturn(true);
+
+    clusterOperationWorkerService.processOutbox();
+    clusterOperationWorkerService.processOutbox();
+    clusterOperationWorkerService.processOutbox();
+
+    Mockito.verify(handleDbRequestsJdbc).getDueClusterOperations(any(), eq(2));
+    Mockito.verify(handleDbRequestsJdbc).getDueClusterOperations(any(), eq(1));
+    Mockito.verify(handleDbRequestsJdbc, Mockito.times(2)).claimClusterOperation(anyInt(), any());
+  }
+
+  @Test
+  void processOutbox_SkipsOperationsClaimedByAnotherNode() {
+    Mockito.when(clusterOperationOutboxService.isEnabled()).thenReturn(true);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.getDueClusterOperations(any(), anyInt()))
+        .thenReturn(List.of(operation(1, "TOPIC", 1001)));
+    Mockito.when(handleDbRequestsJdbc.claimClusterOperation(eq(1), any())).thenReturn(false);
+
+    clusterOperationWorkerService.processOutbox();
+
+    Mockito.verifyNoInteractions(topicControllerService);
+    Mockito.verify(handleDbRequestsJdbc, Mockito.never()).updateClaimedClusterOperation(any());
+  }
+
+  @Test
+  void execute_DiscardsOutcomeOnceClaimedAgain() throws KlawException {
+    KwClusterOperation operation = operation(1, "TOPIC", 1001);
+    operation.setStatus(ClusterOperationStatus.RUNNING.value);
+    operation.setAttempts(1);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(topicControllerService.executeApprovedTopicRequest("approver", TENANT_ID, 1001))
+        .thenReturn(ApiResponse.ok("Topic Status: success"));
+    // released after its lease and claimed by another node meanwhile
+    Mockito.when(handleDbRequestsJdbc.updateClaimedClusterOperation(operation)).thenReturn(false);
+
+    clusterOperationWorkerService.execute(operation);
+
+    Mockito.verify(handleDbRequestsJdbc).updateClaimedClusterOperation(operation);
+    Mockito.verifyNoMoreInteractions(handleDbRequestsJdbc);
+  }
+
+  @Test
+  void processOutbox_DoesNothingWhenDisabled() {
+    clusterOperationWorkerService.processOutbox();
+
+    Mockito.verifyNoInteractions(manageDatabase);
+  }
+
+  @Test
+  void execute_AppliesRequestInTheNameOfTheApprover() throws KlawException {
+    KwClusterOperation operation = operation(1, "TOPIC", 1001);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(topicControllerService.executeApprovedTopicRequest("approver", TENANT_ID, 1001))
+        .thenAnswer(
+            invocation -> {
+              assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                  .isEqualTo("approver");
+              return ApiResponse.ok("Topic Status: success");
+            });
+
+    clusterOperationWorkerService.execute(operation);
+
+    assertThat(operation.getStatus()).isEqualTo(ClusterOperationStatus.COMPLETED.value);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  void getBackoffMillis_DoublesUpToTheMaximum() {
+    assertThat(clusterOperationWorkerService.getBackoffMillis(1)).isEqualTo(1000);
+    assertThat(clusterOperationWorkerService.getBackoffMillis(2)).isEqualTo(2000);
+    assertThat(clusterOperationWorkerService.getBackoffMillis(3)).isEqualTo(3000);
+    assertThat(clusterOperationWorkerService.getBackoffMillis(40)).isEqualTo(3000);
+  }
+
+  private void stubOutbox(KwClusterOperation operation) {
+    Mockito.when(clusterOperationOutboxService.isEnabled()).thenReturn(true);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.getDueClusterOperations(any(), anyInt()))
+        .thenReturn(List.of(operation));
+    Mockito.when(handleDbRequestsJdbc.claimClusterOperation(eq(operation.getId()), any()))
+        .thenReturn(true);
+    Mockito.when(handleDbRequestsJdbc.updateClaimedClusterOperation(operation)).thenReturn(true);
+  }
+
+  private static KwClusterOperation operation(int id, String requestType, int requestId) {
+    KwClusterOperation kwClusterOperation = new KwClusterOperation();
+    kwClusterOperation.setId(id);
+    kwClusterOperation.setTenantId(TENANT_ID);
+    kwClusterOperation.setRequestType(requestType);
+    kwClusterOperation.setRequestId(requestId);
+    kwClusterOperation.setEnv("1");
+    kwClusterOperation.setApprover("approver");
+    kwClusterOperation.setStatus(ClusterOperationStatus.PENDING.value);
+    kwClusterOperation.setAttempts(0);
+    return kwClusterOperation;
+  }
+}
@@ -1,11 +1,15 @@
 package io.aiven.klaw.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
@@ -18,6 +22,7 @@ import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.SyncConnectorUpdates;
 import io.aiven.klaw.model.cluster.ConnectorState;
 import io.aiven.klaw.model.cluster.ConnectorsStatus;
 import io.aiven.klaw.model.enums.ApiResultStatus;
@@ -36,8 +41,10 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -95,6 +102,9 @@ public class KafkaConnectSyncControllerServiceTest {
         kafkaConnectSyncControllerService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(
         kafkaConnectSyncControllerService, "clusterApiService", clusterApiService);
+    // the connector configurations are retrieved one after another on the calling thread
+    ReflectionTestUtils.setField(
+        kafkaConnectSyncControllerService, "syncConnectorsExecutor", new SyncTaskExecutor());
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -262,6 +272,78 @@ public class KafkaConnectSyncControllerServiceTest {
     assertThat(synced).isEqualTo(0);
   }
 
+  @Test
+  @Order(3)
+  public void updateSyncConnectorsResolvesExistingConnectorsOnce() throws KlawException {
+    stubUserInfo();
+    when(manageDatabase.getTenantConfig()).thenReturn(tenantConfig);
+    when(tenantConfig.get(anyInt())).thenReturn(tenantConfigModel);
+    when(tenantConfigModel.getBaseSyncKafkaConnectCluster()).thenReturn("1");
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(manageDatabase.getKafkaConnectEnvList(anyInt())).thenReturn(List.of(env));
+    when(manageDatabase.getClusters(eq(KafkaClustersType.KAFKA_CONNECT), anyInt()))
+        .thenReturn(getConnectlusters(1));
+    when(manageDatabase.getTeamIdFromTeamName(anyInt(), eq(TEAM_NAME_1))).thenReturn(10);
+    when(manageDatabase.getTeamNameFromTeamId(anyInt(), eq(10))).thenReturn(TEAM_NAME_1);
+    // Connector0 exists in Klaw, Connector1 is new
+    when(handleDbRequests.getConnectorsFromNames(any(), anyInt()))
+        .thenReturn(getConnectorsFromDb(1));
+    when(clusterApiService.getConnectorDetails(
+            anyString(), anyString(), any(), anyString(), anyInt()))
+        .thenReturn(Map.of("config", Map.of("tasks.max", "1")));
+    when(handleDbRequests.addToSyncConnectors(any())).thenReturn(ApiResultStatus.SUCCESS.value);
+
+    List<SyncConnectorUpdates> syncConnectorUpdates = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      SyncConnectorUpdates syncConnectorUpdate = new SyncConnectorUpdates();
+      syncConnectorUpdate.setEnvSelected("1");
+      syncConnectorUpdate.setConnectorName("Connector" + i);
+      syncConnectorUpdate.setTeamSelected(TEAM_NAME_1);
+      syncConnectorUpdates.add(syncConnectorUpdate);
+    }
+
+    ApiResponse result =
+        kafkaConnectSyncControllerService.updateSyncConnectors(syncConnectorUpdates);
+    assertThat(result.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
+
+    ArgumentCaptor<List<KwKafkaConnector>> connectors = ArgumentCaptor.forClass(List.class);
+    verify(handleDbRequests).addToSyncConnectors(connectors.capture());
+    assertThat(connectors.getValue())
+        .extracting(KwKafkaConnector::getConnectorName, KwKafkaConnector::isExistingConnector)
+        .containsExactly(tuple("Connector0", true), tuple("Connector1", false));
+    verify(handleDbRequests, times(1)).getConnectorsFromNames(any(), anyInt());
+    verify(handleDbRequests, never()).getConnectorsFromName(anyString(), anyInt());
+    verify(commonUtilsService, times(1)).getEnvsFromUserId(anyString());
+    verify(clusterApiService, times(2))
+        .getConnectorDetails(anyString(), anyString(), any(), anyString(), anyInt());
+  }
+
+  @Test
+  @Order(4)
+  public void updateSyncConnectorsFailsWhenConfigurationIsNotRetrieved() throws KlawException {
+    stubUserInfo();
+    when(manageDatabase.getTenantConfig()).thenReturn(tenantConfig);
+    when(tenantConfig.get(anyInt())).thenReturn(tenantConfigModel);
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(manageDatabase.getKafkaConnectEnvList(anyInt())).thenReturn(List.of(env));
+    when(manageDatabase.getClusters(eq(KafkaClustersType.KAFKA_CONNECT), anyInt()))
+        .thenReturn(getConnectlusters(1));
+    when(clusterApiService.getConnectorDetails(
+            anyString(), anyString(), any(), anyString(), anyInt()))
+        .thenThrow(new KlawException("Connect cluster not reachable"));
+
+    ApiResponse result =
+        kafkaConnectSyncControllerService.updateSyncConnectors(
+            utilMethods.getSyncConnectorUpdates());
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(result.getMessage()).contains("testconnector");
+    verify(handleDbRequests, never()).addToSyncConnectors(any());
+  }
+
   private List<KwKafkaConnector> getConnectorsFromDb(int number) {
     List<KwKafkaConnector> list = new ArrayList<>();
     for (int i = 0; i < number; i++) {
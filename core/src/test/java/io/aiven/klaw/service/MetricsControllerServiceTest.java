@@ -0,0 +1,117 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwMetrics;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsControllerServiceTest {
+
+  private static final String METRICS_TYPE = "kafka.server:type=BrokerTopicMetrics";
+  private static final String METRICS_NAME = "name=MessagesInPerSec";
+  private static final String ENV = "1";
+  private static final long MINUTE_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+
+  @Mock private ManageDatabase manageDatabase;
+  @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
+
+  @InjectMocks private MetricsControllerService metricsControllerService;
+
+  @Test
+  void recordSample_PersistsOnlyCompletedRollups() {
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    long hour = 10 * HOUR_MS;
+
+    // three samples in the first minute, then one in the next minute and one in the next hour
+    metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, hour + 1000, 10);
+    metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, hour + 20000, 15);
+    metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, hour + 40000, 20);
+    Mockito.verify(handleDbRequestsJdbc, Mockito.never()).insertMetrics(any());
+
+    metricsControllerService.recordSample(
+        ENV, METRICS_TYPE, METRICS_NAME, hour + MINUTE_MS + 1000, 30);
+    metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, hour + HOUR_MS, 90);
+
+    ArgumentCaptor<KwMetrics> rollups = ArgumentCaptor.forClass(KwMetrics.class);
+    Mockito.verify(handleDbRequestsJdbc, Mockito.times(3)).insertMetrics(rollups.capture());
+    assertThat(rollups.getAllValues())
+        .extracting(
+            KwMetrics::getRollup, KwMetrics::getMetricsTime, KwMetrics::getMetricsAttributes)
+        .containsExactly(
+            tuple("1m", hour + "", "20"),
+            tuple("1m", (hour + MINUTE_MS) + "", "30"),
+            tuple("1h", hour + "", "30"));
+  }
+
+  @Test
+  void getRecentMetrics_ReadsPersistedRollupsUntilBufferHasEnoughSamples() {
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(
+            handleDbRequestsJdbc.getAllMetrics(
+                eq(METRICS_TYPE),
+                eq(METRICS_NAME),
+                eq(ENV),
+                eq(MetricsControllerService.ROLLUP_MINUTE),
+                anyInt()))
+        .thenReturn(List.of(CommonUtilsService.ChartsOverviewItem.of("1000", 5L)));
+
+    metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, 1000, 5);
+
+    assertThat(metricsControllerService.getRecentMetrics(ENV, METRICS_TYPE, METRICS_NAME))
+        .hasSize(1);
+    Mockito.verify(handleDbRequestsJdbc)
+        .getAllMetrics(
+            eq(METRICS_TYPE),
+            eq(METRICS_NAME),
+            eq(ENV),
+            eq(MetricsControllerService.ROLLUP_MINUTE),
+            anyInt());
+  }
+
+  @Test
+  void getRecentMetrics_ServesChartFromBuffer() {
+    for (int i = 0; i < 40; i++) {
+      metricsControllerService.recordSample(ENV, METRICS_TYPE, METRICS_NAME, i * 1000L, i);
+    }
+
+    List<CommonUtilsService.ChartsOverviewItem<String, Long>> recentMetrics =
+        metricsControllerService.getRecentMetrics(ENV, METRICS_TYPE, METRICS_NAME);
+
+    assertThat(recentMetrics).hasSize(30);
+    assertThat(recentMetrics.get(0).getyValue()).isEqualTo(39L);
+    assertThat(recentMetrics.get(29).getyValue()).isEqualTo(10L);
+    Mockito.verify(handleDbRequestsJdbc, Mockito.never())
+        .getAllMetrics(any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void deleteExpiredMetrics() {
+    ReflectionTestUtils.setField(metricsControllerService, "enableMetrics", "true");
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+
+    metricsControllerService.deleteExpiredMetrics();
+
+    Mockito.verify(handleDbRequestsJdbc)
+        .deleteMetricsOlderThan(eq(MetricsControllerService.ROLLUP_MINUTE), anyLong());
+    Mockito.verify(handleDbRequestsJdbc)
+        .deleteMetricsOlderThan(eq(MetricsControllerService.ROLLUP_HOUR), anyLong());
+  }
+}
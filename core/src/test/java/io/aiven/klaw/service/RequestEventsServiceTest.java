@@ -0,0 +1,240 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.constants.CacheConstants;
+import io.aiven.klaw.helpers.PendingRequestCounts;
+import io.aiven.klaw.helpers.PendingRequestCounts.RequestKind;
+import io.aiven.klaw.helpers.PendingRequestsScope;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.RequestStatusEvent;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.model.response.PendingRequestsCountUpdate;
+import io.aiven.klaw.service.interfaces.HAMessagingServiceI;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class RequestEventsServiceTest {
+
+  private static final int TENANT_ID = 101;
+  private static final Set<String> ENVS = Set.of("1");
+
+  @Mock private ManageDatabase manageDatabase;
+  @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
+  @Mock private CommonUtilsService commonUtilsService;
+  @Mock private UtilControllerService utilControllerService;
+  @Mock private HAMessagingServiceI haMessagingService;
+
+  @Spy @InjectMocks private RequestEventsService requestEventsService;
+
+  private final PendingRequestCounts pendingRequestCounts = new PendingRequestCounts();
+
+  @BeforeEach
+  void setUp() {
+    // events are sent right away
+    ReflectionTestUtils.setField(
+        requestEventsService, "dispatchExecutor", (Executor) Runnable::run);
+  }
+
+  @Test
+  void subscribersAreUpdatedWithoutPolling() {
+    stubPendingRequestCounts();
+    // many clients of ten teams follow the requests, each having polled getAuth before
+    List<RecordingEmitter> emitters = new ArrayList<>();
+    for (int user = 0; user < 1000; user++) {
+      emitters.add(subscribe("user" + user, 1 + user % 10));
+    }
+    assertThat(emitters)
+        .allSatisfy(emitter -> assertThat(emitter.lastCounts().get("topics")).isZero());
+
+    for (int request = 0; request < 100; request++) {
+      createTopicRequest(1 + request % 10, "requestor");
+    }
+
+    // each team has 10 new requests, and each user received 10 status events and counts updates
+    assertThat(emitters)
+        .allSatisfy(
+            emitter -> {
+              assertThat(emitter.lastCounts().get("topics")).isEqualTo(10);
+              assertThat(emitter.statusEvents).hasSize(10);
+              assertThat(emitter.countUpdates).hasSize(11);
+            });
+    // counts are only read from memory, none of the polled queries ran
+    Mockito.verify(handleDbRequestsJdbc, Mockito.atLeastOnce()).getPendingRequestCounts(TENANT_ID);
+    Mockito.verifyNoMoreInteractions(handleDbRequestsJdbc);
+    Mockito.verify(utilControllerService, Mockito.never())
+        .getAllRequestsToBeApproved(Mockito.anyString(), Mockito.anyInt());
+  }
+
+  @Test
+  void subscribersOnlyFollowRequestsOfTheirTeam() {
+    stubPendingRequestCounts();
+    RecordingEmitter team1 = subscribe("user1", 1);
+    RecordingEmitter team2 = subscribe("user2", 2);
+
+    createTopicRequest(1, "requestor");
+
+    assertThat(team1.lastCounts().get("topics")).isEqualTo(1);
+    assertThat(team1.lastChanges().get("topics")).isEqualTo(1);
+    assertThat(team1.statusEvents)
+        .extracting(RequestStatusEvent::getRequestStatus)
+        .containsExactly(RequestStatus.CREATED.value);
+    assertThat(team2.statusEvents).isEmpty();
+    assertThat(team2.countUpdates).hasSize(1);
+  }
+
+  @Test
+  void slowSubscriberIsDisconnected() {
+    stubPendingRequestCounts();
+    RecordingEmitter emitter = subscribe("user1", 1);
+    // the events of the client are not sent anymore
+    List<Runnable> pendingSends = new ArrayList<>();
+    ReflectionTestUtils.setField(
+        requestEventsService, "dispatchExecutor", (Executor) pendingSends::add);
+
+    for (int request = 0; request < 101; request++) {
+      createTopicRequest(1, "requestor");
+    }
+
+    assertThat(emitter.completed).isTrue();
+    assertThat(requestEventsService.getSubscribersCount()).isZero();
+  }
+
+  @Test
+  void failedSubscriberIsRemovedOnHeartbeat() {
+    stubPendingRequestCounts();
+    RecordingEmitter emitter = subscribe("user1", 1);
+    RecordingEmitter other = subscribe("user2", 1);
+    emitter.failing = true;
+
+    requestEventsService.sendHeartbeats();
+
+    assertThat(emitter.completed).isTrue();
+    assertThat(other.heartbeats).isEqualTo(1);
+    assertThat(requestEventsService.getSubscribersCount()).isEqualTo(1);
+  }
+
+  @Test
+  void remoteEventsAreCountedAndPushed() {
+    stubPendingRequestCounts();
+    RecordingEmitter emitter = subscribe("user1", 1);
+    RequestStatusEvent event = topicRequestEvent(1, "requestor");
+    Mockito.doAnswer(
+            invocation -> {
+              pendingRequestCounts.addRequest(event);
+              return null;
+            })
+        .when(handleDbRequestsJdbc)
+        .applyRequestStatusEvent(event);
+
+    requestEventsService.onRemoteRequestStatusEvent(event);
+
+    assertThat(emitter.lastCounts().get("topics")).isEqualTo(1);
+    assertThat(emitter.statusEvents).containsExactly(event);
+    Mockito.verifyNoInteractions(haMessagingService);
+  }
+
+  @Test
+  void localEventsAreSentToOtherNodes() {
+    ReflectionTestUtils.setField(requestEventsService, "haEnabled", true);
+    RequestStatusEvent event = topicRequestEvent(1, "requestor");
+
+    requestEventsService.onRequestStatusEvent(event);
+
+    Mockito.verify(haMessagingService)
+        .sendUpdate(CacheConstants.REQUEST_EVENT_PATH, TENANT_ID, event);
+  }
+
+  private void stubPendingRequestCounts() {
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    Mockito.when(handleDbRequestsJdbc.getPendingRequestCounts(TENANT_ID))
+        .thenReturn(pendingRequestCounts);
+  }
+
+  private RecordingEmitter subscribe(String userName, int teamId) {
+    Mockito.when(commonUtilsService.getCurrentUserName()).thenReturn(userName);
+    Mockito.when(commonUtilsService.getTenantId(userName)).thenReturn(TENANT_ID);
+    Mockito.when(utilControllerService.getPendingRequestsScope(userName, TENANT_ID))
+        .thenReturn(
+            new PendingRequestsScope(TENANT_ID, userName, teamId, teamId, RequestKind.ACL, ENVS));
+    Mockito.doReturn(new RecordingEmitter()).when(requestEventsService).createEmitter();
+    return (RecordingEmitter) requestEventsService.subscribe();
+  }
+
+  // what HandleDbRequestsJdbc does when a request is created
+  private void createTopicRequest(int teamId, String requestor) {
+    RequestStatusEvent event = topicRequestEvent(teamId, requestor);
+    pendingRequestCounts.addRequest(event);
+    requestEventsService.onRequestStatusEvent(event);
+  }
+
+  private static RequestStatusEvent topicRequestEvent(int teamId, String requestor) {
+    return RequestStatusEvent.builder()
+        .tenantId(TENANT_ID)
+        .requestEntityType(RequestEntityType.TOPIC)
+        .environment("1")
+        .teamId(teamId)
+        .requestor(requestor)
+        .requestOperationType(RequestOperationType.CREATE.value)
+        .requestStatus(RequestStatus.CREATED.value)
+        .pendingDelta(1)
+        .build();
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+    private final List<PendingRequestsCountUpdate> countUpdates = new ArrayList<>();
+    private final List<RequestStatusEvent> statusEvents = new ArrayList<>();
+    private int heartbeats;
+    private boolean failing;
+    private boolean completed;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      if (failing) {
+        throw new IOException("Broken pipe");
+      }
+      for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+        if (data.getData() instanceof PendingRequestsCountUpdate countUpdate) {
+          countUpdates.add(countUpdate);
+        } else if (data.getData() instanceof RequestStatusEvent statusEvent) {
+          statusEvents.add(statusEvent);
+        } else if (data.getData().toString().contains(":heartbeat")) {
+          heartbeats++;
+        }
+      }
+    }
+
+    @Override
+    public synchronized void complete() {
+      completed = true;
+      super.complete();
+    }
+
+    Map<String, Integer> lastCounts() {
+      return countUpdates.get(countUpdates.size() - 1).getCounts();
+    }
+
+    Map<String, Integer> lastChanges() {
+      return countUpdates.get(countUpdates.size() - 1).getChanges();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,6 +80,8 @@ public class SchemaRegistryControllerServiceTest {
 
   @Mock RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Mock private ClusterOperationOutboxService clusterOperationOutboxService;
+
   private SchemaRegistryControllerService schemaRegistryControllerService;
 
   private ObjectMapper mapper = new ObjectMapper();
@@ -97,6 +100,10 @@ public class SchemaRegistryControllerServiceTest {
         new SchemaRegistryControllerService(clusterApiService, mailService);
     ReflectionTestUtils.setField(schemaRegistryControllerService, "manageDatabase", manageDatabase);
     ReflectionTestUtils.setField(schemaRegistryControllerService, "mailService", mailService);
+    ReflectionTestUtils.setField(
+        schemaRegistryControllerService,
+        "clusterOperationOutboxService",
+        clusterOperationOutboxService);
     ReflectionTestUtils.setField(
         schemaRegistryControllerService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(
@@ -657,6 +664,55 @@ public class SchemaRegistryControllerServiceTest {
         .contains("validateCompatiblityOnSave\" is null");
   }
 
+  @Test
+  @Order(23)
+  public void execSchemaRequestsInBulk() throws KlawException {
+    Map<String, Object> registerSchemaCustomResponse = new HashMap<>();
+    registerSchemaCustomResponse.put("schemaRegistered", true);
+    registerSchemaCustomResponse.put("version", 1);
+    registerSchemaCustomResponse.put("id", 1);
+    registerSchemaCustomResponse.put("compatibility", "BACKWARD");
+    ApiResponse apiResponse =
+        ApiResponse.builder()
+            .message("Schema registered id\": 215")
+            .data(registerSchemaCustomResponse)
+            .build();
+
+    SchemaRequest schemaRequest = new SchemaRequest();
+    schemaRequest.setReq_no(1001);
+    schemaRequest.setSchemafull("schema..");
+    schemaRequest.setRequestor("kwuserb");
+    schemaRequest.setEnvironment("1");
+    schemaRequest.setTopicname("topic");
+    SchemaRequest schemaRequestOfOtherEnv = new SchemaRequest();
+    schemaRequestOfOtherEnv.setReq_no(1002);
+    schemaRequestOfOtherEnv.setRequestor("kwuserb");
+    schemaRequestOfOtherEnv.setEnvironment("2");
+    schemaRequestOfOtherEnv.setTopicname("topic");
+
+    stubUserInfo();
+    when(handleDbRequests.getSchemaRequests(any(), anyInt()))
+        .thenReturn(List.of(schemaRequest, schemaRequestOfOtherEnv));
+    when(clusterApiService.postSchema(any(), anyString(), anyString(), anyInt()))
+        .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+    when(handleDbRequests.updateSchemaRequest(any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+
+    List<ApiResponse> resultResps =
+        schemaRegistryControllerService.execSchemaRequests(List.of("1002", "1001", "abc"));
+
+    assertThat(resultResps)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly(
+            ApiResultStatus.NOT_AUTHORIZED.value, ApiResultStatus.SUCCESS.value, REQ_ERR_101);
+    verify(clusterApiService, times(1)).postSchema(any(), eq("1"), anyString(), anyInt());
+    verify(commonUtilsService, times(1)).getEnvsFromUserId(anyString());
+  }
+
   @Test
   public void getListofSchemaRequestsIn_NEWEST_FIRST_ORDER() {
     stubUserInfo();
@@ -5,11 +5,14 @@ import static io.aiven.klaw.error.KlawErrorMessages.SYNC_103;
 import static io.aiven.klaw.service.SchemaRegistrySyncControllerService.IN_SYNC;
 import static io.aiven.klaw.service.SchemaRegistrySyncControllerService.NOT_IN_SYNC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,10 +32,12 @@ import io.aiven.klaw.model.SyncSchemaUpdates;
 import io.aiven.klaw.model.cluster.SchemasInfoOfClusterResponse;
 import io.aiven.klaw.model.response.SchemaDetailsResponse;
 import io.aiven.klaw.model.response.SchemaSubjectInfoResponse;
+import io.aiven.klaw.model.response.SchemaSyncResult;
 import io.aiven.klaw.model.response.SyncSchemasList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,8 +54,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -95,6 +102,9 @@ public class SchemaRegistrySyncControllerServiceTest {
     ReflectionTestUtils.setField(schemaRegistrySyncControllerService, "mailService", mailService);
     ReflectionTestUtils.setField(
         schemaRegistrySyncControllerService, "commonUtilsService", commonUtilsService);
+    // the subjects are synced one after another on the calling thread
+    ReflectionTestUtils.setField(
+        schemaRegistrySyncControllerService, "syncSchemasExecutor", new SyncTaskExecutor());
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -289,7 +299,7 @@ public class SchemaRegistrySyncControllerServiceTest {
         .thenReturn(utilMethods.createSchemaList());
     List<Topic> topicList = utilMethods.getTopics();
     topicList.get(0).setTopicname(topicName);
-    when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt())).thenReturn(topicList);
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(topicList);
 
     ApiResponse apiResponse =
         schemaRegistrySyncControllerService.updateSyncSchemas(syncSchemaUpdates);
@@ -350,8 +360,7 @@ public class SchemaRegistrySyncControllerServiceTest {
 
     List<MessageSchema> schemaList = utilMethods.getMSchemas();
     schemaList.get(0).setTopicname(topicName);
-    when(handleDbRequests.getSchemaForTenantAndEnvAndTopic(anyInt(), anyString(), anyString()))
-        .thenReturn(schemaList);
+    when(handleDbRequests.getSchemasForTenantAndEnv(anyInt(), anyString())).thenReturn(schemaList);
 
     ApiResponse apiResponse =
         schemaRegistrySyncControllerService.updateSyncSchemas(syncSchemaUpdates);
@@ -451,7 +460,7 @@ public class SchemaRegistrySyncControllerServiceTest {
         .thenReturn(utilMethods.createSchemaList());
     List<Topic> topicList = utilMethods.getTopics();
     topicList.get(0).setTopicname(topicName);
-    when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt())).thenReturn(topicList);
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(topicList);
 
     ApiResponse apiResponse =
         schemaRegistrySyncControllerService.updateSyncSchemas(syncSchemaUpdates);
@@ -463,8 +472,9 @@ public class SchemaRegistrySyncControllerServiceTest {
                 + "\nSchemas removed "
                 + CollectionUtils.emptyIfNull(syncSchemaUpdates.getTopicListForRemoval()));
 
-    verify(handleDbRequests, times(schemasToBeDeleted.size()))
-        .deleteSchema(eq(101), anyString(), eq("1"));
+    verify(handleDbRequests)
+        .updateSyncedSchemas(
+            anyList(), anyList(), eq(new LinkedHashSet<>(schemasToBeDeleted)), eq("1"), eq(101));
   }
 
   @Test
@@ -661,6 +671,111 @@ public class SchemaRegistrySyncControllerServiceTest {
         Arguments.of(CollectionUtils.emptyCollection()));
   }
 
+  @Test
+  @Order(14)
+  public void updateDbFromClusterSkipsKnownVersions() throws Exception {
+    stubUserInfo();
+    String topicName = "2ndTopic";
+
+    Env env = utilMethods.getEnvLists().get(0);
+    env.setAssociatedEnv(new EnvTag("1", "SCH"));
+    env.setType("kafka");
+
+    SyncSchemaUpdates syncSchemaUpdates = new SyncSchemaUpdates();
+    syncSchemaUpdates.setSourceKafkaEnvSelected("1");
+    syncSchemaUpdates.setTopicList(List.of(topicName));
+    syncSchemaUpdates.setTypeOfSync("SYNC_SCHEMAS");
+
+    Map<Integer, KwClusters> kwClustersMap = new HashMap<>();
+    kwClustersMap.put(1, utilMethods.getKwClusters());
+
+    when(handleDbRequests.getEnvDetails(anyString(), anyInt())).thenReturn(env);
+    when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(manageDatabase.getClusters(any(), anyInt())).thenReturn(kwClustersMap);
+    when(clusterApiService.getAvroSchema(anyString(), any(), anyString(), anyString(), anyInt()))
+        .thenReturn(utilMethods.createSchemaList());
+    List<Topic> topicList = utilMethods.getTopics();
+    topicList.get(0).setTopicname(topicName);
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(topicList);
+
+    // version 1 is known with the same schema id, version 3 is no longer on the cluster
+    MessageSchema knownVersion = messageSchema(topicName, "1", 2);
+    MessageSchema removedVersion = messageSchema(topicName, "3", 4);
+    when(handleDbRequests.getSchemasForTenantAndEnv(anyInt(), anyString()))
+        .thenReturn(List.of(knownVersion, removedVersion));
+
+    ApiResponse apiResponse =
+        schemaRegistrySyncControllerService.updateSyncSchemas(syncSchemaUpdates);
+    assertThat(apiResponse.isSuccess()).isTrue();
+    assertThat((List<SchemaSyncResult>) apiResponse.getData())
+        .extracting(
+            SchemaSyncResult::getTopicName,
+            SchemaSyncResult::getSyncedVersions,
+            SchemaSyncResult::getSkippedVersions)
+        .containsExactly(tuple(topicName, 1, 1));
+
+    ArgumentCaptor<List<MessageSchema>> schemasToSave = ArgumentCaptor.forClass(List.class);
+    verify(handleDbRequests)
+        .updateSyncedSchemas(
+            schemasToSave.capture(), eq(List.of(removedVersion)), any(), eq("1"), eq(101));
+    assertThat(schemasToSave.getValue())
+        .extracting(MessageSchema::getSchemaversion, MessageSchema::getSchemaId)
+        .containsExactly(tuple("2", 3));
+  }
+
+  @Test
+  @Order(15)
+  public void updateClusterFromDbSkipsRegisteredSubjects() throws Exception {
+    stubUserInfo();
+    String topicName = "2ndTopic";
+
+    Env env = utilMethods.getEnvLists().get(0);
+    env.setAssociatedEnv(new EnvTag("1", "SCH"));
+    env.setType("kafka");
+
+    SyncSchemaUpdates syncSchemaUpdates = new SyncSchemaUpdates();
+    syncSchemaUpdates.setSourceKafkaEnvSelected("1");
+    syncSchemaUpdates.setTargetKafkaEnvSelected("2");
+    syncSchemaUpdates.setTopicList(List.of(topicName));
+    syncSchemaUpdates.setTypeOfSync("SYNC_BACK_SCHEMAS");
+    syncSchemaUpdates.setTopicsSelectionType("SELECTED_TOPICS");
+
+    Map<Integer, KwClusters> kwClustersMap = new HashMap<>();
+    kwClustersMap.put(1, utilMethods.getKwClusters());
+
+    when(handleDbRequests.getEnvDetails(anyString(), anyInt())).thenReturn(env);
+    when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(manageDatabase.getClusters(any(), anyInt())).thenReturn(kwClustersMap);
+    when(clusterApiService.getAvroSchema(anyString(), any(), anyString(), anyString(), anyInt()))
+        .thenReturn(utilMethods.createSchemaList());
+    when(handleDbRequests.getSchemasForTenantAndEnv(anyInt(), anyString()))
+        .thenReturn(List.of(messageSchema(topicName, "1", 2), messageSchema(topicName, "2", 3)));
+
+    ApiResponse apiResponse =
+        schemaRegistrySyncControllerService.updateSyncSchemas(syncSchemaUpdates);
+    assertThat(apiResponse.isSuccess()).isTrue();
+    assertThat(((List<String>) apiResponse.getData()))
+        .contains("Schemas already registered on cluster for 2ndTopic");
+    verify(clusterApiService, never()).deleteSchema(anyString(), anyString(), anyInt());
+    verify(clusterApiService, never()).postSchema(any(), anyString(), anyString(), anyInt());
+    verify(handleDbRequests, never()).updateDbWithUpdatedVersions(any());
+  }
+
+  private MessageSchema messageSchema(String topicName, String schemaVersion, int schemaId) {
+    MessageSchema messageSchema = new MessageSchema();
+    messageSchema.setReq_no(schemaId + 100);
+    messageSchema.setTenantId(101);
+    messageSchema.setEnvironment("1");
+    messageSchema.setTopicname(topicName);
+    messageSchema.setSchemaversion(schemaVersion);
+    messageSchema.setSchemaId(schemaId);
+    messageSchema.setTeamId(3);
+    messageSchema.setCompatibility("NOT SET");
+    return messageSchema;
+  }
+
   private void stubUserInfo() {
     when(handleDbRequests.getUsersInfo(anyString())).thenReturn(userInfo);
     when(userInfo.getTeamId()).thenReturn(101);
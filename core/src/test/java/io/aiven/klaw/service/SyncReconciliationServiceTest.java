@@ -0,0 +1,307 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusterSnapshot;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.ClusterSnapshot;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.AclInfo;
+import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.model.response.TopicSyncResponseModel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SyncReconciliationServiceTest {
+
+  private static final int TENANT_ID = 101;
+  private static final int OTHER_TENANT_ID = 102;
+
+  @Mock private ManageDatabase manageDatabase;
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+  @Mock private TopicSyncControllerService topicSyncControllerService;
+  @Mock private AclSyncControllerService aclSyncControllerService;
+  @Mock private MailUtils mailService;
+  @Mock private CommonUtilsService commonUtilsService;
+
+  @InjectMocks private SyncReconciliationService syncReconciliationService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(
+        syncReconciliationService, "reconciliationExecutor", new SyncTaskExecutor());
+    ReflectionTestUtils.setField(syncReconciliationService, "envBudgetSeconds", 10L);
+    ReflectionTestUtils.setField(syncReconciliationService, "incremental", true);
+    Mockito.when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+  }
+
+  @Test
+  void reconcileScheduled_SendsOneMailPerTenantWithFindings() throws Exception {
+    Mockito.when(manageDatabase.getTenantMap())
+        .thenReturn(Map.of(TENANT_ID, "default", OTHER_TENANT_ID, "other"));
+    Mockito.when(manageDatabase.getKafkaEnvList(TENANT_ID))
+        .thenReturn(List.of(env("1", "DEV"), env("2", "TST")));
+    Mockito.when(manageDatabase.getKafkaEnvList(OTHER_TENANT_ID))
+        .thenReturn(List.of(env("3", "PRD")));
+    Mockito.when(handleDbRequests.getClusterSnapshot(anyString(), anyString(), anyInt()))
+        .thenReturn(Optional.empty());
+
+    Mockito.when(topicSyncControllerService.getClusterTopics(anyString(), anyInt()))
+        .thenReturn(Set.of(topicConfig("newtopic", "1")));
+    Mockito.when(topicSyncControllerService.getReconTopics(anyString(), any(), any(), anyInt()))
+        .thenAnswer(
+            invocation ->
+                "1".equals(invocation.getArgument(0))
+                    ? List.of(topicSyncModel("newtopic", "ADDED"))
+                    : List.of());
+    Mockito.when(aclSyncControllerService.getClusterAcls("1", TENANT_ID)).thenReturn(List.of());
+    Mockito.when(aclSyncControllerService.getClusterAcls("2", TENANT_ID))
+        .thenThrow(new IllegalStateException("cluster unreachable"));
+    Mockito.when(aclSyncControllerService.getClusterAcls("3", OTHER_TENANT_ID))
+        .thenReturn(List.of());
+    Mockito.when(aclSyncControllerService.getReconAcls(anyString(), any(), anyInt()))
+        .thenReturn(List.of());
+
+    // scheduled, without a logged in user or a request
+    syncReconciliationService.reconcileScheduled();
+
+    // each env is reconciled for its own tenant
+    Mockito.verify(topicSyncControllerService).getClusterTopics("1", TENANT_ID);
+    Mockito.verify(topicSyncControllerService).getClusterTopics("2", TENANT_ID);
+    Mockito.verify(topicSyncControllerService).getClusterTopics("3", OTHER_TENANT_ID);
+    Mockito.verify(topicSyncControllerService)
+        .getReconTopics(eq("3"), any(), any(), eq(OTHER_TENANT_ID));
+    Mockito.verify(commonUtilsService, Mockito.never()).getTenantId(any());
+
+    ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+    // the other tenant has no findings and receives no mail
+    Mockito.verify(mailService, Mockito.times(1))
+        .sendReconMailToAdmin(
+            anyString(), content.capture(), eq("default"), eq(TENANT_ID), eq("/login"));
+    Mockito.verify(mailService, Mockito.never())
+        .sendReconMailToAdmin(anyString(), anyString(), eq("other"), anyInt(), anyString());
+    assertThat(content.getValue())
+        .contains("DEV topics : SUCCESS")
+        .contains("newtopic ADDED")
+        .contains("TST topics : SUCCESS")
+        .contains("TST acls : FAILED");
+    // the failed env keeps its previous snapshot
+    Mockito.verify(handleDbRequests, Mockito.times(5)).saveClusterSnapshot(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reconcileTopics_OnlyComparesTopicsChangedSinceSnapshot() throws Exception {
+    Set<TopicConfig> clusterTopics =
+        Set.of(
+            topicConfig("unchanged", "1"), topicConfig("changed", "3"), topicConfig("added", "1"));
+    Mockito.when(topicSyncControllerService.getClusterTopics("1", TENANT_ID))
+        .thenReturn(clusterTopics);
+    Mockito.when(handleDbRequests.getClusterSnapshot("1", SyncReconciliationService.TOPICS, 101))
+        .thenReturn(
+            Optional.of(
+                snapshotOf(
+                    topicConfig("unchanged", "1"),
+                    topicConfig("changed", "1"),
+                    topicConfig("removed", "1"))));
+    ArgumentCaptor<Predicate<String>> topicNameFilter = ArgumentCaptor.forClass(Predicate.class);
+    Mockito.when(
+            topicSyncControllerService.getReconTopics(
+                eq("1"), eq(clusterTopics), topicNameFilter.capture(), eq(TENANT_ID)))
+        .thenReturn(List.of(topicSyncModel("added", "ADDED")));
+
+    assertThat(syncReconciliationService.reconcileTopics(TENANT_ID, "1"))
+        .containsExactly("added ADDED");
+    assertThat(List.of("unchanged", "changed", "added", "removed"))
+        .filteredOn(topicNameFilter.getValue())
+        .containsExactlyInAnyOrder("changed", "added", "removed");
+    Mockito.verify(handleDbRequests).saveClusterSnapshot(any());
+  }
+
+  @Test
+  void reconcileTopics_SkipsUnchangedCluster() throws Exception {
+    TopicConfig topic = topicConfig("unchanged", "1");
+    Mockito.when(topicSyncControllerService.getClusterTopics("1", TENANT_ID))
+        .thenReturn(Set.of(topic));
+    Mockito.when(handleDbRequests.getClusterSnapshot("1", SyncReconciliationService.TOPICS, 101))
+        .thenReturn(Optional.of(snapshotOf(topic)));
+
+    assertThat(syncReconciliationService.reconcileTopics(TENANT_ID, "1")).isEmpty();
+    Mockito.verify(topicSyncControllerService, Mockito.never())
+        .getReconTopics(anyString(), any(), any(), anyInt());
+    Mockito.verify(handleDbRequests, Mockito.never()).saveClusterSnapshot(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reconcileTopics_ComparesAllTopicsWhenTopicsChangedInKlaw() throws Exception {
+    TopicConfig topic = topicConfig("unchanged", "1");
+    Mockito.when(topicSyncControllerService.getClusterTopics("1", TENANT_ID))
+        .thenReturn(Set.of(topic));
+    Mockito.when(handleDbRequests.getClusterSnapshot("1", SyncReconciliationService.TOPICS, 101))
+        .thenReturn(Optional.of(snapshotOf(topic)));
+    // a topic was added in klaw since the snapshot, which is not on the cluster
+    List<Topic> klawTopics = List.of(klawTopic("klawonly"));
+    Mockito.when(handleDbRequests.getSyncTopics("1", null, TENANT_ID)).thenReturn(klawTopics);
+    ArgumentCaptor<Predicate<String>> topicNameFilter = ArgumentCaptor.forClass(Predicate.class);
+    Mockito.when(
+            topicSyncControllerService.getReconTopics(
+                eq("1"), any(), topicNameFilter.capture(), eq(TENANT_ID)))
+        .thenReturn(List.of(topicSyncModel("klawonly", "DELETED")));
+
+    assertThat(syncReconciliationService.reconcileTopics(TENANT_ID, "1"))
+        .containsExactly("klawonly DELETED");
+    assertThat(topicNameFilter.getValue()).accepts("unchanged", "klawonly");
+    ArgumentCaptor<KwClusterSnapshot> saved = ArgumentCaptor.forClass(KwClusterSnapshot.class);
+    Mockito.verify(handleDbRequests).saveClusterSnapshot(saved.capture());
+    assertThat(saved.getValue().getMetadataHash())
+        .isEqualTo(SyncReconciliationService.topicsMetadataHash(klawTopics));
+  }
+
+  @Test
+  void reconcileAcls_ComparesAllAclsWhenAclsChangedInKlaw() throws Exception {
+    Map<String, String> unchangedAcl = clusterAcl("topic1", "User:CN=host1", "*");
+    List<Map<String, String>> clusterAcls = List.of(unchangedAcl);
+    Mockito.when(aclSyncControllerService.getClusterAcls("1", TENANT_ID)).thenReturn(clusterAcls);
+    String unchangedAclKey = SyncReconciliationService.aclSnapshotKey(unchangedAcl);
+    // the snapshot was taken while klaw still had an acl, which was deleted in klaw since
+    Acl deletedAcl = new Acl();
+    deletedAcl.setTopicname("topic1");
+    deletedAcl.setAclssl("CN=host1");
+    Mockito.when(handleDbRequests.getClusterSnapshot("1", SyncReconciliationService.ACLS, 101))
+        .thenReturn(
+            Optional.of(
+                kwClusterSnapshot(
+                    new ClusterSnapshot(
+                        Map.of(unchangedAclKey, ClusterSnapshot.contentHash(unchangedAclKey))),
+                    SyncReconciliationService.aclsMetadataHash(List.of(deletedAcl)))));
+    Mockito.when(aclSyncControllerService.getReconAcls("1", clusterAcls, TENANT_ID))
+        .thenReturn(List.of(aclInfo("topic1", "CN=host1", "*")));
+
+    assertThat(syncReconciliationService.reconcileAcls(TENANT_ID, "1"))
+        .containsExactly("topic1 Producer CN=host1 * ADDED");
+  }
+
+  @Test
+  void reconcileAcls_OnlyReportsAclsChangedSinceSnapshot() throws Exception {
+    Map<String, String> unchangedAcl = clusterAcl("topic1", "User:CN=host1", "*");
+    Map<String, String> addedAcl = clusterAcl("topic2", "User:CN=host2", "*");
+    List<Map<String, String>> clusterAcls = List.of(unchangedAcl, addedAcl);
+    Mockito.when(aclSyncControllerService.getClusterAcls("1", TENANT_ID)).thenReturn(clusterAcls);
+    String unchangedAclKey = SyncReconciliationService.aclSnapshotKey(unchangedAcl);
+    Mockito.when(handleDbRequests.getClusterSnapshot("1", SyncReconciliationService.ACLS, 101))
+        .thenReturn(
+            Optional.of(
+                kwClusterSnapshot(
+                    new ClusterSnapshot(
+                        Map.of(unchangedAclKey, ClusterSnapshot.contentHash(unchangedAclKey))),
+                    SyncReconciliationService.aclsMetadataHash(List.of()))));
+    Mockito.when(aclSyncControllerService.getReconAcls("1", clusterAcls, TENANT_ID))
+        .thenReturn(
+            List.of(aclInfo("topic1", "CN=host1", "*"), aclInfo("topic2", "CN=host2", null)));
+
+    assertThat(syncReconciliationService.reconcileAcls(TENANT_ID, "1"))
+        .containsExactly("topic2 Producer CN=host2 null ADDED");
+  }
+
+  private static Env env(String id, String name) {
+    Env env = new Env();
+    env.setId(id);
+    env.setName(name);
+    return env;
+  }
+
+  private static TopicConfig topicConfig(String topicName, String partitions) {
+    TopicConfig topicConfig = new TopicConfig();
+    topicConfig.setTopicName(topicName);
+    topicConfig.setPartitions(partitions);
+    topicConfig.setReplicationFactor("1");
+    return topicConfig;
+  }
+
+  private static KwClusterSnapshot snapshotOf(TopicConfig... topics) {
+    Map<String, String> contentHashes = new HashMap<>();
+    for (TopicConfig topic : topics) {
+      contentHashes.put(
+          topic.getTopicName(),
+          ClusterSnapshot.contentHash(
+              topic.getTopicName(), topic.getPartitions(), topic.getReplicationFactor()));
+    }
+    // taken while klaw had no topics in the env
+    return kwClusterSnapshot(
+        new ClusterSnapshot(contentHashes),
+        SyncReconciliationService.topicsMetadataHash(List.of()));
+  }
+
+  private static KwClusterSnapshot kwClusterSnapshot(
+      ClusterSnapshot snapshot, String metadataHash) {
+    KwClusterSnapshot kwClusterSnapshot = new KwClusterSnapshot();
+    kwClusterSnapshot.setSnapshot(snapshot.serialize());
+    kwClusterSnapshot.setMetadataHash(metadataHash);
+    return kwClusterSnapshot;
+  }
+
+  private static Topic klawTopic(String topicName) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    topic.setNoOfPartitions(1);
+    topic.setNoOfReplicas("1");
+    topic.setTeamId(1);
+    return topic;
+  }
+
+  private static Map<String, String> clusterAcl(String topicName, String principal, String host) {
+    return Map.of(
+        "resourceType",
+        "TOPIC",
+        "resourceName",
+        topicName,
+        "principle",
+        principal,
+        "host",
+        host,
+        "operation",
+        "WRITE",
+        "permissionType",
+        "ALLOW");
+  }
+
+  private static AclInfo aclInfo(String topicName, String principal, String host) {
+    AclInfo aclInfo = new AclInfo();
+    aclInfo.setTopicname(topicName);
+    aclInfo.setTopictype("Producer");
+    aclInfo.setAcl_ssl(principal);
+    aclInfo.setAcl_ip(host);
+    aclInfo.setRemarks("ADDED");
+    return aclInfo;
+  }
+
+  private static TopicSyncResponseModel topicSyncModel(String topicName, String remarks) {
+    TopicSyncResponseModel model = new TopicSyncResponseModel();
+    model.setTopicname(topicName);
+    model.setRemarks(remarks);
+    return model;
+  }
+}
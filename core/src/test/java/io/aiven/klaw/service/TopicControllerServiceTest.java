@@ -1,5 +1,8 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_105;
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_112;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_121;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -8,8 +11,10 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
@@ -33,14 +38,19 @@ import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.TopicRequestModel;
+import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.model.response.TopicDetailsPerEnv;
+import io.aiven.klaw.model.response.TopicNameValidationResult;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.TopicTeamResponse;
+import io.aiven.klaw.validation.TopicPolicy;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -87,6 +97,8 @@ public class TopicControllerServiceTest {
 
   @Mock private MailUtils mailService;
 
+  @Mock private ClusterOperationOutboxService clusterOperationOutboxService;
+
   private TopicControllerService topicControllerService;
 
   @Mock RolesPermissionsControllerService rolesPermissionsControllerService;
@@ -114,6 +126,8 @@ public class TopicControllerServiceTest {
         topicControllerService,
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
+    ReflectionTestUtils.setField(
+        topicControllerService, "clusterOperationOutboxService", clusterOperationOutboxService);
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -1540,6 +1554,183 @@ public class TopicControllerServiceTest {
     assertThat(apiResponse.isSuccess()).isFalse();
   }
 
+  @Test
+  @Order(57)
+  public void approveTopicRequestsInBulk() throws KlawException {
+    TopicRequest topicRequest1 = getTopicRequest(TOPIC_1);
+    topicRequest1.setTopicid(1001);
+    TopicRequest topicRequest2 = getTopicRequest("topic2");
+    topicRequest2.setTopicid(1002);
+    TopicRequest topicRequest3 = getTopicRequest("topic3");
+    topicRequest3.setTopicid(1003);
+    TopicRequest ownTopicRequest = getTopicRequest("own-topic");
+    ownTopicRequest.setTopicid(1004);
+    ownTopicRequest.setRequestor("kwusera");
+    Map<String, String> topicResults = new HashMap<>();
+    topicResults.put(TOPIC_1, ApiResultStatus.SUCCESS.value);
+    topicResults.put("topic2", "TopicExistsException");
+    topicResults.put("topic3", ApiResultStatus.SUCCESS.value);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequests(any(), anyInt()))
+        .thenReturn(List.of(topicRequest1, topicRequest2, topicRequest3, ownTopicRequest));
+    when(clusterApiService.createTopics(eq("1"), any(), any(), anyInt()))
+        .thenReturn(
+            new ResponseEntity<>(
+                ApiResponse.builder()
+                    .success(true)
+                    .message(ApiResultStatus.SUCCESS.value)
+                    .data(topicResults)
+                    .build(),
+                HttpStatus.OK));
+    when(handleDbRequests.updateTopicRequests(any(), anyString()))
+        .thenReturn(
+            CRUDResponse.<Topic>builder().resultStatus(ApiResultStatus.SUCCESS.value).build());
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses =
+        topicControllerService.approveTopicRequests(
+            List.of("1001", "1002", "1004", "1003", "9999"));
+
+    assertThat(apiResponses)
+        .extracting(ApiResponse::isSuccess)
+        .containsExactly(true, false, false, true, false);
+    assertThat(apiResponses.get(0).getMessage()).isEqualTo("Topic Status: success");
+    assertThat(apiResponses.get(1).getMessage()).isEqualTo("Topic Status: TopicExistsException");
+    assertThat(apiResponses.get(2).getMessage()).isEqualTo(TOPICS_ERR_112);
+    assertThat(apiResponses.get(4).getMessage()).isEqualTo(REQ_ERR_101);
+    verify(clusterApiService, times(1)).createTopics(eq("1"), any(), any(), anyInt());
+    verify(handleDbRequests, times(1))
+        .updateTopicRequests(eq(List.of(topicRequest1, topicRequest3)), anyString());
+    verify(commonUtilsService, times(1)).updateMetadata(anyInt(), any(), any(), any());
+  }
+
+  @Test
+  @Order(58)
+  public void approveTopicRequestsThroughOutbox() throws KlawException {
+    TopicRequest topicRequest = getTopicRequest(TOPIC_1);
+    topicRequest.setTopicid(1001);
+
+    stubUserInfo();
+    when(clusterOperationOutboxService.isEnabled()).thenReturn(true);
+    when(handleDbRequests.getTopicRequestsForTopic(anyInt(), anyInt())).thenReturn(topicRequest);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    ApiResponse apiResponse = topicControllerService.approveTopicRequests("1001");
+
+    assertThat(apiResponse.isSuccess()).isTrue();
+    assertThat(apiResponse.getMessage()).isEqualTo(REQ_SER_105);
+    verify(clusterOperationOutboxService, times(1))
+        .enqueue(eq(RequestEntityType.TOPIC), eq(1001), eq("1"), anyInt(), eq("kwusera"));
+    verify(clusterApiService, never())
+        .approveTopicRequests(
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyString(),
+            anyString(),
+            any(),
+            anyInt(),
+            anyBoolean());
+    verify(handleDbRequests, never()).updateTopicRequest(any(), anyString());
+  }
+
+  @Test
+  @Order(59)
+  public void executeApprovedTopicRequest() throws KlawException {
+    TopicRequest topicRequest = getTopicRequest(TOPIC_1);
+    topicRequest.setTopicid(1001);
+
+    when(handleDbRequests.getTopicRequestsForTopic(1001, 101)).thenReturn(topicRequest);
+    when(handleDbRequests.updateTopicRequest(any(), eq("approver")))
+        .thenReturn(
+            CRUDResponse.<Topic>builder().resultStatus(ApiResultStatus.SUCCESS.value).build());
+    when(clusterApiService.approveTopicRequests(
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyString(),
+            anyString(),
+            any(),
+            anyInt(),
+            anyBoolean()))
+        .thenThrow(new KlawException("Connection refused"))
+        .thenReturn(new ResponseEntity<>(ApiResponse.SUCCESS, HttpStatus.OK));
+
+    assertThrows(
+        KlawException.class,
+        () -> topicControllerService.executeApprovedTopicRequest("approver", 101, 1001));
+    ApiResponse apiResponse =
+        topicControllerService.executeApprovedTopicRequest("approver", 101, 1001);
+
+    assertThat(apiResponse.getMessage()).isEqualTo("Topic Status: success");
+    verify(handleDbRequests, times(1)).updateTopicRequest(topicRequest, "approver");
+    verify(commonUtilsService, times(1)).updateMetadata(anyInt(), any(), any(), any());
+  }
+
+  @Test
+  @Order(60)
+  public void executeApprovedTopicRequestAlreadyApproved() throws KlawException {
+    TopicRequest topicRequest = getTopicRequest(TOPIC_1);
+    topicRequest.setRequestStatus(RequestStatus.APPROVED.value);
+    when(handleDbRequests.getTopicRequestsForTopic(1001, 101)).thenReturn(topicRequest);
+
+    ApiResponse apiResponse =
+        topicControllerService.executeApprovedTopicRequest("approver", 101, 1001);
+
+    assertThat(apiResponse.isSuccess()).isTrue();
+    verifyNoInteractions(clusterApiService);
+  }
+
+  @Test
+  @Order(61)
+  public void validateTopicNames() {
+    stubUserInfo();
+    EnvParams params = new EnvParams();
+    params.setTopicPrefix(List.of("dev-"));
+    env.setParams(params);
+    Topic existingTopic = new Topic();
+    existingTopic.setTopicname("dev-existing");
+    when(commonUtilsService.getEnvsFromUserId(anyString())).thenReturn(Set.of("1"));
+    when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
+    when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(List.of(env));
+    when(manageDatabase.getTopicPolicy(101, env)).thenReturn(TopicPolicy.of(params));
+    when(commonUtilsService.getTopics("1", null, 101)).thenReturn(List.of(existingTopic));
+
+    List<TopicNameValidationResult> results =
+        topicControllerService.validateTopicNames(
+            "1", Arrays.asList("dev-orders", "orders", "dev-existing", "dev orders", null));
+
+    assertThat(results)
+        .extracting(TopicNameValidationResult::isValid)
+        .containsExactly(true, false, false, false, false);
+    assertThat(results)
+        .extracting(TopicNameValidationResult::getMessage)
+        .containsExactly(
+            null,
+            "Topic prefix does not match. orders",
+            "Failure. This topic already exists in the selected cluster.",
+            "Failure. Please fill in a valid topic name.",
+            "Failure. Please fill in a valid topic name.");
+  }
+
+  @Test
+  @Order(62)
+  public void validateTopicNamesNotAuthorizedForEnv() {
+    stubUserInfo();
+    when(commonUtilsService.getEnvsFromUserId(anyString())).thenReturn(Set.of("2"));
+
+    List<TopicNameValidationResult> results =
+        topicControllerService.validateTopicNames("1", List.of("dev-orders"));
+
+    assertThat(results)
+        .extracting(TopicNameValidationResult::getMessage)
+        .containsExactly("Failure. Not authorized to request topic for this environment.");
+    verify(manageDatabase, times(0)).getTopicPolicy(anyInt(), any());
+  }
+
   private List<MessageSchema> getSchemas(int number) {
     List<MessageSchema> schemas = new ArrayList<>();
     for (int i = 0; i < number; i++) {
@@ -1,9 +1,14 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_110;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -31,6 +36,8 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.model.response.EnvParams;
+import io.aiven.klaw.model.response.SyncBackTopicResult;
+import io.aiven.klaw.model.response.SyncBackTopicsJobStatus;
 import io.aiven.klaw.model.response.SyncTopicsList;
 import io.aiven.klaw.model.response.TopicConfig;
 import io.aiven.klaw.model.response.TopicSyncResponseModel;
@@ -55,6 +62,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -121,6 +130,11 @@ public class TopicSyncControllerServiceTest {
         topicSyncControllerService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(
         topicSyncControllerService, "clusterApiService", clusterApiService);
+    // the batches of the sync back jobs run on the calling thread, done once the job is started
+    ReflectionTestUtils.setField(
+        topicSyncControllerService,
+        "syncBackExecutor",
+        new ExecutorServiceAdapter(new SyncTaskExecutor()));
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -273,19 +287,14 @@ public class TopicSyncControllerServiceTest {
     stubUserInfo();
     mockMultipleTopics();
     mockGetTopicsFromEnv();
-    when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
         .thenReturn(
-            createAPIResponse(
-                "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists."));
+            createBatchAPIResponse(
+                Map.of(
+                    TOPIC_NAME_1,
+                    ApiResultStatus.SUCCESS.value,
+                    TOPIC_NAME_2,
+                    "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists.")));
     when(handleDbRequests.updateTopicRequest(any(), any()))
         .thenReturn(
             CRUDResponse.<Topic>builder()
@@ -324,16 +333,14 @@ public class TopicSyncControllerServiceTest {
     stubUserInfo();
     mockMultipleTopics();
     mockGetTopicsFromEnv();
-    when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value));
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenReturn(
+            createBatchAPIResponse(
+                Map.of(
+                    TOPIC_NAME_1,
+                    ApiResultStatus.SUCCESS.value,
+                    TOPIC_NAME_2,
+                    ApiResultStatus.SUCCESS.value)));
     when(handleDbRequests.updateTopicRequest(any(), any()))
         .thenReturn(
             CRUDResponse.<Topic>builder()
@@ -373,19 +380,14 @@ public class TopicSyncControllerServiceTest {
     mockSelectedOnlyTopics(1, TOPIC_NAME_1, env.getId());
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
-    when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
         .thenReturn(
-            createAPIResponse(
-                "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists."));
+            createBatchAPIResponse(
+                Map.of(
+                    TOPIC_NAME_1,
+                    ApiResultStatus.SUCCESS.value,
+                    TOPIC_NAME_2,
+                    "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists.")));
     when(handleDbRequests.updateTopicRequest(any(), any()))
         .thenReturn(
             CRUDResponse.<Topic>builder()
@@ -424,16 +426,14 @@ public class TopicSyncControllerServiceTest {
     mockSelectedOnlyTopics(1, TOPIC_NAME_1, env.getId());
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
-    when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value));
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenReturn(
+            createBatchAPIResponse(
+                Map.of(
+                    TOPIC_NAME_1,
+                    ApiResultStatus.SUCCESS.value,
+                    TOPIC_NAME_2,
+                    ApiResultStatus.SUCCESS.value)));
     when(handleDbRequests.updateTopicRequest(any(), any()))
         .thenReturn(
             CRUDResponse.<Topic>builder()
@@ -472,16 +472,10 @@ public class TopicSyncControllerServiceTest {
     mockSelectedOnlyTopics(1, TOPIC_NAME_1, env.getId());
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
-    when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+    // one topic per batch, created one batch after another
+    ReflectionTestUtils.setField(topicSyncControllerService, "syncBackBatchSize", 1);
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenReturn(createBatchAPIResponse(Map.of(TOPIC_NAME_1, ApiResultStatus.SUCCESS.value)))
         .thenThrow(
             new KlawException("Could not approve topic request. Please contact Administrator."));
     when(handleDbRequests.updateTopicRequest(any(), any()))
@@ -508,7 +502,12 @@ public class TopicSyncControllerServiceTest {
 
     verifyCaptureContents(req, update, 0, 1, TOPIC_NAME_1);
 
-    assertThat(retval.getMessage())
+    // the sync back is started, the error of the cluster api is reported by its job
+    assertThat(retval.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
+    SyncBackTopicsJobStatus jobStatus =
+        topicSyncControllerService.getSyncBackTopicsJob((String) retval.getData());
+    assertThat(jobStatus.getStatus()).isEqualTo("FAILED");
+    assertThat(jobStatus.getError())
         .isEqualTo("Error :Could not approve topic request. Please contact Administrator.");
   }
 
@@ -1128,6 +1127,62 @@ public class TopicSyncControllerServiceTest {
     assertThat(actualStringValidation).isEqualTo(3);
   }
 
+  @Test
+  @Order(22)
+  public void syncBackTopicsJobCreatesTopicsInBatches() throws Exception {
+    stubUserInfo();
+    mockMultipleTopics();
+    mockGetTopicsFromEnv();
+    ReflectionTestUtils.setField(topicSyncControllerService, "syncBackBatchSize", 1);
+    // batches are created in parallel, so the result depends on the topic of the batch
+    when(clusterApiService.createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenAnswer(
+            invocation -> {
+              List<Topic> batch = invocation.getArgument(1);
+              String topicName = batch.get(0).getTopicname();
+              return createBatchAPIResponse(
+                  Map.of(
+                      topicName,
+                      TOPIC_NAME_1.equals(topicName)
+                          ? ApiResultStatus.SUCCESS.value
+                          : "Timed out creating topic"));
+            });
+    when(handleDbRequests.updateTopicRequest(any(), any()))
+        .thenReturn(
+            CRUDResponse.<Topic>builder()
+                .resultStatus(ApiResultStatus.SUCCESS.value)
+                .entities(List.of(new Topic()))
+                .build());
+
+    ApiResponse response =
+        topicSyncControllerService.createSyncBackTopicsJob(
+            createSyncBackTopic(ALL_TOPICS, new String[0]));
+    SyncBackTopicsJobStatus jobStatus =
+        topicSyncControllerService.getSyncBackTopicsJob((String) response.getData());
+
+    verify(clusterApiService, times(2))
+        .createTopics(eq(test.getId()), anyList(), anyMap(), eq(TENANT_ID));
+    assertThat(response.isSuccess()).isTrue();
+    assertThat(jobStatus.getStatus()).isEqualTo("COMPLETED");
+    assertThat(jobStatus.getTotalTopics()).isEqualTo(2);
+    assertThat(jobStatus.getProcessedTopics()).isEqualTo(2);
+    assertThat(jobStatus.getSucceededTopics()).isEqualTo(1);
+    assertThat(jobStatus.getFailedTopics()).isEqualTo(1);
+    assertThat(jobStatus.getResults())
+        .extracting(SyncBackTopicResult::getTopicName, SyncBackTopicResult::isSuccess)
+        .containsExactly(tuple(TOPIC_NAME_1, true), tuple(TOPIC_NAME_2, false));
+  }
+
+  @Test
+  @Order(23)
+  public void getSyncBackTopicsJobDoesNotExist() {
+    stubUserInfo();
+
+    assertThatThrownBy(() -> topicSyncControllerService.getSyncBackTopicsJob("unknown"))
+        .isInstanceOf(KlawException.class)
+        .hasMessage(TOPICS_SYNC_ERR_110);
+  }
+
   private LoadTopicsResponse generateClusterTopics(int numberOfTopics) {
     String[] topicNames = new String[numberOfTopics];
     for (int i = 0; i < numberOfTopics; i++) {
@@ -1224,6 +1279,16 @@ public class TopicSyncControllerServiceTest {
         .body(ApiResponse.builder().message(resultStatus).build());
   }
 
+  private ResponseEntity<ApiResponse> createBatchAPIResponse(Map<String, String> topicResults) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            ApiResponse.builder()
+                .success(true)
+                .message(ApiResultStatus.SUCCESS.value)
+                .data(topicResults)
+                .build());
+  }
+
   private void mockMultipleTopics() {
 
     when(handleDbRequests.requestForTopic(any()))
@@ -0,0 +1,50 @@
+package io.aiven.klaw.uglify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrecompressFilesTest {
+
+  @TempDir Path staticDir;
+
+  @Test
+  void writesGzipVariantOfCompressibleFiles() throws IOException {
+    Path js = Files.createDirectories(staticDir.resolve("js")).resolve("browseTopics.js");
+    String content = "var topics = [];\n".repeat(200);
+    Files.writeString(js, content);
+
+    assertThat(PrecompressFiles.precompress(staticDir)).isEqualTo(1);
+
+    try (InputStream in =
+        new GZIPInputStream(Files.newInputStream(Path.of(js + PrecompressFiles.GZIP_EXTENSION)))) {
+      assertThat(new String(in.readAllBytes())).isEqualTo(content);
+    }
+  }
+
+  @Test
+  void skipsSmallAndNotCompressibleFiles() throws IOException {
+    Files.writeString(staticDir.resolve("small.css"), "body {}");
+    Files.write(staticDir.resolve("logo.png"), new byte[4096]);
+
+    assertThat(PrecompressFiles.precompress(staticDir)).isZero();
+    try (var files = Files.list(staticDir)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .containsExactlyInAnyOrder("small.css", "logo.png");
+    }
+  }
+
+  @Test
+  void doesNotCompressAgainUnchangedFiles() throws IOException {
+    Files.writeString(staticDir.resolve("style.css"), "body { margin: 0; }\n".repeat(100));
+
+    assertThat(PrecompressFiles.precompress(staticDir)).isEqualTo(1);
+    assertThat(PrecompressFiles.precompress(staticDir)).isZero();
+  }
+}
@@ -0,0 +1,91 @@
+package io.aiven.klaw.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.model.response.EnvParams;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicPolicyTest {
+
+  private static final int MIN_SIZE = 3;
+
+  @Test
+  void noParamsAcceptsEveryName() {
+    TopicPolicy topicPolicy = TopicPolicy.of(null);
+
+    assertThat(topicPolicy).isSameAs(TopicPolicy.NONE);
+    assertThat(topicPolicy.validateTopicName("a", MIN_SIZE)).isNull();
+  }
+
+  @Test
+  void prefixAndSuffix() {
+    TopicPolicy topicPolicy = TopicPolicy.of(params("dev-", "-v1", null, false));
+
+    assertThat(topicPolicy.validateTopicName("dev-orders-v1", MIN_SIZE)).isNull();
+    assertThat(topicPolicy.validateTopicName("orders-v1", MIN_SIZE))
+        .isEqualTo("Topic prefix does not match. orders-v1");
+    assertThat(topicPolicy.validateTopicName("dev-orders", MIN_SIZE))
+        .isEqualTo("Topic suffix does not match. dev-orders");
+  }
+
+  @Test
+  void overlappingPrefixAndSuffix() {
+    TopicPolicy topicPolicy = TopicPolicy.of(params("dev-", "-dev", null, false));
+
+    assertThat(topicPolicy.validateTopicName("dev-dev", MIN_SIZE))
+        .startsWith("Topic Suffix and Topic Prefix overlap");
+  }
+
+  @Test
+  void minimumNameSizeBesidesPrefixAndSuffix() {
+    TopicPolicy topicPolicy = TopicPolicy.of(params("dev-", null, null, false));
+
+    assertThat(topicPolicy.validateTopicName("dev-ab", MIN_SIZE)).contains("dev-ab");
+    assertThat(topicPolicy.validateTopicName("dev-abc", MIN_SIZE)).isNull();
+  }
+
+  @Test
+  void regexReplacesPrefixAndSuffix() {
+    TopicPolicy topicPolicy = TopicPolicy.of(params("dev-", null, "^team\\..*$", true));
+
+    assertThat(topicPolicy.validateTopicName("team.orders", MIN_SIZE)).isNull();
+    assertThat(topicPolicy.validateTopicName("dev-orders", MIN_SIZE)).contains("dev-orders");
+  }
+
+  @Test
+  void invalidRegexRejectsEveryName() {
+    TopicPolicy topicPolicy = TopicPolicy.of(params(null, null, "team.[", true));
+
+    assertThat(topicPolicy.validateTopicName("team.orders", MIN_SIZE))
+        .isEqualTo("Cluster default parameters config missing/incorrect.");
+  }
+
+  @Test
+  void isCompiledFrom() {
+    EnvParams params = params("dev-", null, null, false);
+    TopicPolicy topicPolicy = TopicPolicy.of(params);
+
+    assertThat(topicPolicy.isCompiledFrom(params)).isTrue();
+    assertThat(topicPolicy.isCompiledFrom(params("dev-", null, null, false))).isTrue();
+    assertThat(topicPolicy.isCompiledFrom(null)).isFalse();
+
+    params.setTopicPrefix(List.of("test-"));
+    assertThat(topicPolicy.isCompiledFrom(params)).isFalse();
+  }
+
+  private static EnvParams params(String prefix, String suffix, String regex, boolean applyRegex) {
+    EnvParams params = new EnvParams();
+    if (prefix != null) {
+      params.setTopicPrefix(List.of(prefix));
+    }
+    if (suffix != null) {
+      params.setTopicSuffix(List.of(suffix));
+    }
+    if (regex != null) {
+      params.setTopicRegex(List.of(regex));
+    }
+    params.setApplyRegex(applyRegex);
+    return params;
+  }
+}
@@ -0,0 +1,119 @@
+package io.aiven.klaw.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calls the api of core as the users of the load test, each with the session of its login, and
+ * records the latency of every call.
+ */
+public class KlawClient {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  private final String baseUrl;
+  private final LatencyRecorder recorder;
+  private final HttpClient httpClient;
+  // session cookie per user
+  private final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+  public KlawClient(String baseUrl, LatencyRecorder recorder) {
+    this.baseUrl = baseUrl;
+    this.recorder = recorder;
+    httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT)
+            .build();
+  }
+
+  public void login(String userName, String password) throws IOException, InterruptedException {
+    String form =
+        "username="
+            + URLEncoder.encode(userName, StandardCharsets.UTF_8)
+            + "&password="
+            + URLEncoder.encode(password, StandardCharsets.UTF_8);
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build();
+    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    String location = response.headers().firstValue("Location").orElse("");
+    String cookie = response.headers().firstValue("Set-Cookie").orElse("");
+    if (response.statusCode() != 302 || location.contains("error") || cookie.isEmpty()) {
+      throw new IOException("Login of " + userName + " failed with " + response.statusCode());
+    }
+    sessions.put(userName, cookie.substring(0, cookie.indexOf(';')));
+  }
+
+  /**
+   * Gets the endpoint as the user, for a request due at the given time. Returns the json of the
+   * response, or a missing node when the request failed.
+   */
+  public JsonNode get(String userName, String endpoint, String query, long startNanos) {
+    return send(userName, "GET", endpoint, query, null, startNanos);
+  }
+
+  /** Posts the body, if any, to the endpoint as the user, see {@link #get}. */
+  public JsonNode post(
+      String userName, String endpoint, String query, Object body, long startNanos) {
+    return send(userName, "POST", endpoint, query, body, startNanos);
+  }
+
+  private JsonNode send(
+      String userName, String method, String endpoint, String query, Object body, long startNanos) {
+    String error = null;
+    JsonNode json = MissingNode.getInstance();
+    try {
+      HttpRequest.Builder request =
+          HttpRequest.newBuilder(URI.create(baseUrl + endpoint + query))
+              .timeout(TIMEOUT)
+              .header("Cookie", sessions.get(userName))
+              .header("Accept", "application/json");
+      if ("GET".equals(method)) {
+        request.GET();
+      } else if (body == null) {
+        request.POST(HttpRequest.BodyPublishers.noBody());
+      } else {
+        request
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+      }
+      HttpResponse<byte[]> response =
+          httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        error = "HTTP " + response.statusCode();
+      } else {
+        json = OBJECT_MAPPER.readTree(response.body());
+        // operations which could not be done are mostly answered with 200 and success false
+        if (json.path("success").isBoolean() && !json.path("success").asBoolean()) {
+          error = json.path("message").asText("failure");
+        }
+      }
+    } catch (IOException e) {
+      error = e.getClass().getSimpleName();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      error = e.getClass().getSimpleName();
+    }
+    recorder.record(method + " " + endpoint, startNanos, System.nanoTime(), error);
+    return error == null ? json : MissingNode.getInstance();
+  }
+}
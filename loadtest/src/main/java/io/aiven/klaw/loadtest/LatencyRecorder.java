@@ -0,0 +1,129 @@
+package io.aiven.klaw.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Latencies and errors of the requests per endpoint. Latencies are measured from the time the
+ * request was due to start rather than from the time it started, so that the time spent waiting for
+ * a free thread when the server falls behind the rate counts as latency.
+ */
+public class LatencyRecorder {
+
+  private static final int MAX_ERROR_SAMPLES = 5;
+
+  private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+  // requests due before are not recorded, like the requests of the warmup
+  private volatile long recordFromNanos = Long.MIN_VALUE;
+
+  public void recordFrom(long nanos) {
+    recordFromNanos = nanos;
+  }
+
+  public void record(String endpoint, long startNanos, long endNanos, String error) {
+    if (startNanos - recordFromNanos < 0) {
+      return;
+    }
+    endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).add(endNanos - startNanos, error);
+  }
+
+  /** Statistics of the endpoints, the throughput being computed over the given duration. */
+  public List<EndpointStats> getStats(double durationSeconds) {
+    List<EndpointStats> stats = new ArrayList<>();
+    endpoints.forEach((name, endpoint) -> stats.add(endpoint.getStats(name, durationSeconds)));
+    return stats;
+  }
+
+  public EndpointStats getTotal(double durationSeconds) {
+    Endpoint total = new Endpoint();
+    endpoints.values().forEach(total::addAll);
+    return total.getStats("total", durationSeconds);
+  }
+
+  private static class Endpoint {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private final Map<String, Integer> errorSamples = new HashMap<>();
+
+    synchronized void add(long latencyNanos, String error) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (error != null) {
+        errors++;
+        if (errorSamples.size() < MAX_ERROR_SAMPLES || errorSamples.containsKey(error)) {
+          errorSamples.merge(error, 1, Integer::sum);
+        }
+      }
+    }
+
+    synchronized void addAll(Endpoint endpoint) {
+      synchronized (endpoint) {
+        latencies = Arrays.copyOf(latencies, count + endpoint.count);
+        System.arraycopy(endpoint.latencies, 0, latencies, count, endpoint.count);
+        count += endpoint.count;
+        errors += endpoint.errors;
+      }
+    }
+
+    synchronized EndpointStats getStats(String name, double durationSeconds) {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      long sum = 0;
+      for (long latency : sorted) {
+        sum += latency;
+      }
+      return new EndpointStats(
+          name,
+          count,
+          errors,
+          Math.round(count / durationSeconds * 100) / 100.0,
+          count == 0 ? 0 : toMillis(sum / count),
+          toMillis(percentile(sorted, 50)),
+          toMillis(percentile(sorted, 95)),
+          toMillis(percentile(sorted, 99)),
+          count == 0 ? 0 : toMillis(sorted[count - 1]),
+          new LinkedHashMap<>(errorSamples));
+    }
+
+    // nearest rank percentile
+    private static long percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+      return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(long nanos) {
+      return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 1000) / 1000.0;
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class EndpointStats {
+    private final String endpoint;
+    private final int requests;
+    private final int errors;
+    private final double throughput;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    // the first distinct errors, and how often they occurred
+    private final Map<String, Integer> errorSamples;
+  }
+}
@@ -0,0 +1,65 @@
+package io.aiven.klaw.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the operations of the workload at a fixed rate, whether the previous operations completed
+ * or not. Operations wait for a free thread when all threads are busy, which counts in their
+ * latency, rather than delaying the operations after them.
+ */
+@Slf4j
+public class LoadDriver {
+
+  private final Workload workload;
+  private final double rate;
+  private final ExecutorService executor;
+
+  public LoadDriver(Workload workload, LoadTestOptions options) {
+    this.workload = workload;
+    this.rate = options.getRate();
+    AtomicInteger threads = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            options.getThreads(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "loadtest-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Starts the operations due from the start time until the end of the duration, and returns once
+   * they are started. Returns the number of operations.
+   */
+  public long run(long startNanos, long durationNanos) {
+    long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    long operations = 0;
+    for (long dueNanos = startNanos;
+        dueNanos - startNanos < durationNanos;
+        dueNanos = startNanos + ++operations * intervalNanos) {
+      Workload.Operation operation = workload.next();
+      long waitNanos = dueNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        LockSupport.parkNanos(waitNanos);
+      }
+      long due = dueNanos;
+      executor.execute(() -> operation.run(due));
+    }
+    return operations;
+  }
+
+  /** Waits for the started operations to complete. */
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(5, TimeUnit.MINUTES)) {
+      log.warn("Operations still running after 5 minutes");
+      executor.shutdownNow();
+    }
+  }
+}
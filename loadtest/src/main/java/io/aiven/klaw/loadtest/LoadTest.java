@@ -0,0 +1,179 @@
+package io.aiven.klaw.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.clusterapi.KafkaClusterApiApplication;
+import java.io.File;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+/**
+ * End-to-end load test of Klaw. Starts a kafka broker, the cluster api and core with an in-memory
+ * database in one JVM, seeds tenants into core, runs the {@link Workload} against the api of core
+ * at a fixed rate, and writes the throughput and latency percentiles per endpoint to a json file.
+ *
+ * <p>Usage: {@code LoadTest [--name=value ...]}, see {@link LoadTestOptions} for the options.
+ */
+public class LoadTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final LoadTestOptions options;
+
+  public LoadTest(LoadTestOptions options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options;
+    try {
+      options = LoadTestOptions.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+      return;
+    }
+    new LoadTest(options).run();
+    // the broker and the applications leave threads behind
+    System.exit(0);
+  }
+
+  public void run() throws Exception {
+    EmbeddedKafkaBroker kafka = startKafka();
+    ConfigurableApplicationContext clusterApi = null;
+    ConfigurableApplicationContext core = null;
+    try {
+      // core authenticates to the cluster api with a token signed with the shared secret
+      byte[] secret = new byte[32];
+      new SecureRandom().nextBytes(secret);
+      String clusterApiSecret = Base64.getEncoder().encodeToString(secret);
+
+      System.out.println("Starting the cluster api");
+      clusterApi = startClusterApi(clusterApiSecret);
+      System.out.println("Starting core");
+      core = startCore(port(clusterApi), clusterApiSecret);
+
+      System.out.printf(
+          "Seeding %d tenants of %d teams, %d users per team, %d topics and %d acls per topic%n",
+          options.getTenants(),
+          options.getTeams(),
+          options.getUsers(),
+          options.getTopics(),
+          options.getAcls());
+      List<SeededTenant> tenants =
+          new TenantSeeder(options, core, kafka.getBrokersAsString()).seed();
+
+      LatencyRecorder recorder = new LatencyRecorder();
+      KlawClient client = new KlawClient("http://localhost:" + port(core), recorder);
+      for (SeededTenant tenant : tenants) {
+        for (SeededTenant.Team team : tenant.getTeams()) {
+          for (String user : team.getUsers()) {
+            client.login(user, TenantSeeder.PASSWORD);
+          }
+        }
+      }
+
+      LoadDriver driver = new LoadDriver(new Workload(options, tenants, client), options);
+      long warmupNanos = TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+      long durationNanos = TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+      long startNanos = System.nanoTime();
+      recorder.recordFrom(startNanos + warmupNanos);
+      System.out.printf(
+          "Running %s operations per second, %ds of warmup and %ds measured%n",
+          options.getRate(), options.getWarmupSeconds(), options.getDurationSeconds());
+      driver.run(startNanos, warmupNanos);
+      long operations = driver.run(startNanos + warmupNanos, durationNanos);
+      driver.shutdown();
+
+      writeReport(recorder, operations);
+    } finally {
+      if (core != null) {
+        core.close();
+      }
+      if (clusterApi != null) {
+        clusterApi.close();
+      }
+      kafka.destroy();
+    }
+  }
+
+  // a broker authorizing with acls, so that approving acl requests creates them
+  private EmbeddedKafkaBroker startKafka() {
+    System.out.println("Starting the kafka broker");
+    Map<String, String> brokerProperties = new LinkedHashMap<>();
+    brokerProperties.put("authorizer.class.name", "kafka.security.authorizer.AclAuthorizer");
+    brokerProperties.put("allow.everyone.if.no.acl.found", "true");
+    brokerProperties.put("super.users", "User:ANONYMOUS");
+    EmbeddedKafkaBroker kafka = new EmbeddedKafkaBroker(1).brokerProperties(brokerProperties);
+    kafka.afterPropertiesSet();
+    return kafka;
+  }
+
+  private ConfigurableApplicationContext startClusterApi(String clusterApiSecret) {
+    return new SpringApplicationBuilder(KafkaClusterApiApplication.class)
+        .run(
+            "--spring.config.location=classpath:/loadtest/application-cluster-api.properties",
+            "--server.port=0",
+            "--klaw.clusterapi.access.base64.secret=" + clusterApiSecret);
+  }
+
+  private ConfigurableApplicationContext startCore(int clusterApiPort, String clusterApiSecret) {
+    List<String> args = new ArrayList<>();
+    args.add("--spring.config.location=classpath:/loadtest/application-core.properties");
+    args.add("--server.port=0");
+    args.add("--klaw.clusterapi.url=http://localhost:" + clusterApiPort);
+    args.add("--klaw.clusterapi.access.base64.secret=" + clusterApiSecret);
+    options.getCoreProperties().forEach((name, value) -> args.add("--" + name + "=" + value));
+    return new SpringApplicationBuilder(LoadTestCoreApplication.class)
+        .run(args.toArray(new String[0]));
+  }
+
+  private static int port(ConfigurableApplicationContext context) {
+    return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+  }
+
+  private void writeReport(LatencyRecorder recorder, long operations) throws IOException {
+    double durationSeconds = options.getDurationSeconds();
+    List<LatencyRecorder.EndpointStats> endpoints = recorder.getStats(durationSeconds);
+    LatencyRecorder.EndpointStats total = recorder.getTotal(durationSeconds);
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("finishedAt", Instant.now().toString());
+    Map<String, Object> reportOptions = new LinkedHashMap<>(options.getValues());
+    reportOptions.put("core", options.getCoreProperties());
+    report.put("options", reportOptions);
+    report.put("operations", operations);
+    report.put("total", total);
+    report.put("endpoints", endpoints);
+    File output = new File(options.getOutput());
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(output, report);
+
+    String format = "%-40s %9s %7s %8s %9s %9s %9s %9s%n";
+    System.out.printf(
+        format, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Max ms");
+    List<LatencyRecorder.EndpointStats> rows = new ArrayList<>(endpoints);
+    rows.add(total);
+    for (LatencyRecorder.EndpointStats stats : rows) {
+      System.out.printf(
+          format,
+          stats.getEndpoint(),
+          stats.getRequests(),
+          stats.getErrors(),
+          stats.getThroughput(),
+          stats.getP50Millis(),
+          stats.getP95Millis(),
+          stats.getP99Millis(),
+          stats.getMaxMillis());
+    }
+    System.out.println("Results written to " + output.getAbsolutePath());
+  }
+}
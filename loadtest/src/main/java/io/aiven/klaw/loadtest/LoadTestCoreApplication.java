@@ -0,0 +1,38 @@
+package io.aiven.klaw.loadtest;
+
+import io.aiven.klaw.UiapiApplication;
+import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Core as configured by {@link UiapiApplication}, without the classes of the cluster api and of the
+ * load test which share its packages on the classpath of the load test. The repositories and
+ * entities are looked up from the package of {@link UiapiApplication} as well.
+ */
+@EnableScheduling
+@EnableSchedulerLock(defaultLockAtMostFor = "${klaw.shedlock.defaultLockAtMostFor:PT30S}")
+@SpringBootConfiguration
+@AutoConfigurationPackage(basePackageClasses = UiapiApplication.class)
+@EnableAutoConfiguration(
+    exclude = {
+      DataSourceAutoConfiguration.class,
+      DataSourceTransactionManagerAutoConfiguration.class,
+      HibernateJpaAutoConfiguration.class
+    })
+@ComponentScan(
+    basePackages = "io.aiven.klaw",
+    excludeFilters = {
+      @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UiapiApplication.class),
+      @ComponentScan.Filter(
+          type = FilterType.REGEX,
+          pattern = "io\\.aiven\\.klaw\\.(clusterapi|loadtest)\\..*")
+    })
+public class LoadTestCoreApplication {}
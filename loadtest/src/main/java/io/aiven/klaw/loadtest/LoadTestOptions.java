@@ -0,0 +1,115 @@
+package io.aiven.klaw.loadtest;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Options of the load test, given on the command line as {@code --name=value}. Options starting
+ * with {@code --core.} are properties of core, for example {@code
+ * --core.klaw.approvals.outbox.enabled=true}.
+ */
+@Getter
+public class LoadTestOptions {
+
+  private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+  static {
+    DEFAULTS.put("tenants", "2");
+    DEFAULTS.put("teams", "5");
+    DEFAULTS.put("users", "3");
+    DEFAULTS.put("topics", "1000");
+    DEFAULTS.put("acls", "2");
+    DEFAULTS.put("rate", "20");
+    DEFAULTS.put("warmup", "20");
+    DEFAULTS.put("duration", "60");
+    DEFAULTS.put("threads", "16");
+    DEFAULTS.put("browse", "70");
+    DEFAULTS.put("request", "20");
+    DEFAULTS.put("approve", "10");
+    DEFAULTS.put("seed", "42");
+    DEFAULTS.put("output", "loadtest-results.json");
+  }
+
+  private final int tenants;
+  // teams per tenant
+  private final int teams;
+  // users per team, at least two as users do not approve their own requests
+  private final int users;
+  // topics per tenant, owned by its teams in turn
+  private final int topics;
+  // acls per topic
+  private final int acls;
+  // operations started per second, whether the previous ones completed or not
+  private final double rate;
+  private final int warmupSeconds;
+  private final int durationSeconds;
+  private final int threads;
+  private final int browseWeight;
+  private final int requestWeight;
+  private final int approveWeight;
+  private final long seed;
+  private final String output;
+  private final Map<String, String> values;
+  private final Map<String, Object> coreProperties = new HashMap<>();
+
+  private LoadTestOptions(Map<String, String> values) {
+    this.values = values;
+    tenants = positive("tenants");
+    teams = positive("teams");
+    users = Math.max(2, positive("users"));
+    topics = positive("topics");
+    acls = Integer.parseInt(values.get("acls"));
+    rate = Double.parseDouble(values.get("rate"));
+    warmupSeconds = Integer.parseInt(values.get("warmup"));
+    durationSeconds = positive("duration");
+    threads = positive("threads");
+    browseWeight = Integer.parseInt(values.get("browse"));
+    requestWeight = Integer.parseInt(values.get("request"));
+    approveWeight = Integer.parseInt(values.get("approve"));
+    seed = Long.parseLong(values.get("seed"));
+    output = values.get("output");
+    if (rate <= 0 || browseWeight + requestWeight + approveWeight <= 0) {
+      throw new IllegalArgumentException("rate and the sum of the weights must be positive");
+    }
+  }
+
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+    Map<String, Object> coreProperties = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value, got " + arg + "\n" + usage());
+      }
+      String name = arg.substring(2, separator);
+      String value = arg.substring(separator + 1);
+      if (name.startsWith("core.")) {
+        coreProperties.put(name.substring("core.".length()), value);
+      } else if (DEFAULTS.containsKey(name)) {
+        values.put(name, value);
+      } else {
+        throw new IllegalArgumentException("Unknown option " + name + "\n" + usage());
+      }
+    }
+    LoadTestOptions options = new LoadTestOptions(values);
+    options.coreProperties.putAll(coreProperties);
+    return options;
+  }
+
+  public static String usage() {
+    StringBuilder usage = new StringBuilder("Options, with their default values:\n");
+    DEFAULTS.forEach(
+        (name, value) -> usage.append("  --").append(name).append('=').append(value).append('\n'));
+    return usage.append("  --core.<property>=<value>").toString();
+  }
+
+  private int positive(String name) {
+    int value = Integer.parseInt(values.get(name));
+    if (value <= 0) {
+      throw new IllegalArgumentException(name + " must be positive");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,26 @@
+package io.aiven.klaw.loadtest;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** A tenant seeded by the {@link TenantSeeder}, with the teams, users and topics to load. */
+@Getter
+@AllArgsConstructor
+public class SeededTenant {
+
+  private final int tenantId;
+  private final String tenantName;
+  // the kafka environment of the tenant, which its topics and acls are in
+  private final String envId;
+  private final List<Team> teams;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Team {
+    private final int teamId;
+    private final String teamName;
+    private final List<String> users;
+    private final List<String> topics;
+  }
+}
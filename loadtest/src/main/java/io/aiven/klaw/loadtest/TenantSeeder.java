@@ -0,0 +1,232 @@
+package io.aiven.klaw.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwProperties;
+import io.aiven.klaw.dao.KwTenants;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.TenantConfig;
+import io.aiven.klaw.model.enums.AclIPPrincipleType;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.response.EnvParams;
+import io.aiven.klaw.service.DefaultDataService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Seeds the tenants of the load test into the database of core, the way {@link
+ * DefaultDataService#handleQuickStartData} seeds the quick start data, and reloads the metadata of
+ * core from the database afterwards. The topics and acls are only added to the metadata, as after
+ * synchronizing them from a cluster.
+ */
+public class TenantSeeder {
+
+  public static final String PASSWORD = "loadtest";
+  public static final String ENV_NAME = "DEV";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final LoadTestOptions options;
+  private final String bootstrapServers;
+  private final ManageDatabase manageDatabase;
+  private final HandleDbRequestsJdbc handleDbRequests;
+  private final DefaultDataService defaultDataService;
+  private final InMemoryUserDetailsManager inMemoryUserDetailsManager;
+  private final String encryptorSecretKey;
+  private final String installationType;
+
+  public TenantSeeder(LoadTestOptions options, ApplicationContext core, String bootstrapServers) {
+    this.options = options;
+    this.bootstrapServers = bootstrapServers;
+    manageDatabase = core.getBean(ManageDatabase.class);
+    handleDbRequests = manageDatabase.getHandleDbRequests();
+    defaultDataService = core.getBean(DefaultDataService.class);
+    inMemoryUserDetailsManager = core.getBean(InMemoryUserDetailsManager.class);
+    encryptorSecretKey =
+        core.getEnvironment().getRequiredProperty("klaw.jasypt.encryptor.secretkey");
+    installationType = core.getEnvironment().getProperty("klaw.installation.type", "onpremise");
+  }
+
+  public List<SeededTenant> seed() throws KlawException {
+    // all users share the password, which is expensive to encode
+    String encodedPassword =
+        PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(PASSWORD);
+    List<SeededTenant> tenants = new ArrayList<>();
+    for (int i = 1; i <= options.getTenants(); i++) {
+      tenants.add(seedTenant("loadtest" + i, encodedPassword));
+    }
+    manageDatabase.loadDb();
+    return tenants;
+  }
+
+  private SeededTenant seedTenant(String tenantName, String encodedPassword) throws KlawException {
+    KwTenants kwTenants = defaultDataService.getDefaultTenant(KwConstants.DEFAULT_TENANT_ID);
+    kwTenants.setTenantId(null);
+    kwTenants.setTenantName(tenantName);
+    kwTenants.setTenantDesc("Load test tenant " + tenantName);
+    handleDbRequests.addNewTenant(kwTenants);
+    int tenantId = kwTenants.getTenantId();
+
+    manageDatabase.initialiseDefaultEntitySequencesForTenant(tenantId);
+    handleDbRequests.insertDefaultKwProperties(
+        defaultDataService.createDefaultProperties(tenantId, ""));
+    handleDbRequests.insertDefaultRolesPermissions(
+        defaultDataService.createDefaultRolesPermissions(tenantId, false, installationType));
+
+    String envId = addKafkaEnv(tenantId);
+    updateTenantConfig(tenantId, tenantName, envId);
+
+    List<SeededTenant.Team> teams = new ArrayList<>();
+    for (int i = 1; i <= options.getTeams(); i++) {
+      teams.add(addTeam(tenantId, tenantName, "team" + i, encodedPassword));
+    }
+    addTopicsAndAcls(tenantId, tenantName, envId, teams);
+
+    return new SeededTenant(tenantId, tenantName, envId, teams);
+  }
+
+  private String addKafkaEnv(int tenantId) {
+    KwClusters kwCluster = new KwClusters();
+    kwCluster.setClusterName(ENV_NAME);
+    kwCluster.setKafkaFlavor(KafkaFlavors.APACHE_KAFKA.value);
+    kwCluster.setBootstrapServers(bootstrapServers);
+    kwCluster.setProtocol(KafkaSupportedProtocol.PLAINTEXT);
+    kwCluster.setClusterType(KafkaClustersType.KAFKA.value);
+    kwCluster.setTenantId(tenantId);
+    handleDbRequests.addNewCluster(kwCluster);
+
+    Env env = new Env();
+    env.setClusterId(kwCluster.getClusterId());
+    env.setName(ENV_NAME);
+    env.setType(KafkaClustersType.KAFKA.value);
+    EnvParams envParams = new EnvParams();
+    envParams.setDefaultPartitions("1");
+    envParams.setMaxPartitions("4");
+    envParams.setPartitionsList(List.of("1", "2", "3", "4"));
+    envParams.setDefaultRepFactor("1");
+    envParams.setMaxRepFactor("1");
+    envParams.setReplicationFactorList(Collections.singletonList("1"));
+    envParams.setTopicPrefix(Collections.emptyList());
+    envParams.setTopicSuffix(Collections.emptyList());
+    envParams.setTopicRegex(Collections.emptyList());
+    env.setParams(envParams);
+    env.setTenantId(tenantId);
+    env.setEnvExists("true");
+    handleDbRequests.addNewEnv(env);
+    return env.getId();
+  }
+
+  // topics can be requested on the kafka environment, which is also the base sync environment
+  private void updateTenantConfig(int tenantId, String tenantName, String envId)
+      throws KlawException {
+    KwTenantConfigModel tenantModel = new KwTenantConfigModel();
+    tenantModel.setTenantName(tenantName);
+    tenantModel.setBaseSyncEnvironment(envId);
+    tenantModel.setOrderOfTopicPromotionEnvsList(List.of(envId));
+    tenantModel.setRequestTopicsEnvironmentsList(List.of(envId));
+    TenantConfig tenantConfig = new TenantConfig();
+    tenantConfig.setTenantModel(tenantModel);
+
+    KwProperties kwProperties = new KwProperties();
+    kwProperties.setKwKey(KwConstants.TENANT_CONFIG_PROPERTY);
+    try {
+      kwProperties.setKwValue(OBJECT_MAPPER.writeValueAsString(tenantConfig));
+    } catch (JsonProcessingException e) {
+      throw new KlawException(e.getMessage());
+    }
+    handleDbRequests.updateKwProperty(kwProperties, tenantId);
+  }
+
+  private SeededTenant.Team addTeam(
+      int tenantId, String tenantName, String teamName, String encodedPassword) {
+    handleDbRequests.addNewTeam(defaultDataService.getTeam(tenantId, teamName));
+    int teamId = handleDbRequests.getTeamDetailsFromName(teamName, tenantId).getTeamId();
+
+    List<String> users = new ArrayList<>();
+    for (int i = 1; i <= options.getUsers(); i++) {
+      String userName = tenantName + "-" + teamName + "-user" + i;
+      UserInfo userInfo =
+          defaultDataService.getUser(
+              tenantId,
+              PASSWORD,
+              KwConstants.USER_ROLE,
+              teamId,
+              userName + "@klaw.local",
+              userName,
+              encryptorSecretKey);
+      userInfo.setFullname(userName);
+      handleDbRequests.addNewUser(userInfo);
+      inMemoryUserDetailsManager.createUser(
+          User.withUsername(userName)
+              .password(encodedPassword)
+              .roles(KwConstants.USER_ROLE)
+              .build());
+      users.add(userName);
+    }
+    return new SeededTenant.Team(teamId, teamName, users, new ArrayList<>());
+  }
+
+  // topics are owned by the teams in turn, each topic with producer and consumer acls in turn
+  private void addTopicsAndAcls(
+      int tenantId, String tenantName, String envId, List<SeededTenant.Team> teams) {
+    int topicId = handleDbRequests.getNextTopicRequestId("TOPIC_ID", tenantId);
+    List<Topic> topics = new ArrayList<>();
+    List<Acl> acls = new ArrayList<>();
+    for (int i = 0; i < options.getTopics(); i++) {
+      SeededTenant.Team team = teams.get(i % teams.size());
+      String topicName = String.format("%s.%s.topic-%06d", tenantName, team.getTeamName(), i);
+      team.getTopics().add(topicName);
+
+      Topic topic = new Topic();
+      topic.setTopicid(topicId++);
+      topic.setTopicname(topicName);
+      topic.setNoOfPartitions(1);
+      topic.setNoOfReplicas("1");
+      topic.setEnvironment(envId);
+      topic.setTeamId(team.getTeamId());
+      topic.setDescription("Topic description");
+      // an empty history, which requests on the topic append to
+      topic.setHistory("[]");
+      topic.setTenantId(tenantId);
+      topics.add(topic);
+
+      for (int j = 0; j < options.getAcls(); j++) {
+        Acl acl = new Acl();
+        acl.setTenantId(tenantId);
+        acl.setTopicname(topicName);
+        acl.setEnvironment(envId);
+        acl.setTeamId(team.getTeamId());
+        acl.setAclip("10.0." + j + "." + (i % 250));
+        acl.setAclPatternType(AclPatternType.LITERAL.value);
+        acl.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+        if (j % 2 == 0) {
+          acl.setAclType(AclType.PRODUCER.value);
+        } else {
+          acl.setAclType(AclType.CONSUMER.value);
+          acl.setConsumergroup(topicName + "-group" + j);
+        }
+        acls.add(acl);
+      }
+    }
+    handleDbRequests.addToSynctopics(topics);
+    handleDbRequests.addToSyncacls(acls);
+  }
+}
@@ -0,0 +1,167 @@
+package io.aiven.klaw.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.aiven.klaw.model.enums.AclIPPrincipleType;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.requests.AclRequestsModel;
+import io.aiven.klaw.model.requests.TopicCreateRequestModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The mix of operations of the users of the seeded tenants:
+ *
+ * <ul>
+ *   <li>browse: a page of the topics, the overview of a topic, or the topic requests
+ *   <li>request: a new topic, or a consumer acl on a topic of the team
+ *   <li>approve: the oldest pending topic or acl request of the team, made by another user
+ * </ul>
+ *
+ * Operations are picked with a seeded random, so that runs with the same options make the same
+ * sequence of operations.
+ */
+public class Workload {
+
+  /** An operation, run with the time it was due to start. */
+  @FunctionalInterface
+  public interface Operation {
+    void run(long startNanos);
+  }
+
+  private static final int BROWSED_PAGES = 5;
+
+  private final LoadTestOptions options;
+  private final List<SeededTenant> tenants;
+  private final KlawClient client;
+  // only used by the thread picking the operations
+  private final SplittableRandom random;
+  private final AtomicLong sequence = new AtomicLong();
+  // requests an approval was started for, as approvers of a team share the pending requests
+  private final Set<String> claimedRequests = ConcurrentHashMap.newKeySet();
+
+  public Workload(LoadTestOptions options, List<SeededTenant> tenants, KlawClient client) {
+    this.options = options;
+    this.tenants = tenants;
+    this.client = client;
+    random = new SplittableRandom(options.getSeed());
+  }
+
+  public Operation next() {
+    SeededTenant tenant = pick(tenants);
+    SeededTenant.Team team = pick(tenant.getTeams());
+    String user = pick(team.getUsers());
+
+    int weight =
+        random.nextInt(
+            options.getBrowseWeight() + options.getRequestWeight() + options.getApproveWeight());
+    boolean either = random.nextBoolean();
+    if (weight < options.getBrowseWeight()) {
+      return browse(tenant, user);
+    } else if (weight < options.getBrowseWeight() + options.getRequestWeight()) {
+      return either
+          ? requestTopic(tenant, team, user)
+          : requestAcl(tenant, team, user, pick(team.getTopics()));
+    } else {
+      return either ? approveTopicRequest(tenant, user) : approveAclRequest(tenant, user);
+    }
+  }
+
+  private Operation browse(SeededTenant tenant, String user) {
+    switch (random.nextInt(3)) {
+      case 0:
+        int pageNo = 1 + random.nextInt(BROWSED_PAGES);
+        return startNanos ->
+            client.get(
+                user,
+                "/getTopics",
+                "?env=" + tenant.getEnvId() + "&pageNo=" + pageNo + "&currentPage=1",
+                startNanos);
+      case 1:
+        String topicName = pick(pick(tenant.getTeams()).getTopics());
+        return startNanos ->
+            client.get(
+                user,
+                "/getTopicOverview",
+                "?topicName=" + topicName + "&environmentId=" + tenant.getEnvId(),
+                startNanos);
+      default:
+        return startNanos -> client.get(user, "/getTopicRequests", "?pageNo=1", startNanos);
+    }
+  }
+
+  private Operation requestTopic(SeededTenant tenant, SeededTenant.Team team, String user) {
+    TopicCreateRequestModel topicRequest = new TopicCreateRequestModel();
+    topicRequest.setTopicname(
+        tenant.getTenantName() + "." + team.getTeamName() + ".load-" + sequence.incrementAndGet());
+    topicRequest.setEnvironment(tenant.getEnvId());
+    topicRequest.setTopicpartitions(1);
+    topicRequest.setReplicationfactor("1");
+    topicRequest.setDescription("Load test topic");
+    topicRequest.setRequestOperationType(RequestOperationType.CREATE);
+    return startNanos -> client.post(user, "/createTopics", "", topicRequest, startNanos);
+  }
+
+  private Operation requestAcl(
+      SeededTenant tenant, SeededTenant.Team team, String user, String topicName) {
+    long id = sequence.incrementAndGet();
+    AclRequestsModel aclRequest = new AclRequestsModel();
+    aclRequest.setTopicname(topicName);
+    aclRequest.setEnvironment(tenant.getEnvId());
+    aclRequest.setTeamId(team.getTeamId());
+    aclRequest.setRequestingteam(team.getTeamId());
+    aclRequest.setAclType(AclType.CONSUMER);
+    aclRequest.setConsumergroup(team.getTeamName() + ".load-" + id);
+    aclRequest.setAcl_ip(new ArrayList<>(List.of("10.1." + (id / 250 % 250) + "." + id % 250)));
+    aclRequest.setAclPatternType(AclPatternType.LITERAL.value);
+    aclRequest.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+    aclRequest.setRequestOperationType(RequestOperationType.CREATE);
+    return startNanos -> client.post(user, "/createAcl", "", aclRequest, startNanos);
+  }
+
+  private Operation approveTopicRequest(SeededTenant tenant, String user) {
+    return startNanos -> {
+      JsonNode requests =
+          client.get(
+              user, "/getTopicRequestsForApprover", "?pageNo=1&requestStatus=CREATED", startNanos);
+      String topicId = claim(tenant, "topic", requests, "topicid", user);
+      if (topicId != null) {
+        client.post(user, "/execTopicRequests", "?topicId=" + topicId, null, System.nanoTime());
+      }
+    };
+  }
+
+  private Operation approveAclRequest(SeededTenant tenant, String user) {
+    return startNanos -> {
+      JsonNode requests =
+          client.get(
+              user, "/getAclRequestsForApprover", "?pageNo=1&requestStatus=CREATED", startNanos);
+      String reqNo = claim(tenant, "acl", requests, "req_no", user);
+      if (reqNo != null) {
+        client.post(user, "/execAclRequest", "?req_no=" + reqNo, null, System.nanoTime());
+      }
+    };
+  }
+
+  // the first pending request not made by the approver, and not claimed by another approver
+  private String claim(
+      SeededTenant tenant, String type, JsonNode requests, String idField, String approver) {
+    for (JsonNode request : requests) {
+      String id = request.path(idField).asText();
+      if (!approver.equals(request.path("requestor").asText())
+          && claimedRequests.add(tenant.getTenantId() + "/" + type + "/" + id)) {
+        return id;
+      }
+    }
+    return null;
+  }
+
+  private <T> T pick(List<T> list) {
+    return list.get(random.nextInt(list.size()));
+  }
+}